@@ -142,15 +142,40 @@ def _job_lookup_grace_seconds():
     return seconds
 
 
+@lru_cache(maxsize=1)
+def _rds_client():
+    if boto3 is None:
+        raise RuntimeError("boto3 is required for RDS Proxy IAM authentication")
+    return boto3.client("rds")
+
+
+def _db_iam_auth():
+    return os.environ.get("DB_IAM_AUTH", "false").lower() == "true"
+
+
 def _connect():
     secret = _db_secret()
+    # RDS Proxy endpoint가 주입되면 secret host(인스턴스 주소) 대신 사용한다.
+    host = os.environ.get("DB_HOST") or secret["host"]
+    port = int(secret.get("port", 5432))
+    user = secret["username"]
+    if _db_iam_auth():
+        password = _rds_client().generate_db_auth_token(
+            DBHostname=host,
+            Port=port,
+            DBUsername=user,
+        )
+    else:
+        password = secret["password"]
+
     return pg8000.dbapi.connect(
-        host=secret["host"],
-        port=int(secret.get("port", 5432)),
+        host=host,
+        port=port,
         database=_db_name(),
-        user=secret["username"],
-        password=secret["password"],
+        user=user,
+        password=password,
         timeout=5,
+        ssl_context=True if _db_iam_auth() else None,
     )
 
 
@@ -0,0 +1,128 @@
+from __future__ import annotations
+
+import os
+
+# kafka-python / aws-msk-iam-sasl-signer는 CDK 번들링 시 asset 루트에 설치된다 (requirements.txt)
+from aws_msk_iam_sasl_signer import MSKAuthTokenProvider
+from kafka.admin import ConfigResource, ConfigResourceType, KafkaAdminClient, NewPartitions, NewTopic
+
+try:
+    from kafka.sasl.oauth import AbstractTokenProvider
+except ImportError:  # kafka-python < 2.1
+    from kafka.oauth.abstract import AbstractTokenProvider
+
+
+class _MskIamTokenProvider(AbstractTokenProvider):
+    # MSK IAM 인증 토큰(OAUTHBEARER) 발급
+    def token(self):
+        token, _ = MSKAuthTokenProvider.generate_auth_token(os.environ["AWS_REGION"])
+        return token
+
+
+def _admin_client(bootstrap_servers):
+    return KafkaAdminClient(
+        bootstrap_servers=bootstrap_servers.split(","),
+        security_protocol="SASL_SSL",
+        sasl_mechanism="OAUTHBEARER",
+        sasl_oauth_token_provider=_MskIamTokenProvider(),
+        client_id="holliverse-topic-provisioner",
+        request_timeout_ms=30000,
+    )
+
+
+def _current_partition_counts(admin, names):
+    existing = set(admin.list_topics())
+    targets = [name for name in names if name in existing]
+    if not targets:
+        return {}
+    return {
+        description["topic"]: len(description["partitions"])
+        for description in admin.describe_topics(targets)
+    }
+
+
+# DescribeConfigs v1+ config_source 값 (토픽에 직접 설정된 동적 설정)
+_DYNAMIC_TOPIC_CONFIG = 1
+
+
+def _dynamic_topic_configs(admin, name):
+    response = admin.describe_configs([ConfigResource(ConfigResourceType.TOPIC, name)])[0]
+    _error_code, _error_message, _resource_type, _resource_name, entries = response.resources[0]
+    configs = {}
+    for entry in entries:
+        config_name, value, _read_only, source_or_default = entry[0], entry[1], entry[2], entry[3]
+        # v0은 is_default(bool), v1+는 config_source(int)
+        is_dynamic = (not source_or_default) if isinstance(source_or_default, bool) else source_or_default == _DYNAMIC_TOPIC_CONFIG
+        if is_dynamic and value is not None:
+            configs[config_name] = value
+    return configs
+
+
+def _incremental_alter_topic_configs(admin, name, configs):
+    # 명세에 있는 키만 바꾼다. AlterConfigs는 요청에 없는 동적 설정을 기본값으로 되돌리므로
+    # 현재 동적 설정에 명세 값을 덮어쓴 전체 집합을 보낸다 (IncrementalAlterConfigs SET과 같은 결과).
+    merged = _dynamic_topic_configs(admin, name)
+    merged.update(configs)
+    admin.alter_configs([ConfigResource(ConfigResourceType.TOPIC, name, configs=merged)])
+
+
+def _apply(admin, specs):
+    current = _current_partition_counts(admin, [spec["Name"] for spec in specs])
+    created, expanded, configured = [], [], []
+
+    for spec in specs:
+        name = spec["Name"]
+        # CloudFormation은 custom resource 숫자 속성을 문자열로 전달한다.
+        partitions = int(spec["Partitions"])
+        replication_factor = int(spec["ReplicationFactor"])
+        configs = {key: str(value) for key, value in (spec.get("Configs") or {}).items()}
+
+        if name not in current:
+            admin.create_topics([NewTopic(
+                name=name,
+                num_partitions=partitions,
+                replication_factor=replication_factor,
+                topic_configs=configs,
+            )])
+            created.append(name)
+            continue
+
+        if partitions < current[name]:
+            # Kafka는 파티션 축소를 지원하지 않는다.
+            raise Exception(
+                f"partition count cannot shrink. topic={name}, current={current[name]}, requested={partitions}"
+            )
+        if partitions > current[name]:
+            admin.create_partitions({name: NewPartitions(total_count=partitions)})
+            expanded.append(name)
+
+        if configs:
+            _incremental_alter_topic_configs(admin, name, configs)
+            configured.append(name)
+
+    return created, expanded, configured
+
+
+def handler(event, _context):
+    request_type = event["RequestType"]
+    properties = event["ResourceProperties"]
+    physical_id = event.get("PhysicalResourceId") or f"kafka-topics-{properties['ClusterName']}"
+
+    # 스택 삭제 시 토픽 데이터는 보존한다.
+    if request_type == "Delete":
+        return {"PhysicalResourceId": physical_id}
+
+    admin = _admin_client(properties["BootstrapServers"])
+    try:
+        created, expanded, configured = _apply(admin, properties.get("Topics") or [])
+    finally:
+        admin.close()
+
+    print(f"topics created={created} expanded={expanded} configured={configured}")
+    return {
+        "PhysicalResourceId": physical_id,
+        "Data": {
+            "Created": ",".join(created),
+            "Expanded": ",".join(expanded),
+        },
+    }
@@ -2,6 +2,9 @@ package com.myorg;
 
 import com.myorg.config.AppConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.ClickLogSinkConfig;
+import com.myorg.config.KafkaTopicRegistry;
+import com.myorg.config.MskConnectCapacityConfig;
 import com.myorg.config.monitoring.MonitoringConfig;
 import com.myorg.config.NetworkStackConfig;
 import com.myorg.config.PortConfig;
@@ -416,8 +419,10 @@ public class InfrastructureApp {
                 AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME),
                 mskStack.getBootstrapBrokersSaslIam(),
                 mskStack.getCluster().getAttrArn(),
-                mskStack.getClickLogTopicName(),
-                clickLogBucketStack.getBucket()
+                KafkaTopicRegistry.find(mskStack.getTopicSpecs(), mskStack.getClickLogTopicName()),
+                clickLogBucketStack.getBucket(),
+                ClickLogSinkConfig.fromEnv(),
+                MskConnectCapacityConfig.fromEnv()
         );
     }
 
@@ -512,7 +517,10 @@ public class InfrastructureApp {
                 baseStacks.ecrStack().getAdminWebRepo(),
                 baseStacks.ecrStack().getApiServerRepo(),
                 baseStacks.ecrStack().getLogServerRepo(),
-                baseStacks.rdsStack().getRds(),
+                baseStacks.rdsStack().getDbEndpointAddress(),
+                baseStacks.rdsStack().getDbEndpointPort(),
+                baseStacks.rdsStack().getDbConnectArn(),
+                baseStacks.rdsStack().getDbReadEndpointAddresses(),
                 baseStacks.rdsStack().getDbSecret(),
                 ecsMskClusterName,
                 ecsMskClusterArn,
@@ -524,10 +532,52 @@ public class InfrastructureApp {
                 adminApiImageTag,
                 customerApiImageTag,
                 intelligenceServerImageTag,
-                logServerImageTag
+                logServerImageTag,
+                resolveExistingMonitoringCloudMapServiceId()
         );
     }
 
+    /**
+     * 스택 밖에서 만든 모니터링 호스트 Cloud Map 서비스 ID 조회 (명시 값 -> namespace 실조회)
+     * - EcsClusterStack이 직접 관리하는 서비스면 null (스택이 계속 소유)
+     */
+    private static String resolveExistingMonitoringCloudMapServiceId() {
+        String explicit = AppConfig.getValue(EnvKey.MONITORING_CLOUD_MAP_SERVICE_ID);
+        if (explicit != null && !explicit.isBlank()) {
+            return explicit;
+        }
+
+        String namespaceId = runAwsCli(
+                "servicediscovery", "list-namespaces",
+                "--query", "Namespaces[?Name=='" + AppConfig.getInternalDomainName() + "'].Id|[0]",
+                "--output", "text"
+        );
+        if (namespaceId == null || namespaceId.isBlank() || "None".equals(namespaceId)) {
+            return null;
+        }
+
+        String serviceId = runAwsCli(
+                "servicediscovery", "list-services",
+                "--filters", "Name=NAMESPACE_ID,Values=" + namespaceId + ",Condition=EQ",
+                "--query", "Services[?Name=='" + AppConfig.getValueOrDefault(EnvKey.MONITORING_GRAFANA_SERVICE_NAME) + "'].Id|[0]",
+                "--output", "text"
+        );
+        if (serviceId == null || serviceId.isBlank() || "None".equals(serviceId)) {
+            return null;
+        }
+
+        String stackResourceIds = runAwsCli(
+                "cloudformation", "describe-stack-resources",
+                "--stack-name", ECS_CLUSTER_STACK_ID,
+                "--query", "StackResources[?ResourceType=='AWS::ServiceDiscovery::Service'].PhysicalResourceId",
+                "--output", "text"
+        );
+        if (stackResourceIds != null && Arrays.asList(stackResourceIds.split("\\s+")).contains(serviceId)) {
+            return null;
+        }
+        return serviceId;
+    }
+
     private static String resolvePinnedImageTag(
             String envKey,
             String expectedRepositorySuffix,
@@ -131,6 +131,51 @@ public final class AppConfig {
         return def;
     }
 
+    /**
+     * EnvKey 기반 1 이상 정수 조회 (getValueOrDefault 규칙)
+     */
+    public static int getPositiveInt(EnvKey key) {
+        int parsed = Integer.parseInt(getValueOrDefault(key));
+        if (parsed <= 0) {
+            throw new IllegalStateException(key.key() + " 값은 1 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
+    /**
+     * EnvKey 기반 1 이상 정수 조회: 환경변수가 없으면 호출 측 기본값 사용 (프리셋 override 용)
+     */
+    public static int getPositiveIntOrDefault(EnvKey key, int defaultValue) {
+        String value = getValue(key);
+        int parsed = value != null ? Integer.parseInt(value) : defaultValue;
+        if (parsed <= 0) {
+            throw new IllegalStateException(key.key() + " 값은 1 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
+    /**
+     * EnvKey 기반 0 이상 정수 조회 (getValueOrDefault 규칙)
+     */
+    public static int getNonNegativeInt(EnvKey key) {
+        int parsed = Integer.parseInt(getValueOrDefault(key));
+        if (parsed < 0) {
+            throw new IllegalStateException(key.key() + " 값은 0 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
+    /**
+     * EnvKey 기반 1 이상 long 조회 (getValueOrDefault 규칙)
+     */
+    public static long getPositiveLong(EnvKey key) {
+        long parsed = Long.parseLong(getValueOrDefault(key));
+        if (parsed <= 0) {
+            throw new IllegalStateException(key.key() + " 값은 1 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
     public static String getValue(EnvKey key) {
         String value = System.getenv(key.key());
         if (value != null && !value.isBlank()) {
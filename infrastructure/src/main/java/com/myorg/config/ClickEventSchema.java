@@ -0,0 +1,118 @@
+package com.myorg.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * customer-api가 발행하는 클릭 이벤트 스키마.
+ * Parquet 적재 시 schemaless JSON을 이 스키마로 변환하고 Glue 테이블 컬럼도 이 목록을 따르므로
+ * producer payload 필드와 맞춰야 한다.
+ * - 기본값은 이 저장소에 producer 계약이 없어 두는 가정값이다. PARQUET 적용 전 customer-api 이벤트 DTO와 대조할 것
+ * - 필수 필드가 빠진 레코드는 PARQUET 모드 FromJson 변환에서 실패하므로 필수 집합도 설정으로 조정한다
+ */
+public record ClickEventSchema(
+        List<Field> fields,
+        String eventTimeField
+) {
+    public static ClickEventSchema fromEnv() {
+        ClickEventSchema schema = parse(
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_EVENT_FIELDS),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_EVENT_REQUIRED_FIELDS),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_EVENT_TIME_FIELD)
+        );
+        validate(schema);
+        return schema;
+    }
+
+    /**
+     * "name:TYPE,..." 필드 목록과 "name,..." 필수 필드 목록으로 스키마 구성
+     */
+    static ClickEventSchema parse(String fieldsCsv, String requiredCsv, String eventTimeField) {
+        Set<String> required = new HashSet<>(splitCsv(requiredCsv));
+        List<Field> fields = new ArrayList<>();
+        for (String entry : splitCsv(fieldsCsv)) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalStateException("클릭 이벤트 필드는 name:TYPE 형식이어야 합니다: " + entry);
+            }
+            String name = parts[0].trim();
+            fields.add(new Field(name, FieldType.valueOf(parts[1].trim().toUpperCase()), required.remove(name)));
+        }
+        if (!required.isEmpty()) {
+            throw new IllegalStateException("필수 필드가 필드 목록에 없습니다: " + required);
+        }
+        return new ClickEventSchema(List.copyOf(fields), eventTimeField.trim());
+    }
+
+    static void validate(ClickEventSchema schema) {
+        if (schema.fields().isEmpty()) {
+            throw new IllegalStateException(EnvKey.CLICK_LOG_EVENT_FIELDS.key() + " 값이 비어 있습니다.");
+        }
+        Field eventTime = schema.fields().stream()
+                .filter(field -> field.name().equals(schema.eventTimeField()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "이벤트 시각 필드가 필드 목록에 없습니다: " + schema.eventTimeField()));
+        // RecordField timestamp extractor는 epoch millis 숫자 필드만 읽는다.
+        if (eventTime.type() != FieldType.LONG) {
+            throw new IllegalStateException("이벤트 시각 필드는 LONG(epoch millis)이어야 합니다: " + eventTime.name());
+        }
+    }
+
+    public enum FieldType {
+        STRING("string", "string"),
+        LONG("integer", "bigint");
+
+        private final String jsonSchemaType;
+        private final String glueType;
+
+        FieldType(String jsonSchemaType, String glueType) {
+            this.jsonSchemaType = jsonSchemaType;
+            this.glueType = glueType;
+        }
+
+        public String jsonSchemaType() {
+            return jsonSchemaType;
+        }
+
+        public String glueType() {
+            return glueType;
+        }
+    }
+
+    public record Field(
+            String name,
+            FieldType type,
+            boolean required
+    ) {
+    }
+
+    /**
+     * FromJson transform에 inline으로 넣을 JSON Schema
+     */
+    public String toJsonSchema() {
+        String properties = fields.stream()
+                .map(field -> "\"" + field.name() + "\":{\"type\":\"" + field.type().jsonSchemaType() + "\"}")
+                .collect(Collectors.joining(","));
+        String required = fields.stream()
+                .filter(Field::required)
+                .map(field -> "\"" + field.name() + "\"")
+                .collect(Collectors.joining(","));
+        return "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"title\":\"ClickEvent\",\"type\":\"object\","
+                + "\"properties\":{" + properties + "},\"required\":[" + required + "]}";
+    }
+
+    private static List<String> splitCsv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.myorg.config;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * raw 클릭 로그 Glue 카탈로그 / Athena 워크그룹 설정.
+ * - S3 sink 경로({포맷별 raw prefix}/{topic}/dt=yyyy-MM-dd/hour=HH)를 partition projection으로 노출 (crawler 없음)
+ * - 테이블 이름/SerDe는 sink 포맷(JSON / PARQUET)별로 나뉜다 (tableName은 JSON 테이블 이름)
+ * - 워크그룹 쿼리당 스캔 바이트 상한
+ * - 테이블 컬럼은 {@link ClickEventSchema}를 따른다
+ */
+public record ClickLogCatalogConfig(
+        String databaseName,
+        String tableName,
+        String topicName,
+        ClickLogSinkFormat format,
+        String projectionStartDate,
+        String workgroupName,
+        long bytesScannedCutoffPerQuery,
+        ClickEventSchema eventSchema
+) {
+    // Athena 쿼리당 스캔 상한 최소값(10MB)
+    private static final long MIN_BYTES_SCANNED_CUTOFF = 10L * 1024 * 1024;
+
+    public static ClickLogCatalogConfig fromEnv() {
+        ClickLogCatalogConfig config = new ClickLogCatalogConfig(
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_GLUE_DATABASE),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_GLUE_TABLE),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC),
+                ClickLogSinkFormat.fromEnv(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_SINK_FORMAT)),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_PARTITION_PROJECTION_START_DATE),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_ATHENA_WORKGROUP),
+                AppConfig.getPositiveLong(EnvKey.CLICK_LOG_ATHENA_BYTES_SCANNED_CUTOFF_GIB) * 1024L * 1024L * 1024L,
+                ClickEventSchema.fromEnv()
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(ClickLogCatalogConfig config) {
+        // Glue 이름은 소문자/숫자/밑줄만 Athena에서 따옴표 없이 쓸 수 있다.
+        if (!config.databaseName().matches("[a-z0-9_]+") || !config.tableName().matches("[a-z0-9_]+")) {
+            throw new IllegalStateException(
+                    "Glue database/table 이름은 소문자, 숫자, 밑줄만 사용할 수 있습니다: "
+                            + config.databaseName() + "." + config.tableName()
+            );
+        }
+        try {
+            LocalDate.parse(config.projectionStartDate());
+        } catch (DateTimeParseException exception) {
+            throw new IllegalStateException(
+                    "partition projection 시작일은 yyyy-MM-dd 형식이어야 합니다: " + config.projectionStartDate()
+            );
+        }
+        if (config.bytesScannedCutoffPerQuery() < MIN_BYTES_SCANNED_CUTOFF) {
+            throw new IllegalStateException(
+                    "Athena 쿼리당 스캔 상한은 10MB 이상이어야 합니다: " + config.bytesScannedCutoffPerQuery()
+            );
+        }
+    }
+
+    /**
+     * 현재 sink 포맷의 raw 테이블 이름
+     */
+    public String rawTableName() {
+        return format.rawTableName(tableName);
+    }
+
+    /**
+     * 다른 sink 포맷의 raw 테이블 설정 (포맷 전환 이전 데이터 조회용)
+     */
+    public ClickLogCatalogConfig withFormat(ClickLogSinkFormat otherFormat) {
+        return new ClickLogCatalogConfig(
+                databaseName,
+                tableName,
+                topicName,
+                otherFormat,
+                projectionStartDate,
+                workgroupName,
+                bytesScannedCutoffPerQuery,
+                eventSchema
+        );
+    }
+
+    /**
+     * 토픽 raw 데이터 위치 (S3 sink topics.dir/{topic})
+     */
+    public String tableLocation(String bucketName) {
+        return "s3://" + bucketName + "/" + format.rawTopicsDir() + "/" + topicName + "/";
+    }
+
+    /**
+     * dt / hour partition projection 테이블 파라미터
+     */
+    public Map<String, String> projectionParameters(String bucketName) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("projection.enabled", "true");
+        parameters.put("projection.dt.type", "date");
+        // 경로는 Asia/Seoul 기준이고 NOW는 UTC라서 하루 여유를 둔다.
+        parameters.put("projection.dt.range", projectionStartDate + ",NOW+1DAYS");
+        parameters.put("projection.dt.format", "yyyy-MM-dd");
+        parameters.put("projection.dt.interval", "1");
+        parameters.put("projection.dt.interval.unit", "DAYS");
+        parameters.put("projection.hour.type", "integer");
+        parameters.put("projection.hour.range", "0,23");
+        parameters.put("projection.hour.digits", "2");
+        parameters.put("storage.location.template", tableLocation(bucketName) + "dt=${dt}/hour=${hour}/");
+        parameters.put("classification", format == ClickLogSinkFormat.PARQUET ? "parquet" : "json");
+        return parameters;
+    }
+}
@@ -0,0 +1,92 @@
+package com.myorg.config;
+
+import java.util.List;
+
+/**
+ * raw 클릭 로그 소형 파일 compaction 설정.
+ * - 스케줄마다 (현재 - delayHours)부터 과거 catchUpHours개 시간 파티션을 확인해 미처리분을 compacted/ 아래 Parquet 파일로 합친다
+ * - delayHours는 rotate.interval.ms / 지연 이벤트가 파티션에 모두 들어올 때까지의 여유
+ * - rawExpirationDays가 0이면 raw 소형 파일을 만료하지 않는다 (기본값)
+ * - RECORD_FIELD 파티션은 지연 이벤트가 이미 compaction한 시간대로 들어오므로 raw 만료와 함께 쓸 수 없다
+ */
+public record ClickLogCompactionConfig(
+        boolean enabled,
+        String scheduleExpression,
+        int delayHours,
+        String compactedTableName,
+        String parquetCodec,
+        int rawExpirationDays,
+        int catchUpHours
+) {
+    // compacted 데이터 prefix
+    public static final String COMPACTED_DIR = "compacted";
+
+    private static final List<String> SUPPORTED_PARQUET_CODECS = List.of("snappy", "zstd");
+
+    public static ClickLogCompactionConfig fromEnv() {
+        ClickLogCompactionConfig config = new ClickLogCompactionConfig(
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_COMPACTION_ENABLED)),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_COMPACTION_SCHEDULE),
+                AppConfig.getPositiveInt(EnvKey.CLICK_LOG_COMPACTION_DELAY_HOURS),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_COMPACTED_TABLE),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_SINK_PARQUET_CODEC).trim().toLowerCase(),
+                AppConfig.getNonNegativeInt(EnvKey.CLICK_LOG_RAW_EXPIRATION_DAYS),
+                AppConfig.getPositiveInt(EnvKey.CLICK_LOG_COMPACTION_CATCHUP_HOURS)
+        );
+        validate(config, ClickLogTimestampExtractor.fromEnv(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TIMESTAMP_EXTRACTOR)));
+        return config;
+    }
+
+    static void validate(ClickLogCompactionConfig config, ClickLogTimestampExtractor timestampExtractor) {
+        if (!config.compactedTableName().matches("[a-z0-9_]+")) {
+            throw new IllegalStateException(
+                    "Glue table 이름은 소문자, 숫자, 밑줄만 사용할 수 있습니다: " + config.compactedTableName()
+            );
+        }
+        if (!SUPPORTED_PARQUET_CODECS.contains(config.parquetCodec())) {
+            throw new IllegalStateException("지원하지 않는 Parquet 압축 방식입니다: " + config.parquetCodec());
+        }
+        // catch-up 범위 안의 시간이 아직 compaction되지 않았을 수 있으므로 그보다 raw가 먼저 지워지면 안 된다.
+        if (config.rawExpirationDays() > 0
+                && config.rawExpirationDays() * 24 <= config.delayHours() + config.catchUpHours() + 24) {
+            throw new IllegalStateException(
+                    "raw 로그 만료 기간은 compaction 지연 + catch-up 시간보다 하루 이상 길어야 합니다: expirationDays="
+                            + config.rawExpirationDays() + ", delayHours=" + config.delayHours()
+                            + ", catchUpHours=" + config.catchUpHours()
+            );
+        }
+        // compaction은 시간 파티션마다 한 번만 돌므로 그 뒤에 들어온 지연 이벤트는 raw에만 남는다.
+        if (config.rawExpirationEnabled() && timestampExtractor == ClickLogTimestampExtractor.RECORD_FIELD) {
+            throw new IllegalStateException(
+                    "RECORD_FIELD 시간 파티션에서는 raw 로그 만료를 켤 수 없습니다 (compaction 이후 도착한 지연 이벤트 유실): "
+                            + EnvKey.CLICK_LOG_RAW_EXPIRATION_DAYS.key() + "=" + config.rawExpirationDays()
+            );
+        }
+    }
+
+    public boolean rawExpirationEnabled() {
+        return rawExpirationDays > 0;
+    }
+
+    /**
+     * 스케줄 실행 시 확인할 (dt, hour) 목록을 Asia/Seoul 기준, 오래된 시간부터 계산하는 쿼리
+     */
+    public String targetPartitionQuery() {
+        return "SELECT date_format(t, '%Y-%m-%d') AS dt, date_format(t, '%H') AS hour FROM ("
+                + "SELECT date_add('hour', -n, (current_timestamp AT TIME ZONE 'Asia/Seoul') - INTERVAL '" + delayHours + "' HOUR) AS t "
+                + "FROM UNNEST(sequence(0, " + (catchUpHours - 1) + ")) AS s(n)) ORDER BY t";
+    }
+
+    /**
+     * raw 파티션 하나를 compacted 테이블로 옮기는 쿼리 템플릿 (dt, hour 순서로 {} 치환)
+     */
+    public String compactionQueryTemplate(ClickLogCatalogConfig catalogConfig) {
+        String columns = String.join(", ", catalogConfig.eventSchema().fields().stream()
+                .map(field -> field.name().toLowerCase())
+                .toList());
+        return "INSERT INTO \"" + catalogConfig.databaseName() + "\".\"" + compactedTableName + "\" "
+                + "SELECT " + columns + ", dt, hour "
+                + "FROM \"" + catalogConfig.databaseName() + "\".\"" + catalogConfig.rawTableName() + "\" "
+                + "WHERE dt = '{}' AND hour = '{}'";
+    }
+}
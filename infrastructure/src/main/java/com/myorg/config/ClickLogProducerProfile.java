@@ -0,0 +1,95 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * customer-api 클릭 로그 producer 설정.
+ * - linger.ms / batch.size로 요청마다 전송하지 않고 배치로 묶는다
+ * - zstd/lz4 압축 (브로커 compression.type과 맞아야 재압축이 없다)
+ * - buffer가 가득 차도 요청 스레드가 오래 막히지 않도록 max.block.ms를 짧게 둔다
+ */
+public record ClickLogProducerProfile(
+        int lingerMs,
+        int batchSize,
+        String compressionType,
+        String acks,
+        int maxInFlightRequests,
+        long bufferMemory,
+        int maxBlockMs
+) {
+    private static final List<String> SUPPORTED_COMPRESSION_TYPES = List.of("zstd", "lz4");
+    private static final List<String> SUPPORTED_ACKS = List.of("0", "1", "all");
+    // 멱등 producer가 순서를 보장하는 in-flight 상한
+    private static final int IDEMPOTENT_MAX_IN_FLIGHT = 5;
+
+    public static ClickLogProducerProfile fromEnv() {
+        ClickLogProducerProfile profile = new ClickLogProducerProfile(
+                AppConfig.getNonNegativeInt(EnvKey.CLICK_LOG_PRODUCER_LINGER_MS),
+                AppConfig.getPositiveInt(EnvKey.CLICK_LOG_PRODUCER_BATCH_SIZE),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_PRODUCER_COMPRESSION_TYPE).trim().toLowerCase(),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_PRODUCER_ACKS).trim().toLowerCase(),
+                AppConfig.getPositiveInt(EnvKey.CLICK_LOG_PRODUCER_MAX_IN_FLIGHT),
+                Long.parseLong(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_PRODUCER_BUFFER_MEMORY)),
+                AppConfig.getNonNegativeInt(EnvKey.CLICK_LOG_PRODUCER_MAX_BLOCK_MS)
+        );
+        validate(profile, MskBrokerConfig.fromEnv());
+        return profile;
+    }
+
+    /**
+     * 브로커 message.max.bytes / compression.type 기준 검증
+     */
+    static void validate(ClickLogProducerProfile profile, MskBrokerConfig brokerConfig) {
+        if (!SUPPORTED_COMPRESSION_TYPES.contains(profile.compressionType())) {
+            throw new IllegalStateException("클릭 로그 producer 압축 방식은 zstd 또는 lz4여야 합니다: " + profile.compressionType());
+        }
+        if (!"producer".equals(brokerConfig.compressionType())
+                && !profile.compressionType().equals(brokerConfig.compressionType())) {
+            throw new IllegalStateException(
+                    "producer 압축 방식이 브로커 compression.type과 달라 브로커에서 재압축됩니다: producer="
+                            + profile.compressionType() + ", broker=" + brokerConfig.compressionType()
+            );
+        }
+        // 배치 하나가 브로커 최대 메시지 크기를 넘으면 RecordTooLargeException으로 배치 전체가 거부된다.
+        if (profile.batchSize() > brokerConfig.messageMaxBytes()) {
+            throw new IllegalStateException(
+                    "producer batch.size가 브로커 message.max.bytes보다 큽니다: batchSize="
+                            + profile.batchSize() + ", messageMaxBytes=" + brokerConfig.messageMaxBytes()
+            );
+        }
+        if (profile.bufferMemory() < profile.batchSize()) {
+            throw new IllegalStateException(
+                    "producer buffer.memory는 batch.size 이상이어야 합니다: bufferMemory="
+                            + profile.bufferMemory() + ", batchSize=" + profile.batchSize()
+            );
+        }
+        if (!SUPPORTED_ACKS.contains(profile.acks())) {
+            throw new IllegalStateException("지원하지 않는 producer acks 값입니다: " + profile.acks());
+        }
+        if ("all".equals(profile.acks()) && profile.maxInFlightRequests() > IDEMPOTENT_MAX_IN_FLIGHT) {
+            throw new IllegalStateException(
+                    "acks=all(멱등 producer)에서는 max.in.flight.requests.per.connection이 5 이하여야 합니다: "
+                            + profile.maxInFlightRequests()
+            );
+        }
+    }
+
+    /**
+     * customer-api 컨테이너 환경변수
+     */
+    public Map<String, String> toEnvironment() {
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("KAFKA_PRODUCER_LINGER_MS", String.valueOf(lingerMs));
+        env.put("KAFKA_PRODUCER_BATCH_SIZE", String.valueOf(batchSize));
+        env.put("KAFKA_PRODUCER_COMPRESSION_TYPE", compressionType);
+        env.put("KAFKA_PRODUCER_ACKS", acks);
+        env.put("KAFKA_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION", String.valueOf(maxInFlightRequests));
+        env.put("KAFKA_PRODUCER_BUFFER_MEMORY", String.valueOf(bufferMemory));
+        env.put("KAFKA_PRODUCER_MAX_BLOCK_MS", String.valueOf(maxBlockMs));
+        // acks=all일 때만 멱등 producer 사용 (acks=0/1과 함께 켜면 producer 생성이 실패한다)
+        env.put("KAFKA_PRODUCER_ENABLE_IDEMPOTENCE", String.valueOf("all".equals(acks)));
+        return env;
+    }
+}
@@ -0,0 +1,81 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클릭 로그 S3 sink 포맷 설정.
+ * - JSON(기본): 기존 JsonFormat + schemaless JsonConverter
+ * - PARQUET: ParquetFormat + 클릭 이벤트 스키마 변환, snappy/zstd 압축
+ * - 포맷별 flush.size / rotate.interval.ms (Parquet은 파일을 크게 모아야 스캔 효율이 난다)
+ * - 시간 파티션 기준 (적재 시각 / 이벤트 발생 시각)
+ */
+public record ClickLogSinkConfig(
+        ClickLogSinkFormat format,
+        String parquetCodec,
+        int flushSize,
+        long rotateIntervalMs,
+        ClickLogTimestampExtractor timestampExtractor,
+        ClickEventSchema eventSchema
+) {
+    private static final List<String> SUPPORTED_PARQUET_CODECS = List.of("snappy", "zstd");
+
+    public static ClickLogSinkConfig fromEnv() {
+        ClickLogSinkFormat format = ClickLogSinkFormat.fromEnv(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_SINK_FORMAT));
+        boolean parquet = format == ClickLogSinkFormat.PARQUET;
+
+        ClickLogSinkConfig config = new ClickLogSinkConfig(
+                format,
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_SINK_PARQUET_CODEC).trim().toLowerCase(),
+                AppConfig.getPositiveInt(parquet ? EnvKey.CLICK_LOG_SINK_PARQUET_FLUSH_SIZE : EnvKey.CLICK_LOG_SINK_JSON_FLUSH_SIZE),
+                AppConfig.getPositiveInt(parquet
+                        ? EnvKey.CLICK_LOG_SINK_PARQUET_ROTATE_INTERVAL_MS
+                        : EnvKey.CLICK_LOG_SINK_JSON_ROTATE_INTERVAL_MS),
+                ClickLogTimestampExtractor.fromEnv(AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TIMESTAMP_EXTRACTOR)),
+                ClickEventSchema.fromEnv()
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(ClickLogSinkConfig config) {
+        if (config.format() == ClickLogSinkFormat.PARQUET && !SUPPORTED_PARQUET_CODECS.contains(config.parquetCodec())) {
+            throw new IllegalStateException("지원하지 않는 Parquet 압축 방식입니다: " + config.parquetCodec());
+        }
+    }
+
+    /**
+     * 커넥터 설정 중 포맷/변환 관련 항목
+     */
+    public Map<String, String> toConnectorConfiguration() {
+        Map<String, String> configuration = new LinkedHashMap<>();
+        configuration.put("flush.size", String.valueOf(flushSize));
+        configuration.put("rotate.interval.ms", String.valueOf(rotateIntervalMs));
+        configuration.put("key.converter", "org.apache.kafka.connect.storage.StringConverter");
+        if (timestampExtractor == ClickLogTimestampExtractor.RECORD_FIELD) {
+            // epoch millis 필드 기준 (schemaless Map / Parquet Struct 모두 지원)
+            configuration.put("timestamp.extractor", "RecordField");
+            configuration.put("timestamp.field", eventSchema.eventTimeField());
+        } else {
+            configuration.put("timestamp.extractor", "Wallclock");
+        }
+
+        if (format == ClickLogSinkFormat.JSON) {
+            configuration.put("format.class", "io.confluent.connect.s3.format.json.JsonFormat");
+            configuration.put("value.converter", "org.apache.kafka.connect.json.JsonConverter");
+            configuration.put("value.converter.schemas.enable", "false");
+            return configuration;
+        }
+
+        configuration.put("format.class", "io.confluent.connect.s3.format.parquet.ParquetFormat");
+        configuration.put("parquet.codec", parquetCodec);
+        // schema registry 없이 producer JSON 문자열에 클릭 이벤트 스키마를 입혀 Struct로 변환한다.
+        configuration.put("value.converter", "org.apache.kafka.connect.storage.StringConverter");
+        configuration.put("transforms", "clickEventSchema");
+        configuration.put("transforms.clickEventSchema.type", "com.github.jcustenborder.kafka.connect.json.FromJson$Value");
+        configuration.put("transforms.clickEventSchema.json.schema.location", "Inline");
+        configuration.put("transforms.clickEventSchema.json.schema.inline", eventSchema.toJsonSchema());
+        return configuration;
+    }
+}
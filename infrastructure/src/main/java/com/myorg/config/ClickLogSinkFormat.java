@@ -0,0 +1,41 @@
+package com.myorg.config;
+
+/**
+ * 클릭 로그 S3 sink 저장 포맷.
+ * - JSON: schemaless JSON 그대로 저장
+ * - PARQUET: 클릭 이벤트 스키마를 적용한 컬럼 포맷(압축 포함)
+ * - 포맷마다 raw prefix / Glue 테이블을 따로 써서, 포맷을 바꿔도 이전 포맷 데이터를 그대로 조회할 수 있다
+ */
+public enum ClickLogSinkFormat {
+    JSON("events/raw", ""),
+    PARQUET("events/raw-parquet", "_parquet");
+
+    private final String rawTopicsDir;
+    private final String tableSuffix;
+
+    ClickLogSinkFormat(String rawTopicsDir, String tableSuffix) {
+        this.rawTopicsDir = rawTopicsDir;
+        this.tableSuffix = tableSuffix;
+    }
+
+    /**
+     * raw 로그 prefix (S3 sink topics.dir)
+     */
+    public String rawTopicsDir() {
+        return rawTopicsDir;
+    }
+
+    /**
+     * raw Glue 테이블 이름 (JSON은 기존 이름 그대로)
+     */
+    public String rawTableName(String baseTableName) {
+        return baseTableName + tableSuffix;
+    }
+
+    public static ClickLogSinkFormat fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return JSON;
+        }
+        return ClickLogSinkFormat.valueOf(raw.trim().toUpperCase());
+    }
+}
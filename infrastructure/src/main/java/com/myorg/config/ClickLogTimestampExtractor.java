@@ -0,0 +1,18 @@
+package com.myorg.config;
+
+/**
+ * S3 sink 시간 파티션 기준.
+ * - WALLCLOCK(기본): 커넥터 적재 시각
+ * - RECORD_FIELD: 이벤트 payload의 발생 시각 필드 (지연/재처리 이벤트도 발생 시간대 파티션으로 간다)
+ */
+public enum ClickLogTimestampExtractor {
+    WALLCLOCK,
+    RECORD_FIELD;
+
+    public static ClickLogTimestampExtractor fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return WALLCLOCK;
+        }
+        return ClickLogTimestampExtractor.valueOf(raw.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,28 @@
+package com.myorg.config;
+
+/**
+ * MSK consumer lag 지표 (AWS/Kafka, Consumer Group / Topic 차원).
+ * - SUM_OFFSET_LAG: 토픽 전체 파티션 offset lag 합 (건수)
+ * - ESTIMATED_MAX_TIME_LAG: 가장 밀린 파티션의 예상 지연 시간 (초)
+ */
+public enum ConsumerLagMetric {
+    SUM_OFFSET_LAG("SumOffsetLag"),
+    ESTIMATED_MAX_TIME_LAG("EstimatedMaxTimeLag");
+
+    private final String metricName;
+
+    ConsumerLagMetric(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public static ConsumerLagMetric fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return SUM_OFFSET_LAG;
+        }
+        return ConsumerLagMetric.valueOf(raw.trim().toUpperCase());
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,113 @@
+package com.myorg.config;
+
+import java.util.List;
+
+/**
+ * Kafka consumer 백그라운드 서비스의 lag 기반 task 수 자동 조정 설정.
+ * - 최대 task 수는 (토픽 파티션 수 / task당 consumer 수)를 넘지 않는다 (남는 consumer는 할당을 못 받는다)
+ * - scale-in은 긴 평가 구간 + 긴 cooldown으로 rebalance 반복을 막는다
+ */
+public record ConsumerLagScalingConfig(
+        ConsumerLagMetric metric,
+        String clusterName,
+        String consumerGroup,
+        String topic,
+        int minCapacity,
+        int maxCapacity,
+        long scaleOutThreshold,
+        long scaleInThreshold,
+        int scaleOutCooldownSeconds,
+        int scaleInCooldownSeconds,
+        int scaleInEvaluationMinutes
+) {
+    public static ConsumerLagScalingConfig forLogServer(String clusterName, List<KafkaTopicSpec> topicSpecs) {
+        KafkaTopicSpec topic = KafkaTopicRegistry.find(topicSpecs, AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC));
+        return fromEnv(
+                clusterName,
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_CONSUMER_GROUP_ID),
+                topic,
+                LogServerConsumerProfile.fromEnv().listenerConcurrency(),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_DESIRED_COUNT)),
+                ServiceTaskCounts.logServerMax(),
+                EnvKey.LOG_SERVER_LAG_SCALING_METRIC,
+                EnvKey.LOG_SERVER_LAG_SCALE_OUT_THRESHOLD,
+                EnvKey.LOG_SERVER_LAG_SCALE_IN_THRESHOLD
+        );
+    }
+
+    public static ConsumerLagScalingConfig forIntelligenceServer(String clusterName, List<KafkaTopicSpec> topicSpecs) {
+        KafkaTopicSpec topic = KafkaTopicRegistry.find(
+                topicSpecs,
+                AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_ANALYSIS_REQUEST_TOPIC)
+        );
+        return fromEnv(
+                clusterName,
+                AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_CONSUMER_GROUP_ID),
+                topic,
+                1,
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_DESIRED_COUNT)),
+                ServiceTaskCounts.intelligenceServerMax(),
+                EnvKey.INTELLIGENCE_SERVER_LAG_SCALING_METRIC,
+                EnvKey.INTELLIGENCE_SERVER_LAG_SCALE_OUT_THRESHOLD,
+                EnvKey.INTELLIGENCE_SERVER_LAG_SCALE_IN_THRESHOLD
+        );
+    }
+
+    private static ConsumerLagScalingConfig fromEnv(
+            String clusterName,
+            String consumerGroup,
+            KafkaTopicSpec topic,
+            int consumersPerTask,
+            int desiredCount,
+            int maxTaskCount,
+            EnvKey metricKey,
+            EnvKey scaleOutThresholdKey,
+            EnvKey scaleInThresholdKey
+    ) {
+        ConsumerLagScalingConfig config = new ConsumerLagScalingConfig(
+                ConsumerLagMetric.fromEnv(AppConfig.getValueOrDefault(metricKey)),
+                clusterName,
+                consumerGroup,
+                topic.name(),
+                Math.max(desiredCount, 1),
+                maxCapacity(topic.partitions(), consumersPerTask, maxTaskCount),
+                Long.parseLong(AppConfig.getValueOrDefault(scaleOutThresholdKey)),
+                Long.parseLong(AppConfig.getValueOrDefault(scaleInThresholdKey)),
+                AppConfig.getPositiveInt(EnvKey.CONSUMER_LAG_SCALE_OUT_COOLDOWN_SECONDS),
+                AppConfig.getPositiveInt(EnvKey.CONSUMER_LAG_SCALE_IN_COOLDOWN_SECONDS),
+                AppConfig.getPositiveInt(EnvKey.CONSUMER_LAG_SCALE_IN_EVALUATION_MINUTES)
+        );
+        validate(config);
+        return config;
+    }
+
+    /**
+     * 서비스 최대 task 수와 파티션 기준 상한 중 작은 값
+     */
+    static int maxCapacity(int partitions, int consumersPerTask, int maxTaskCount) {
+        return Math.min(maxTaskCount, Math.max(partitions / consumersPerTask, 1));
+    }
+
+    static void validate(ConsumerLagScalingConfig config) {
+        // 최대 task 수가 최소와 같으면 정책/알람만 생기고 task 수는 바뀌지 않는다 (*_MAX_TASK_COUNT 기본값 1).
+        if (config.minCapacity() >= config.maxCapacity()) {
+            throw new IllegalStateException(
+                    "consumer lag scaling 최대 task 수는 최소 task 수보다 커야 합니다 (*_MAX_TASK_COUNT 확인): topic="
+                            + config.topic() + ", min=" + config.minCapacity() + ", max=" + config.maxCapacity()
+            );
+        }
+        if (config.scaleInThreshold() < 0 || config.scaleInThreshold() >= config.scaleOutThreshold()) {
+            throw new IllegalStateException(
+                    "consumer lag scale-in 기준은 0 이상이고 scale-out 기준보다 작아야 합니다: scaleIn="
+                            + config.scaleInThreshold() + ", scaleOut=" + config.scaleOutThreshold()
+            );
+        }
+        // scale-in 판단 구간이 cooldown보다 짧으면 rebalance 직후 lag이 줄어든 순간을 보고 다시 줄인다.
+        if (config.scaleInEvaluationMinutes() * 60 < config.scaleOutCooldownSeconds()) {
+            throw new IllegalStateException(
+                    "scale-in 평가 구간은 scale-out cooldown 이상이어야 합니다: evaluationMinutes="
+                            + config.scaleInEvaluationMinutes() + ", scaleOutCooldownSeconds=" + config.scaleOutCooldownSeconds()
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.myorg.config;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DB 커넥션 예산 계획.
+ * 서비스별 (풀 상한 x 최대 task 수) 합계가 Postgres max_connections(Proxy 사용 시 Proxy 허용 비율)를 넘지 않는지 점검한다.
+ * Proxy가 커넥션을 다중화하더라도 pinning이 걸리면 클라이언트 커넥션이 그대로 DB 커넥션이 되므로 최악 기준으로 계산한다.
+ */
+public record DbConnectionBudget(
+        DbConnectionBudgetMode mode,
+        List<Consumer> consumers
+) {
+    // rdsadmin/superuser 예약 커넥션
+    static final int RESERVED_CONNECTIONS = 3;
+
+    /**
+     * DB 커넥션 사용 주체
+     */
+    public record Consumer(
+            String name,
+            int poolSize,
+            int maxTasks
+    ) {
+        public int connections() {
+            return poolSize * maxTasks;
+        }
+    }
+
+    public static DbConnectionBudget fromEnv() {
+        return new DbConnectionBudget(
+                DbConnectionBudgetMode.fromEnv(AppConfig.getValueOrDefault(EnvKey.DB_CONNECTION_BUDGET_MODE)),
+                List.of(
+                        new Consumer(
+                                "admin-api",
+                                AppConfig.getPositiveInt(EnvKey.ADMIN_API_DB_POOL_MAX),
+                                ServiceTaskCounts.adminApiMax()
+                        ),
+                        new Consumer(
+                                "customer-api",
+                                AppConfig.getPositiveInt(EnvKey.CUSTOMER_API_DB_POOL_MAX),
+                                ServiceTaskCounts.customerApiMax()
+                        ),
+                        new Consumer(
+                                "log-server",
+                                AppConfig.getPositiveInt(EnvKey.LOG_SERVER_DB_POOL_MAX),
+                                ServiceTaskCounts.logServerMax()
+                        ),
+                        new Consumer(
+                                "intelligence-server",
+                                AppConfig.getPositiveInt(EnvKey.ANALYSIS_SERVER_POSTGRES_POOL_MAX_SIZE),
+                                ServiceTaskCounts.intelligenceServerMax()
+                        ),
+                        // DynamoDB lock으로 workflow가 직렬 실행되므로 batch worker task는 동시에 1개다.
+                        new Consumer("on-demand-worker", AppConfig.getPositiveInt(EnvKey.ON_DEMAND_WORKER_DB_POOL_MAX), 1),
+                        new Consumer("business-validator", 1, 1),
+                        new Consumer("pg-exporter", 1, 1)
+                )
+        );
+    }
+
+    /**
+     * RDS 구성에서 애플리케이션이 쓸 수 있는 커넥션 상한
+     */
+    public static int connectionLimit(RdsConfig rdsConfig) {
+        DbInstanceSpec spec = rdsConfig.auroraServerless()
+                ? DbInstanceSpec.ofAuroraCapacity(rdsConfig.auroraMaxCapacity())
+                : DbInstanceSpec.of(rdsConfig.instanceType());
+        int usable = spec.maxConnections() - RESERVED_CONNECTIONS;
+        if (rdsConfig.proxyEnabled()) {
+            // Proxy는 max_connections의 설정 비율까지만 DB 커넥션을 연다.
+            return usable * rdsConfig.proxyMaxConnectionsPercent() / 100;
+        }
+        return usable;
+    }
+
+    public int totalConnections() {
+        return consumers.stream()
+                .mapToInt(Consumer::connections)
+                .sum();
+    }
+
+    public boolean exceeds(int connectionLimit) {
+        return totalConnections() > connectionLimit;
+    }
+
+    public String report(int connectionLimit) {
+        String detail = consumers.stream()
+                .map(consumer -> consumer.name() + " " + consumer.poolSize() + "x" + consumer.maxTasks()
+                        + "=" + consumer.connections())
+                .collect(Collectors.joining(", "));
+        return "DB 커넥션 예산: 합계 " + totalConnections() + " / 상한 " + connectionLimit + " (" + detail + ")";
+    }
+}
@@ -0,0 +1,18 @@
+package com.myorg.config;
+
+/**
+ * DB 커넥션 예산 초과 시 처리 방식.
+ * - FAIL: synth 실패
+ * - REPORT: synth 경고만 남김
+ */
+public enum DbConnectionBudgetMode {
+    FAIL,
+    REPORT;
+
+    public static DbConnectionBudgetMode fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return FAIL;
+        }
+        return DbConnectionBudgetMode.valueOf(raw.trim().toUpperCase());
+    }
+}
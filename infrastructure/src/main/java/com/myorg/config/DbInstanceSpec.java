@@ -0,0 +1,81 @@
+package com.myorg.config;
+
+import java.util.Map;
+
+/**
+ * RDS 인스턴스 클래스별 메모리 / 기본 max_connections 계산.
+ */
+public record DbInstanceSpec(
+        String instanceType,
+        int memoryGib
+) {
+    // RDS PostgreSQL 기본 max_connections = LEAST(DBInstanceClassMemory / 9531392, 5000)
+    private static final long MAX_CONNECTIONS_MEMORY_DIVISOR = 9_531_392L;
+    private static final int MAX_CONNECTIONS_CEILING = 5000;
+    // DBInstanceClassMemory는 OS/RDS 프로세스 예약분을 뺀 값이라 명목 메모리보다 작다 (예: t4g.micro 약 80).
+    // 예약분은 작은 클래스에서 약 300MiB, 큰 클래스에서 약 8%로 보수적으로 잡는다.
+    private static final long MIN_RESERVED_MEMORY_BYTES = 300L * 1024L * 1024L;
+    private static final int RESERVED_MEMORY_PERCENT = 8;
+
+    private static final Map<String, Integer> MEMORY_GIB_BY_INSTANCE_TYPE = Map.ofEntries(
+            Map.entry("t3.micro", 1),
+            Map.entry("t3.small", 2),
+            Map.entry("t3.medium", 4),
+            Map.entry("t3.large", 8),
+            Map.entry("t4g.micro", 1),
+            Map.entry("t4g.small", 2),
+            Map.entry("t4g.medium", 4),
+            Map.entry("t4g.large", 8),
+            Map.entry("t4g.xlarge", 16),
+            Map.entry("t4g.2xlarge", 32),
+            Map.entry("m6g.large", 8),
+            Map.entry("m6g.xlarge", 16),
+            Map.entry("m6g.2xlarge", 32),
+            Map.entry("m6i.large", 8),
+            Map.entry("m6i.xlarge", 16),
+            Map.entry("m7g.large", 8),
+            Map.entry("m7g.xlarge", 16),
+            Map.entry("m7g.2xlarge", 32),
+            Map.entry("r6g.large", 16),
+            Map.entry("r6g.xlarge", 32),
+            Map.entry("r6g.2xlarge", 64),
+            Map.entry("r7g.large", 16),
+            Map.entry("r7g.xlarge", 32),
+            Map.entry("r7g.2xlarge", 64)
+    );
+
+    public static DbInstanceSpec of(String instanceType) {
+        String normalized = instanceType == null ? "" : instanceType.trim().toLowerCase();
+        if (normalized.startsWith("db.")) {
+            normalized = normalized.substring(3);
+        }
+        Integer memoryGib = MEMORY_GIB_BY_INSTANCE_TYPE.get(normalized);
+        if (memoryGib == null) {
+            throw new IllegalStateException("지원하지 않는 RDS 인스턴스 클래스입니다: " + instanceType);
+        }
+        return new DbInstanceSpec(normalized, memoryGib);
+    }
+
+    /**
+     * Aurora Serverless v2는 최대 ACU(1 ACU = 2GiB) 메모리 기준으로 max_connections가 정해진다.
+     */
+    public static DbInstanceSpec ofAuroraCapacity(double maxCapacity) {
+        return new DbInstanceSpec("serverless-v2", (int) Math.ceil(maxCapacity * 2));
+    }
+
+    public long memoryBytes() {
+        return memoryGib * 1024L * 1024L * 1024L;
+    }
+
+    /**
+     * RDS 파라미터 식에 쓰이는 DBInstanceClassMemory 추정값 (명목 메모리 - 예약분)
+     */
+    public long classMemoryBytes() {
+        long reserved = Math.max(MIN_RESERVED_MEMORY_BYTES, memoryBytes() * RESERVED_MEMORY_PERCENT / 100);
+        return memoryBytes() - reserved;
+    }
+
+    public int maxConnections() {
+        return (int) Math.min(classMemoryBytes() / MAX_CONNECTIONS_MEMORY_DIVISOR, MAX_CONNECTIONS_CEILING);
+    }
+}
@@ -39,6 +39,79 @@ public enum EnvKey {
      */
     DEPLOY_MODE("ecs"),
 
+    /*
+     * =================================================================
+     * RDS
+     * =================================================================
+     */
+    RDS_ENGINE("POSTGRES"),
+    RDS_AURORA_MIN_ACU("0.5"),
+    RDS_AURORA_MAX_ACU("4"),
+    RDS_INSTANCE_TYPE("t4g.micro"),
+    RDS_PARAMETER_PROFILE("BALANCED"),
+    RDS_AUTO_EXPLAIN_SAMPLE_RATE,
+    RDS_PROXY_ENABLED("true"),
+    /**
+     * Proxy IAM 인증 강제 여부.
+     * - true면 비밀번호 접속이 거부되므로 모든 앱(admin/customer-api, log-server, 검증 Lambda)이
+     *   DB_IAM_AUTH=true일 때 IAM auth token으로 접속할 수 있어야 한다.
+     */
+    RDS_PROXY_REQUIRE_IAM("false"),
+    RDS_PROXY_MAX_CONNECTIONS_PERCENT("90"),
+    RDS_PROXY_MAX_IDLE_CONNECTIONS_PERCENT("50"),
+    RDS_PROXY_BORROW_TIMEOUT_SECONDS("30"),
+    RDS_PROXY_PINNED_ALARM_THRESHOLD("5"),
+    RDS_PROXY_BORROW_LATENCY_ALARM_MICROS("500000"),
+    RDS_READ_REPLICA_COUNT("0"),
+    RDS_READ_REPLICA_LAG_ALARM_SECONDS("30"),
+    /**
+     * 기존 인스턴스와 같은 gp2를 기본값으로 둔다.
+     * - gp3로 바꾸면 스토리지 타입 변경(modify)이 적용되어 최적화 작업 동안 I/O 성능이 흔들릴 수 있으므로 저부하 시간대에 배포
+     */
+    RDS_STORAGE_TYPE("gp2"),
+    RDS_ALLOCATED_STORAGE_GIB("20"),
+    RDS_MAX_ALLOCATED_STORAGE_GIB("100"),
+    RDS_STORAGE_IOPS("0"),
+    RDS_STORAGE_THROUGHPUT_MIBPS("0"),
+    RDS_PERFORMANCE_INSIGHTS_ENABLED("true"),
+    RDS_PERFORMANCE_INSIGHTS_RETENTION_DAYS("7"),
+    RDS_ENHANCED_MONITORING_INTERVAL_SECONDS("60"),
+
+    /*
+     * =================================================================
+     * DB 커넥션 예산 (서비스별 풀 상한 x 최대 task 수)
+     * =================================================================
+     */
+    DB_CONNECTION_BUDGET_MODE("FAIL"),
+    ADMIN_API_DB_POOL_MAX("10"),
+    ADMIN_API_MAX_TASK_COUNT("1"),
+    CUSTOMER_API_DB_POOL_MAX("10"),
+    CUSTOMER_API_MAX_TASK_COUNT("1"),
+    LOG_SERVER_DB_POOL_MAX("10"),
+    LOG_SERVER_MAX_TASK_COUNT("1"),
+    LOG_SERVER_CONSUMER_PROFILE("SPEED"),
+    /**
+     * log-server consumer 프리셋 개별 override. 비워 두면 LOG_SERVER_CONSUMER_PROFILE 프리셋 값을 쓴다.
+     */
+    LOG_SERVER_KAFKA_MAX_POLL_RECORDS,
+    LOG_SERVER_KAFKA_FETCH_MIN_BYTES,
+    LOG_SERVER_KAFKA_FETCH_MAX_WAIT_MS,
+    LOG_SERVER_KAFKA_LISTENER_CONCURRENCY,
+    LOG_SERVER_DB_BATCH_INSERT_SIZE,
+    LOG_SERVER_LAG_SCALING_ENABLED("false"),
+    LOG_SERVER_LAG_SCALING_METRIC("SUM_OFFSET_LAG"),
+    LOG_SERVER_LAG_SCALE_OUT_THRESHOLD("10000"),
+    LOG_SERVER_LAG_SCALE_IN_THRESHOLD("100"),
+    INTELLIGENCE_SERVER_MAX_TASK_COUNT("1"),
+    INTELLIGENCE_SERVER_LAG_SCALING_ENABLED("false"),
+    INTELLIGENCE_SERVER_LAG_SCALING_METRIC("ESTIMATED_MAX_TIME_LAG"),
+    INTELLIGENCE_SERVER_LAG_SCALE_OUT_THRESHOLD("300"),
+    INTELLIGENCE_SERVER_LAG_SCALE_IN_THRESHOLD("30"),
+    CONSUMER_LAG_SCALE_OUT_COOLDOWN_SECONDS("120"),
+    CONSUMER_LAG_SCALE_IN_COOLDOWN_SECONDS("900"),
+    CONSUMER_LAG_SCALE_IN_EVALUATION_MINUTES("15"),
+    ON_DEMAND_WORKER_DB_POOL_MAX("5"),
+
     /*
      * =================================================================
      * MSK
@@ -49,13 +122,109 @@ public enum EnvKey {
     MSK_BROKER_INSTANCE_TYPE("kafka.t3.small"),
     MSK_BROKER_NODES("4"),
     MSK_BROKER_VOLUME_GIB("10"),
+    MSK_BROKER_MAX_VOLUME_GIB("100"),
+    MSK_STORAGE_TARGET_UTILIZATION_PERCENT("60"),
+    MSK_STORAGE_THROUGHPUT_MIBPS("0"),
+    MSK_DISK_USED_ALARM_PERCENT("85"),
+    MSK_DEFAULT_PARTITIONS("6"),
+    MSK_DEFAULT_REPLICATION_FACTOR("3"),
+    MSK_MIN_INSYNC_REPLICAS("2"),
+    MSK_COMPRESSION_TYPE("producer"),
+    MSK_LOG_SEGMENT_BYTES("268435456"),
+    /**
+     * 브로커 기본 보존 시간 / 토픽 자동 생성. MSK 기본 설정과 같은 값(168, false)이 기본이다.
+     * - 토픽은 KafkaTopicRegistry로 선언적으로 만들고, 토픽별 보존 시간은 토픽 설정으로 조정한다
+     */
+    MSK_LOG_RETENTION_HOURS("168"),
+    MSK_MESSAGE_MAX_BYTES("1048588"),
+    MSK_AUTO_CREATE_TOPICS_ENABLE("false"),
+    MSK_OPEN_MONITORING_ENABLED("true"),
+    MSK_ENHANCED_MONITORING("DEFAULT"),
     MSK_CONNECT_VERSION("3.7.x"),
     MSK_CONNECT_WORKER_COUNT("1"),
     MSK_CONNECT_MCU_COUNT("1"),
+    MSK_CONNECT_CAPACITY_MODE("PROVISIONED"),
+    MSK_CONNECT_MIN_WORKER_COUNT("1"),
+    MSK_CONNECT_MAX_WORKER_COUNT("2"),
+    MSK_CONNECT_SCALE_IN_CPU_PERCENT("20"),
+    MSK_CONNECT_SCALE_OUT_CPU_PERCENT("80"),
     MSK_CONNECT_PLUGIN_ASSET_PATH("assets/msk-connect/confluentinc-kafka-connect-s3-12.1.1.zip"),
     CLICK_LOG_TOPIC("client-event-logs"),
+    CLICK_LOG_PRODUCER_LINGER_MS("20"),
+    CLICK_LOG_PRODUCER_BATCH_SIZE("131072"),
+    CLICK_LOG_PRODUCER_COMPRESSION_TYPE("zstd"),
+    CLICK_LOG_PRODUCER_ACKS("all"),
+    CLICK_LOG_PRODUCER_MAX_IN_FLIGHT("5"),
+    CLICK_LOG_PRODUCER_BUFFER_MEMORY("33554432"),
+    CLICK_LOG_PRODUCER_MAX_BLOCK_MS("100"),
     CLICK_LOG_CONSUMER_GROUP_ID("click-log-consumer"),
+    ERROR_LOG_TOPIC("error-logs"),
+    KAFKA_TOPIC_PROVISIONING_ENABLED("true"),
+    KAFKA_TOPIC_PROVISIONER_ASSET_PATH("lambda/kafka-topic-provisioner"),
+    CLICK_LOG_TOPIC_PARTITIONS("6"),
+    CLICK_LOG_TOPIC_RETENTION_HOURS("72"),
+    ERROR_LOG_TOPIC_PARTITIONS("3"),
+    ERROR_LOG_TOPIC_RETENTION_HOURS("168"),
+    /**
+     * error-logs 재처리 상태머신/1회성 task 생성 여부 (기본 비활성화).
+     * 켜기 전에 log-server 이미지가 아래 계약을 지원해야 한다.
+     * - redrive 프로파일 (SPRING_PROFILES_ACTIVE=prod,redrive): listener/웹 서버 없이 REDRIVE_* 구간을 재발행하고 종료
+     * - 종료 직전 event=error_log_redrive_summary, read/published/skipped 숫자 필드를 가진 JSON 로그 한 줄 (metric filter 입력)
+     * - DataSource/JPA 초기화 비활성화: task에는 DB_URL, DB_USERNAME/DB_PASSWORD, rds-db:connect 권한을 주지 않는다
+     */
+    ERROR_LOG_REDRIVE_ENABLED("false"),
+    ERROR_LOG_REDRIVE_STATE_MACHINE_NAME("holliverse-error-log-redrive"),
+    ERROR_LOG_REDRIVE_CONSUMER_GROUP_ID("error-log-redrive"),
+    ERROR_LOG_REDRIVE_BATCH_SIZE("1000"),
+    ERROR_LOG_REDRIVE_MAX_RECORDS_PER_SECOND("5000"),
+    ERROR_LOG_REDRIVE_CPU("1024"),
+    ERROR_LOG_REDRIVE_MEMORY_MIB("2048"),
+    ERROR_LOG_REDRIVE_TIMEOUT_MINUTES("60"),
+    ANALYSIS_REQUEST_TOPIC_PARTITIONS("3"),
+    ANALYSIS_RESPONSE_TOPIC_PARTITIONS("3"),
+    ANALYSIS_TOPIC_RETENTION_HOURS("72"),
+    RECOMMENDATION_TOPIC_PARTITIONS("3"),
+    RECOMMENDATION_TOPIC_RETENTION_HOURS("72"),
+    RECOMMENDATION_TOPIC_CLEANUP_POLICY("delete"),
     CLICK_LOG_BUCKET_NAME("holiverse-log"),
+    /**
+     * raw 클릭 로그 저장 포맷 (JSON / PARQUET).
+     * - PARQUET은 events/raw-parquet prefix와 {CLICK_LOG_GLUE_TABLE}_parquet 테이블에 따로 쌓이고, 기존 JSON 테이블은 유지된다
+     */
+    CLICK_LOG_SINK_FORMAT("JSON"),
+    CLICK_LOG_SINK_PARQUET_CODEC("snappy"),
+    CLICK_LOG_SINK_JSON_FLUSH_SIZE("1000"),
+    CLICK_LOG_SINK_JSON_ROTATE_INTERVAL_MS("60000"),
+    CLICK_LOG_SINK_PARQUET_FLUSH_SIZE("50000"),
+    CLICK_LOG_SINK_PARQUET_ROTATE_INTERVAL_MS("300000"),
+    CLICK_LOG_TIMESTAMP_EXTRACTOR("WALLCLOCK"),
+    /**
+     * 클릭 이벤트 스키마 (PARQUET 변환 / Glue 컬럼). customer-api 이벤트 payload와 맞춰야 한다.
+     * - FIELDS: name:STRING|LONG 목록, REQUIRED_FIELDS: 누락 시 PARQUET 변환이 실패하는 필드
+     */
+    CLICK_LOG_EVENT_FIELDS("eventId:STRING,eventType:STRING,eventTime:LONG,memberId:STRING,sessionId:STRING,pageUrl:STRING,target:STRING,referrer:STRING"),
+    CLICK_LOG_EVENT_REQUIRED_FIELDS("eventId,eventType,eventTime"),
+    CLICK_LOG_EVENT_TIME_FIELD("eventTime"),
+    CLICK_LOG_GLUE_DATABASE("holliverse_click_logs"),
+    CLICK_LOG_GLUE_TABLE("client_event_logs_raw"),
+    CLICK_LOG_PARTITION_PROJECTION_START_DATE("2025-01-01"),
+    CLICK_LOG_ATHENA_WORKGROUP("holliverse-click-logs"),
+    CLICK_LOG_ATHENA_BYTES_SCANNED_CUTOFF_GIB("10"),
+    CLICK_LOG_COMPACTION_ENABLED("true"),
+    CLICK_LOG_COMPACTION_SCHEDULE("cron(15 * * * ? *)"),
+    CLICK_LOG_COMPACTION_DELAY_HOURS("2"),
+    /**
+     * 스케줄 실행마다 다시 확인하는 최근 닫힌 시간 파티션 수.
+     * 실패/누락된 시간은 이 범위 안에서 다음 실행이 자동으로 다시 처리한다.
+     */
+    CLICK_LOG_COMPACTION_CATCHUP_HOURS("24"),
+    CLICK_LOG_COMPACTED_TABLE("client_event_logs_compacted"),
+    /**
+     * compaction 이후 raw 소형 파일 만료 일수. 0이면 만료하지 않는다 (기본값).
+     * - 켜려면 compaction 실패 알람을 운영하고, 지연 + catch-up 범위보다 하루 이상 길게 잡아야 한다
+     * - CLICK_LOG_TIMESTAMP_EXTRACTOR=RECORD_FIELD와 함께 쓸 수 없다 (compaction 이후 도착한 지연 이벤트가 raw에만 남는다)
+     */
+    CLICK_LOG_RAW_EXPIRATION_DAYS("0"),
 
     /*
      * =================================================================
@@ -117,6 +286,10 @@ public enum EnvKey {
     ON_DEMAND_BUSINESS_VALIDATOR_MEMORY_MB,
     ON_DEMAND_BUSINESS_VALIDATOR_DB_SECRET_ID("holliverse/rds/postgres"),
     ON_DEMAND_BUSINESS_VALIDATOR_DB_NAME("holliverse"),
+    // 비어 있으면 RDS Proxy 사용 시 RdsStack export(Proxy endpoint)를 import
+    ON_DEMAND_BUSINESS_VALIDATOR_DB_HOST,
+    // 비어 있으면 RDS_PROXY_ENABLED && RDS_PROXY_REQUIRE_IAM 값을 따른다.
+    ON_DEMAND_BUSINESS_VALIDATOR_DB_IAM_AUTH,
     ON_DEMAND_ALARM_TOPIC_ARN,
 
     /*
@@ -205,6 +378,27 @@ public enum EnvKey {
     CUSTOMER_API_RUNTIME_SECRET_KMS_KEY_ARN,
     CUSTOMER_API_RUNTIME_SECRET_KMS_KEY_ARNS,
 
+    /**
+     * ECS 로그 라우팅 (CLOUDWATCH: awslogs, FIRELENS: Fluent Bit sidecar -> Loki 직접 전송)
+     * - FIRELENS는 모니터링 스택(Loki + Cloud Map 이름)이 배포된 뒤에만 켠다. Loki 주소를 못 찾으면 로그가 버려진다
+     */
+    LOG_ROUTING_MODE("CLOUDWATCH"),
+    LOG_ROUTING_FLUENT_BIT_IMAGE("public.ecr.aws/aws-observability/aws-for-fluent-bit:stable"),
+    LOG_ROUTING_BUFFER_LIMIT_BYTES("2097152"),
+    LOG_ROUTING_RETRY_LIMIT("5"),
+    LOG_ROUTING_ROUTER_MEMORY_RESERVATION_MIB("64"),
+
+    /**
+     * ECS 분산 추적 (ADOT collector sidecar, export 대상: XRAY / TEMPO / BOTH)
+     * - OTEL_PROPAGATORS는 tracecontext,baggage 고정, XRAY/BOTH일 때만 xray 전파를 추가
+     * - TEMPO/BOTH일 때만 모니터링 호스트 Tempo 컨테이너/데이터소스와 OTLP 보안 그룹 규칙을 만든다
+     */
+    TRACING_ENABLED("false"),
+    TRACING_EXPORTER("XRAY"),
+    TRACING_COLLECTOR_IMAGE("public.ecr.aws/aws-observability/aws-otel-collector:v0.43.3"),
+    TRACING_SAMPLING_RATIO("0.1"),
+    TRACING_COLLECTOR_MEMORY_RESERVATION_MIB("64"),
+
     /*
      * =================================================================
      * Grafana
@@ -223,7 +417,6 @@ public enum EnvKey {
             "prom/prometheus@sha256:1f0f50f06acaceb0f5670d2c8a658a599affe7b0d8e78b898c1035653849a702"),
     MONITORING_PROMETHEUS_PORT("9090"),
     MONITORING_PROMETHEUS_SCRAPE_INTERVAL("15s"),
-    MONITORING_AUTO_DASHBOARD_PANEL_LIMIT("60"),
     MONITORING_KAFKA_UI_CONTAINER_NAME("kafka-ui"),
     MONITORING_KAFKA_UI_IMAGE("provectuslabs/kafka-ui:latest"),
     MONITORING_KAFKA_UI_PORT("8088"),
@@ -239,6 +432,14 @@ public enum EnvKey {
     MONITORING_LOKI_WARN_RETENTION_HOURS("360"),
     MONITORING_LOKI_ERROR_RETENTION_HOURS("2160"),
     MONITORING_LOKI_FATAL_RETENTION_HOURS("4320"),
+    MONITORING_LOKI_CACHE_MEMORY_PERCENT("15"),
+    MONITORING_LOKI_QUERY_SPLIT_INTERVAL("1h"),
+    MONITORING_LOKI_MAX_QUERY_PARALLELISM("4"),
+    MONITORING_LOKI_INGESTION_RATE_MB("4"),
+    MONITORING_LOKI_INGESTION_BURST_SIZE_MB("8"),
+    MONITORING_LOKI_PER_STREAM_RATE_LIMIT_MB("3"),
+    MONITORING_LOKI_PER_STREAM_RATE_LIMIT_BURST_MB("15"),
+    MONITORING_LOKI_RETENTION_DELETE_WORKERS("20"),
     MONITORING_ALLOY_CONTAINER_NAME("alloy"),
     MONITORING_ALLOY_IMAGE("grafana/alloy:v1.8.3"),
     MONITORING_ALLOY_ECS_LOG_GROUPS("/holliverse/ecs"),
@@ -254,6 +455,20 @@ public enum EnvKey {
     MONITORING_CUSTOMER_API_JOB_NAME("customer-api"),
     MONITORING_ADMIN_API_SERVICE_DNS_LABEL("admin-api"),
     MONITORING_CUSTOMER_API_SERVICE_DNS_LABEL("customer-api"),
+    MONITORING_LOG_SERVER_JOB_NAME("log-server"),
+    MONITORING_INTELLIGENCE_SERVER_JOB_NAME("intelligence-server"),
+    MONITORING_INTELLIGENCE_SERVER_METRICS_PATH("/metrics"),
+    MONITORING_ECS_SD_REFRESH_SECONDS("30"),
+    MONITORING_ALERTMANAGER_CONTAINER_NAME("alertmanager"),
+    MONITORING_ALERTMANAGER_IMAGE("prom/alertmanager:v0.28.1"),
+    MONITORING_ALERTMANAGER_PORT("9093"),
+    MONITORING_ALERTMANAGER_SNS_TOPIC_ARN(""),
+    MONITORING_SLO_AVAILABILITY_TARGET("99.9"),
+    MONITORING_TEMPO_CONTAINER_NAME("tempo"),
+    MONITORING_TEMPO_IMAGE("grafana/tempo:2.7.2"),
+    MONITORING_TEMPO_PORT("3200"),
+    MONITORING_TEMPO_OTLP_GRPC_PORT("4317"),
+    MONITORING_TEMPO_RETENTION_HOURS("72"),
 
     // Grafana
     MONITORING_GRAFANA_PORT("3000"),
@@ -263,6 +478,11 @@ public enum EnvKey {
     MONITORING_GRAFANA_REPO_GPG_KEY_URL("https://rpm.grafana.com/gpg.key"),
     MONITORING_GRAFANA_PACKAGE_NAME("grafana"),
     MONITORING_GRAFANA_SERVICE_NAME("grafana-server"),
+    /**
+     * 스택 밖에서 만든 모니터링 호스트 Cloud Map 서비스 ID (srv-...). 지정하면 스택이 같은 이름의 서비스를 만들지 않는다.
+     * - 비워 두면 배포 시 namespace에서 같은 이름의 서비스를 찾아, EcsClusterStack 소유가 아닐 때만 이 값으로 사용
+     */
+    MONITORING_CLOUD_MAP_SERVICE_ID,
     MONITORING_GRAFANA_ADMIN_USER,
     MONITORING_GRAFANA_ADMIN_PASSWORD,
 
@@ -0,0 +1,91 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * error-logs(DLQ) 재처리 작업 설정.
+ * - log-server 이미지를 redrive 프로파일로 1회성 ECS task 실행
+ * - 지정한 offset/timestamp 구간을 읽어 큰 batch로 원본 토픽에 재발행
+ * - 초당 재발행 레코드 수 상한으로 브로커/consumer 부하 제한
+ */
+public record ErrorLogRedriveConfig(
+        boolean enabled,
+        String stateMachineName,
+        String sourceTopic,
+        String targetTopic,
+        String consumerGroupId,
+        int batchSize,
+        int maxRecordsPerSecond,
+        int cpu,
+        int memoryMiB,
+        int timeoutMinutes
+) {
+    // task가 마지막에 남기는 JSON 요약 로그 (metric filter가 건수를 CloudWatch 지표로 변환)
+    public static final String SUMMARY_EVENT = "error_log_redrive_summary";
+    public static final String METRIC_NAMESPACE = "Holliverse/ErrorLogRedrive";
+    public static final List<String> SUMMARY_COUNT_FIELDS = List.of("read", "published", "skipped");
+
+    private static final List<Integer> FARGATE_CPU_UNITS = List.of(256, 512, 1024, 2048, 4096);
+    private static final int FARGATE_MAX_MEMORY_MIB = 30720;
+
+    public static ErrorLogRedriveConfig fromEnv() {
+        ErrorLogRedriveConfig config = new ErrorLogRedriveConfig(
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_REDRIVE_ENABLED)),
+                AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_REDRIVE_STATE_MACHINE_NAME),
+                AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_TOPIC),
+                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC),
+                AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_REDRIVE_CONSUMER_GROUP_ID),
+                AppConfig.getPositiveInt(EnvKey.ERROR_LOG_REDRIVE_BATCH_SIZE),
+                AppConfig.getPositiveInt(EnvKey.ERROR_LOG_REDRIVE_MAX_RECORDS_PER_SECOND),
+                AppConfig.getPositiveInt(EnvKey.ERROR_LOG_REDRIVE_CPU),
+                AppConfig.getPositiveInt(EnvKey.ERROR_LOG_REDRIVE_MEMORY_MIB),
+                AppConfig.getPositiveInt(EnvKey.ERROR_LOG_REDRIVE_TIMEOUT_MINUTES)
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(ErrorLogRedriveConfig config) {
+        if (config.sourceTopic().equals(config.targetTopic())) {
+            throw new IllegalStateException("재처리 원본 토픽과 대상 토픽이 같습니다: " + config.sourceTopic());
+        }
+        // batch 하나가 초당 상한보다 크면 rate limit이 batch 단위로만 지켜진다.
+        if (config.batchSize() > config.maxRecordsPerSecond()) {
+            throw new IllegalStateException(
+                    "재처리 batch 크기는 초당 상한 이하여야 합니다: batch="
+                            + config.batchSize() + ", maxRecordsPerSecond=" + config.maxRecordsPerSecond()
+            );
+        }
+        if (!FARGATE_CPU_UNITS.contains(config.cpu())) {
+            throw new IllegalStateException("지원하지 않는 Fargate CPU 값입니다: " + config.cpu());
+        }
+        int minMemory = config.cpu() * 2;
+        int maxMemory = Math.min(config.cpu() * 8, FARGATE_MAX_MEMORY_MIB);
+        if (config.memoryMiB() < minMemory || config.memoryMiB() > maxMemory) {
+            throw new IllegalStateException(
+                    "Fargate 메모리는 CPU " + config.cpu() + " 기준 " + minMemory + "~" + maxMemory
+                            + "MiB 사이여야 합니다: " + config.memoryMiB()
+            );
+        }
+    }
+
+    /**
+     * redrive task 컨테이너 환경변수 (구간 값은 실행 입력으로 override)
+     */
+    public Map<String, String> toEnvironment() {
+        Map<String, String> env = new LinkedHashMap<>();
+        // log-server 이미지의 redrive 모드 (웹 서버/상시 listener 없이 실행 후 종료)
+        env.put("SPRING_PROFILES_ACTIVE", "prod,redrive");
+        env.put("SPRING_MAIN_WEB_APPLICATION_TYPE", "none");
+        env.put("REDRIVE_SOURCE_TOPIC", sourceTopic);
+        env.put("REDRIVE_TARGET_TOPIC", targetTopic);
+        env.put("REDRIVE_CONSUMER_GROUP_ID", consumerGroupId);
+        env.put("REDRIVE_BATCH_SIZE", String.valueOf(batchSize));
+        env.put("REDRIVE_MAX_RECORDS_PER_SECOND", String.valueOf(maxRecordsPerSecond));
+        env.put("REDRIVE_SUMMARY_EVENT", SUMMARY_EVENT);
+        env.put("KAFKA_MAX_POLL_RECORDS", String.valueOf(batchSize));
+        return env;
+    }
+}
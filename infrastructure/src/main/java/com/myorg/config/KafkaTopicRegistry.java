@@ -0,0 +1,117 @@
+package com.myorg.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MSK 토픽 명세 레지스트리.
+ * - client-event-logs: log-server speed group
+ * - error-logs: DLQ
+ * - analysis.request.v1 / analysis.response.v1: intelligence-server analysis consumer
+ * - recommendation-topic
+ */
+public final class KafkaTopicRegistry {
+    private static final List<String> SUPPORTED_CLEANUP_POLICIES = List.of("delete", "compact", "compact,delete");
+
+    private KafkaTopicRegistry() {
+    }
+
+    public static List<KafkaTopicSpec> fromEnv(int replicationFactor) {
+        List<KafkaTopicSpec.ConsumerGroup> analysisConsumers =
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_CONSUMER_ENABLED))
+                        ? List.of(new KafkaTopicSpec.ConsumerGroup(
+                                AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_CONSUMER_GROUP_ID),
+                                ServiceTaskCounts.intelligenceServerMax()
+                        ))
+                        : List.of();
+
+        List<KafkaTopicSpec> specs = List.of(
+                new KafkaTopicSpec(
+                        AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC),
+                        AppConfig.getPositiveInt(EnvKey.CLICK_LOG_TOPIC_PARTITIONS),
+                        replicationFactor,
+                        hoursToMs(EnvKey.CLICK_LOG_TOPIC_RETENTION_HOURS),
+                        "delete",
+                        List.of(new KafkaTopicSpec.ConsumerGroup(
+                                AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_CONSUMER_GROUP_ID),
+                                // task마다 listener concurrency만큼 consumer가 붙는다.
+                                ServiceTaskCounts.logServerMax() * LogServerConsumerProfile.fromEnv().listenerConcurrency()
+                        ))
+                ),
+                new KafkaTopicSpec(
+                        AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_TOPIC),
+                        AppConfig.getPositiveInt(EnvKey.ERROR_LOG_TOPIC_PARTITIONS),
+                        replicationFactor,
+                        hoursToMs(EnvKey.ERROR_LOG_TOPIC_RETENTION_HOURS),
+                        "delete",
+                        List.of()
+                ),
+                new KafkaTopicSpec(
+                        AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_ANALYSIS_REQUEST_TOPIC),
+                        AppConfig.getPositiveInt(EnvKey.ANALYSIS_REQUEST_TOPIC_PARTITIONS),
+                        replicationFactor,
+                        hoursToMs(EnvKey.ANALYSIS_TOPIC_RETENTION_HOURS),
+                        "delete",
+                        analysisConsumers
+                ),
+                new KafkaTopicSpec(
+                        AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_ANALYSIS_RESPONSE_TOPIC),
+                        AppConfig.getPositiveInt(EnvKey.ANALYSIS_RESPONSE_TOPIC_PARTITIONS),
+                        replicationFactor,
+                        hoursToMs(EnvKey.ANALYSIS_TOPIC_RETENTION_HOURS),
+                        "delete",
+                        List.of()
+                ),
+                new KafkaTopicSpec(
+                        AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_KAFKA_RECOMMENDATION_TOPIC),
+                        AppConfig.getPositiveInt(EnvKey.RECOMMENDATION_TOPIC_PARTITIONS),
+                        replicationFactor,
+                        hoursToMs(EnvKey.RECOMMENDATION_TOPIC_RETENTION_HOURS),
+                        AppConfig.getValueOrDefault(EnvKey.RECOMMENDATION_TOPIC_CLEANUP_POLICY).trim().toLowerCase(),
+                        List.of()
+                )
+        );
+
+        validate(specs);
+        return specs;
+    }
+
+    /**
+     * 파티션 수가 consumer group 최대 task 수보다 작으면 남는 consumer는 할당을 못 받으므로 synth를 막는다.
+     */
+    static void validate(List<KafkaTopicSpec> specs) {
+        List<String> names = new ArrayList<>();
+        for (KafkaTopicSpec spec : specs) {
+            if (names.contains(spec.name())) {
+                throw new IllegalStateException("중복된 Kafka 토픽 명세입니다: " + spec.name());
+            }
+            names.add(spec.name());
+
+            if (!SUPPORTED_CLEANUP_POLICIES.contains(spec.cleanupPolicy())) {
+                throw new IllegalStateException("지원하지 않는 cleanup.policy입니다: " + spec.name() + "=" + spec.cleanupPolicy());
+            }
+            for (KafkaTopicSpec.ConsumerGroup group : spec.consumerGroups()) {
+                if (spec.partitions() < group.maxConsumers()) {
+                    throw new IllegalStateException(
+                            "토픽 파티션 수가 consumer 최대 task 수보다 작습니다: topic=" + spec.name()
+                                    + ", partitions=" + spec.partitions()
+                                    + ", group=" + group.groupId()
+                                    + ", maxConsumers=" + group.maxConsumers()
+                    );
+                }
+            }
+        }
+    }
+
+    public static KafkaTopicSpec find(List<KafkaTopicSpec> specs, String topicName) {
+        return specs.stream()
+                .filter(spec -> spec.name().equals(topicName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("등록되지 않은 Kafka 토픽입니다: " + topicName));
+    }
+
+    private static long hoursToMs(EnvKey key) {
+        return TimeUnit.HOURS.toMillis(AppConfig.getPositiveInt(key));
+    }
+}
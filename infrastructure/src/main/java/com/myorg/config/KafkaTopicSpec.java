@@ -0,0 +1,49 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka 토픽 명세.
+ * 파티션 수는 consumer group 최대 task 수의 상한이 되므로 명시적으로 관리한다.
+ */
+public record KafkaTopicSpec(
+        String name,
+        int partitions,
+        int replicationFactor,
+        long retentionMs,
+        String cleanupPolicy,
+        List<ConsumerGroup> consumerGroups
+) {
+    /**
+     * 토픽을 읽는 consumer group과 그 group의 최대 consumer 수
+     */
+    public record ConsumerGroup(
+            String groupId,
+            int maxConsumers
+    ) {
+    }
+
+    public int maxConsumers() {
+        return consumerGroups.stream()
+                .mapToInt(ConsumerGroup::maxConsumers)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * custom resource에 넘길 토픽 명세
+     */
+    public Map<String, Object> toResourceProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("Name", name);
+        properties.put("Partitions", partitions);
+        properties.put("ReplicationFactor", replicationFactor);
+        properties.put("Configs", Map.of(
+                "retention.ms", String.valueOf(retentionMs),
+                "cleanup.policy", cleanupPolicy
+        ));
+        return properties;
+    }
+}
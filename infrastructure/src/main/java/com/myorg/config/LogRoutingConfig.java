@@ -0,0 +1,84 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ECS 로그 라우팅 설정 (FireLens + Fluent Bit Loki output).
+ * - Loki 주소는 모니터링 호스트 Cloud Map 이름 (<grafana service>.<internal domain>)
+ * - 라벨 이름은 Alloy CloudWatch 경로와 같게 맞춰 대시보드/쿼리를 공유
+ */
+public record LogRoutingConfig(
+        LogRoutingMode mode,
+        String fluentBitImage,
+        String lokiHost,
+        int lokiPort,
+        String logEnv,
+        int bufferLimitBytes,
+        int retryLimit,
+        int routerMemoryReservationMiB
+) {
+    // aws-for-fluent-bit 이미지에 포함된 JSON 파서 설정 (log 필드를 JSON으로 파싱)
+    public static final String PARSE_JSON_CONFIG_FILE = "/fluent-bit/configs/parse-json.conf";
+    public static final String JOB_LABEL = "ecs-firelens";
+
+    // FireLens log-driver-buffer-limit 허용 범위
+    private static final int MAX_BUFFER_LIMIT_BYTES = 536_870_912;
+
+    public static LogRoutingConfig fromEnv() {
+        LogRoutingConfig config = new LogRoutingConfig(
+                LogRoutingMode.fromEnv(AppConfig.getValueOrDefault(EnvKey.LOG_ROUTING_MODE)),
+                AppConfig.getValueOrDefault(EnvKey.LOG_ROUTING_FLUENT_BIT_IMAGE),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_GRAFANA_SERVICE_NAME) + "." + AppConfig.getInternalDomainName(),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_PORT)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_ALLOY_LOG_ENV),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_ROUTING_BUFFER_LIMIT_BYTES)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_ROUTING_RETRY_LIMIT)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_ROUTING_ROUTER_MEMORY_RESERVATION_MIB))
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(LogRoutingConfig config) {
+        if (config.bufferLimitBytes() < 1 || config.bufferLimitBytes() > MAX_BUFFER_LIMIT_BYTES) {
+            throw new IllegalStateException(
+                    "FireLens buffer 크기는 1~" + MAX_BUFFER_LIMIT_BYTES + " bytes 사이여야 합니다: "
+                            + config.bufferLimitBytes()
+            );
+        }
+        if (config.retryLimit() < 1) {
+            throw new IllegalStateException(EnvKey.LOG_ROUTING_RETRY_LIMIT.key() + " 값은 1 이상이어야 합니다.");
+        }
+        if (config.routerMemoryReservationMiB() < 1) {
+            throw new IllegalStateException(
+                    EnvKey.LOG_ROUTING_ROUTER_MEMORY_RESERVATION_MIB.key() + " 값은 1 이상이어야 합니다."
+            );
+        }
+    }
+
+    public boolean firelensEnabled() {
+        return mode == LogRoutingMode.FIRELENS;
+    }
+
+    /**
+     * 애플리케이션 컨테이너 FireLens 옵션 (Fluent Bit loki output + 버퍼/재시도 제한)
+     */
+    public Map<String, String> lokiOutputOptions(String service) {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("Name", "loki");
+        options.put("host", lokiHost);
+        options.put("port", String.valueOf(lokiPort));
+        options.put("uri", "/loki/api/v1/push");
+        // 고정 라벨 + 값 범위가 작은 JSON 필드 라벨
+        // level은 severity로 이미 라벨링, uri_template/error_code/trace_id 등은 라인에 남기고 쿼리에서 | json으로 추출
+        options.put("labels", "job=" + JOB_LABEL + ", source=firelens, env=" + logEnv + ", service=" + service
+                + ", severity=$level");
+        options.put("label_keys", "$team,$error_type,$status,$method");
+        options.put("line_format", "json");
+        options.put("Retry_Limit", String.valueOf(retryLimit));
+        // Loki 지연/장애 시 task 메모리를 무한히 쓰지 않도록 드라이버 버퍼 상한
+        options.put("log-driver-buffer-limit", String.valueOf(bufferLimitBytes));
+        return options;
+    }
+}
@@ -0,0 +1,18 @@
+package com.myorg.config;
+
+/**
+ * ECS 컨테이너 로그 전송 방식.
+ * - CLOUDWATCH: awslogs 드라이버 -> CloudWatch Logs (Alloy가 polling, 기본값)
+ * - FIRELENS: Fluent Bit sidecar가 JSON 파싱 후 모니터링 호스트 Loki로 직접 push (모니터링 스택 배포 후 선택)
+ */
+public enum LogRoutingMode {
+    FIRELENS,
+    CLOUDWATCH;
+
+    public static LogRoutingMode fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return CLOUDWATCH;
+        }
+        return LogRoutingMode.valueOf(raw.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,58 @@
+package com.myorg.config;
+
+/**
+ * log-server 클릭 로그 consumer 프리셋.
+ * - SPEED: 작은 poll / 짧은 fetch 대기, 적재 지연 최소화
+ * - BULK: 큰 poll / fetch 최소 바이트를 모아 DB batch insert 크기를 키움
+ */
+public enum LogServerConsumerPreset {
+    SPEED(100, 1, 100, 1, 100),
+    BULK(1000, 65536, 500, 2, 500);
+
+    private final int maxPollRecords;
+    private final int fetchMinBytes;
+    private final int fetchMaxWaitMs;
+    private final int listenerConcurrency;
+    private final int dbBatchInsertSize;
+
+    LogServerConsumerPreset(
+            int maxPollRecords,
+            int fetchMinBytes,
+            int fetchMaxWaitMs,
+            int listenerConcurrency,
+            int dbBatchInsertSize
+    ) {
+        this.maxPollRecords = maxPollRecords;
+        this.fetchMinBytes = fetchMinBytes;
+        this.fetchMaxWaitMs = fetchMaxWaitMs;
+        this.listenerConcurrency = listenerConcurrency;
+        this.dbBatchInsertSize = dbBatchInsertSize;
+    }
+
+    public static LogServerConsumerPreset fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return SPEED;
+        }
+        return LogServerConsumerPreset.valueOf(raw.trim().toUpperCase());
+    }
+
+    public int maxPollRecords() {
+        return maxPollRecords;
+    }
+
+    public int fetchMinBytes() {
+        return fetchMinBytes;
+    }
+
+    public int fetchMaxWaitMs() {
+        return fetchMaxWaitMs;
+    }
+
+    public int listenerConcurrency() {
+        return listenerConcurrency;
+    }
+
+    public int dbBatchInsertSize() {
+        return dbBatchInsertSize;
+    }
+}
@@ -0,0 +1,81 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * log-server 클릭 로그 consumer 설정.
+ * - 프리셋(SPEED/BULK) 기본값에 개별 환경변수 override 적용
+ * - poll 한 번에 받은 레코드를 DB batch insert로 묶어 레코드당 DB 왕복을 없앤다
+ */
+public record LogServerConsumerProfile(
+        LogServerConsumerPreset preset,
+        int maxPollRecords,
+        int fetchMinBytes,
+        int fetchMaxWaitMs,
+        int listenerConcurrency,
+        int dbBatchInsertSize
+) {
+    // Kafka consumer request.timeout.ms 기본값 (fetch 대기가 이보다 길면 요청이 타임아웃된다)
+    private static final int CONSUMER_REQUEST_TIMEOUT_MS = 30_000;
+    // Kafka consumer fetch.max.bytes 기본값
+    private static final int CONSUMER_FETCH_MAX_BYTES = 52_428_800;
+
+    public static LogServerConsumerProfile fromEnv() {
+        LogServerConsumerPreset preset =
+                LogServerConsumerPreset.fromEnv(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_CONSUMER_PROFILE));
+        LogServerConsumerProfile profile = new LogServerConsumerProfile(
+                preset,
+                AppConfig.getPositiveIntOrDefault(EnvKey.LOG_SERVER_KAFKA_MAX_POLL_RECORDS, preset.maxPollRecords()),
+                AppConfig.getPositiveIntOrDefault(EnvKey.LOG_SERVER_KAFKA_FETCH_MIN_BYTES, preset.fetchMinBytes()),
+                AppConfig.getPositiveIntOrDefault(EnvKey.LOG_SERVER_KAFKA_FETCH_MAX_WAIT_MS, preset.fetchMaxWaitMs()),
+                AppConfig.getPositiveIntOrDefault(EnvKey.LOG_SERVER_KAFKA_LISTENER_CONCURRENCY, preset.listenerConcurrency()),
+                AppConfig.getPositiveIntOrDefault(EnvKey.LOG_SERVER_DB_BATCH_INSERT_SIZE, preset.dbBatchInsertSize())
+        );
+        validate(profile, Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_DB_POOL_MAX)));
+        return profile;
+    }
+
+    static void validate(LogServerConsumerProfile profile, int dbPoolMax) {
+        // poll 하나보다 큰 batch는 채워지지 않는다.
+        if (profile.dbBatchInsertSize() > profile.maxPollRecords()) {
+            throw new IllegalStateException(
+                    "DB batch insert 크기는 max.poll.records 이하여야 합니다: batch="
+                            + profile.dbBatchInsertSize() + ", maxPollRecords=" + profile.maxPollRecords()
+            );
+        }
+        if (profile.fetchMaxWaitMs() >= CONSUMER_REQUEST_TIMEOUT_MS) {
+            throw new IllegalStateException(
+                    "fetch.max.wait.ms는 request.timeout.ms(30000)보다 작아야 합니다: " + profile.fetchMaxWaitMs()
+            );
+        }
+        if (profile.fetchMinBytes() > CONSUMER_FETCH_MAX_BYTES) {
+            throw new IllegalStateException(
+                    "fetch.min.bytes는 fetch.max.bytes(52428800) 이하여야 합니다: " + profile.fetchMinBytes()
+            );
+        }
+        // listener 스레드마다 batch insert 동안 커넥션 하나를 잡는다.
+        if (profile.listenerConcurrency() > dbPoolMax) {
+            throw new IllegalStateException(
+                    "listener concurrency가 DB 풀 상한보다 큽니다: concurrency="
+                            + profile.listenerConcurrency() + ", dbPoolMax=" + dbPoolMax
+            );
+        }
+    }
+
+    /**
+     * log-server 컨테이너 환경변수
+     */
+    public Map<String, String> toEnvironment() {
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("KAFKA_CONSUMER_PROFILE", preset.name().toLowerCase());
+        env.put("KAFKA_MAX_POLL_RECORDS", String.valueOf(maxPollRecords));
+        env.put("KAFKA_FETCH_MIN_BYTES", String.valueOf(fetchMinBytes));
+        env.put("KAFKA_FETCH_MAX_WAIT_MS", String.valueOf(fetchMaxWaitMs));
+        env.put("KAFKA_LISTENER_CONCURRENCY", String.valueOf(listenerConcurrency));
+        env.put("LOG_DB_BATCH_INSERT_SIZE", String.valueOf(dbBatchInsertSize));
+        // JPA 저장 경로도 같은 크기로 JDBC batch
+        env.put("SPRING_JPA_PROPERTIES_HIBERNATE_JDBC_BATCH_SIZE", String.valueOf(dbBatchInsertSize));
+        return env;
+    }
+}
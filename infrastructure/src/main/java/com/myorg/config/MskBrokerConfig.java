@@ -0,0 +1,117 @@
+package com.myorg.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MSK 브로커 server.properties 설정.
+ * - 기본 파티션 수 / 복제 계수 / min.insync.replicas
+ * - 브로커 압축 방식(producer: 프로듀서 압축을 그대로 저장해 재압축 비용 제거)
+ * - 세그먼트 크기 / 보존 기간 / 최대 메시지 크기
+ */
+public record MskBrokerConfig(
+        int brokerNodes,
+        int defaultPartitions,
+        int defaultReplicationFactor,
+        int minInsyncReplicas,
+        String compressionType,
+        long logSegmentBytes,
+        int logRetentionHours,
+        int messageMaxBytes,
+        boolean autoCreateTopicsEnable
+) {
+    private static final List<String> SUPPORTED_COMPRESSION_TYPES =
+            List.of("producer", "uncompressed", "gzip", "snappy", "lz4", "zstd");
+    // Kafka replica fetch 기본값
+    private static final int DEFAULT_REPLICA_FETCH_MAX_BYTES = 1_048_576;
+    // MSK가 허용하는 세그먼트 크기 하한
+    private static final long MIN_LOG_SEGMENT_BYTES = 14 * 1024 * 1024L;
+
+    public static MskBrokerConfig fromEnv() {
+        MskBrokerConfig config = new MskBrokerConfig(
+                AppConfig.getPositiveInt(EnvKey.MSK_BROKER_NODES),
+                AppConfig.getPositiveInt(EnvKey.MSK_DEFAULT_PARTITIONS),
+                AppConfig.getPositiveInt(EnvKey.MSK_DEFAULT_REPLICATION_FACTOR),
+                AppConfig.getPositiveInt(EnvKey.MSK_MIN_INSYNC_REPLICAS),
+                AppConfig.getValueOrDefault(EnvKey.MSK_COMPRESSION_TYPE).trim().toLowerCase(),
+                Long.parseLong(AppConfig.getValueOrDefault(EnvKey.MSK_LOG_SEGMENT_BYTES)),
+                AppConfig.getPositiveInt(EnvKey.MSK_LOG_RETENTION_HOURS),
+                AppConfig.getPositiveInt(EnvKey.MSK_MESSAGE_MAX_BYTES),
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.MSK_AUTO_CREATE_TOPICS_ENABLE))
+        );
+        validate(config);
+        return config;
+    }
+
+    /**
+     * 복제 계수/ISR 기준을 브로커 수에 맞춰 검증
+     */
+    static void validate(MskBrokerConfig config) {
+        if (config.defaultReplicationFactor() > config.brokerNodes()) {
+            throw new IllegalStateException(
+                    "복제 계수는 브로커 수를 넘을 수 없습니다: replicationFactor="
+                            + config.defaultReplicationFactor() + ", brokers=" + config.brokerNodes()
+            );
+        }
+        // 브로커 1대가 내려가도 acks=all 쓰기가 멈추지 않도록 ISR 하한은 복제 계수보다 작아야 한다.
+        if (config.defaultReplicationFactor() > 1 && config.minInsyncReplicas() >= config.defaultReplicationFactor()) {
+            throw new IllegalStateException(
+                    "min.insync.replicas는 복제 계수보다 작아야 합니다: minIsr="
+                            + config.minInsyncReplicas() + ", replicationFactor=" + config.defaultReplicationFactor()
+            );
+        }
+        if (config.defaultReplicationFactor() == 1 && config.minInsyncReplicas() != 1) {
+            throw new IllegalStateException("복제 계수가 1이면 min.insync.replicas도 1이어야 합니다.");
+        }
+        if (!SUPPORTED_COMPRESSION_TYPES.contains(config.compressionType())) {
+            throw new IllegalStateException("지원하지 않는 MSK 압축 방식입니다: " + config.compressionType());
+        }
+        if (config.logSegmentBytes() < MIN_LOG_SEGMENT_BYTES || config.logSegmentBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("log.segment.bytes 값이 허용 범위를 벗어났습니다: " + config.logSegmentBytes());
+        }
+    }
+
+    /**
+     * CfnConfiguration에 넣을 server.properties 본문
+     */
+    public String toServerProperties() {
+        return toProperties().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("\n")) + "\n";
+    }
+
+    public Map<String, String> toProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("auto.create.topics.enable", String.valueOf(autoCreateTopicsEnable));
+        properties.put("num.partitions", String.valueOf(defaultPartitions));
+        properties.put("default.replication.factor", String.valueOf(defaultReplicationFactor));
+        properties.put("min.insync.replicas", String.valueOf(minInsyncReplicas));
+        properties.put("unclean.leader.election.enable", "false");
+        properties.put("compression.type", compressionType);
+        properties.put("log.segment.bytes", String.valueOf(logSegmentBytes));
+        properties.put("log.retention.hours", String.valueOf(logRetentionHours));
+        properties.put("message.max.bytes", String.valueOf(messageMaxBytes));
+        // 최대 메시지를 팔로워가 복제하지 못하는 일이 없도록 fetch 크기를 맞춘다.
+        properties.put("replica.fetch.max.bytes", String.valueOf(Math.max(messageMaxBytes, DEFAULT_REPLICA_FETCH_MAX_BYTES)));
+        return properties;
+    }
+
+    /**
+     * server.properties 내용 해시 (revision 설명에 남겨 어떤 설정이 적용됐는지 추적)
+     */
+    public String fingerprint() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toServerProperties().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
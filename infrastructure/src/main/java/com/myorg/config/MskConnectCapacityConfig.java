@@ -0,0 +1,100 @@
+package com.myorg.config;
+
+import software.amazon.awscdk.services.kafkaconnect.CfnConnector;
+
+import java.util.List;
+
+/**
+ * MSK Connect 커넥터 용량 설정.
+ * - PROVISIONED(기본): 고정 worker 수
+ * - AUTOSCALED: min/max worker + CPU 사용률 기준 scale-in/out
+ * - tasks.max는 source 토픽 파티션 수를 따른다 (파티션보다 많은 task는 할당을 못 받는다)
+ */
+public record MskConnectCapacityConfig(
+        MskConnectCapacityMode mode,
+        int mcuCount,
+        int workerCount,
+        int minWorkerCount,
+        int maxWorkerCount,
+        int scaleInCpuPercent,
+        int scaleOutCpuPercent
+) {
+    // MSK Connect가 허용하는 worker당 MCU 수
+    private static final List<Integer> SUPPORTED_MCU_COUNTS = List.of(1, 2, 4, 8);
+    // MSK Connect worker 수 상한
+    private static final int MAX_WORKER_COUNT = 10;
+
+    public static MskConnectCapacityConfig fromEnv() {
+        MskConnectCapacityConfig config = new MskConnectCapacityConfig(
+                MskConnectCapacityMode.fromEnv(AppConfig.getValueOrDefault(EnvKey.MSK_CONNECT_CAPACITY_MODE)),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_MCU_COUNT),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_WORKER_COUNT),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_MIN_WORKER_COUNT),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_MAX_WORKER_COUNT),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_SCALE_IN_CPU_PERCENT),
+                AppConfig.getPositiveInt(EnvKey.MSK_CONNECT_SCALE_OUT_CPU_PERCENT)
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(MskConnectCapacityConfig config) {
+        if (!SUPPORTED_MCU_COUNTS.contains(config.mcuCount())) {
+            throw new IllegalStateException("MSK Connect MCU 수는 1, 2, 4, 8 중 하나여야 합니다: " + config.mcuCount());
+        }
+        if (config.mode() == MskConnectCapacityMode.PROVISIONED) {
+            if (config.workerCount() > MAX_WORKER_COUNT) {
+                throw new IllegalStateException("MSK Connect worker 수는 10 이하여야 합니다: " + config.workerCount());
+            }
+            return;
+        }
+        if (config.minWorkerCount() > config.maxWorkerCount() || config.maxWorkerCount() > MAX_WORKER_COUNT) {
+            throw new IllegalStateException(
+                    "MSK Connect autoscaling worker 범위가 올바르지 않습니다: min="
+                            + config.minWorkerCount() + ", max=" + config.maxWorkerCount()
+            );
+        }
+        if (config.scaleOutCpuPercent() > 100 || config.scaleInCpuPercent() >= config.scaleOutCpuPercent()) {
+            throw new IllegalStateException(
+                    "MSK Connect scale-in CPU 기준은 scale-out 기준보다 작아야 합니다: scaleIn="
+                            + config.scaleInCpuPercent() + ", scaleOut=" + config.scaleOutCpuPercent()
+            );
+        }
+    }
+
+    /**
+     * task 수보다 worker가 많으면 남는 worker는 놀기 때문에 synth를 막는다.
+     */
+    public void validateTaskParallelism(int tasksMax) {
+        int peakWorkers = mode == MskConnectCapacityMode.AUTOSCALED ? maxWorkerCount : workerCount;
+        if (peakWorkers > tasksMax) {
+            throw new IllegalStateException(
+                    "MSK Connect worker 수가 tasks.max보다 큽니다: workers=" + peakWorkers + ", tasks.max=" + tasksMax
+            );
+        }
+    }
+
+    public CfnConnector.CapacityProperty toCapacityProperty() {
+        if (mode == MskConnectCapacityMode.PROVISIONED) {
+            return CfnConnector.CapacityProperty.builder()
+                    .provisionedCapacity(CfnConnector.ProvisionedCapacityProperty.builder()
+                            .mcuCount(mcuCount)
+                            .workerCount(workerCount)
+                            .build())
+                    .build();
+        }
+        return CfnConnector.CapacityProperty.builder()
+                .autoScaling(CfnConnector.AutoScalingProperty.builder()
+                        .mcuCount(mcuCount)
+                        .minWorkerCount(minWorkerCount)
+                        .maxWorkerCount(maxWorkerCount)
+                        .scaleInPolicy(CfnConnector.ScaleInPolicyProperty.builder()
+                                .cpuUtilizationPercentage(scaleInCpuPercent)
+                                .build())
+                        .scaleOutPolicy(CfnConnector.ScaleOutPolicyProperty.builder()
+                                .cpuUtilizationPercentage(scaleOutCpuPercent)
+                                .build())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.myorg.config;
+
+/**
+ * MSK Connect 커넥터 용량 방식.
+ */
+public enum MskConnectCapacityMode {
+    PROVISIONED,
+    AUTOSCALED;
+
+    public static MskConnectCapacityMode fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return PROVISIONED;
+        }
+        return MskConnectCapacityMode.valueOf(raw.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,22 @@
+package com.myorg.config;
+
+/**
+ * MSK CloudWatch enhanced monitoring 수준.
+ * - DEFAULT: 클러스터/브로커 기본 지표 (무료)
+ * - PER_BROKER: 브로커 단위 상세 지표
+ * - PER_TOPIC_PER_BROKER: 토픽 x 브로커 단위 bytes in/out
+ * - PER_TOPIC_PER_PARTITION: 파티션 단위 consumer lag 지표
+ */
+public enum MskEnhancedMonitoringLevel {
+    DEFAULT,
+    PER_BROKER,
+    PER_TOPIC_PER_BROKER,
+    PER_TOPIC_PER_PARTITION;
+
+    public static MskEnhancedMonitoringLevel fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return DEFAULT;
+        }
+        return MskEnhancedMonitoringLevel.valueOf(raw.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,39 @@
+package com.myorg.config;
+
+import software.amazon.awscdk.services.msk.CfnCluster;
+
+/**
+ * MSK 브로커 모니터링 설정.
+ * - open monitoring: 브로커의 Prometheus JMX exporter(11001) / Node exporter(11002) 활성화
+ * - enhanced monitoring: CloudWatch 지표 수준
+ */
+public record MskMonitoringConfig(
+        boolean openMonitoringEnabled,
+        MskEnhancedMonitoringLevel enhancedMonitoringLevel
+) {
+    public static MskMonitoringConfig fromEnv() {
+        return new MskMonitoringConfig(
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.MSK_OPEN_MONITORING_ENABLED)),
+                MskEnhancedMonitoringLevel.fromEnv(AppConfig.getValueOrDefault(EnvKey.MSK_ENHANCED_MONITORING))
+        );
+    }
+
+    /**
+     * open monitoring 비활성 시 null (CfnCluster 속성 생략).
+     */
+    public CfnCluster.OpenMonitoringProperty toOpenMonitoringProperty() {
+        if (!openMonitoringEnabled) {
+            return null;
+        }
+        return CfnCluster.OpenMonitoringProperty.builder()
+                .prometheus(CfnCluster.PrometheusProperty.builder()
+                        .jmxExporter(CfnCluster.JmxExporterProperty.builder()
+                                .enabledInBroker(true)
+                                .build())
+                        .nodeExporter(CfnCluster.NodeExporterProperty.builder()
+                                .enabledInBroker(true)
+                                .build())
+                        .build())
+                .build();
+    }
+}
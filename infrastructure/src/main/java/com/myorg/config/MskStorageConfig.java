@@ -0,0 +1,94 @@
+package com.myorg.config;
+
+import java.util.List;
+
+/**
+ * MSK 브로커 스토리지 설정.
+ * - 초기 볼륨 / 자동 확장 상한 / 목표 사용률
+ * - provisioned storage throughput (지원 인스턴스만)
+ * - KafkaDataLogsDiskUsed 알람 기준
+ */
+public record MskStorageConfig(
+        String brokerInstanceType,
+        int volumeGib,
+        int maxVolumeGib,
+        int targetUtilizationPercent,
+        int provisionedThroughputMibps,
+        int diskUsedAlarmPercent
+) {
+    // MSK 브로커 볼륨 상한(16TiB)
+    private static final int MAX_BROKER_VOLUME_GIB = 16384;
+    // provisioned throughput 지원 인스턴스 (kafka.m5.4xlarge / kafka.m7g.2xlarge 이상)
+    private static final List<String> THROUGHPUT_SUPPORTED_INSTANCE_TYPES = List.of(
+            "kafka.m5.4xlarge",
+            "kafka.m5.8xlarge",
+            "kafka.m5.12xlarge",
+            "kafka.m5.16xlarge",
+            "kafka.m5.24xlarge",
+            "kafka.m7g.2xlarge",
+            "kafka.m7g.4xlarge",
+            "kafka.m7g.8xlarge",
+            "kafka.m7g.12xlarge",
+            "kafka.m7g.16xlarge"
+    );
+    private static final int MIN_PROVISIONED_THROUGHPUT_MIBPS = 250;
+    private static final int MAX_PROVISIONED_THROUGHPUT_MIBPS = 1000;
+
+    public static MskStorageConfig fromEnv() {
+        MskStorageConfig config = new MskStorageConfig(
+                AppConfig.getValueOrDefault(EnvKey.MSK_BROKER_INSTANCE_TYPE),
+                AppConfig.getPositiveInt(EnvKey.MSK_BROKER_VOLUME_GIB),
+                AppConfig.getPositiveInt(EnvKey.MSK_BROKER_MAX_VOLUME_GIB),
+                AppConfig.getPositiveInt(EnvKey.MSK_STORAGE_TARGET_UTILIZATION_PERCENT),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MSK_STORAGE_THROUGHPUT_MIBPS)),
+                AppConfig.getPositiveInt(EnvKey.MSK_DISK_USED_ALARM_PERCENT)
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(MskStorageConfig config) {
+        if (config.maxVolumeGib() < config.volumeGib() || config.maxVolumeGib() > MAX_BROKER_VOLUME_GIB) {
+            throw new IllegalStateException(
+                    "MSK 브로커 볼륨 자동 확장 상한이 올바르지 않습니다: volume="
+                            + config.volumeGib() + ", max=" + config.maxVolumeGib()
+            );
+        }
+        // Application Auto Scaling이 허용하는 MSK 스토리지 목표 사용률 범위
+        if (config.targetUtilizationPercent() < 10 || config.targetUtilizationPercent() > 80) {
+            throw new IllegalStateException(
+                    "MSK 스토리지 목표 사용률은 10~80% 사이여야 합니다: " + config.targetUtilizationPercent()
+            );
+        }
+        // 알람은 자동 확장이 따라잡지 못하는 경우를 잡아야 하므로 목표 사용률보다 높아야 한다.
+        if (config.diskUsedAlarmPercent() <= config.targetUtilizationPercent() || config.diskUsedAlarmPercent() > 100) {
+            throw new IllegalStateException(
+                    "디스크 사용률 알람 기준은 목표 사용률보다 크고 100 이하여야 합니다: " + config.diskUsedAlarmPercent()
+            );
+        }
+        if (config.provisionedThroughputEnabled()) {
+            if (!THROUGHPUT_SUPPORTED_INSTANCE_TYPES.contains(config.brokerInstanceType())) {
+                throw new IllegalStateException(
+                        "provisioned storage throughput을 지원하지 않는 브로커 인스턴스입니다: " + config.brokerInstanceType()
+                );
+            }
+            if (config.provisionedThroughputMibps() < MIN_PROVISIONED_THROUGHPUT_MIBPS
+                    || config.provisionedThroughputMibps() > MAX_PROVISIONED_THROUGHPUT_MIBPS) {
+                throw new IllegalStateException(
+                        "MSK provisioned storage throughput은 250~1000MiB/s 사이여야 합니다: "
+                                + config.provisionedThroughputMibps()
+                );
+            }
+        } else if (config.provisionedThroughputMibps() < 0) {
+            throw new IllegalStateException(EnvKey.MSK_STORAGE_THROUGHPUT_MIBPS.key() + " 값은 0 이상이어야 합니다.");
+        }
+    }
+
+    public boolean provisionedThroughputEnabled() {
+        return provisionedThroughputMibps > 0;
+    }
+
+    public boolean autoScalingEnabled() {
+        return maxVolumeGib > volumeGib;
+    }
+}
@@ -23,6 +23,9 @@ public record OnDemandWorkflowConfig(
         String businessRequiredResultFilesCsv,
         String businessValidatorDbSecretId,
         String businessValidatorDbName,
+        String businessValidatorDbHost,
+        boolean businessValidatorViaRdsProxy,
+        boolean businessValidatorDbIamAuth,
 
         boolean enableBusinessValidation,
 
@@ -35,6 +38,7 @@ public record OnDemandWorkflowConfig(
      * 환경변수 -> 타입 안전 설정 객체 변환
      */
     public static OnDemandWorkflowConfig fromEnv() {
+        boolean proxyEnabled = Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.RDS_PROXY_ENABLED));
         return new OnDemandWorkflowConfig(
                 // analysis batch 상태머신 식별 및 스케줄
                 AppConfig.getOptionalValueOrDefault(EnvKey.ON_DEMAND_STATE_MACHINE_NAME.key(), "AnalysisBatchWorkflow"),
@@ -51,8 +55,8 @@ public record OnDemandWorkflowConfig(
                                 EnvKey.ON_DEMAND_BUSINESS_VALIDATION_MODE.getDefaultValue()
                         )
                 ),
-                parsePositiveInt(EnvKey.ON_DEMAND_BUSINESS_VALIDATION_POLL_SECONDS),
-                parsePositiveInt(EnvKey.ON_DEMAND_BUSINESS_VALIDATION_MAX_ATTEMPTS),
+                AppConfig.getPositiveInt(EnvKey.ON_DEMAND_BUSINESS_VALIDATION_POLL_SECONDS),
+                AppConfig.getPositiveInt(EnvKey.ON_DEMAND_BUSINESS_VALIDATION_MAX_ATTEMPTS),
                 Integer.parseInt(AppConfig.getOptionalValueOrDefault(EnvKey.ON_DEMAND_BUSINESS_MIN_PROCESSED_COUNT.key(), "0")),
                 AppConfig.getOptionalValueOrDefault(EnvKey.ON_DEMAND_BUSINESS_REQUIRED_RESULT_FILES.key(), ""),
                 AppConfig.getOptionalValueOrDefault(
@@ -63,6 +67,14 @@ public record OnDemandWorkflowConfig(
                         EnvKey.ON_DEMAND_BUSINESS_VALIDATOR_DB_NAME.key(),
                         EnvKey.ON_DEMAND_BUSINESS_VALIDATOR_DB_NAME.getDefaultValue()
                 ),
+                // 접속 host override (비어 있으면 RDS Proxy export 또는 secret host 사용)
+                AppConfig.getOptionalValueOrDefault(EnvKey.ON_DEMAND_BUSINESS_VALIDATOR_DB_HOST.key(), ""),
+                proxyEnabled,
+                // IAM 인증은 Proxy 설정을 기본값으로 따른다.
+                Boolean.parseBoolean(AppConfig.getOptionalValueOrDefault(
+                        EnvKey.ON_DEMAND_BUSINESS_VALIDATOR_DB_IAM_AUTH.key(),
+                        String.valueOf(proxyEnabled && Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.RDS_PROXY_REQUIRE_IAM)))
+                )),
                 Boolean.parseBoolean(AppConfig.getOptionalValueOrDefault(EnvKey.ON_DEMAND_ENABLE_BUSINESS_VALIDATION.key(), "false")),
 
                 AnalysisServerReadinessConfig.fromEnv(),
@@ -84,14 +96,6 @@ public record OnDemandWorkflowConfig(
         return splitCsv(businessRequiredResultFilesCsv);
     }
 
-    private static int parsePositiveInt(EnvKey key) {
-        int parsed = Integer.parseInt(AppConfig.getOptionalValueOrDefault(key.key(), key.getDefaultValue()));
-        if (parsed <= 0) {
-            throw new IllegalStateException(key.key() + " 값은 1 이상이어야 합니다.");
-        }
-        return parsed;
-    }
-
     private static List<String> splitCsv(String csv) {
         if (csv == null || csv.isBlank()) {
             return List.of();
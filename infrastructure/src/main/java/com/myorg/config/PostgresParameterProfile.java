@@ -0,0 +1,95 @@
+package com.myorg.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PostgreSQL 성능 파라미터 프로파일.
+ * - BALANCED: SSD 기준 기본값 (조회/적재 혼합)
+ * - OLTP: 짧은 트랜잭션 위주, 커넥션당 메모리 최소화
+ * - ANALYTICS: 정렬/집계 위주, work_mem 확대
+ */
+public enum PostgresParameterProfile {
+    BALANCED(2048, "1.1", 200, 1000, "0.1", "0.05", 1000, 1000, "0.1"),
+    OLTP(1024, "1.1", 200, 500, "0.05", "0.02", 2000, 500, "0.05"),
+    ANALYTICS(16384, "1.1", 256, 5000, "0.2", "0.1", 1000, 5000, "0.2");
+
+    // 정렬/해시 작업당 메모리(kB)
+    private final int workMemKb;
+    private final String randomPageCost;
+    private final int effectiveIoConcurrency;
+    private final int logMinDurationStatementMs;
+    private final String autovacuumVacuumScaleFactor;
+    private final String autovacuumAnalyzeScaleFactor;
+    private final int autovacuumVacuumCostLimit;
+    private final int autoExplainLogMinDurationMs;
+    private final String autoExplainSampleRate;
+
+    PostgresParameterProfile(
+            int workMemKb,
+            String randomPageCost,
+            int effectiveIoConcurrency,
+            int logMinDurationStatementMs,
+            String autovacuumVacuumScaleFactor,
+            String autovacuumAnalyzeScaleFactor,
+            int autovacuumVacuumCostLimit,
+            int autoExplainLogMinDurationMs,
+            String autoExplainSampleRate
+    ) {
+        this.workMemKb = workMemKb;
+        this.randomPageCost = randomPageCost;
+        this.effectiveIoConcurrency = effectiveIoConcurrency;
+        this.logMinDurationStatementMs = logMinDurationStatementMs;
+        this.autovacuumVacuumScaleFactor = autovacuumVacuumScaleFactor;
+        this.autovacuumAnalyzeScaleFactor = autovacuumAnalyzeScaleFactor;
+        this.autovacuumVacuumCostLimit = autovacuumVacuumCostLimit;
+        this.autoExplainLogMinDurationMs = autoExplainLogMinDurationMs;
+        this.autoExplainSampleRate = autoExplainSampleRate;
+    }
+
+    public static PostgresParameterProfile fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return BALANCED;
+        }
+        return PostgresParameterProfile.valueOf(raw.trim().toUpperCase());
+    }
+
+    public int workMemKb() {
+        return workMemKb;
+    }
+
+    public String autoExplainSampleRate() {
+        return autoExplainSampleRate;
+    }
+
+    /**
+     * slow query 분석용 공통 파라미터 (pg_stat_statements + auto_explain 로드)
+     */
+    public static Map<String, String> slowQueryParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("shared_preload_libraries", "pg_stat_statements,auto_explain");
+        parameters.put("pg_stat_statements.track", "all");
+        return parameters;
+    }
+
+    /**
+     * 파라미터 그룹에 넣을 값 (sampleRateOverride가 비어 있으면 프로파일 기본 sample rate 사용)
+     */
+    public Map<String, String> toParameters(String sampleRateOverride) {
+        Map<String, String> parameters = slowQueryParameters();
+        parameters.put("work_mem", String.valueOf(workMemKb));
+        parameters.put("random_page_cost", randomPageCost);
+        parameters.put("effective_io_concurrency", String.valueOf(effectiveIoConcurrency));
+        parameters.put("track_io_timing", "1");
+        parameters.put("log_min_duration_statement", String.valueOf(logMinDurationStatementMs));
+        parameters.put("autovacuum_vacuum_scale_factor", autovacuumVacuumScaleFactor);
+        parameters.put("autovacuum_analyze_scale_factor", autovacuumAnalyzeScaleFactor);
+        parameters.put("autovacuum_vacuum_cost_limit", String.valueOf(autovacuumVacuumCostLimit));
+        parameters.put("auto_explain.log_min_duration", String.valueOf(autoExplainLogMinDurationMs));
+        parameters.put(
+                "auto_explain.sample_rate",
+                sampleRateOverride == null || sampleRateOverride.isBlank() ? autoExplainSampleRate : sampleRateOverride
+        );
+        return parameters;
+    }
+}
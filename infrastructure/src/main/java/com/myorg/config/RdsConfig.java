@@ -0,0 +1,263 @@
+package com.myorg.config;
+
+import java.util.List;
+
+/**
+ * RDS 운영 설정
+ * - 엔진 구성(PostgreSQL 인스턴스 / Aurora Serverless v2 ACU 범위)
+ * - 인스턴스 클래스 / 성능 파라미터 프로파일
+ * - RDS Proxy 연결 풀링
+ * - Proxy pinning/borrow 지연 알람 기준
+ * - 읽기 전용 replica 수 / replica lag 알람 기준
+ * - 스토리지 타입/IOPS/throughput/자동 확장 상한
+ * - Performance Insights 보존 기간 / Enhanced Monitoring 수집 간격
+ */
+public record RdsConfig(
+        RdsEngine engine,
+        double auroraMinCapacity,
+        double auroraMaxCapacity,
+        String instanceType,
+        PostgresParameterProfile parameterProfile,
+        String autoExplainSampleRate,
+        boolean proxyEnabled,
+        boolean proxyRequireIam,
+        int proxyMaxConnectionsPercent,
+        int proxyMaxIdleConnectionsPercent,
+        int proxyBorrowTimeoutSeconds,
+        int proxyPinnedAlarmThreshold,
+        int proxyBorrowLatencyAlarmMicros,
+        int readReplicaCount,
+        int readReplicaLagAlarmSeconds,
+        String storageType,
+        int allocatedStorageGib,
+        int maxAllocatedStorageGib,
+        int storageIops,
+        int storageThroughputMibps,
+        boolean performanceInsightsEnabled,
+        int performanceInsightsRetentionDays,
+        int enhancedMonitoringIntervalSeconds
+) {
+    private static final List<String> SUPPORTED_STORAGE_TYPES = List.of("gp2", "gp3", "io1", "io2");
+    // gp3는 400GiB 미만에서 baseline(3000 IOPS / 125 MiBps) 고정
+    private static final int GP3_PROVISIONED_MIN_GIB = 400;
+    private static final List<Integer> SUPPORTED_MONITORING_INTERVALS = List.of(0, 1, 5, 10, 15, 30, 60);
+
+    public static RdsConfig fromEnv() {
+        RdsConfig config = new RdsConfig(
+                RdsEngine.fromEnv(AppConfig.getValueOrDefault(EnvKey.RDS_ENGINE)),
+                Double.parseDouble(AppConfig.getValueOrDefault(EnvKey.RDS_AURORA_MIN_ACU)),
+                Double.parseDouble(AppConfig.getValueOrDefault(EnvKey.RDS_AURORA_MAX_ACU)),
+                AppConfig.getValueOrDefault(EnvKey.RDS_INSTANCE_TYPE),
+                PostgresParameterProfile.fromEnv(AppConfig.getValueOrDefault(EnvKey.RDS_PARAMETER_PROFILE)),
+                AppConfig.getOptionalValueOrDefault(EnvKey.RDS_AUTO_EXPLAIN_SAMPLE_RATE.key(), ""),
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.RDS_PROXY_ENABLED)),
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.RDS_PROXY_REQUIRE_IAM)),
+                AppConfig.getPositiveInt(EnvKey.RDS_PROXY_MAX_CONNECTIONS_PERCENT),
+                AppConfig.getPositiveInt(EnvKey.RDS_PROXY_MAX_IDLE_CONNECTIONS_PERCENT),
+                AppConfig.getPositiveInt(EnvKey.RDS_PROXY_BORROW_TIMEOUT_SECONDS),
+                AppConfig.getPositiveInt(EnvKey.RDS_PROXY_PINNED_ALARM_THRESHOLD),
+                AppConfig.getPositiveInt(EnvKey.RDS_PROXY_BORROW_LATENCY_ALARM_MICROS),
+                AppConfig.getNonNegativeInt(EnvKey.RDS_READ_REPLICA_COUNT),
+                AppConfig.getPositiveInt(EnvKey.RDS_READ_REPLICA_LAG_ALARM_SECONDS),
+                AppConfig.getValueOrDefault(EnvKey.RDS_STORAGE_TYPE).toLowerCase(),
+                AppConfig.getPositiveInt(EnvKey.RDS_ALLOCATED_STORAGE_GIB),
+                AppConfig.getPositiveInt(EnvKey.RDS_MAX_ALLOCATED_STORAGE_GIB),
+                AppConfig.getNonNegativeInt(EnvKey.RDS_STORAGE_IOPS),
+                AppConfig.getNonNegativeInt(EnvKey.RDS_STORAGE_THROUGHPUT_MIBPS),
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.RDS_PERFORMANCE_INSIGHTS_ENABLED)),
+                AppConfig.getPositiveInt(EnvKey.RDS_PERFORMANCE_INSIGHTS_RETENTION_DAYS),
+                AppConfig.getNonNegativeInt(EnvKey.RDS_ENHANCED_MONITORING_INTERVAL_SECONDS)
+        );
+
+        // idle 커넥션 비율은 전체 커넥션 비율을 넘을 수 없다.
+        if (config.proxyMaxConnectionsPercent() > 100
+                || config.proxyMaxIdleConnectionsPercent() > config.proxyMaxConnectionsPercent()) {
+            throw new IllegalStateException(
+                    "RDS Proxy 커넥션 비율이 올바르지 않습니다: max="
+                            + config.proxyMaxConnectionsPercent()
+                            + ", idle=" + config.proxyMaxIdleConnectionsPercent()
+            );
+        }
+        // Proxy borrow timeout 허용 범위(1초 ~ 1시간)
+        if (config.proxyBorrowTimeoutSeconds() > 3600) {
+            throw new IllegalStateException(EnvKey.RDS_PROXY_BORROW_TIMEOUT_SECONDS.key() + " 값은 3600 이하여야 합니다.");
+        }
+
+        // PostgreSQL 인스턴스당 read replica 상한
+        if (config.readReplicaCount() > 5) {
+            throw new IllegalStateException(EnvKey.RDS_READ_REPLICA_COUNT.key() + " 값은 5 이하여야 합니다.");
+        }
+
+        // PI 보존 기간: 7일(무료) / 31일 단위 월 보존 / 731일
+        int retention = config.performanceInsightsRetentionDays();
+        if (retention != 7 && retention != 731 && (retention % 31 != 0 || retention / 31 > 23)) {
+            throw new IllegalStateException(
+                    EnvKey.RDS_PERFORMANCE_INSIGHTS_RETENTION_DAYS.key() + " 값은 7, 31의 배수(최대 713), 731 중 하나여야 합니다: "
+                            + retention
+            );
+        }
+        if (!SUPPORTED_MONITORING_INTERVALS.contains(config.enhancedMonitoringIntervalSeconds())) {
+            throw new IllegalStateException(
+                    EnvKey.RDS_ENHANCED_MONITORING_INTERVAL_SECONDS.key() + " 값은 "
+                            + SUPPORTED_MONITORING_INTERVALS + " 중 하나여야 합니다."
+            );
+        }
+
+        if (config.auroraServerless()) {
+            validateAuroraCapacity(config.auroraMinCapacity(), config.auroraMaxCapacity());
+        }
+        validateParameterProfile(
+                config.parameterProfile(),
+                DbInstanceSpec.of(config.instanceType()),
+                config.autoExplainSampleRate()
+        );
+        validateStorage(
+                config.storageType(),
+                config.allocatedStorageGib(),
+                config.maxAllocatedStorageGib(),
+                config.storageIops(),
+                config.storageThroughputMibps()
+        );
+
+        return config;
+    }
+
+    /**
+     * Aurora Serverless v2 ACU 범위 검증 (0.5 단위, 0 ~ 256)
+     */
+    static void validateAuroraCapacity(double minCapacity, double maxCapacity) {
+        if (minCapacity < 0 || maxCapacity < 1 || maxCapacity > 256 || minCapacity > maxCapacity) {
+            throw new IllegalStateException(
+                    "Aurora Serverless v2 ACU 범위가 올바르지 않습니다: min=" + minCapacity + ", max=" + maxCapacity
+            );
+        }
+        if (minCapacity * 2 != Math.floor(minCapacity * 2) || maxCapacity * 2 != Math.floor(maxCapacity * 2)) {
+            throw new IllegalStateException("Aurora Serverless v2 ACU는 0.5 단위여야 합니다: min=" + minCapacity + ", max=" + maxCapacity);
+        }
+    }
+
+    /**
+     * 프로파일 work_mem이 인스턴스 메모리를 넘지 않는지 검증
+     * - 기본 max_connections 전체가 work_mem 1개씩 사용해도 메모리의 25% 이내여야 한다.
+     */
+    static void validateParameterProfile(
+            PostgresParameterProfile profile,
+            DbInstanceSpec instanceSpec,
+            String autoExplainSampleRate
+    ) {
+        long workMemBudgetBytes = profile.workMemKb() * 1024L * instanceSpec.maxConnections();
+        if (workMemBudgetBytes > instanceSpec.memoryBytes() / 4) {
+            throw new IllegalStateException(
+                    "파라미터 프로파일 " + profile.name() + "의 work_mem(" + profile.workMemKb() + "kB)이 "
+                            + instanceSpec.instanceType() + " 메모리(" + instanceSpec.memoryGib() + "GiB)에 비해 큽니다."
+            );
+        }
+
+        String sampleRate = autoExplainSampleRate == null || autoExplainSampleRate.isBlank()
+                ? profile.autoExplainSampleRate()
+                : autoExplainSampleRate;
+        double parsed = Double.parseDouble(sampleRate);
+        if (parsed < 0 || parsed > 1) {
+            throw new IllegalStateException(EnvKey.RDS_AUTO_EXPLAIN_SAMPLE_RATE.key() + " 값은 0 ~ 1 범위여야 합니다: " + sampleRate);
+        }
+    }
+
+    /**
+     * synth 시점 스토리지 조합 검증 (RDS가 배포 단계에서 거절하는 조합을 미리 차단)
+     */
+    static void validateStorage(
+            String storageType,
+            int allocatedStorageGib,
+            int maxAllocatedStorageGib,
+            int storageIops,
+            int storageThroughputMibps
+    ) {
+        if (!SUPPORTED_STORAGE_TYPES.contains(storageType)) {
+            throw new IllegalStateException("지원하지 않는 RDS 스토리지 타입입니다: " + storageType);
+        }
+        if (allocatedStorageGib < 20) {
+            throw new IllegalStateException(EnvKey.RDS_ALLOCATED_STORAGE_GIB.key() + " 값은 20 이상이어야 합니다.");
+        }
+        // 자동 확장 상한은 현재 용량보다 최소 10% 이상 커야 한다.
+        if (maxAllocatedStorageGib < Math.ceil(allocatedStorageGib * 1.1) || maxAllocatedStorageGib > 65536) {
+            throw new IllegalStateException(
+                    EnvKey.RDS_MAX_ALLOCATED_STORAGE_GIB.key() + " 값은 할당 용량의 110% 이상, 65536 이하여야 합니다: "
+                            + maxAllocatedStorageGib
+            );
+        }
+
+        switch (storageType) {
+            case "gp2" -> {
+                if (storageIops > 0 || storageThroughputMibps > 0) {
+                    throw new IllegalStateException("gp2 스토리지는 IOPS/throughput을 지정할 수 없습니다.");
+                }
+            }
+            case "gp3" -> validateGp3(allocatedStorageGib, storageIops, storageThroughputMibps);
+            default -> validateProvisionedIops(storageType, allocatedStorageGib, storageIops, storageThroughputMibps);
+        }
+    }
+
+    private static void validateGp3(int allocatedStorageGib, int storageIops, int storageThroughputMibps) {
+        if (allocatedStorageGib < GP3_PROVISIONED_MIN_GIB) {
+            if (storageIops > 0 || storageThroughputMibps > 0) {
+                throw new IllegalStateException(
+                        "gp3 스토리지는 " + GP3_PROVISIONED_MIN_GIB + "GiB 미만에서 IOPS/throughput을 지정할 수 없습니다."
+                );
+            }
+            return;
+        }
+        if (storageIops > 0 && (storageIops < 12000 || storageIops > 64000)) {
+            throw new IllegalStateException("gp3 IOPS는 12000 ~ 64000 범위여야 합니다: " + storageIops);
+        }
+        if (storageIops > 0 && storageIops > allocatedStorageGib * 500L) {
+            throw new IllegalStateException("gp3 IOPS/GiB 비율은 500 이하여야 합니다: " + storageIops + "/" + allocatedStorageGib);
+        }
+        if (storageThroughputMibps > 0 && (storageThroughputMibps < 500 || storageThroughputMibps > 4000)) {
+            throw new IllegalStateException("gp3 throughput은 500 ~ 4000 MiBps 범위여야 합니다: " + storageThroughputMibps);
+        }
+        // throughput(MiBps)/IOPS 비율은 0.25 이하
+        int effectiveIops = storageIops > 0 ? storageIops : 12000;
+        if (storageThroughputMibps > 0 && storageThroughputMibps * 4L > effectiveIops) {
+            throw new IllegalStateException(
+                    "gp3 throughput/IOPS 비율은 0.25 이하여야 합니다: " + storageThroughputMibps + "/" + effectiveIops
+            );
+        }
+    }
+
+    private static void validateProvisionedIops(
+            String storageType,
+            int allocatedStorageGib,
+            int storageIops,
+            int storageThroughputMibps
+    ) {
+        if (allocatedStorageGib < 100) {
+            throw new IllegalStateException(storageType + " 스토리지는 100GiB 이상이어야 합니다.");
+        }
+        if (storageThroughputMibps > 0) {
+            throw new IllegalStateException(storageType + " 스토리지는 throughput을 지정할 수 없습니다.");
+        }
+        if (storageIops < 1000 || storageIops > 256000) {
+            throw new IllegalStateException(storageType + " IOPS는 1000 ~ 256000 범위여야 합니다: " + storageIops);
+        }
+        // io1은 IOPS/GiB 0.5 ~ 50, io2는 0.5 ~ 1000
+        int maxRatio = "io1".equals(storageType) ? 50 : 1000;
+        if (storageIops * 2L < allocatedStorageGib || storageIops > (long) allocatedStorageGib * maxRatio) {
+            throw new IllegalStateException(
+                    storageType + " IOPS/GiB 비율은 0.5 ~ " + maxRatio + " 범위여야 합니다: "
+                            + storageIops + "/" + allocatedStorageGib
+            );
+        }
+    }
+
+    public boolean auroraServerless() {
+        return engine == RdsEngine.AURORA_SERVERLESS_V2;
+    }
+
+    public boolean hasReadReplicas() {
+        return readReplicaCount > 0;
+    }
+
+    public boolean enhancedMonitoringEnabled() {
+        return enhancedMonitoringIntervalSeconds > 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.myorg.config;
+
+/**
+ * RDS 엔진 구성 방식.
+ * - POSTGRES: 단일 RDS PostgreSQL 인스턴스 (+ 선택 read replica)
+ * - AURORA_SERVERLESS_V2: Aurora PostgreSQL Serverless v2 클러스터 (+ 선택 reader)
+ */
+public enum RdsEngine {
+    POSTGRES,
+    AURORA_SERVERLESS_V2;
+
+    public static RdsEngine fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return POSTGRES;
+        }
+        return RdsEngine.valueOf(raw.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,41 @@
+package com.myorg.config;
+
+/**
+ * 서비스별 최대 task 수.
+ * DB 커넥션 예산과 Kafka 파티션 수 검증이 같은 상한을 보도록 한 곳에서 계산한다.
+ */
+public final class ServiceTaskCounts {
+    private ServiceTaskCounts() {
+    }
+
+    public static int adminApiMax() {
+        return AppConfig.getPositiveInt(EnvKey.ADMIN_API_MAX_TASK_COUNT);
+    }
+
+    public static int customerApiMax() {
+        return AppConfig.getPositiveInt(EnvKey.CUSTOMER_API_MAX_TASK_COUNT);
+    }
+
+    public static int logServerMax() {
+        return Math.max(
+                AppConfig.getPositiveInt(EnvKey.LOG_SERVER_MAX_TASK_COUNT),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_DESIRED_COUNT))
+        );
+    }
+
+    /**
+     * on-demand workflow가 batch 전에 scale-up desired count까지 늘리므로 그 값도 상한 후보다.
+     */
+    public static int intelligenceServerMax() {
+        return Math.max(
+                Math.max(
+                        AppConfig.getPositiveInt(EnvKey.INTELLIGENCE_SERVER_MAX_TASK_COUNT),
+                        Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_DESIRED_COUNT))
+                ),
+                Integer.parseInt(AppConfig.getOptionalValueOrDefault(
+                        EnvKey.ON_DEMAND_ANALYSIS_SERVER_SCALE_UP_DESIRED_COUNT.key(),
+                        "1"
+                ))
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.myorg.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ECS 분산 추적 설정 (ADOT collector sidecar).
+ * - 앱은 task 내부 localhost OTLP endpoint로 span 전송 (awsvpc 모드라 컨테이너끼리 loopback 공유)
+ * - head sampling은 앱에서 parentbased_traceidratio로 결정 -> 상위 서비스가 샘플링한 요청은 하위 서비스도 유지
+ * - collector가 X-Ray 및/또는 모니터링 호스트 Tempo로 export
+ */
+public record TracingConfig(
+        boolean enabled,
+        TracingExporter exporter,
+        String collectorImage,
+        double samplingRatio,
+        String tempoHost,
+        int tempoOtlpPort,
+        int collectorMemoryReservationMiB
+) {
+    public static final int OTLP_GRPC_PORT = 4317;
+    public static final int OTLP_HTTP_PORT = 4318;
+
+    public static TracingConfig fromEnv() {
+        TracingConfig config = new TracingConfig(
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.TRACING_ENABLED)),
+                TracingExporter.fromEnv(AppConfig.getValueOrDefault(EnvKey.TRACING_EXPORTER)),
+                AppConfig.getValueOrDefault(EnvKey.TRACING_COLLECTOR_IMAGE),
+                Double.parseDouble(AppConfig.getValueOrDefault(EnvKey.TRACING_SAMPLING_RATIO)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_GRAFANA_SERVICE_NAME) + "." + AppConfig.getInternalDomainName(),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_OTLP_GRPC_PORT)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.TRACING_COLLECTOR_MEMORY_RESERVATION_MIB))
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(TracingConfig config) {
+        if (config.samplingRatio() < 0 || config.samplingRatio() > 1) {
+            throw new IllegalStateException(
+                    EnvKey.TRACING_SAMPLING_RATIO.key() + " 값은 0~1 사이여야 합니다: " + config.samplingRatio()
+            );
+        }
+        if (config.collectorMemoryReservationMiB() < 1) {
+            throw new IllegalStateException(
+                    EnvKey.TRACING_COLLECTOR_MEMORY_RESERVATION_MIB.key() + " 값은 1 이상이어야 합니다."
+            );
+        }
+    }
+
+    /**
+     * 앱 컨테이너에 주입할 OTLP / sampling 환경변수.
+     * - OTEL_*: OpenTelemetry SDK / Java agent (intelligence-server 포함)
+     * - MANAGEMENT_*: Spring Boot Micrometer Tracing (OTLP HTTP exporter)
+     */
+    public Map<String, String> applicationEnvironment(String serviceName) {
+        String ratio = String.valueOf(samplingRatio);
+
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("OTEL_SERVICE_NAME", serviceName);
+        env.put("OTEL_EXPORTER_OTLP_ENDPOINT", "http://localhost:" + OTLP_GRPC_PORT);
+        env.put("OTEL_EXPORTER_OTLP_PROTOCOL", "grpc");
+        env.put("OTEL_TRACES_SAMPLER", "parentbased_traceidratio");
+        env.put("OTEL_TRACES_SAMPLER_ARG", ratio);
+        // X-Ray로 보낼 때만 X-Ray 헤더도 함께 전파해 ALB/X-Ray trace와 이어지게 한다.
+        env.put("OTEL_PROPAGATORS", exporter.xrayEnabled() ? "tracecontext,baggage,xray" : "tracecontext,baggage");
+        // 메트릭은 Prometheus scrape, 로그는 FireLens/CloudWatch 경로를 그대로 사용
+        env.put("OTEL_METRICS_EXPORTER", "none");
+        env.put("OTEL_LOGS_EXPORTER", "none");
+        env.put("MANAGEMENT_TRACING_SAMPLING_PROBABILITY", ratio);
+        env.put("MANAGEMENT_OTLP_TRACING_ENDPOINT", "http://localhost:" + OTLP_HTTP_PORT + "/v1/traces");
+        return env;
+    }
+
+    /**
+     * ADOT collector 설정 (AOT_CONFIG_CONTENT 환경변수로 전달).
+     */
+    public String collectorConfig() {
+        List<String> exporters = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        lines.add("receivers:");
+        lines.add("  otlp:");
+        lines.add("    protocols:");
+        lines.add("      grpc:");
+        lines.add("        endpoint: 127.0.0.1:" + OTLP_GRPC_PORT);
+        lines.add("      http:");
+        lines.add("        endpoint: 127.0.0.1:" + OTLP_HTTP_PORT);
+        lines.add("processors:");
+        // sidecar가 task 메모리를 과점하지 않도록 제한 (task 메모리 기준 비율)
+        lines.add("  memory_limiter:");
+        lines.add("    check_interval: 1s");
+        lines.add("    limit_percentage: 20");
+        lines.add("    spike_limit_percentage: 5");
+        lines.add("  resourcedetection:");
+        lines.add("    detectors: [env, ecs]");
+        lines.add("  batch:");
+        lines.add("    timeout: 5s");
+        lines.add("    send_batch_size: 256");
+        lines.add("exporters:");
+        if (exporter.xrayEnabled()) {
+            lines.add("  awsxray: {}");
+            exporters.add("awsxray");
+        }
+        if (exporter.tempoEnabled()) {
+            lines.add("  otlp/tempo:");
+            lines.add("    endpoint: " + tempoHost + ":" + tempoOtlpPort);
+            lines.add("    tls:");
+            lines.add("      insecure: true");
+            lines.add("    retry_on_failure:");
+            lines.add("      max_elapsed_time: 60s");
+            lines.add("    sending_queue:");
+            lines.add("      queue_size: 1000");
+            exporters.add("otlp/tempo");
+        }
+        lines.add("service:");
+        lines.add("  pipelines:");
+        lines.add("    traces:");
+        lines.add("      receivers: [otlp]");
+        lines.add("      processors: [memory_limiter, resourcedetection, batch]");
+        lines.add("      exporters: [" + String.join(", ", exporters) + "]");
+        return String.join("\n", lines) + "\n";
+    }
+}
@@ -0,0 +1,28 @@
+package com.myorg.config;
+
+/**
+ * ADOT collector trace export 대상.
+ * - XRAY: AWS X-Ray (관리형, 모니터링 호스트 부하 없음)
+ * - TEMPO: 모니터링 호스트 Tempo 컨테이너 (Grafana에서 Loki 로그와 함께 조회)
+ * - BOTH: 두 곳 모두
+ */
+public enum TracingExporter {
+    XRAY,
+    TEMPO,
+    BOTH;
+
+    public static TracingExporter fromEnv(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return XRAY;
+        }
+        return TracingExporter.valueOf(raw.trim().toUpperCase());
+    }
+
+    public boolean xrayEnabled() {
+        return this == XRAY || this == BOTH;
+    }
+
+    public boolean tempoEnabled() {
+        return this == TEMPO || this == BOTH;
+    }
+}
@@ -14,6 +14,7 @@ public record WorkerConfig(
 
         int workerPollSeconds,
         int workerMaxAttempts,
+        int workerDbPoolMax,
 
         String workerInputBasePath,
         String workerOutputBasePath,
@@ -38,6 +39,7 @@ public record WorkerConfig(
 
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.ON_DEMAND_WORKER_POLL_SECONDS)),
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.ON_DEMAND_WORKER_MAX_ATTEMPTS)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.ON_DEMAND_WORKER_DB_POOL_MAX)),
 
                 AppConfig.getValueOrDefault(EnvKey.ON_DEMAND_WORKER_INPUT_BASE_PATH),
                 AppConfig.getValueOrDefault(EnvKey.ON_DEMAND_WORKER_OUTPUT_BASE_PATH),
@@ -0,0 +1,51 @@
+package com.myorg.config.monitoring;
+
+import com.myorg.config.AppConfig;
+import com.myorg.config.EnvKey;
+
+import java.math.BigDecimal;
+
+/**
+ * Prometheus 알림 설정.
+ * - Alertmanager 컨테이너 (Prometheus와 같은 docker network)
+ * - SNS topic ARN이 비어 있으면 알림은 Alertmanager/Grafana에서만 확인
+ * - 가용성 SLO(%) 기준 error budget으로 burn-rate 알림 임계값 계산
+ */
+public record AlertingConfig(
+        String alertmanagerContainerName,
+        String alertmanagerImage,
+        int alertmanagerPort,
+        String snsTopicArn,
+        double availabilityTarget
+) {
+    public static AlertingConfig fromEnv() {
+        AlertingConfig config = new AlertingConfig(
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_ALERTMANAGER_CONTAINER_NAME),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_ALERTMANAGER_IMAGE),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_ALERTMANAGER_PORT)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_ALERTMANAGER_SNS_TOPIC_ARN),
+                Double.parseDouble(AppConfig.getValueOrDefault(EnvKey.MONITORING_SLO_AVAILABILITY_TARGET))
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(AlertingConfig config) {
+        if (config.availabilityTarget() <= 0 || config.availabilityTarget() >= 100) {
+            throw new IllegalStateException(
+                    EnvKey.MONITORING_SLO_AVAILABILITY_TARGET.key() + " 값은 0보다 크고 100보다 작아야 합니다: "
+                            + config.availabilityTarget()
+            );
+        }
+    }
+
+    public boolean snsEnabled() {
+        return snsTopicArn != null && !snsTopicArn.isBlank();
+    }
+
+    // 허용 오류 비율 (예: 99.9% -> 0.001)
+    public double errorBudget() {
+        // double 뺄셈 오차(0.0009999...)가 rule 임계값에 그대로 찍히지 않도록 BigDecimal로 계산
+        return BigDecimal.valueOf(100).subtract(BigDecimal.valueOf(availabilityTarget)).movePointLeft(2).doubleValue();
+    }
+}
@@ -0,0 +1,38 @@
+package com.myorg.config.monitoring;
+
+import com.myorg.config.AppConfig;
+import com.myorg.config.EnvKey;
+
+/**
+ * ECS task 단위 Prometheus service discovery 설정.
+ * - Cloud Map(SRV) 인스턴스를 주기적으로 조회해 file_sd 대상 파일로 갱신
+ * - admin-api/customer-api job 이름과 Cloud Map 이름은 {@link MonitoringConfig} 값 사용
+ * - 포트는 SRV 레코드 값을 우선 사용하고, 없을 때만 아래 기본 포트 사용
+ */
+public record EcsServiceDiscoveryConfig(
+        String logServerPrometheusJobName,
+        String logServerServiceName,
+        int logServerPort,
+        String intelligenceServerPrometheusJobName,
+        String intelligenceServerServiceName,
+        int intelligenceServerPort,
+        String intelligenceServerMetricsPath,
+        int refreshSeconds
+) {
+    public static EcsServiceDiscoveryConfig fromEnv() {
+        int refreshSeconds = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_ECS_SD_REFRESH_SECONDS));
+        if (refreshSeconds < 1) {
+            throw new IllegalStateException(EnvKey.MONITORING_ECS_SD_REFRESH_SECONDS.key() + " 값은 1 이상이어야 합니다.");
+        }
+        return new EcsServiceDiscoveryConfig(
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_LOG_SERVER_JOB_NAME),
+                AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_SERVICE_NAME),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_PORT)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_INTELLIGENCE_SERVER_JOB_NAME),
+                AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_CLOUD_MAP_NAME),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_PORT)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_INTELLIGENCE_SERVER_METRICS_PATH),
+                refreshSeconds
+        );
+    }
+}
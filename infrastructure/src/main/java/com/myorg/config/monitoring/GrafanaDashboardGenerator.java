@@ -0,0 +1,383 @@
+package com.myorg.config.monitoring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.Separators;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grafana 대시보드 JSON 생성기 (synth 시점에 렌더링, file provisioning으로 로드).
+ * - 서비스 RED / HikariCP 패널은 {@link PrometheusRuleGenerator} recording rule 시계열을 조회
+ * - JVM/GC, Kafka lag, RDS, Loki 로그 패널은 용도별로 고른 지표만 고정 배치
+ *
+ * 부팅 시 Prometheus 지표 목록을 긁어 패널을 만들던 방식 대신, 배포마다 같은 대시보드가 나오도록 한다.
+ */
+public final class GrafanaDashboardGenerator {
+
+    // datasource provisioning 파일의 uid와 일치해야 한다.
+    static final String PROMETHEUS_UID = "prometheus";
+    static final String LOKI_UID = "loki";
+    static final String CLOUDWATCH_UID = "cloudwatch";
+
+    private static final int GRID_WIDTH = 24;
+    private static final int PANEL_HEIGHT = 8;
+    private static final String LOKI_SELECTOR = "job=~\"ecs-cloudwatch|ecs-firelens\"";
+
+    // 2칸 들여쓰기, 배열도 줄바꿈, "key": value 형식 (Grafana export와 같은 모양)
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer(new DefaultPrettyPrinter()
+            .withSeparators(Separators.createDefaultInstance()
+                    .withObjectFieldValueSpacing(Separators.Spacing.AFTER))
+            .withObjectIndenter(new DefaultIndenter("  ", "\n"))
+            .withArrayIndenter(new DefaultIndenter("  ", "\n")));
+
+    private GrafanaDashboardGenerator() {
+    }
+
+    /**
+     * 파일 이름 -> 대시보드 JSON
+     *
+     * @param springJobs      Micrometer 지표를 내는 Spring 서비스 job (recording rule 대상과 동일)
+     * @param pgExporterJob   postgres_exporter job
+     * @param mskClusterName  AWS/Kafka consumer lag 지표의 Cluster Name 차원
+     */
+    public static Map<String, String> dashboards(List<String> springJobs, String pgExporterJob, String mskClusterName) {
+        Map<String, String> dashboards = new LinkedHashMap<>();
+        dashboards.put("hsc-service-red.json", toJson(serviceRedDashboard(springJobs)));
+        dashboards.put("hsc-jvm-gc.json", toJson(jvmDashboard(springJobs)));
+        dashboards.put("hsc-hikaricp.json", toJson(hikariDashboard(springJobs)));
+        dashboards.put("hsc-kafka-lag.json", toJson(kafkaLagDashboard(springJobs, mskClusterName)));
+        dashboards.put("hsc-rds.json", toJson(rdsDashboard(pgExporterJob)));
+        dashboards.put("hsc-loki-logs.json", toJson(lokiDashboard()));
+        return dashboards;
+    }
+
+    static Map<String, Object> serviceRedDashboard(List<String> springJobs) {
+        List<Map<String, Object>> panels = List.of(
+                timeseries("Request Rate", 12, "reqps",
+                        prometheus("job:http_server_requests:rate5m{job=~\"$job\"}", "{{job}}")),
+                timeseries("Error Ratio (5m / 1h)", 12, "percentunit",
+                        prometheus("job:http_server_requests_errors:ratio_rate5m{job=~\"$job\"}", "{{job}} 5m"),
+                        prometheus("job:http_server_requests_errors:ratio_rate1h{job=~\"$job\"}", "{{job}} 1h")),
+                timeseries("Latency p50", 8, "s",
+                        prometheus("job:http_server_requests_seconds:p50_5m{job=~\"$job\"}", "{{job}}")),
+                timeseries("Latency p95", 8, "s",
+                        prometheus("job:http_server_requests_seconds:p95_5m{job=~\"$job\"}", "{{job}}")),
+                timeseries("Latency p99", 8, "s",
+                        prometheus("job:http_server_requests_seconds:p99_5m{job=~\"$job\"}", "{{job}}")),
+                timeseries("Error Ratio (6h / 1d / 3d, SLO window)", 24, "percentunit",
+                        prometheus("job:http_server_requests_errors:ratio_rate6h{job=~\"$job\"}", "{{job}} 6h"),
+                        prometheus("job:http_server_requests_errors:ratio_rate1d{job=~\"$job\"}", "{{job}} 1d"),
+                        prometheus("job:http_server_requests_errors:ratio_rate3d{job=~\"$job\"}", "{{job}} 3d"))
+        );
+        return dashboard("hsc-service-red", "Service RED", List.of("red", "slo"), List.of(jobVariable(springJobs)), panels);
+    }
+
+    static Map<String, Object> jvmDashboard(List<String> springJobs) {
+        List<Map<String, Object>> panels = List.of(
+                timeseries("Heap Used", 12, "bytes",
+                        prometheus("sum by (job, instance) (jvm_memory_used_bytes{job=~\"$job\",area=\"heap\"})",
+                                "{{job}} {{instance}}")),
+                timeseries("Heap Usage After GC", 12, "percentunit",
+                        prometheus("max by (job, instance) (jvm_memory_usage_after_gc_percent{job=~\"$job\"})",
+                                "{{job}} {{instance}}")),
+                timeseries("GC Pause Time / s", 8, "s",
+                        prometheus("sum by (job, action) (rate(jvm_gc_pause_seconds_sum{job=~\"$job\"}[5m]))",
+                                "{{job}} {{action}}")),
+                timeseries("GC Count / s", 8, "ops",
+                        prometheus("sum by (job, action) (rate(jvm_gc_pause_seconds_count{job=~\"$job\"}[5m]))",
+                                "{{job}} {{action}}")),
+                timeseries("Allocation Rate", 8, "Bps",
+                        prometheus("sum by (job) (rate(jvm_gc_memory_allocated_bytes_total{job=~\"$job\"}[5m]))",
+                                "{{job}}")),
+                timeseries("Process CPU", 12, "percentunit",
+                        prometheus("max by (job, instance) (process_cpu_usage{job=~\"$job\"})", "{{job}} {{instance}}")),
+                timeseries("Live Threads", 12, "short",
+                        prometheus("sum by (job, instance) (jvm_threads_live_threads{job=~\"$job\"})",
+                                "{{job}} {{instance}}"))
+        );
+        return dashboard("hsc-jvm-gc", "JVM / GC", List.of("jvm"), List.of(jobVariable(springJobs)), panels);
+    }
+
+    static Map<String, Object> hikariDashboard(List<String> springJobs) {
+        List<Map<String, Object>> panels = List.of(
+                timeseries("Pool Saturation (active / max)", 12, "percentunit",
+                        prometheus("job:hikaricp_connections:saturation{job=~\"$job\"}", "{{job}} {{pool}}")),
+                timeseries("Pending Threads", 12, "short",
+                        prometheus("job:hikaricp_connections_pending:max{job=~\"$job\"}", "{{job}} {{pool}}")),
+                timeseries("Connection Acquire Time (avg)", 8, "s",
+                        prometheus("sum by (job, pool) (rate(hikaricp_connections_acquire_seconds_sum{job=~\"$job\"}[5m]))"
+                                + " / sum by (job, pool) (rate(hikaricp_connections_acquire_seconds_count{job=~\"$job\"}[5m]))",
+                                "{{job}} {{pool}}")),
+                timeseries("Connection Timeouts / s", 8, "ops",
+                        prometheus("sum by (job, pool) (rate(hikaricp_connections_timeout_total{job=~\"$job\"}[5m]))",
+                                "{{job}} {{pool}}")),
+                timeseries("Active / Idle", 8, "short",
+                        prometheus("sum by (job) (hikaricp_connections_active{job=~\"$job\"})", "{{job}} active"),
+                        prometheus("sum by (job) (hikaricp_connections_idle{job=~\"$job\"})", "{{job}} idle"))
+        );
+        return dashboard("hsc-hikaricp", "HikariCP", List.of("hikaricp", "db"), List.of(jobVariable(springJobs)), panels);
+    }
+
+    static Map<String, Object> kafkaLagDashboard(List<String> springJobs, String mskClusterName) {
+        Map<String, String> lagDimensions = new LinkedHashMap<>();
+        lagDimensions.put("Cluster Name", mskClusterName);
+        lagDimensions.put("Consumer Group", "*");
+        lagDimensions.put("Topic", "*");
+        String lagLabel = "${PROP('Dim.Consumer Group')} / ${PROP('Dim.Topic')}";
+
+        List<Map<String, Object>> panels = List.of(
+                timeseries("Sum Offset Lag (MSK)", 12, "short",
+                        cloudWatch("AWS/Kafka", "SumOffsetLag", lagDimensions, "Maximum", lagLabel)),
+                timeseries("Estimated Max Time Lag (MSK)", 12, "s",
+                        cloudWatch("AWS/Kafka", "EstimatedMaxTimeLag", lagDimensions, "Maximum", lagLabel)),
+                timeseries("Consumer Records Lag Max (client)", 12, "short",
+                        prometheus("max by (job, topic) (kafka_consumer_fetch_manager_records_lag_max{job=~\""
+                                + String.join("|", springJobs) + "\"})", "{{job}} {{topic}}")),
+                timeseries("Consumer Records Consumed / s", 12, "ops",
+                        prometheus("sum by (job, topic) (kafka_consumer_fetch_manager_records_consumed_rate{job=~\""
+                                + String.join("|", springJobs) + "\"})", "{{job}} {{topic}}"))
+        );
+        return dashboard("hsc-kafka-lag", "Kafka Consumer Lag", List.of("kafka"), List.of(), panels);
+    }
+
+    static Map<String, Object> rdsDashboard(String pgExporterJob) {
+        String job = "job=\"" + pgExporterJob + "\"";
+        Map<String, String> instanceDimensions = Map.of("DBInstanceIdentifier", "*");
+        String instanceLabel = "${PROP('Dim.DBInstanceIdentifier')}";
+
+        List<Map<String, Object>> panels = List.of(
+                timeseries("CPU Utilization", 8, "percent",
+                        cloudWatch("AWS/RDS", "CPUUtilization", instanceDimensions, "Average", instanceLabel)),
+                timeseries("Freeable Memory", 8, "bytes",
+                        cloudWatch("AWS/RDS", "FreeableMemory", instanceDimensions, "Average", instanceLabel)),
+                timeseries("Read / Write Latency", 8, "s",
+                        cloudWatch("AWS/RDS", "ReadLatency", instanceDimensions, "Average", instanceLabel + " read"),
+                        cloudWatch("AWS/RDS", "WriteLatency", instanceDimensions, "Average", instanceLabel + " write")),
+                timeseries("Backends by Database", 12, "short",
+                        prometheus("sum by (datname) (pg_stat_database_numbackends{" + job + "})", "{{datname}}")),
+                timeseries("Commit / Rollback per s", 12, "ops",
+                        prometheus("sum(rate(pg_stat_database_xact_commit{" + job + "}[5m]))", "commit"),
+                        prometheus("sum(rate(pg_stat_database_xact_rollback{" + job + "}[5m]))", "rollback")),
+                timeseries("Buffer Cache Hit Ratio", 8, "percentunit",
+                        prometheus("sum(rate(pg_stat_database_blks_hit{" + job + "}[5m]))"
+                                + " / (sum(rate(pg_stat_database_blks_hit{" + job + "}[5m]))"
+                                + " + sum(rate(pg_stat_database_blks_read{" + job + "}[5m])))", "hit ratio")),
+                timeseries("Deadlocks / Temp Bytes", 8, "short",
+                        prometheus("sum(increase(pg_stat_database_deadlocks{" + job + "}[5m]))", "deadlocks (5m)"),
+                        prometheus("sum(rate(pg_stat_database_temp_bytes{" + job + "}[5m]))", "temp bytes/s")),
+                timeseries("Exporter Up", 8, "short",
+                        prometheus("pg_up{" + job + "}", "{{instance}}"))
+        );
+        return dashboard("hsc-rds", "RDS PostgreSQL", List.of("rds", "postgres"), List.of(), panels);
+    }
+
+    static Map<String, Object> lokiDashboard() {
+        List<Map<String, Object>> panels = List.of(
+                timeseries("FATAL Count (1m)", 8, "short",
+                        loki("(sum(count_over_time({" + LOKI_SELECTOR + ",severity=~\"(?i)fatal\"}[1m])) or vector(0))")),
+                timeseries("ERROR Count by Service (5m)", 8, "short",
+                        loki("(sum by (service) (count_over_time({" + LOKI_SELECTOR
+                                + ",severity=~\"(?i)error\"}[5m])) or vector(0))")),
+                timeseries("WARN Count by Service (10m)", 8, "short",
+                        loki("(sum by (service) (count_over_time({" + LOKI_SELECTOR
+                                + ",severity=~\"(?i)warn\"}[10m])) or vector(0))")),
+                timeseries("HTTP 5xx by URI (5m)", 8, "short",
+                        loki("sum by (uri_template) (count_over_time({" + LOKI_SELECTOR + ",status=~\"5..\"} | json [5m]))")),
+                timeseries("Top Error Code (30m)", 8, "short",
+                        loki("(topk(10, sum by (error_code) (count_over_time({" + LOKI_SELECTOR
+                                + "} | json | error_code!=\"\" [30m]))) or vector(0))")),
+                timeseries("Parse Error Count (5m)", 8, "short",
+                        loki("(sum(count_over_time({" + LOKI_SELECTOR + ",parse_error=\"true\"}[5m])) or vector(0))")),
+                timeseries("ERROR/FATAL by Team (15m)", 12, "short",
+                        loki("(sum by (team) (count_over_time({" + LOKI_SELECTOR
+                                + ",severity=~\"(?i)error|fatal\"}[15m])) or vector(0))")),
+                timeseries("Requests by Method/URI (5m)", 12, "short",
+                        loki("sum by (method,uri_template) (count_over_time({" + LOKI_SELECTOR + "} | json [5m]))")),
+                logs("Live ERROR/FATAL Logs", "{" + LOKI_SELECTOR + ",severity=~\"(?i)error|fatal\"}"),
+                logs("Live 5xx Request Logs", "{" + LOKI_SELECTOR + ",status=~\"5..\"}")
+        );
+        Map<String, Object> dashboard = dashboard("hsc-loki-logs", "Loki Error Logs", List.of("loki", "logs"), List.of(), panels);
+        dashboard.put("refresh", "10s");
+        return dashboard;
+    }
+
+    /*
+     * =================================================================
+     *                         Dashboard / Panel
+     * =================================================================
+     */
+
+    // 패널을 순서대로 24칸 grid에 배치하고 id를 부여한다.
+    private static Map<String, Object> dashboard(
+            String uid,
+            String title,
+            List<String> tags,
+            List<Map<String, Object>> variables,
+            List<Map<String, Object>> panels
+    ) {
+        List<Map<String, Object>> placed = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (Map<String, Object> source : panels) {
+            Map<String, Object> panel = new LinkedHashMap<>(source);
+            int width = (int) panel.remove("width");
+            int height = (int) panel.remove("height");
+            if (x + width > GRID_WIDTH) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            Map<String, Object> gridPos = new LinkedHashMap<>();
+            gridPos.put("h", height);
+            gridPos.put("w", width);
+            gridPos.put("x", x);
+            gridPos.put("y", y);
+            panel.put("id", placed.size() + 1);
+            panel.put("gridPos", gridPos);
+            placed.add(panel);
+            x += width;
+            rowHeight = Math.max(rowHeight, height);
+        }
+
+        List<String> allTags = new ArrayList<>(List.of("hsc"));
+        allTags.addAll(tags);
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("uid", uid);
+        dashboard.put("title", title);
+        dashboard.put("tags", allTags);
+        dashboard.put("schemaVersion", 39);
+        dashboard.put("version", 1);
+        dashboard.put("editable", false);
+        dashboard.put("refresh", "30s");
+        dashboard.put("timezone", "browser");
+        dashboard.put("time", Map.of("from", "now-3h", "to", "now"));
+        dashboard.put("templating", Map.of("list", variables));
+        dashboard.put("panels", placed);
+        return dashboard;
+    }
+
+    private static Map<String, Object> jobVariable(List<String> jobs) {
+        Map<String, Object> variable = new LinkedHashMap<>();
+        variable.put("name", "job");
+        variable.put("label", "service");
+        variable.put("type", "custom");
+        variable.put("query", String.join(",", jobs));
+        variable.put("multi", true);
+        variable.put("includeAll", true);
+        variable.put("allValue", String.join("|", jobs));
+        variable.put("current", Map.of("text", "All", "value", "$__all"));
+        return variable;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> timeseries(String title, int width, String unit, Map<String, Object>... targets) {
+        List<Map<String, Object>> refTargets = new ArrayList<>();
+        for (int i = 0; i < targets.length; i++) {
+            Map<String, Object> target = new LinkedHashMap<>();
+            target.put("refId", String.valueOf((char) ('A' + i)));
+            target.putAll(targets[i]);
+            refTargets.add(target);
+        }
+
+        Map<String, Object> panel = new LinkedHashMap<>();
+        panel.put("type", "timeseries");
+        panel.put("title", title);
+        panel.put("width", width);
+        panel.put("height", PANEL_HEIGHT);
+        panel.put("datasource", targets[0].get("datasource"));
+        panel.put("fieldConfig", Map.of("defaults", Map.of("unit", unit), "overrides", List.of()));
+        panel.put("options", Map.of("legend", Map.of("displayMode", "list", "placement", "bottom")));
+        panel.put("targets", refTargets);
+        return panel;
+    }
+
+    private static Map<String, Object> logs(String title, String expr) {
+        Map<String, Object> target = loki(expr);
+        target.put("refId", "A");
+
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("dedupStrategy", "none");
+        options.put("enableLogDetails", true);
+        options.put("showLabels", true);
+        options.put("showTime", true);
+        options.put("sortOrder", "Descending");
+        options.put("wrapLogMessage", true);
+
+        Map<String, Object> panel = new LinkedHashMap<>();
+        panel.put("type", "logs");
+        panel.put("title", title);
+        panel.put("width", 12);
+        panel.put("height", 12);
+        panel.put("datasource", datasource("loki", LOKI_UID));
+        panel.put("options", options);
+        panel.put("targets", List.of(target));
+        return panel;
+    }
+
+    private static Map<String, Object> prometheus(String expr, String legend) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("datasource", datasource("prometheus", PROMETHEUS_UID));
+        target.put("expr", expr);
+        target.put("legendFormat", legend);
+        return target;
+    }
+
+    private static Map<String, Object> loki(String expr) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("datasource", datasource("loki", LOKI_UID));
+        target.put("expr", expr);
+        target.put("queryType", "range");
+        return target;
+    }
+
+    // region "default"는 datasource 기본 리전을 따른다.
+    private static Map<String, Object> cloudWatch(
+            String namespace,
+            String metricName,
+            Map<String, String> dimensions,
+            String statistic,
+            String label
+    ) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("datasource", datasource("cloudwatch", CLOUDWATCH_UID));
+        target.put("queryMode", "Metrics");
+        target.put("region", "default");
+        target.put("namespace", namespace);
+        target.put("metricName", metricName);
+        target.put("dimensions", dimensions);
+        target.put("statistic", statistic);
+        target.put("matchExact", true);
+        target.put("label", label);
+        return target;
+    }
+
+    private static Map<String, Object> datasource(String type, String uid) {
+        Map<String, Object> datasource = new LinkedHashMap<>();
+        datasource.put("type", type);
+        datasource.put("uid", uid);
+        return datasource;
+    }
+
+    /*
+     * =================================================================
+     *                              JSON
+     * =================================================================
+     */
+
+    static String toJson(Object value) {
+        try {
+            return JSON_WRITER.writeValueAsString(value) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("대시보드를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+}
@@ -15,10 +15,27 @@ public record LokiConfig(
     int lokiTraceDebugRetentionHours,
     int lokiWarnRetentionHours,
     int lokiErrorRetentionHours,
-    int lokiFatalRetentionHours
+    int lokiFatalRetentionHours,
+
+    //query 성능 설정 (embedded cache는 호스트 메모리 비율로 크기 결정)
+    int cacheMemoryPercent,
+    String querySplitInterval,
+    int maxQueryParallelism,
+
+    //ingestion 제한 (tenant 전체 / stream 단위)
+    int ingestionRateMb,
+    int ingestionBurstSizeMb,
+    int perStreamRateLimitMb,
+    int perStreamRateLimitBurstMb,
+
+    //compactor retention 삭제 worker 수
+    int retentionDeleteWorkers
 ) {
+    // embedded cache 상한 (호스트 메모리 대비 %)
+    private static final int MAX_CACHE_MEMORY_PERCENT = 50;
+
     public static LokiConfig fromEnv(){
-        return new LokiConfig(
+        LokiConfig config = new LokiConfig(
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_CONTAINER_NAME),
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_IMAGE),
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_PORT)),
@@ -27,7 +44,60 @@ public record LokiConfig(
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_TRACE_DEBUG_RETENTION_HOURS)),
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_WARN_RETENTION_HOURS)),
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_ERROR_RETENTION_HOURS)),
-                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_FATAL_RETENTION_HOURS))
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_FATAL_RETENTION_HOURS)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_CACHE_MEMORY_PERCENT)),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_QUERY_SPLIT_INTERVAL),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_MAX_QUERY_PARALLELISM)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_INGESTION_RATE_MB)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_INGESTION_BURST_SIZE_MB)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_PER_STREAM_RATE_LIMIT_MB)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_PER_STREAM_RATE_LIMIT_BURST_MB)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_LOKI_RETENTION_DELETE_WORKERS))
         );
+        validate(config);
+        return config;
+    }
+
+    static void validate(LokiConfig config) {
+        if (config.cacheMemoryPercent() < 1 || config.cacheMemoryPercent() > MAX_CACHE_MEMORY_PERCENT) {
+            throw new IllegalStateException(
+                    "Loki cache 메모리 비율은 1~" + MAX_CACHE_MEMORY_PERCENT + "% 사이여야 합니다: "
+                            + config.cacheMemoryPercent()
+            );
+        }
+        if (!config.querySplitInterval().matches("\\d+[mh]")) {
+            throw new IllegalStateException("Loki query split 간격 형식이 잘못되었습니다(예: 30m, 1h): "
+                    + config.querySplitInterval());
+        }
+        if (config.maxQueryParallelism() < 1 || config.retentionDeleteWorkers() < 1) {
+            throw new IllegalStateException("Loki query 병렬도와 retention 삭제 worker 수는 1 이상이어야 합니다.");
+        }
+        if (config.ingestionBurstSizeMb() < config.ingestionRateMb()
+                || config.perStreamRateLimitBurstMb() < config.perStreamRateLimitMb()) {
+            throw new IllegalStateException("Loki ingestion burst 값은 rate 값 이상이어야 합니다.");
+        }
+        // stream 하나가 tenant 전체 한도를 넘을 수는 없다.
+        if (config.perStreamRateLimitMb() > config.ingestionRateMb()) {
+            throw new IllegalStateException(
+                    "Loki stream 단위 rate는 전체 ingestion rate 이하여야 합니다: perStream="
+                            + config.perStreamRateLimitMb() + "MB, ingestion=" + config.ingestionRateMb() + "MB"
+            );
+        }
+    }
+
+    /**
+     * embedded cache 전체 크기 중 1/3은 query 결과, 2/3는 chunk에 배정한다.
+     * (반복 조회되는 대시보드는 결과 cache, 새 구간 조회는 chunk cache가 S3 GET을 줄인다)
+     */
+    public int resultsCacheMaxSizeMb(int hostMemoryMiB) {
+        return Math.max(1, cacheBudgetMb(hostMemoryMiB) / 3);
+    }
+
+    public int chunkCacheMaxSizeMb(int hostMemoryMiB) {
+        return Math.max(1, cacheBudgetMb(hostMemoryMiB) - resultsCacheMaxSizeMb(hostMemoryMiB));
+    }
+
+    private int cacheBudgetMb(int hostMemoryMiB) {
+        return hostMemoryMiB * cacheMemoryPercent / 100;
     }
 }
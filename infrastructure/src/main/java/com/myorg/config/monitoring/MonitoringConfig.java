@@ -3,6 +3,8 @@ package com.myorg.config.monitoring;
 import com.myorg.builder.ShellTemplateRenderer;
 import com.myorg.config.AppConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.MskMonitoringConfig;
+import com.myorg.constants.NetworkConstants;
 import software.amazon.awscdk.services.ec2.InstanceClass;
 import software.amazon.awscdk.services.ec2.InstanceSize;
 import software.amazon.awscdk.services.ec2.InstanceType;
@@ -21,6 +23,10 @@ import java.util.stream.Collectors;
  * - Grafana 상세 설정: {@link GrafanaConfig}
  * - Kafka UI 상세 설정: {@link KafkaUiConfig}
  * - Pinpoint 설정: {@link PinpointConfig}
+ * - ECS task service discovery 설정: {@link EcsServiceDiscoveryConfig}
+ * - Prometheus rule / Alertmanager 설정: {@link AlertingConfig}
+ * - 분산 추적 저장소(Tempo) 설정: {@link TempoConfig}
+ * - Grafana 대시보드 JSON: {@link GrafanaDashboardGenerator}
  */
 public record MonitoringConfig(
         // EC2 스펙
@@ -42,7 +48,6 @@ public record MonitoringConfig(
         String prometheusImage,
         int prometheusPort,
         String prometheusScrapeInterval,
-        int autoDashboardPanelLimit,
         KafkaUiConfig kafkaUiConfig,
 
         // pg_exporter
@@ -64,7 +69,10 @@ public record MonitoringConfig(
         GrafanaConfig grafanaConfig,
         PinpointConfig pinpointConfig,
         AlloyConfig alloyConfig,
-        LokiConfig lokiConfig) {
+        LokiConfig lokiConfig,
+        EcsServiceDiscoveryConfig ecsServiceDiscoveryConfig,
+        AlertingConfig alertingConfig,
+        TempoConfig tempoConfig) {
 
 
     public static MonitoringConfig fromEnv() {
@@ -81,8 +89,6 @@ public record MonitoringConfig(
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_PROMETHEUS_IMAGE),
                 Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_PROMETHEUS_PORT)),
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_PROMETHEUS_SCRAPE_INTERVAL),
-                Integer.parseInt(AppConfig
-                        .getValueOrDefault(EnvKey.MONITORING_AUTO_DASHBOARD_PANEL_LIMIT)),
                 KafkaUiConfig.fromEnv(),
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_PG_EXPORTER_CONTAINER_NAME),
                 AppConfig.getValueOrDefault(EnvKey.MONITORING_PG_EXPORTER_IMAGE),
@@ -96,12 +102,56 @@ public record MonitoringConfig(
                 GrafanaConfig.fromEnv(),
                 PinpointConfig.fromEnv(),
                 AlloyConfig.fromEnv(),
-                LokiConfig.fromEnv());
+                LokiConfig.fromEnv(),
+                EcsServiceDiscoveryConfig.fromEnv(),
+                AlertingConfig.fromEnv(),
+                TempoConfig.fromEnv());
     }
 
     //ARN Prefix
     private static final String S3_PREFIX = "arn:aws:s3:::";
 
+    // toInstanceType()이 지원하는 인스턴스 타입별 메모리(MiB)
+    private static final Map<String, Integer> HOST_MEMORY_MIB_BY_INSTANCE_TYPE = Map.ofEntries(
+            Map.entry("t3.nano", 512),
+            Map.entry("t3.micro", 1024),
+            Map.entry("t3.small", 2048),
+            Map.entry("t3.medium", 4096),
+            Map.entry("t3.large", 8192),
+            Map.entry("t3.xlarge", 16384),
+            Map.entry("t3.2xlarge", 32768),
+            Map.entry("t3a.nano", 512),
+            Map.entry("t3a.micro", 1024),
+            Map.entry("t3a.small", 2048),
+            Map.entry("t3a.medium", 4096),
+            Map.entry("t3a.large", 8192),
+            Map.entry("t3a.xlarge", 16384),
+            Map.entry("t3a.2xlarge", 32768),
+            Map.entry("t4g.nano", 512),
+            Map.entry("t4g.micro", 1024),
+            Map.entry("t4g.small", 2048),
+            Map.entry("t4g.medium", 4096),
+            Map.entry("t4g.large", 8192),
+            Map.entry("t4g.xlarge", 16384),
+            Map.entry("t4g.2xlarge", 32768),
+            Map.entry("m6i.large", 8192),
+            Map.entry("m6i.xlarge", 16384),
+            Map.entry("m6i.2xlarge", 32768),
+            Map.entry("m6i.4xlarge", 65536),
+            Map.entry("m6a.large", 8192),
+            Map.entry("m6a.xlarge", 16384),
+            Map.entry("m6a.2xlarge", 32768),
+            Map.entry("m6a.4xlarge", 65536),
+            Map.entry("m7i.large", 8192),
+            Map.entry("m7i.xlarge", 16384),
+            Map.entry("m7i.2xlarge", 32768),
+            Map.entry("m7i.4xlarge", 65536),
+            Map.entry("m7a.large", 8192),
+            Map.entry("m7a.xlarge", 16384),
+            Map.entry("m7a.2xlarge", 32768),
+            Map.entry("m7a.4xlarge", 65536)
+    );
+
     public InstanceType toInstanceType() {
         String[] parts = instanceType.trim().toLowerCase(Locale.ROOT).split("\\.");
         if (parts.length != 2) {
@@ -134,6 +184,18 @@ public record MonitoringConfig(
         return InstanceType.of(instanceClass, size);
     }
 
+    /**
+     * 전체 인스턴스 타입 기준 호스트 메모리(MiB). 표에 없는 타입(c/r 계열, 없는 size 조합)은 거부한다.
+     * (Loki embedded cache 크기 계산용)
+     */
+    public int hostMemoryMiB() {
+        Integer memoryMiB = HOST_MEMORY_MIB_BY_INSTANCE_TYPE.get(instanceType.trim().toLowerCase(Locale.ROOT));
+        if (memoryMiB == null) {
+            throw new IllegalArgumentException("메모리를 알 수 없는 INSTANCE_TYPE입니다: " + instanceType);
+        }
+        return memoryMiB;
+    }
+
     // 문자열 서브넷 타입을 CDK SubnetType으로 변환
     public SubnetType toSubnetType() {
         try {
@@ -188,8 +250,7 @@ public record MonitoringConfig(
                 mskBootstrapBrokersSaslIam
         );
 
-        List<String> commands = new ArrayList<>();
-        commands.add("mkdir -p " + MonitoringPaths.BASE_DIR);
+        List<String> commands = new ArrayList<>(mskBootstrapBrokersFileCommands(mskBootstrapBrokersSaslIam));
 
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_PREPARE_HOST,
                 MonitoringPaths.PREPARE_HOST_SCRIPT, templateValues));
@@ -199,12 +260,25 @@ public record MonitoringConfig(
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_PROMETHEUS,
                 MonitoringPaths.PROMETHEUS_CONFIG, templateValues));
 
+        commands.add("mkdir -p " + MonitoringPaths.PROMETHEUS_RULES_DIR);
+        commands.addAll(fileCommands(MonitoringPaths.PROMETHEUS_RECORDING_RULES, prometheusRecordingRules()));
+        commands.addAll(fileCommands(MonitoringPaths.PROMETHEUS_ALERT_RULES, prometheusAlertRules()));
+        commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_ALERTMANAGER,
+                MonitoringPaths.ALERTMANAGER_CONFIG, templateValues));
+
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(
                 MonitoringPaths.TPL_LOKI, MonitoringPaths.LOKI_CONFIG, templateValues));
 
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(
                 MonitoringPaths.TPL_ALLOY, MonitoringPaths.ALLOY_CONFIG, templateValues));
 
+        commands.addAll(ShellTemplateRenderer.writeToFileCommands(
+                MonitoringPaths.TPL_TEMPO, MonitoringPaths.TEMPO_CONFIG, templateValues));
+
+        commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_ECS_SD,
+                MonitoringPaths.ECS_SD_SCRIPT, templateValues));
+        commands.add("chmod +x " + MonitoringPaths.ECS_SD_SCRIPT);
+
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_BOOTSTRAP,
                 MonitoringPaths.BOOTSTRAP_SCRIPT, templateValues));
         commands.add("chmod +x " + MonitoringPaths.BOOTSTRAP_SCRIPT);
@@ -217,10 +291,19 @@ public record MonitoringConfig(
                 "/etc/grafana/provisioning/datasources/cloudwatch.yaml", templateValues));
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(
                 MonitoringPaths.TPL_DS_LOKI, "/etc/grafana/provisioning/datasources/loki.yaml", templateValues));
+        if (tempoConfig.enabled()) {
+            commands.addAll(ShellTemplateRenderer.writeToFileCommands(
+                    MonitoringPaths.TPL_DS_TEMPO, "/etc/grafana/provisioning/datasources/tempo.yaml", templateValues));
+        } else {
+            // Tempo 컨테이너 없이 데이터소스만 남지 않도록 이전 배포 파일 정리
+            commands.add("rm -f /etc/grafana/provisioning/datasources/tempo.yaml");
+        }
 
-        commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_DASHBOARD,
-                MonitoringPaths.DASHBOARD_SCRIPT, templateValues));
-        commands.add("chmod +x " + MonitoringPaths.DASHBOARD_SCRIPT);
+        commands.add("mkdir -p /etc/grafana/provisioning/dashboards " + MonitoringPaths.GRAFANA_DASHBOARDS_DIR);
+        commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_DASHBOARD_PROVIDER,
+                MonitoringPaths.GRAFANA_DASHBOARD_PROVIDER, templateValues));
+        grafanaDashboards().forEach((fileName, json) ->
+                commands.addAll(fileCommands(MonitoringPaths.GRAFANA_DASHBOARDS_DIR + "/" + fileName, json)));
 
         commands.addAll(ShellTemplateRenderer.writeToFileCommands(MonitoringPaths.TPL_PINPOINT_UP,
                 MonitoringPaths.PINPOINT_UP_SCRIPT, templateValues));
@@ -242,11 +325,55 @@ public record MonitoringConfig(
         
         commands.add("if [ \"${MONITORING_REPROVISION_GRAFANA:-false}\" = \"true\" ]; then "
                 + "systemctl restart " + grafanaConfig.grafanaServiceName() + "; "
-                + "bash " + MonitoringPaths.DASHBOARD_SCRIPT + " || true; "
                 + "else echo '[INFO] Skip Grafana reprovision'; fi");
         return commands;
     }
 
+    /**
+     * MSK bootstrap broker 목록을 호스트 파일로 남기는 UserData 커맨드.
+     * broker 목록은 배포 시점에 확정되는 값이라 asset이 아닌 UserData에서 써야 하고,
+     * bootstrap 스크립트가 이 파일로 JMX/Node exporter scrape 대상을 만든다.
+     */
+    public List<String> mskBootstrapBrokersFileCommands(String mskBootstrapBrokersSaslIam) {
+        return List.of(
+                "mkdir -p " + MonitoringPaths.BASE_DIR,
+                "cat <<'EOF' >" + MonitoringPaths.MSK_BOOTSTRAP_BROKERS_FILE,
+                mskBootstrapBrokersSaslIam == null ? "" : mskBootstrapBrokersSaslIam,
+                "EOF"
+        );
+    }
+
+    /**
+     * RED recording rule / burn-rate 알림 대상 job (Micrometer http_server_requests 지표를 내는 Spring 서비스).
+     * intelligence-server(Python)는 지표 이름이 달라 제외한다.
+     */
+    public List<String> sloPrometheusJobs() {
+        return List.of(
+                adminApiPrometheusJobName,
+                customerApiPrometheusJobName,
+                ecsServiceDiscoveryConfig.logServerPrometheusJobName()
+        );
+    }
+
+    public String prometheusRecordingRules() {
+        return PrometheusRuleGenerator.recordingRules(sloPrometheusJobs());
+    }
+
+    public String prometheusAlertRules() {
+        return PrometheusRuleGenerator.burnRateAlerts(sloPrometheusJobs(), alertingConfig);
+    }
+
+    /**
+     * Grafana 대시보드 파일 (파일 이름 -> JSON). RED/HikariCP 패널은 위 recording rule을 조회한다.
+     */
+    public Map<String, String> grafanaDashboards() {
+        return GrafanaDashboardGenerator.dashboards(
+                sloPrometheusJobs(),
+                pgExporterPrometheusJobName,
+                AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME)
+        );
+    }
+
     /**
      * Monitoring bootstrap 파일을 로컬 디렉터리에 렌더링해서 CDK asset으로 업로드할 수 있게 준비한다.
      */
@@ -270,10 +397,14 @@ public record MonitoringConfig(
 
         writeRenderedFile(assetRoot, MonitoringPaths.PREPARE_HOST_SCRIPT, MonitoringPaths.TPL_PREPARE_HOST, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.PROMETHEUS_CONFIG, MonitoringPaths.TPL_PROMETHEUS, templateValues);
+        writeText(assetRoot, MonitoringPaths.PROMETHEUS_RECORDING_RULES, prometheusRecordingRules());
+        writeText(assetRoot, MonitoringPaths.PROMETHEUS_ALERT_RULES, prometheusAlertRules());
+        writeRenderedFile(assetRoot, MonitoringPaths.ALERTMANAGER_CONFIG, MonitoringPaths.TPL_ALERTMANAGER, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.LOKI_CONFIG, MonitoringPaths.TPL_LOKI, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.ALLOY_CONFIG, MonitoringPaths.TPL_ALLOY, templateValues);
+        writeRenderedFile(assetRoot, MonitoringPaths.TEMPO_CONFIG, MonitoringPaths.TPL_TEMPO, templateValues);
+        writeRenderedFile(assetRoot, MonitoringPaths.ECS_SD_SCRIPT, MonitoringPaths.TPL_ECS_SD, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.BOOTSTRAP_SCRIPT, MonitoringPaths.TPL_BOOTSTRAP, templateValues);
-        writeRenderedFile(assetRoot, MonitoringPaths.DASHBOARD_SCRIPT, MonitoringPaths.TPL_DASHBOARD, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.PINPOINT_UP_SCRIPT, MonitoringPaths.TPL_PINPOINT_UP, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.PINPOINT_DOWN_SCRIPT, MonitoringPaths.TPL_PINPOINT_DOWN, templateValues);
         writeRenderedFile(assetRoot, MonitoringPaths.PINPOINT_STAT_SCRIPT, MonitoringPaths.TPL_PINPOINT_STATUS, templateValues);
@@ -296,6 +427,22 @@ public record MonitoringConfig(
                 MonitoringPaths.TPL_DS_LOKI,
                 templateValues
         );
+        if (tempoConfig.enabled()) {
+            writeRenderedFile(
+                    assetRoot,
+                    "/etc/grafana/provisioning/datasources/tempo.yaml",
+                    MonitoringPaths.TPL_DS_TEMPO,
+                    templateValues
+            );
+        }
+        writeRenderedFile(
+                assetRoot,
+                MonitoringPaths.GRAFANA_DASHBOARD_PROVIDER,
+                MonitoringPaths.TPL_DASHBOARD_PROVIDER,
+                templateValues
+        );
+        grafanaDashboards().forEach((fileName, json) ->
+                writeText(assetRoot, MonitoringPaths.GRAFANA_DASHBOARDS_DIR + "/" + fileName, json));
         writeText(assetRoot, MonitoringPaths.BASE_DIR + "/install-monitoring.sh", buildInstallMonitoringScript());
 
         return assetRoot;
@@ -312,9 +459,7 @@ public record MonitoringConfig(
         KafkaUiConfig k = kafkaUiConfig;
         PinpointConfig p = pinpointConfig;
 
-        String adminApiMetricsTarget = adminApiServiceDnsLabel + "." + internalDomain + ":" + adminApiPort;
-        String customerApiMetricsTarget = customerApiServiceDnsLabel + "." + internalDomain + ":"
-                                          + customerApiPort;
+        EcsServiceDiscoveryConfig sd = ecsServiceDiscoveryConfig;
 
         Map<String, String> values = new LinkedHashMap<>();
         values.put("MONITORINGDIR", MonitoringPaths.BASE_DIR);
@@ -328,6 +473,7 @@ public record MonitoringConfig(
         values.put("PGEXPORTEREXCLUDEDATABASES", pgExporterExcludeDatabases);
         values.put("PROMETHEUSPORT", String.valueOf(prometheusPort));
         values.put("PROMETHEUSCONFIGPATH", MonitoringPaths.PROMETHEUS_CONFIG);
+        values.put("PROMETHEUSTARGETSDIR", MonitoringPaths.PROMETHEUS_TARGETS_DIR);
         values.put("PROMETHEUSIMAGE", prometheusImage);
         values.put("PROMETHEUSSCRAPEINTERVAL", prometheusScrapeInterval);
         values.put("PGEXPORTERPROMETHEUSJOBNAME", pgExporterPrometheusJobName);
@@ -337,14 +483,30 @@ public record MonitoringConfig(
         values.put("KAFKAUIPORT", String.valueOf(k.kafkaUiPort()));
         values.put("KAFKAUICLUSTERNAME", AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME));
         values.put("MSKBOOTSTRAPBROKERSSASLIAM", mskBootstrapBrokersSaslIam);
+        values.put("MSKBOOTSTRAPBROKERSFILE", MonitoringPaths.MSK_BOOTSTRAP_BROKERS_FILE);
+        values.put("MSKOPENMONITORINGENABLED", String.valueOf(MskMonitoringConfig.fromEnv().openMonitoringEnabled()));
+        values.put("MSKJMXEXPORTERPORT", String.valueOf(NetworkConstants.PORT_MSK_JMX_EXPORTER));
+        values.put("MSKNODEEXPORTERPORT", String.valueOf(NetworkConstants.PORT_MSK_NODE_EXPORTER));
         values.put("ADMINAPIPROMETHEUSJOBNAME", adminApiPrometheusJobName);
-        values.put("ADMINAPIMETRICSTARGET", adminApiMetricsTarget);
         values.put("CUSTOMERAPIPROMETHEUSJOBNAME", customerApiPrometheusJobName);
-        values.put("CUSTOMERAPIMETRICSTARGET", customerApiMetricsTarget);
+
+        // ECS task service discovery (Cloud Map -> file_sd)
+        values.put("INTERNALDOMAIN", internalDomain);
+        values.put("ECSSDSCRIPT", MonitoringPaths.ECS_SD_SCRIPT);
+        values.put("ECSSDREFRESHSECONDS", String.valueOf(sd.refreshSeconds()));
+        values.put("ADMINAPISERVICENAME", adminApiServiceDnsLabel);
+        values.put("ADMINAPIPORT", String.valueOf(adminApiPort));
+        values.put("CUSTOMERAPISERVICENAME", customerApiServiceDnsLabel);
+        values.put("CUSTOMERAPIPORT", String.valueOf(customerApiPort));
+        values.put("LOGSERVERPROMETHEUSJOBNAME", sd.logServerPrometheusJobName());
+        values.put("LOGSERVERSERVICENAME", sd.logServerServiceName());
+        values.put("LOGSERVERPORT", String.valueOf(sd.logServerPort()));
+        values.put("INTELLIGENCESERVERPROMETHEUSJOBNAME", sd.intelligenceServerPrometheusJobName());
+        values.put("INTELLIGENCESERVERSERVICENAME", sd.intelligenceServerServiceName());
+        values.put("INTELLIGENCESERVERPORT", String.valueOf(sd.intelligenceServerPort()));
+        values.put("INTELLIGENCESERVERMETRICSPATH", sd.intelligenceServerMetricsPath());
         values.put("GRAFANAPORT", String.valueOf(g.grafanaPort()));
-        values.put("AUTODASHBOARDPANELLIMIT", String.valueOf(autoDashboardPanelLimit));
-        values.put("GRAFANAADMINUSER", g.grafanaAdminUser());
-        values.put("GRAFANAADMINPASSWORD", g.grafanaAdminPassword());
+        values.put("GRAFANADASHBOARDSDIR", MonitoringPaths.GRAFANA_DASHBOARDS_DIR);
         values.put("PINPOINTREPOURL", p.pinpointRepoUrl());
         values.put("PINPOINTREPODIR", p.pinpointRepoDir());
         values.put("PINPOINTVERSION", p.pinpointVersion());
@@ -362,6 +524,32 @@ public record MonitoringConfig(
         values.put("LOKIWARNRETENTIONHOURS", String.valueOf(lokiConfig.lokiWarnRetentionHours()));
         values.put("LOKIERRORRETENTIONHOURS", String.valueOf(lokiConfig.lokiErrorRetentionHours()));
         values.put("LOKIFATALRETENTIONHOURS", String.valueOf(lokiConfig.lokiFatalRetentionHours()));
+        values.put("LOKIRESULTSCACHEMAXSIZEMB", String.valueOf(lokiConfig.resultsCacheMaxSizeMb(hostMemoryMiB())));
+        values.put("LOKICHUNKCACHEMAXSIZEMB", String.valueOf(lokiConfig.chunkCacheMaxSizeMb(hostMemoryMiB())));
+        values.put("LOKIQUERYSPLITINTERVAL", lokiConfig.querySplitInterval());
+        values.put("LOKIMAXQUERYPARALLELISM", String.valueOf(lokiConfig.maxQueryParallelism()));
+        values.put("LOKIINGESTIONRATEMB", String.valueOf(lokiConfig.ingestionRateMb()));
+        values.put("LOKIINGESTIONBURSTSIZEMB", String.valueOf(lokiConfig.ingestionBurstSizeMb()));
+        values.put("LOKIPERSTREAMRATELIMITMB", String.valueOf(lokiConfig.perStreamRateLimitMb()));
+        values.put("LOKIPERSTREAMRATELIMITBURSTMB", String.valueOf(lokiConfig.perStreamRateLimitBurstMb()));
+        values.put("LOKIRETENTIONDELETEWORKERS", String.valueOf(lokiConfig.retentionDeleteWorkers()));
+
+        //Prometheus rules / Alertmanager
+        values.put("PROMETHEUSRULESDIR", MonitoringPaths.PROMETHEUS_RULES_DIR);
+        values.put("ALERTMANAGERCONTAINERNAME", alertingConfig.alertmanagerContainerName());
+        values.put("ALERTMANAGERIMAGE", alertingConfig.alertmanagerImage());
+        values.put("ALERTMANAGERPORT", String.valueOf(alertingConfig.alertmanagerPort()));
+        values.put("ALERTMANAGERCONFIGPATH", MonitoringPaths.ALERTMANAGER_CONFIG);
+        values.put("ALERTMANAGERRECEIVERS", buildAlertmanagerReceiversYaml(region));
+
+        //Tempo
+        values.put("TEMPOENABLED", String.valueOf(tempoConfig.enabled()));
+        values.put("TEMPOCONTAINERNAME", tempoConfig.tempoContainerName());
+        values.put("TEMPOIMAGE", tempoConfig.tempoImage());
+        values.put("TEMPOPORT", String.valueOf(tempoConfig.tempoPort()));
+        values.put("TEMPOOTLPGRPCPORT", String.valueOf(tempoConfig.tempoOtlpGrpcPort()));
+        values.put("TEMPOCONFIGPATH", MonitoringPaths.TEMPO_CONFIG);
+        values.put("TEMPORETENTIONHOURS", String.valueOf(tempoConfig.retentionHours()));
 
         //Alloy
         values.put("ALLOYCONTAINERNAME", alloyConfig.alloyContainerName());
@@ -434,15 +622,40 @@ public record MonitoringConfig(
                 .collect(Collectors.joining("\n"));
     }
 
+    // SNS topic이 없으면 알림을 보내지 않는 기본 receiver만 둔다.
+    private String buildAlertmanagerReceiversYaml(String region) {
+        if (!alertingConfig.snsEnabled()) {
+            return "  - name: default";
+        }
+        return String.join("\n",
+                "  - name: default",
+                "    sns_configs:",
+                "      - topic_arn: " + alertingConfig.snsTopicArn(),
+                "        sigv4:",
+                "          region: " + region,
+                "        subject: '[{{ .Status | toUpper }}] {{ .CommonLabels.alertname }} {{ .CommonLabels.job }}'");
+    }
+
+    // 템플릿이 아닌 생성 파일을 heredoc 기반 파일 생성 커맨드로 변환
+    private List<String> fileCommands(String targetPath, String content) {
+        String heredocDelimiter = "__HSC_GENERATED_EOF_" + Integer.toUnsignedString(targetPath.hashCode()) + "__";
+
+        List<String> commands = new ArrayList<>();
+        commands.add("cat <<'" + heredocDelimiter + "' >" + targetPath);
+        commands.addAll(Arrays.asList(content.split("\\R", -1)));
+        commands.add(heredocDelimiter);
+        return commands;
+    }
+
     private String buildInstallMonitoringScript() {
         List<String> commands = new ArrayList<>();
         commands.add("#!/usr/bin/env bash");
         commands.addAll(grafanaUserDataCommands());
         commands.add("chmod +x " + MonitoringPaths.PREPARE_HOST_SCRIPT);
         commands.add(MonitoringPaths.PREPARE_HOST_SCRIPT);
+        commands.add("chmod +x " + MonitoringPaths.ECS_SD_SCRIPT);
         commands.add("chmod +x " + MonitoringPaths.BOOTSTRAP_SCRIPT);
         commands.add(MonitoringPaths.BOOTSTRAP_SCRIPT);
-        commands.add("chmod +x " + MonitoringPaths.DASHBOARD_SCRIPT);
         commands.add("chmod +x " + MonitoringPaths.PINPOINT_UP_SCRIPT);
         commands.add("chmod +x " + MonitoringPaths.PINPOINT_DOWN_SCRIPT);
         commands.add("chmod +x " + MonitoringPaths.PINPOINT_STAT_SCRIPT);
@@ -453,7 +666,6 @@ public record MonitoringConfig(
         commands.add("EOF");
         commands.add("if [ \"${MONITORING_REPROVISION_GRAFANA:-false}\" = \"true\" ]; then "
                 + "systemctl restart " + grafanaConfig.grafanaServiceName() + "; "
-                + "bash " + MonitoringPaths.DASHBOARD_SCRIPT + " || true; "
                 + "else echo '[INFO] Skip Grafana reprovision'; fi");
         return String.join("\n", commands) + "\n";
     }
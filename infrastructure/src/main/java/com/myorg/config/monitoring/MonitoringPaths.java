@@ -7,10 +7,19 @@ public final class MonitoringPaths {
     public static final String BASE_DIR = "/opt/monitoring";
     public static final String PREPARE_HOST_SCRIPT = BASE_DIR + "/prepare-host.sh";
     public static final String PROMETHEUS_CONFIG = BASE_DIR + "/prometheus.yml";
+    public static final String PROMETHEUS_TARGETS_DIR = BASE_DIR + "/prometheus-targets";
+    public static final String PROMETHEUS_RULES_DIR = BASE_DIR + "/prometheus-rules";
+    public static final String PROMETHEUS_RECORDING_RULES = PROMETHEUS_RULES_DIR + "/recording-rules.yml";
+    public static final String PROMETHEUS_ALERT_RULES = PROMETHEUS_RULES_DIR + "/alert-rules.yml";
+    public static final String ALERTMANAGER_CONFIG = BASE_DIR + "/alertmanager.yml";
+    public static final String MSK_BOOTSTRAP_BROKERS_FILE = BASE_DIR + "/msk-bootstrap-brokers";
     public static final String LOKI_CONFIG = BASE_DIR + "/loki-config.yaml";
     public static final String ALLOY_CONFIG = BASE_DIR + "/alloy-config.alloy";
+    public static final String TEMPO_CONFIG = BASE_DIR + "/tempo.yaml";
     public static final String BOOTSTRAP_SCRIPT = BASE_DIR + "/bootstrap-monitoring.sh";
-    public static final String DASHBOARD_SCRIPT = BASE_DIR + "/provision-dashboards.sh";
+    public static final String GRAFANA_DASHBOARDS_DIR = BASE_DIR + "/grafana-dashboards";
+    public static final String GRAFANA_DASHBOARD_PROVIDER = "/etc/grafana/provisioning/dashboards/hsc.yaml";
+    public static final String ECS_SD_SCRIPT = BASE_DIR + "/ecs-service-discovery.sh";
     public static final String PINPOINT_UP_SCRIPT = BASE_DIR + "/pinpoint-up.sh";
     public static final String PINPOINT_DOWN_SCRIPT = BASE_DIR + "/pinpoint-down.sh";
     public static final String PINPOINT_STAT_SCRIPT = BASE_DIR + "/pinpoint-status.sh";
@@ -18,13 +27,17 @@ public final class MonitoringPaths {
     // classpath 템플릿 경로
     public static final String TPL_PREPARE_HOST = "grafana/prepare-host.sh.template";
     public static final String TPL_PROMETHEUS = "grafana/prometheus.yml.template";
+    public static final String TPL_ALERTMANAGER = "grafana/alertmanager.yml.template";
     public static final String TPL_LOKI = "grafana/loki-config.yaml.template";
     public static final String TPL_ALLOY = "grafana/alloy-config.alloy.template";
+    public static final String TPL_TEMPO = "grafana/tempo.yaml.template";
     public static final String TPL_BOOTSTRAP = "grafana/bootstrap-monitoring.sh.template";
     public static final String TPL_DS_PROMETHEUS = "grafana/datasource-prometheus.yaml.template";
     public static final String TPL_DS_CLOUDWATCH = "grafana/datasource-cloudwatch.yaml.template";
     public static final String TPL_DS_LOKI = "grafana/datasource-loki.yaml.template";
-    public static final String TPL_DASHBOARD = "grafana/provision-dashboards.sh.template";
+    public static final String TPL_DS_TEMPO = "grafana/datasource-tempo.yaml.template";
+    public static final String TPL_DASHBOARD_PROVIDER = "grafana/dashboard-provider.yaml.template";
+    public static final String TPL_ECS_SD = "grafana/ecs-service-discovery.sh.template";
     public static final String TPL_PINPOINT_UP = "pinpoint/pinpoint-up.sh.template";
     public static final String TPL_PINPOINT_DOWN = "pinpoint/pinpoint-down.sh.template";
     public static final String TPL_PINPOINT_STATUS = "pinpoint/pinpoint-status.sh.template";
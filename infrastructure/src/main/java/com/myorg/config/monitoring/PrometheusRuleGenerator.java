@@ -0,0 +1,107 @@
+package com.myorg.config.monitoring;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prometheus rule 파일 생성기 (synth 시점에 렌더링).
+ * - recording rule: Spring job별 RED 지표 (요청률, 오류율, p50/p95/p99 지연) + HikariCP pool 포화도
+ * - alert rule: 가용성 SLO error budget 기준 multi-window burn-rate 알림
+ *
+ * 대시보드/알림은 raw histogram 대신 미리 계산된 시계열을 조회해 모니터링 호스트 부하를 줄인다.
+ */
+public final class PrometheusRuleGenerator {
+
+    // 오류율 recording 구간 (burn-rate 알림의 long/short window)
+    static final List<String> ERROR_RATIO_WINDOWS = List.of("5m", "30m", "1h", "2h", "6h", "1d", "3d");
+    static final List<String> LATENCY_QUANTILES = List.of("0.5", "0.95", "0.99");
+
+    // actuator scrape/health check 요청은 SLO 대상에서 제외
+    private static final String REQUEST_SELECTOR = "uri!~\"/actuator.*\"";
+
+    /**
+     * Google SRE workbook 권장 조합: 빠른 소진은 page, 느린 소진은 ticket.
+     */
+    static final List<BurnRateWindow> BURN_RATE_WINDOWS = List.of(
+            new BurnRateWindow("1h", "5m", "14.4", "2m", "page"),
+            new BurnRateWindow("6h", "30m", "6", "15m", "page"),
+            new BurnRateWindow("1d", "2h", "3", "1h", "ticket"),
+            new BurnRateWindow("3d", "6h", "1", "3h", "ticket")
+    );
+
+    record BurnRateWindow(String longWindow, String shortWindow, String factor, String forDuration, String severity) {
+    }
+
+    private PrometheusRuleGenerator() {
+    }
+
+    public static String recordingRules(List<String> jobs) {
+        List<String> lines = new ArrayList<>();
+        lines.add("groups:");
+        for (String job : jobs) {
+            String selector = "job=\"" + job + "\"," + REQUEST_SELECTOR;
+            lines.add("  - name: " + job + "-red");
+            lines.add("    interval: 30s");
+            lines.add("    rules:");
+            addRule(lines, "record", "job:http_server_requests:rate5m",
+                    "sum by (job) (rate(http_server_requests_seconds_count{" + selector + "}[5m]))");
+            for (String window : ERROR_RATIO_WINDOWS) {
+                addRule(lines, "record", "job:http_server_requests_errors:ratio_rate" + window,
+                        "sum by (job) (rate(http_server_requests_seconds_count{" + selector + ",status=~\"5..\"}[" + window + "]))"
+                                + " / sum by (job) (rate(http_server_requests_seconds_count{" + selector + "}[" + window + "]))");
+            }
+            for (String quantile : LATENCY_QUANTILES) {
+                addRule(lines, "record", "job:http_server_requests_seconds:p" + percentileLabel(quantile) + "_5m",
+                        "histogram_quantile(" + quantile + ", sum by (job, le) (rate(http_server_requests_seconds_bucket{"
+                                + selector + "}[5m])))");
+            }
+            addRule(lines, "record", "job:hikaricp_connections:saturation",
+                    "max by (job, pool) (hikaricp_connections_active{job=\"" + job + "\"}"
+                            + " / hikaricp_connections_max{job=\"" + job + "\"})");
+            addRule(lines, "record", "job:hikaricp_connections_pending:max",
+                    "max by (job, pool) (hikaricp_connections_pending{job=\"" + job + "\"})");
+        }
+        return String.join("\n", lines) + "\n";
+    }
+
+    public static String burnRateAlerts(List<String> jobs, AlertingConfig config) {
+        String errorBudget = BigDecimal.valueOf(config.errorBudget()).stripTrailingZeros().toPlainString();
+
+        List<String> lines = new ArrayList<>();
+        lines.add("groups:");
+        lines.add("  - name: slo-burn-rate");
+        lines.add("    rules:");
+        for (String job : jobs) {
+            for (BurnRateWindow window : BURN_RATE_WINDOWS) {
+                String threshold = "(" + window.factor() + " * " + errorBudget + ")";
+                lines.add("      - alert: ErrorBudgetBurn");
+                lines.add("        expr: >-");
+                lines.add("          job:http_server_requests_errors:ratio_rate" + window.longWindow()
+                        + "{job=\"" + job + "\"} > " + threshold);
+                lines.add("          and job:http_server_requests_errors:ratio_rate" + window.shortWindow()
+                        + "{job=\"" + job + "\"} > " + threshold);
+                lines.add("        for: " + window.forDuration());
+                lines.add("        labels:");
+                lines.add("          severity: " + window.severity());
+                lines.add("          long_window: " + window.longWindow());
+                lines.add("        annotations:");
+                lines.add("          summary: '" + job + " error budget burn rate " + window.factor() + "x ("
+                        + window.longWindow() + "/" + window.shortWindow() + ")'");
+                lines.add("          description: 'SLO " + BigDecimal.valueOf(config.availabilityTarget())
+                        .stripTrailingZeros().toPlainString() + "% 기준 오류율이 {{ $value | humanizePercentage }} 입니다.'");
+            }
+        }
+        return String.join("\n", lines) + "\n";
+    }
+
+    private static void addRule(List<String> lines, String type, String name, String expr) {
+        lines.add("      - " + type + ": " + name);
+        lines.add("        expr: " + expr);
+    }
+
+    // 0.95 -> 95, 0.5 -> 50
+    private static String percentileLabel(String quantile) {
+        return new BigDecimal(quantile).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+}
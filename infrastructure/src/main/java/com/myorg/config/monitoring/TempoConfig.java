@@ -0,0 +1,43 @@
+package com.myorg.config.monitoring;
+
+import com.myorg.config.AppConfig;
+import com.myorg.config.EnvKey;
+import com.myorg.config.TracingExporter;
+
+/**
+ * 모니터링 호스트 Tempo 설정.
+ * - ECS 분산 추적이 켜져 있고 export 대상에 Tempo가 포함될 때만 컨테이너 실행
+ * - OTLP gRPC 포트는 ECS ADOT collector가 push, HTTP API 포트는 Grafana에서만 조회 (localhost 바인딩)
+ */
+public record TempoConfig(
+        boolean enabled,
+        String tempoContainerName,
+        String tempoImage,
+        int tempoPort,
+        int tempoOtlpGrpcPort,
+        int retentionHours
+) {
+    public static TempoConfig fromEnv() {
+        boolean tracingEnabled = Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.TRACING_ENABLED));
+        TracingExporter exporter = TracingExporter.fromEnv(AppConfig.getValueOrDefault(EnvKey.TRACING_EXPORTER));
+
+        TempoConfig config = new TempoConfig(
+                tracingEnabled && exporter.tempoEnabled(),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_CONTAINER_NAME),
+                AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_IMAGE),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_PORT)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_OTLP_GRPC_PORT)),
+                Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MONITORING_TEMPO_RETENTION_HOURS))
+        );
+        validate(config);
+        return config;
+    }
+
+    static void validate(TempoConfig config) {
+        if (config.retentionHours() < 1) {
+            throw new IllegalStateException(
+                    EnvKey.MONITORING_TEMPO_RETENTION_HOURS.key() + " 값은 1 이상이어야 합니다."
+            );
+        }
+    }
+}
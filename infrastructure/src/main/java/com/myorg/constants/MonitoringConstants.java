@@ -27,6 +27,8 @@ public final class MonitoringConstants {
     public static final String POLICY_NAME_INSTANCE_CORE = "AmazonSSMManagedInstanceCore";
     public static final String POLICY_NAME_CLOUD_WATCH = "CloudWatchReadOnlyAccess";
     public static final String POLICY_NAME_AWS_XRAY = "AWSXrayReadOnlyAccess";
+    // ECS task ADOT collector -> X-Ray segment 전송
+    public static final String POLICY_NAME_AWS_XRAY_WRITE = "AWSXRayDaemonWriteAccess";
 
     public static final IManagedPolicy POLICY_INSTANCE_CORE
             = ManagedPolicy.fromAwsManagedPolicyName(POLICY_NAME_INSTANCE_CORE);
@@ -34,4 +36,6 @@ public final class MonitoringConstants {
             = ManagedPolicy.fromAwsManagedPolicyName(POLICY_NAME_CLOUD_WATCH);
     public static final IManagedPolicy POLICY_AWS_XRAY
             = ManagedPolicy.fromAwsManagedPolicyName(POLICY_NAME_AWS_XRAY);
+    public static final IManagedPolicy POLICY_AWS_XRAY_WRITE
+            = ManagedPolicy.fromAwsManagedPolicyName(POLICY_NAME_AWS_XRAY_WRITE);
 }
@@ -25,6 +25,9 @@ public final class NetworkConstants {
     public static final int PORT_HTTPS = 443;
     public static final int PORT_DNS = 53;
     public static final int PORT_POSTGRES = 5432;
+    // MSK open monitoring exporter
+    public static final int PORT_MSK_JMX_EXPORTER = 11001;
+    public static final int PORT_MSK_NODE_EXPORTER = 11002;
 
     /*
      * =================================================================
@@ -45,4 +48,6 @@ public final class NetworkConstants {
     public static final Port DNS_TCP = Port.tcp(PORT_DNS);
     public static final Port DNS_UDP = Port.udp(PORT_DNS);
     public static final Port POSTGRES = Port.tcp(PORT_POSTGRES);
+    public static final Port MSK_JMX_EXPORTER = Port.tcp(PORT_MSK_JMX_EXPORTER);
+    public static final Port MSK_NODE_EXPORTER = Port.tcp(PORT_MSK_NODE_EXPORTER);
 }
@@ -0,0 +1,46 @@
+package com.myorg.constructs;
+
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.ecs.CloudMapOptions;
+import software.amazon.awscdk.services.ecs.ContainerDefinition;
+import software.amazon.awscdk.services.ecs.FargateService;
+import software.amazon.awscdk.services.servicediscovery.CfnService;
+import software.amazon.awscdk.services.servicediscovery.DnsRecordType;
+import software.amazon.awscdk.services.servicediscovery.INamespace;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ECS 서비스 Cloud Map 등록 공통 처리.
+ * - SRV 등록으로 task마다 IP + 컨테이너 포트를 인스턴스 속성에 기록 (Prometheus service discovery 대상)
+ * - 기존 "<service>.<namespace>" A 레코드 조회는 그대로 유지
+ */
+final class CloudMapRegistration {
+    private static final int DNS_TTL_SECONDS = 60;
+
+    private CloudMapRegistration() {
+    }
+
+    static CloudMapOptions srvOptions(INamespace namespace, String name, ContainerDefinition container, int containerPort) {
+        return CloudMapOptions.builder()
+                .cloudMapNamespace(namespace)
+                .name(name)
+                .dnsRecordType(DnsRecordType.SRV)
+                .container(container)
+                .containerPort(containerPort)
+                .dnsTtl(Duration.seconds(DNS_TTL_SECONDS))
+                .build();
+    }
+
+    /**
+     * CDK는 레코드 타입을 하나만 받으므로, 생성된 Cloud Map 서비스에 A 레코드를 함께 등록한다.
+     */
+    static void keepARecord(FargateService service) {
+        CfnService cfnService = (CfnService) service.getCloudMapService().getNode().getDefaultChild();
+        cfnService.addPropertyOverride("DnsConfig.DnsRecords", List.of(
+                Map.of("Type", "A", "TTL", DNS_TTL_SECONDS),
+                Map.of("Type", "SRV", "TTL", DNS_TTL_SECONDS)
+        ));
+    }
+}
@@ -0,0 +1,107 @@
+package com.myorg.constructs;
+
+import com.myorg.config.ErrorLogRedriveConfig;
+import com.myorg.props.ErrorLogRedriveJobProps;
+import com.myorg.workflow.redrive.ErrorLogRedriveDefinitionBuilder;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.ecs.AwsLogDriverProps;
+import software.amazon.awscdk.services.ecs.ContainerDefinition;
+import software.amazon.awscdk.services.ecs.ContainerDefinitionOptions;
+import software.amazon.awscdk.services.ecs.ContainerImage;
+import software.amazon.awscdk.services.ecs.FargateTaskDefinition;
+import software.amazon.awscdk.services.ecs.LogDriver;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.logs.FilterPattern;
+import software.amazon.awscdk.services.logs.MetricFilter;
+import software.amazon.awscdk.services.stepfunctions.Chain;
+import software.amazon.awscdk.services.stepfunctions.DefinitionBody;
+import software.amazon.awscdk.services.stepfunctions.StateMachine;
+import software.amazon.awscdk.services.stepfunctions.StateMachineProps;
+import software.constructs.Construct;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * error-logs(DLQ) 재처리 작업.
+ * - 상시 Service 없이 log-server 이미지를 1회성 task로 실행
+ * - 수동 StartExecution 입력으로 재처리 구간 지정
+ * - task 요약 로그의 read/published/skipped 건수를 CloudWatch 지표로 집계
+ */
+public class ErrorLogRedriveJob extends Construct {
+    private final FargateTaskDefinition taskDefinition;
+    private final ContainerDefinition containerDefinition;
+    private final StateMachine stateMachine;
+
+    public ErrorLogRedriveJob(ErrorLogRedriveJobProps props) {
+        super(props.scope(), props.id());
+        ErrorLogRedriveConfig config = props.config();
+
+        Role executionRole = FargateRoleFactory.createExecutionRole(this, "ExecRole", List.of());
+        Role taskRole = FargateRoleFactory.createBasicTaskRole(this, "TaskRole", props.extraTaskPolicies());
+
+        this.taskDefinition = FargateTaskDefinition.Builder.create(this, "TaskDef")
+                .cpu(config.cpu())
+                .memoryLimitMiB(config.memoryMiB())
+                .executionRole(executionRole)
+                .taskRole(taskRole)
+                .build();
+
+        Map<String, String> environment = new HashMap<>(props.environment());
+        environment.putAll(config.toEnvironment());
+
+        this.containerDefinition = taskDefinition.addContainer("RedriveContainer", ContainerDefinitionOptions.builder()
+                .image(ContainerImage.fromEcrRepository(props.repository(), props.imageTag()))
+                .logging(LogDriver.awsLogs(AwsLogDriverProps.builder()
+                        .logGroup(props.logGroup())
+                        .streamPrefix(props.logStreamPrefix())
+                        .build()))
+                .environment(environment)
+                .build());
+
+        for (String field : ErrorLogRedriveConfig.SUMMARY_COUNT_FIELDS) {
+            MetricFilter.Builder.create(this, "Redrive" + capitalize(field) + "Filter")
+                    .logGroup(props.logGroup())
+                    .filterPattern(FilterPattern.stringValue("$.event", "=", ErrorLogRedriveConfig.SUMMARY_EVENT))
+                    .metricNamespace(ErrorLogRedriveConfig.METRIC_NAMESPACE)
+                    .metricName(capitalize(field) + "Records")
+                    .metricValue("$." + field)
+                    .build();
+        }
+
+        Chain definition = new ErrorLogRedriveDefinitionBuilder().build(
+                this,
+                config,
+                props.cluster(),
+                taskDefinition,
+                containerDefinition,
+                props.taskSg(),
+                props.subnets()
+        );
+
+        this.stateMachine = new StateMachine(this, "StateMachine", StateMachineProps.builder()
+                .stateMachineName(config.stateMachineName())
+                .definitionBody(DefinitionBody.fromChainable(definition))
+                // task 제한 시간 + 기동/정리 여유
+                .timeout(Duration.minutes(config.timeoutMinutes() + 15L))
+                .tracingEnabled(true)
+                .build());
+    }
+
+    public FargateTaskDefinition getTaskDefinition() {
+        return taskDefinition;
+    }
+
+    public ContainerDefinition getContainerDefinition() {
+        return containerDefinition;
+    }
+
+    public StateMachine getStateMachine() {
+        return stateMachine;
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
@@ -54,6 +54,9 @@ public class FargateApiService extends Construct {
     private static final String SPRING_DATASOURCE_URL = "SPRING_DATASOURCE_URL";
     private static final String SERVER_PORT = "SERVER_PORT";
     private static final String JAVA_TOOL_OPTIONS = "JAVA_TOOL_OPTIONS";
+    // p50/p95/p99 recording rule용 http_server_requests histogram bucket 노출
+    private static final String HTTP_SERVER_REQUESTS_HISTOGRAM =
+            "MANAGEMENT_METRICS_DISTRIBUTION_PERCENTILESHISTOGRAM_HTTP_SERVER_REQUESTS";
 
     /**
      * DB 환경변수
@@ -93,6 +96,7 @@ public class FargateApiService extends Construct {
         props.dbSecret().grantRead(Objects.requireNonNull(taskDefinition.getExecutionRole()));
 
         Map<String, String> environment = buildBaseEnvironment(props);
+        environment.putAll(Tracing.applicationEnvironment(props.tracing(), props.logStreamPrefix()));
         Map<String, software.amazon.awscdk.services.ecs.Secret> datasourceSecrets = new LinkedHashMap<>();
         datasourceSecrets.put(
                 SPRING_DATASOURCE_PASSWORD,
@@ -140,18 +144,26 @@ public class FargateApiService extends Construct {
         /**
          * 2) Container 추가
          */
+        // FireLens 모드면 log router sidecar가 먼저 추가된다.
+        LogDriver mainLogDriver = LogRouting.mainContainerLogDriver(
+                taskDefinition,
+                props.logRouting(),
+                props.logGroup(),
+                props.logStreamPrefix(),
+                props.logStreamPrefix()
+        );
         this.containerDefinition = taskDefinition.addContainer(CONTAINER_ID,
                 ContainerDefinitionOptions.builder()
                         .image(ContainerImage.fromEcrRepository(props.repository(), props.imageTag()))
-                        .logging(LogDriver.awsLogs(AwsLogDriverProps.builder()
-                                .logGroup(props.logGroup())
-                                .streamPrefix(props.logStreamPrefix())
-                                .build()))
+                        .logging(mainLogDriver)
                         .environment(environment)
                         .secrets(datasourceSecrets)
                         .build()
         );
 
+        Tracing.attachCollector(taskDefinition, containerDefinition, props.tracing(),
+                props.logGroup(), props.logStreamPrefix());
+
         /**
          * 3) Port Mapping
          */
@@ -190,16 +202,21 @@ public class FargateApiService extends Construct {
                 .enableExecuteCommand(props.enableEcsExec());
 
         //Cloud Map 설정이 있으면
-        if (props.cloudMapNamespace() != null
+        boolean cloudMapEnabled = props.cloudMapNamespace() != null
             && props.cloudMapServiceName() != null
-            && !props.cloudMapServiceName().isBlank()) {
-            serviceBuilder.cloudMapOptions(CloudMapOptions.builder()
-                    .cloudMapNamespace(props.cloudMapNamespace())
-                    .name(props.cloudMapServiceName())
-                    .build());
+            && !props.cloudMapServiceName().isBlank();
+        if (cloudMapEnabled) {
+            serviceBuilder.cloudMapOptions(CloudMapRegistration.srvOptions(
+                    props.cloudMapNamespace(),
+                    props.cloudMapServiceName(),
+                    containerDefinition,
+                    props.containerPort()));
         }
 
         this.service = serviceBuilder.build();
+        if (cloudMapEnabled) {
+            CloudMapRegistration.keepARecord(service);
+        }
     }
 
     private void addSecretsManagerReadPolicy(Role role, List<String> secretsManagerArns) {
@@ -237,6 +254,7 @@ public class FargateApiService extends Construct {
         env.put(SPRING_PROFILES_ACTIVE, props.springProfile());
         env.put(SPRING_DATASOURCE_URL, props.jdbcUrl());
         env.put(SERVER_PORT, String.valueOf(props.containerPort()));
+        env.put(HTTP_SERVER_REQUESTS_HISTOGRAM, "true");
         // 서비스별 내부 통신 주소나 런타임 연동값은 호출 스택에서만 주입한다.
         if (props.extraEnvironment() != null && !props.extraEnvironment().isEmpty()) {
             env.putAll(props.extraEnvironment());
@@ -1,11 +1,21 @@
 package com.myorg.constructs;
 
+import com.myorg.config.ConsumerLagScalingConfig;
 import com.myorg.props.FargateBackgroundServiceProps;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.applicationautoscaling.AdjustmentType;
+import software.amazon.awscdk.services.applicationautoscaling.BasicStepScalingPolicyProps;
+import software.amazon.awscdk.services.applicationautoscaling.EnableScalingProps;
+import software.amazon.awscdk.services.applicationautoscaling.MetricAggregationType;
+import software.amazon.awscdk.services.applicationautoscaling.ScalingInterval;
+import software.amazon.awscdk.services.cloudwatch.CfnAlarm;
+import software.amazon.awscdk.services.cloudwatch.Metric;
 import software.amazon.awscdk.services.ecs.*;
 import software.amazon.awscdk.services.iam.Role;
 import software.constructs.Construct;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,13 +58,20 @@ public class FargateBackgroundService extends Construct {
             );
         }
 
+        Map<String, String> environment = new LinkedHashMap<>(props.environment());
+        environment.putAll(Tracing.applicationEnvironment(props.tracing(), props.logStreamPrefix()));
+
+        LogDriver mainLogDriver = LogRouting.mainContainerLogDriver(
+                taskDefinition,
+                props.logRouting(),
+                props.logGroup(),
+                props.logStreamPrefix(),
+                props.logStreamPrefix()
+        );
         ContainerDefinitionOptions.Builder containerOptions = ContainerDefinitionOptions.builder()
                 .image(ContainerImage.fromEcrRepository(props.repository(), props.imageTag()))
-                .logging(LogDriver.awsLogs(AwsLogDriverProps.builder()
-                        .logGroup(props.logGroup())
-                        .streamPrefix(props.logStreamPrefix())
-                        .build()))
-                .environment(props.environment())
+                .logging(mainLogDriver)
+                .environment(environment)
                 .secrets(ecsSecrets);
 
         if (props.entryPoint() != null && !props.entryPoint().isEmpty()) {
@@ -66,6 +83,8 @@ public class FargateBackgroundService extends Construct {
         }
 
         this.containerDefinition = taskDefinition.addContainer("MainContainer", containerOptions.build());
+        Tracing.attachCollector(taskDefinition, containerDefinition, props.tracing(),
+                props.logGroup(), props.logStreamPrefix());
 
         if (props.containerPort() != null) {
             containerDefinition.addPortMappings(PortMapping.builder()
@@ -87,9 +106,18 @@ public class FargateBackgroundService extends Construct {
             serviceBuilder.serviceName(props.serviceName());
         }
 
-        if (props.cloudMapNamespace() != null
+        boolean cloudMapEnabled = props.cloudMapNamespace() != null
                 && props.cloudMapServiceName() != null
-                && !props.cloudMapServiceName().isBlank()) {
+                && !props.cloudMapServiceName().isBlank();
+        // 컨테이너 포트가 있으면 SRV 등록 (task 단위 메트릭 수집 대상), 없으면 A 레코드만 등록
+        boolean srvRegistration = cloudMapEnabled && props.containerPort() != null;
+        if (srvRegistration) {
+            serviceBuilder.cloudMapOptions(CloudMapRegistration.srvOptions(
+                    props.cloudMapNamespace(),
+                    props.cloudMapServiceName(),
+                    containerDefinition,
+                    props.containerPort()));
+        } else if (cloudMapEnabled) {
             serviceBuilder.cloudMapOptions(CloudMapOptions.builder()
                     .cloudMapNamespace(props.cloudMapNamespace())
                     .name(props.cloudMapServiceName())
@@ -97,6 +125,81 @@ public class FargateBackgroundService extends Construct {
         }
 
         this.service = serviceBuilder.build();
+        if (srvRegistration) {
+            CloudMapRegistration.keepARecord(service);
+        }
+    }
+
+    /**
+     * MSK consumer lag 기반 task 수 자동 조정.
+     * - scale-out: lag이 기준 이상이면 +1, 기준의 2배 이상이면 +2
+     * - scale-in: 평가 구간 내내 lag이 기준 이하일 때만 -1 (긴 cooldown으로 rebalance 반복 방지)
+     */
+    public ScalableTaskCount addConsumerLagScaling(ConsumerLagScalingConfig config) {
+        ScalableTaskCount taskCount = service.autoScaleTaskCount(EnableScalingProps.builder()
+                .minCapacity(config.minCapacity())
+                .maxCapacity(config.maxCapacity())
+                .build());
+
+        Metric lagMetric = Metric.Builder.create()
+                .namespace("AWS/Kafka")
+                .metricName(config.metric().metricName())
+                .dimensionsMap(Map.of(
+                        "Cluster Name", config.clusterName(),
+                        "Consumer Group", config.consumerGroup(),
+                        "Topic", config.topic()
+                ))
+                // 분 단위로 한 번 발행되는 지표라 최대값 = 현재 lag
+                .statistic("Maximum")
+                .period(Duration.minutes(1))
+                .build();
+
+        // scale-out / scale-in은 cooldown과 평가 구간이 달라 정책을 나눈다.
+        taskCount.scaleOnMetric("LagScaleOut", BasicStepScalingPolicyProps.builder()
+                .metric(lagMetric)
+                .scalingSteps(List.of(
+                        ScalingInterval.builder()
+                                .lower(config.scaleOutThreshold())
+                                .upper(config.scaleOutThreshold() * 2)
+                                .change(1)
+                                .build(),
+                        ScalingInterval.builder()
+                                .lower(config.scaleOutThreshold() * 2)
+                                .change(2)
+                                .build()
+                ))
+                .adjustmentType(AdjustmentType.CHANGE_IN_CAPACITY)
+                .metricAggregationType(MetricAggregationType.MAXIMUM)
+                .cooldown(Duration.seconds(config.scaleOutCooldownSeconds()))
+                .evaluationPeriods(3)
+                .datapointsToAlarm(2)
+                .build());
+
+        taskCount.scaleOnMetric("LagScaleIn", BasicStepScalingPolicyProps.builder()
+                .metric(lagMetric)
+                .scalingSteps(List.of(
+                        ScalingInterval.builder()
+                                .upper(config.scaleInThreshold())
+                                .change(-1)
+                                .build(),
+                        ScalingInterval.builder()
+                                .lower(config.scaleInThreshold())
+                                .change(0)
+                                .build()
+                ))
+                .adjustmentType(AdjustmentType.CHANGE_IN_CAPACITY)
+                .metricAggregationType(MetricAggregationType.MAXIMUM)
+                .cooldown(Duration.seconds(config.scaleInCooldownSeconds()))
+                .evaluationPeriods(config.scaleInEvaluationMinutes())
+                .build());
+
+        // 지표가 끊긴 구간은 늘리지도 줄이지도 않는다.
+        taskCount.getNode().findAll().stream()
+                .filter(CfnAlarm.class::isInstance)
+                .map(CfnAlarm.class::cast)
+                .forEach(alarm -> alarm.setTreatMissingData("notBreaching"));
+
+        return taskCount;
     }
 
     public FargateTaskDefinition getTaskDefinition() {
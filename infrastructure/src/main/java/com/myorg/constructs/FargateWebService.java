@@ -78,20 +78,28 @@ public class FargateWebService extends Construct {
         Map<String, String> environment = new LinkedHashMap<>();
         environment.put(PORT, String.valueOf(props.containerPort()));
         environment.putAll(props.environment());
-
+        environment.putAll(Tracing.applicationEnvironment(props.tracing(), props.logStreamPrefix()));
+
+        //logging: FireLens(Fluent Bit -> Loki) 또는 CloudWatch Logs로 컨테이너 stdout/stderr 전송
+        LogDriver mainLogDriver = LogRouting.mainContainerLogDriver(
+                taskDefinition,
+                props.logRouting(),
+                props.logGroup(),
+                props.logStreamPrefix(),
+                props.logStreamPrefix()
+        );
         this.containerDefinition = taskDefinition.addContainer(CONTAINER_ID,
                 ContainerDefinitionOptions.builder()
                         //image: ECR 레포에서 imageTag를 가져와 container 실행
                         .image(ContainerImage.fromEcrRepository(props.repository(), props.imageTag()))
-                        //logging: CloudWatch Logs로 컨테이너 stdout/stderr 전송
-                        .logging(LogDrivers.awsLogs(AwsLogDriverProps.builder()
-                                .logGroup(props.logGroup())
-                                .streamPrefix(props.logStreamPrefix())
-                                .build()))
+                        .logging(mainLogDriver)
                         .environment(environment)
                         .build()
         );
 
+        Tracing.attachCollector(taskDefinition, containerDefinition, props.tracing(),
+                props.logGroup(), props.logStreamPrefix());
+
         /**
          * 3) Port Mapping
          */
@@ -0,0 +1,68 @@
+package com.myorg.constructs;
+
+import com.myorg.config.LogRoutingConfig;
+import software.amazon.awscdk.services.ecs.AwsLogDriverProps;
+import software.amazon.awscdk.services.ecs.ContainerImage;
+import software.amazon.awscdk.services.ecs.FireLensLogDriverProps;
+import software.amazon.awscdk.services.ecs.FirelensConfig;
+import software.amazon.awscdk.services.ecs.FirelensConfigFileType;
+import software.amazon.awscdk.services.ecs.FirelensLogRouterDefinitionOptions;
+import software.amazon.awscdk.services.ecs.FirelensLogRouterType;
+import software.amazon.awscdk.services.ecs.FirelensOptions;
+import software.amazon.awscdk.services.ecs.LogDriver;
+import software.amazon.awscdk.services.ecs.LogDrivers;
+import software.amazon.awscdk.services.ecs.TaskDefinition;
+import software.amazon.awscdk.services.logs.ILogGroup;
+
+/**
+ * 애플리케이션 컨테이너 로그 드라이버 선택.
+ * - FireLens 모드: Fluent Bit log router sidecar를 먼저 추가하고 loki output 드라이버 반환
+ * - 그 외(설정 없음 포함): 기존 awslogs 드라이버 (CloudWatch fallback)
+ *
+ * router를 먼저 추가해야 CDK가 기본 router를 따로 만들지 않는다.
+ */
+final class LogRouting {
+    private static final String LOG_ROUTER_ID = "LogRouter";
+
+    private LogRouting() {
+    }
+
+    static LogDriver mainContainerLogDriver(
+            TaskDefinition taskDefinition,
+            LogRoutingConfig config,
+            ILogGroup logGroup,
+            String logStreamPrefix,
+            String service
+    ) {
+        if (config == null || !config.firelensEnabled()) {
+            return awsLogs(logGroup, logStreamPrefix);
+        }
+
+        taskDefinition.addFirelensLogRouter(LOG_ROUTER_ID, FirelensLogRouterDefinitionOptions.builder()
+                .image(ContainerImage.fromRegistry(config.fluentBitImage()))
+                .essential(true)
+                .memoryReservationMiB(config.routerMemoryReservationMiB())
+                .firelensConfig(FirelensConfig.builder()
+                        .type(FirelensLogRouterType.FLUENTBIT)
+                        .options(FirelensOptions.builder()
+                                .enableEcsLogMetadata(true)
+                                .configFileType(FirelensConfigFileType.FILE)
+                                .configFileValue(LogRoutingConfig.PARSE_JSON_CONFIG_FILE)
+                                .build())
+                        .build())
+                // router 자체 로그는 CloudWatch에 남겨 Loki 전송 실패를 추적
+                .logging(awsLogs(logGroup, logStreamPrefix + "-log-router"))
+                .build());
+
+        return LogDrivers.firelens(FireLensLogDriverProps.builder()
+                .options(config.lokiOutputOptions(service))
+                .build());
+    }
+
+    private static LogDriver awsLogs(ILogGroup logGroup, String logStreamPrefix) {
+        return LogDrivers.awsLogs(AwsLogDriverProps.builder()
+                .logGroup(logGroup)
+                .streamPrefix(logStreamPrefix)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.myorg.constructs;
+
+import com.myorg.config.TracingConfig;
+import com.myorg.constants.MonitoringConstants;
+import software.amazon.awscdk.services.ecs.AwsLogDriverProps;
+import software.amazon.awscdk.services.ecs.ContainerDefinition;
+import software.amazon.awscdk.services.ecs.ContainerDefinitionOptions;
+import software.amazon.awscdk.services.ecs.ContainerDependency;
+import software.amazon.awscdk.services.ecs.ContainerDependencyCondition;
+import software.amazon.awscdk.services.ecs.ContainerImage;
+import software.amazon.awscdk.services.ecs.LogDrivers;
+import software.amazon.awscdk.services.ecs.TaskDefinition;
+import software.amazon.awscdk.services.logs.ILogGroup;
+
+import java.util.Map;
+
+/**
+ * ADOT collector sidecar 구성.
+ * - 설정이 없거나 비활성화면 아무 것도 추가하지 않는다.
+ * - collector는 non-essential: 추적이 실패해도 앱 task는 유지
+ */
+final class Tracing {
+    private static final String COLLECTOR_CONTAINER_ID = "OtelCollector";
+
+    private Tracing() {
+    }
+
+    static boolean enabled(TracingConfig config) {
+        return config != null && config.enabled();
+    }
+
+    static Map<String, String> applicationEnvironment(TracingConfig config, String serviceName) {
+        return enabled(config) ? config.applicationEnvironment(serviceName) : Map.of();
+    }
+
+    /**
+     * collector sidecar를 추가하고 main container가 collector 시작 후 뜨도록 의존성을 건다.
+     */
+    static void attachCollector(
+            TaskDefinition taskDefinition,
+            ContainerDefinition mainContainer,
+            TracingConfig config,
+            ILogGroup logGroup,
+            String logStreamPrefix
+    ) {
+        if (!enabled(config)) {
+            return;
+        }
+
+        ContainerDefinition collector = taskDefinition.addContainer(COLLECTOR_CONTAINER_ID,
+                ContainerDefinitionOptions.builder()
+                        .image(ContainerImage.fromRegistry(config.collectorImage()))
+                        .essential(false)
+                        .memoryReservationMiB(config.collectorMemoryReservationMiB())
+                        .environment(Map.of("AOT_CONFIG_CONTENT", config.collectorConfig()))
+                        .logging(LogDrivers.awsLogs(AwsLogDriverProps.builder()
+                                .logGroup(logGroup)
+                                .streamPrefix(logStreamPrefix + "-otel-collector")
+                                .build()))
+                        .build());
+
+        mainContainer.addContainerDependencies(ContainerDependency.builder()
+                .container(collector)
+                .condition(ContainerDependencyCondition.START)
+                .build());
+
+        if (config.exporter().xrayEnabled()) {
+            taskDefinition.getTaskRole().addManagedPolicy(MonitoringConstants.POLICY_AWS_XRAY_WRITE);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.myorg.props;
+
+import com.myorg.config.ErrorLogRedriveConfig;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ecr.IRepository;
+import software.amazon.awscdk.services.ecs.Cluster;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.logs.ILogGroup;
+import software.constructs.Construct;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * error-logs 재처리 1회성 task + 상태머신
+ */
+public record ErrorLogRedriveJobProps(
+        Construct scope,
+        String id,
+
+        Cluster cluster,
+        IRepository repository,
+        String imageTag,
+
+        SecurityGroup taskSg,
+        ILogGroup logGroup,
+        String logStreamPrefix,
+        SubnetSelection subnets,
+
+        Map<String, String> environment,
+        List<PolicyStatement> extraTaskPolicies,
+
+        ErrorLogRedriveConfig config
+) {
+}
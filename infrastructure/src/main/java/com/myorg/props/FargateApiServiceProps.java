@@ -1,5 +1,7 @@
 package com.myorg.props;
 
+import com.myorg.config.LogRoutingConfig;
+import com.myorg.config.TracingConfig;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ecr.Repository;
@@ -43,6 +45,37 @@ public record FargateApiServiceProps(
 
         List<String> secretsManagerArns, //Secrets Manager ARN
         List<PolicyStatement> extraExecutionPolicies, //ExecutionRole 권한
-        List<PolicyStatement> extraTaskPolicies //TaskRole 추가 권한
+        List<PolicyStatement> extraTaskPolicies, //TaskRole 추가 권한
+
+        LogRoutingConfig logRouting, //null이면 awslogs(CloudWatch)
+        TracingConfig tracing //null이면 ADOT collector 없음
 ) {
+    public FargateApiServiceProps(
+            Construct scope,
+            String id,
+            Cluster cluster,
+            Repository repository,
+            String imageTag,
+            SecurityGroup serviceSg,
+            int containerPort,
+            LogGroup logGroup,
+            String logStreamPrefix,
+            SubnetSelection subnets,
+            int desiredCount,
+            boolean enableEcsExec,
+            String springProfile,
+            String jdbcUrl,
+            Secret dbSecret,
+            Map<String, String> extraEnvironment,
+            INamespace cloudMapNamespace,
+            String cloudMapServiceName,
+            List<String> secretsManagerArns,
+            List<PolicyStatement> extraExecutionPolicies,
+            List<PolicyStatement> extraTaskPolicies
+    ) {
+        this(scope, id, cluster, repository, imageTag, serviceSg, containerPort, logGroup, logStreamPrefix,
+                subnets, desiredCount, enableEcsExec, springProfile, jdbcUrl, dbSecret, extraEnvironment,
+                cloudMapNamespace, cloudMapServiceName, secretsManagerArns, extraExecutionPolicies,
+                extraTaskPolicies, null, null);
+    }
 }
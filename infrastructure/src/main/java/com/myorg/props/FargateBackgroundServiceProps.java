@@ -1,5 +1,7 @@
 package com.myorg.props;
 
+import com.myorg.config.LogRoutingConfig;
+import com.myorg.config.TracingConfig;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ecr.IRepository;
@@ -47,6 +49,40 @@ public record FargateBackgroundServiceProps(
         String cloudMapServiceName,
 
         List<PolicyStatement> extraExecutionPolicies,
-        List<PolicyStatement> extraTaskPolicies
+        List<PolicyStatement> extraTaskPolicies,
+
+        LogRoutingConfig logRouting, //null이면 awslogs(CloudWatch)
+        TracingConfig tracing //null이면 ADOT collector 없음
 ) {
+    public FargateBackgroundServiceProps(
+            Construct scope,
+            String id,
+            Cluster cluster,
+            IRepository repository,
+            String imageTag,
+            SecurityGroup serviceSg,
+            ILogGroup logGroup,
+            String logStreamPrefix,
+            SubnetSelection subnets,
+            String serviceName,
+            int cpu,
+            int memoryLimitMiB,
+            int desiredCount,
+            boolean enableEcsExec,
+            Map<String, String> environment,
+            List<String> entryPoint,
+            List<String> command,
+            Integer containerPort,
+            ISecret runtimeSecret,
+            Map<String, String> secretJsonKeyByEnvName,
+            INamespace cloudMapNamespace,
+            String cloudMapServiceName,
+            List<PolicyStatement> extraExecutionPolicies,
+            List<PolicyStatement> extraTaskPolicies
+    ) {
+        this(scope, id, cluster, repository, imageTag, serviceSg, logGroup, logStreamPrefix, subnets, serviceName,
+                cpu, memoryLimitMiB, desiredCount, enableEcsExec, environment, entryPoint, command, containerPort,
+                runtimeSecret, secretJsonKeyByEnvName, cloudMapNamespace, cloudMapServiceName,
+                extraExecutionPolicies, extraTaskPolicies, null, null);
+    }
 }
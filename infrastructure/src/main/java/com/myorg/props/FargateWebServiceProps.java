@@ -1,5 +1,7 @@
 package com.myorg.props;
 
+import com.myorg.config.LogRoutingConfig;
+import com.myorg.config.TracingConfig;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ecr.Repository;
@@ -26,6 +28,26 @@ public record FargateWebServiceProps(
         SubnetSelection subnets,
         int desiredCount, //유지할 Task 개수
         boolean enableEcsExec,//AWS ECS exectute-command 사용 여부
-        Map<String, String> environment
+        Map<String, String> environment,
+        LogRoutingConfig logRouting, //null이면 awslogs(CloudWatch)
+        TracingConfig tracing //null이면 ADOT collector 없음
 ) {
+    public FargateWebServiceProps(
+            Construct scope,
+            String id,
+            Cluster cluster,
+            Repository repository,
+            String imageTag,
+            SecurityGroup serviceSg,
+            int containerPort,
+            LogGroup logGroup,
+            String logStreamPrefix,
+            SubnetSelection subnets,
+            int desiredCount,
+            boolean enableEcsExec,
+            Map<String, String> environment
+    ) {
+        this(scope, id, cluster, repository, imageTag, serviceSg, containerPort, logGroup, logStreamPrefix,
+                subnets, desiredCount, enableEcsExec, environment, null, null);
+    }
 }
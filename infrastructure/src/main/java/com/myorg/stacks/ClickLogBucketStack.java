@@ -1,19 +1,57 @@
 package com.myorg.stacks;
 
+import com.myorg.config.ClickEventSchema;
+import com.myorg.config.ClickLogCatalogConfig;
+import com.myorg.config.ClickLogCompactionConfig;
+import com.myorg.config.ClickLogSinkFormat;
+import com.myorg.workflow.compaction.ClickLogCompactionDefinitionBuilder;
 import software.amazon.awscdk.CfnOutput;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.RemovalPolicy;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.services.athena.CfnWorkGroup;
+import software.amazon.awscdk.services.cloudwatch.Alarm;
+import software.amazon.awscdk.services.cloudwatch.ComparisonOperator;
+import software.amazon.awscdk.services.cloudwatch.Metric;
+import software.amazon.awscdk.services.cloudwatch.MetricOptions;
+import software.amazon.awscdk.services.cloudwatch.TreatMissingData;
+import software.amazon.awscdk.services.events.Rule;
+import software.amazon.awscdk.services.events.Schedule;
+import software.amazon.awscdk.services.events.targets.SfnStateMachine;
+import software.amazon.awscdk.services.events.targets.SfnStateMachineProps;
+import software.amazon.awscdk.services.glue.CfnDatabase;
+import software.amazon.awscdk.services.glue.CfnTable;
 import software.amazon.awscdk.services.s3.BlockPublicAccess;
 import software.amazon.awscdk.services.s3.Bucket;
 import software.amazon.awscdk.services.s3.BucketEncryption;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.stepfunctions.Chain;
+import software.amazon.awscdk.services.stepfunctions.DefinitionBody;
+import software.amazon.awscdk.services.stepfunctions.StateMachine;
+import software.amazon.awscdk.services.stepfunctions.StateMachineProps;
 import software.constructs.Construct;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 클릭 로그 원본 보관용 S3 스택.
+ * - raw 로그 Glue 테이블 (dt/hour partition projection)
+ * - Athena 워크그룹 (쿼리 결과 위치 / 스캔 상한)
+ * - 시간 파티션 compaction 워크플로우 (compacted/ Parquet, raw 소형 파일 만료)
  */
 public class ClickLogBucketStack extends Stack {
+    private static final String ATHENA_RESULTS_PREFIX = "athena-results/";
+    private static final String PARQUET_INPUT_FORMAT = "org.apache.hadoop.hive.ql.io.parquet.MapredParquetInputFormat";
+    private static final String PARQUET_OUTPUT_FORMAT = "org.apache.hadoop.hive.ql.io.parquet.MapredParquetOutputFormat";
+    private static final String PARQUET_SERDE = "org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe";
+
     private final Bucket bucket;
+    private final CfnTable rawTable;
+    private final CfnWorkGroup workGroup;
+    private StateMachine compactionStateMachine;
 
     /**
      * raw click log 버킷 구성.
@@ -23,9 +61,36 @@ public class ClickLogBucketStack extends Stack {
             String id,
             StackProps props,
             String bucketName
+    ) {
+        this(scope, id, props, bucketName, ClickLogCatalogConfig.fromEnv(), ClickLogCompactionConfig.fromEnv());
+    }
+
+    public ClickLogBucketStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            String bucketName,
+            ClickLogCatalogConfig catalogConfig,
+            ClickLogCompactionConfig compactionConfig
     ) {
         super(scope, id, props);
 
+        List<LifecycleRule> lifecycleRules = new ArrayList<>();
+        // Athena 쿼리 결과는 일회성
+        lifecycleRules.add(LifecycleRule.builder()
+                .id("ExpireAthenaResults")
+                .prefix(ATHENA_RESULTS_PREFIX)
+                .expiration(Duration.days(7))
+                .build());
+        if (compactionConfig.enabled() && compactionConfig.rawExpirationEnabled()) {
+            // compaction 이후 raw 소형 파일은 재처리 여유 기간만 보관 (명시적으로 켠 경우만)
+            lifecycleRules.add(LifecycleRule.builder()
+                    .id("ExpireCompactedRawLogs")
+                    .prefix(catalogConfig.format().rawTopicsDir() + "/")
+                    .expiration(Duration.days(compactionConfig.rawExpirationDays()))
+                    .build());
+        }
+
         // raw click log 버킷
         this.bucket = Bucket.Builder.create(this, "ClickLogRawBucket")
                 .bucketName(bucketName)
@@ -34,6 +99,45 @@ public class ClickLogBucketStack extends Stack {
                 .enforceSsl(true)
                 .versioned(false)
                 .removalPolicy(RemovalPolicy.RETAIN)
+                .lifecycleRules(lifecycleRules)
+                .build();
+
+        // raw 로그 Glue database
+        CfnDatabase database = CfnDatabase.Builder.create(this, "ClickLogDatabase")
+                .catalogId(getAccount())
+                .databaseInput(CfnDatabase.DatabaseInputProperty.builder()
+                        .name(catalogConfig.databaseName())
+                        .description("Raw click log catalog")
+                        .build())
+                .build();
+
+        // raw 로그 테이블 (crawler 없이 partition projection으로 dt/hour 파티션 해석)
+        this.rawTable = createRawTable(database, catalogConfig);
+        if (catalogConfig.format() != ClickLogSinkFormat.JSON) {
+            // JSON으로 쌓인 기존 raw 데이터는 원래 테이블/prefix로 계속 조회한다.
+            createRawTable(database, catalogConfig.withFormat(ClickLogSinkFormat.JSON));
+        }
+
+        // 분석용 Athena 워크그룹
+        this.workGroup = CfnWorkGroup.Builder.create(this, "ClickLogWorkGroup")
+                .name(catalogConfig.workgroupName())
+                .description("Raw click log ad-hoc queries")
+                .recursiveDeleteOption(true)
+                .workGroupConfiguration(CfnWorkGroup.WorkGroupConfigurationProperty.builder()
+                        // 클라이언트 설정으로 스캔 상한을 우회하지 못하게 강제
+                        .enforceWorkGroupConfiguration(true)
+                        .bytesScannedCutoffPerQuery(catalogConfig.bytesScannedCutoffPerQuery())
+                        .publishCloudWatchMetricsEnabled(true)
+                        .engineVersion(CfnWorkGroup.EngineVersionProperty.builder()
+                                .selectedEngineVersion("Athena engine version 3")
+                                .build())
+                        .resultConfiguration(CfnWorkGroup.ResultConfigurationProperty.builder()
+                                .outputLocation("s3://" + bucket.getBucketName() + "/" + ATHENA_RESULTS_PREFIX)
+                                .encryptionConfiguration(CfnWorkGroup.EncryptionConfigurationProperty.builder()
+                                        .encryptionOption("SSE_S3")
+                                        .build())
+                                .build())
+                        .build())
                 .build();
 
         // 버킷 이름 출력
@@ -41,9 +145,189 @@ public class ClickLogBucketStack extends Stack {
                 .value(bucket.getBucketName())
                 .description("Raw click log S3 bucket name")
                 .build();
+
+        if (compactionConfig.enabled()) {
+            createCompaction(database, catalogConfig, compactionConfig);
+        }
+
+        CfnOutput.Builder.create(this, "ClickLogRawTableName")
+                .value(catalogConfig.databaseName() + "." + catalogConfig.rawTableName())
+                .description("Raw click log Glue table")
+                .build();
+
+        CfnOutput.Builder.create(this, "ClickLogAthenaWorkGroupName")
+                .value(workGroup.getRef())
+                .description("Raw click log Athena workgroup")
+                .build();
+    }
+
+    /**
+     * compacted 테이블 + 시간별 compaction 상태머신.
+     */
+    private void createCompaction(
+            CfnDatabase database,
+            ClickLogCatalogConfig catalogConfig,
+            ClickLogCompactionConfig compactionConfig
+    ) {
+        String compactedLocation = "s3://" + bucket.getBucketName() + "/"
+                + ClickLogCompactionConfig.COMPACTED_DIR + "/" + catalogConfig.topicName() + "/";
+
+        // Athena INSERT INTO가 파티션을 직접 등록하므로 projection 없이 명시적 파티션을 쓴다.
+        CfnTable compactedTable = CfnTable.Builder.create(this, "ClickLogCompactedTable")
+                .catalogId(getAccount())
+                .databaseName(catalogConfig.databaseName())
+                .tableInput(CfnTable.TableInputProperty.builder()
+                        .name(compactionConfig.compactedTableName())
+                        .tableType("EXTERNAL_TABLE")
+                        .parameters(Map.of(
+                                "classification", "parquet",
+                                "parquet.compression", compactionConfig.parquetCodec().toUpperCase()
+                        ))
+                        .partitionKeys(hourlyPartitionKeys())
+                        .storageDescriptor(CfnTable.StorageDescriptorProperty.builder()
+                                .location(compactedLocation)
+                                .columns(clickEventColumns(catalogConfig.eventSchema()))
+                                .inputFormat(PARQUET_INPUT_FORMAT)
+                                .outputFormat(PARQUET_OUTPUT_FORMAT)
+                                .serdeInfo(CfnTable.SerdeInfoProperty.builder()
+                                        .serializationLibrary(PARQUET_SERDE)
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        compactedTable.addDependency(database);
+
+        Chain definition = new ClickLogCompactionDefinitionBuilder().build(
+                this,
+                catalogConfig,
+                compactionConfig,
+                workGroup.getRef()
+        );
+
+        this.compactionStateMachine = new StateMachine(this, "ClickLogCompactionStateMachine", StateMachineProps.builder()
+                .definitionBody(DefinitionBody.fromChainable(definition))
+                .timeout(Duration.hours(1))
+                .build());
+
+        // 닫힌 시간 파티션 하나씩 처리
+        Rule scheduleRule = Rule.Builder.create(this, "ClickLogCompactionScheduleRule")
+                .schedule(Schedule.expression(compactionConfig.scheduleExpression()))
+                .build();
+        scheduleRule.addTarget(new SfnStateMachine(
+                compactionStateMachine,
+                SfnStateMachineProps.builder().build()
+        ));
+
+        // 실패/타임아웃된 시간은 catch-up 범위 안에서 재시도되지만, 반복되면 raw 만료 전에 확인해야 한다.
+        createCompactionFailureAlarm("ClickLogCompactionFailedAlarm", "실패",
+                compactionStateMachine.metricFailed(compactionMetricOptions()));
+        createCompactionFailureAlarm("ClickLogCompactionTimedOutAlarm", "타임아웃",
+                compactionStateMachine.metricTimedOut(compactionMetricOptions()));
+
+        CfnOutput.Builder.create(this, "ClickLogCompactionStateMachineArn")
+                .value(compactionStateMachine.getStateMachineArn())
+                .description("Click log compaction StateMachine ARN")
+                .build();
+    }
+
+    private void createCompactionFailureAlarm(String id, String reason, Metric metric) {
+        Alarm.Builder.create(this, id)
+                .alarmDescription("클릭 로그 compaction 상태머신 실행이 " + reason + "했습니다.")
+                .metric(metric)
+                .threshold(1)
+                .evaluationPeriods(1)
+                .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                .treatMissingData(TreatMissingData.NOT_BREACHING)
+                .build();
+    }
+
+    private static MetricOptions compactionMetricOptions() {
+        return MetricOptions.builder()
+                .statistic("Sum")
+                .period(Duration.hours(1))
+                .build();
+    }
+
+    private static List<CfnTable.ColumnProperty> clickEventColumns(ClickEventSchema eventSchema) {
+        return eventSchema.fields().stream()
+                .map(field -> (CfnTable.ColumnProperty) CfnTable.ColumnProperty.builder()
+                        .name(field.name().toLowerCase())
+                        .type(field.type().glueType())
+                        .build())
+                .toList();
+    }
+
+    private static List<CfnTable.ColumnProperty> hourlyPartitionKeys() {
+        return List.of(
+                CfnTable.ColumnProperty.builder().name("dt").type("string").build(),
+                CfnTable.ColumnProperty.builder().name("hour").type("string").build()
+        );
+    }
+
+    /**
+     * sink 포맷별 raw 테이블 (JSON 테이블은 기존 construct ID를 유지해 포맷 전환 시 교체되지 않는다)
+     */
+    private CfnTable createRawTable(CfnDatabase database, ClickLogCatalogConfig catalogConfig) {
+        String tableId = catalogConfig.format() == ClickLogSinkFormat.JSON ? "ClickLogRawTable" : "ClickLogRawParquetTable";
+        CfnTable table = CfnTable.Builder.create(this, tableId)
+                .catalogId(getAccount())
+                .databaseName(catalogConfig.databaseName())
+                .tableInput(CfnTable.TableInputProperty.builder()
+                        .name(catalogConfig.rawTableName())
+                        .tableType("EXTERNAL_TABLE")
+                        .parameters(catalogConfig.projectionParameters(bucket.getBucketName()))
+                        .partitionKeys(hourlyPartitionKeys())
+                        .storageDescriptor(buildStorageDescriptor(catalogConfig, bucket.getBucketName()))
+                        .build())
+                .build();
+        table.addDependency(database);
+        return table;
+    }
+
+    /**
+     * sink 포맷별 SerDe / 컬럼 (컬럼은 클릭 이벤트 스키마를 따른다)
+     */
+    private static CfnTable.StorageDescriptorProperty buildStorageDescriptor(
+            ClickLogCatalogConfig catalogConfig,
+            String bucketName
+    ) {
+        CfnTable.StorageDescriptorProperty.Builder builder = CfnTable.StorageDescriptorProperty.builder()
+                .location(catalogConfig.tableLocation(bucketName))
+                .columns(clickEventColumns(catalogConfig.eventSchema()));
+
+        if (catalogConfig.format() == ClickLogSinkFormat.PARQUET) {
+            return builder
+                    .inputFormat(PARQUET_INPUT_FORMAT)
+                    .outputFormat(PARQUET_OUTPUT_FORMAT)
+                    .serdeInfo(CfnTable.SerdeInfoProperty.builder()
+                            .serializationLibrary(PARQUET_SERDE)
+                            .build())
+                    .build();
+        }
+        return builder
+                .inputFormat("org.apache.hadoop.mapred.TextInputFormat")
+                .outputFormat("org.apache.hadoop.hive.ql.io.HiveIgnoreKeyTextOutputFormat")
+                .serdeInfo(CfnTable.SerdeInfoProperty.builder()
+                        .serializationLibrary("org.openx.data.jsonserde.JsonSerDe")
+                        // 필드 누락/형식 오류 레코드가 쿼리 전체를 실패시키지 않도록
+                        .parameters(Map.of("ignore.malformed.json", "true"))
+                        .build())
+                .build();
     }
 
     public Bucket getBucket() {
         return bucket;
     }
+
+    public CfnTable getRawTable() {
+        return rawTable;
+    }
+
+    public CfnWorkGroup getWorkGroup() {
+        return workGroup;
+    }
+
+    public StateMachine getCompactionStateMachine() {
+        return compactionStateMachine;
+    }
 }
@@ -1,14 +1,28 @@
 package com.myorg.stacks;
 
 import com.myorg.config.AppConfig;
+import com.myorg.config.ClickLogProducerProfile;
+import com.myorg.config.ConsumerLagScalingConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.ErrorLogRedriveConfig;
+import com.myorg.config.KafkaTopicRegistry;
+import com.myorg.config.KafkaTopicSpec;
+import com.myorg.config.LogRoutingConfig;
+import com.myorg.config.LogServerConsumerProfile;
+import com.myorg.config.MskBrokerConfig;
 import com.myorg.config.RepositoryConfig;
+import com.myorg.config.TracingConfig;
+import com.myorg.config.monitoring.TempoConfig;
 import com.myorg.constructs.FargateApiService;
+import com.myorg.constructs.ErrorLogRedriveJob;
 import com.myorg.constructs.FargateBackgroundService;
 import com.myorg.constructs.FargateWebService;
+import com.myorg.props.ErrorLogRedriveJobProps;
 import com.myorg.props.FargateApiServiceProps;
 import com.myorg.props.FargateBackgroundServiceProps;
 import com.myorg.props.FargateWebServiceProps;
+import software.amazon.awscdk.CfnOutput;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.RemovalPolicy;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
@@ -23,9 +37,10 @@ import software.amazon.awscdk.services.iam.PolicyStatement;
 import software.amazon.awscdk.services.logs.ILogGroup;
 import software.amazon.awscdk.services.logs.LogGroup;
 import software.amazon.awscdk.services.logs.RetentionDays;
-import software.amazon.awscdk.services.rds.DatabaseInstance;
 import software.amazon.awscdk.services.secretsmanager.ISecret;
 import software.amazon.awscdk.services.secretsmanager.Secret;
+import software.amazon.awscdk.services.servicediscovery.DnsRecordType;
+import software.amazon.awscdk.services.servicediscovery.DnsServiceProps;
 import software.amazon.awscdk.services.servicediscovery.PrivateDnsNamespace;
 import software.constructs.Construct;
 
@@ -48,6 +63,7 @@ public class EcsClusterStack extends Stack {
     private final FargateBackgroundService intelligenceServerService;
     private final FargateBackgroundService logServerService;
     private final FargateWebService adminWebService;
+    private ErrorLogRedriveJob errorLogRedriveJob;
 
     /**
      * ID 상수
@@ -73,7 +89,8 @@ public class EcsClusterStack extends Stack {
     private static final String INTELLIGENCE_SERVER_LOG_STREAM_PREFIX = "intelligence-server";
     private static final String LOG_SERVER_ID = "LogServer";
     private static final String LOG_SERVER_LOG_STREAM_PREFIX = "log-server";
-    private static final String ERROR_LOG_TOPIC = "error-logs";
+    private static final String ERROR_LOG_REDRIVE_ID = "ErrorLogRedrive";
+    private static final String ERROR_LOG_REDRIVE_LOG_STREAM_PREFIX = "error-log-redrive";
 
     /**
      * 서비스 상수
@@ -82,6 +99,7 @@ public class EcsClusterStack extends Stack {
     private static final String SPRING_PROFILES_ADMIN = "admin,prod";
     private static final String SPRING_PROFILES_CUSTOMER = "customer,prod";
     private static final String DOMAIN_NAME_SPACE = "ServiceNs";
+    private static final String MONITORING_CLOUD_MAP_SERVICE_ID = "MonitoringHostService";
     private static final String ADMIN_CLOUD_MAP_NAME = "admin-api";
     private static final String CUSTOMER_CLOUD_MAP_NAME = "customer-api";
 
@@ -112,8 +130,11 @@ public class EcsClusterStack extends Stack {
             Repository apiServerRepo,
             Repository logServerRepo,
 
-            // RdsStack에서 내려오는 것
-            DatabaseInstance rds,
+            // RdsStack에서 내려오는 것 (Proxy 사용 시 Proxy endpoint)
+            String dbEndpointAddress,
+            String dbEndpointPort,
+            String dbConnectArn,
+            List<String> dbReadEndpointAddresses,
             Secret dbSecret,
 
             // MskStack에서 내려오는 것
@@ -130,6 +151,47 @@ public class EcsClusterStack extends Stack {
             String customerApiImageTag,
             String intelligenceServerImageTag,
             String logServerImageTag
+    ) {
+        this(scope, id, props, vpc, adminWebSg, adminApiSg, customerApiSg, recommendationRealtimeSg, analysisServerSg,
+                logServerSg, adminWebRepo, apiServerRepo, logServerRepo, dbEndpointAddress, dbEndpointPort,
+                dbConnectArn, dbReadEndpointAddresses, dbSecret, mskClusterName, mskClusterArn,
+                mskBootstrapBrokersSaslIam, adminWebPort, adminApiPort, customerApiPort, adminWebImageTag,
+                adminApiImageTag, customerApiImageTag, intelligenceServerImageTag, logServerImageTag, null);
+    }
+
+    public EcsClusterStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            Vpc vpc,
+            SecurityGroup adminWebSg,
+            SecurityGroup adminApiSg,
+            SecurityGroup customerApiSg,
+            SecurityGroup recommendationRealtimeSg,
+            SecurityGroup analysisServerSg,
+            SecurityGroup logServerSg,
+            Repository adminWebRepo,
+            Repository apiServerRepo,
+            Repository logServerRepo,
+            String dbEndpointAddress,
+            String dbEndpointPort,
+            String dbConnectArn,
+            List<String> dbReadEndpointAddresses,
+            Secret dbSecret,
+            String mskClusterName,
+            String mskClusterArn,
+            String mskBootstrapBrokersSaslIam,
+            int adminWebPort,
+            int adminApiPort,
+            int customerApiPort,
+            String adminWebImageTag,
+            String adminApiImageTag,
+            String customerApiImageTag,
+            String intelligenceServerImageTag,
+            String logServerImageTag,
+
+            // 스택 밖에서 이미 만든 모니터링 호스트 Cloud Map 서비스 ID (없으면 null)
+            String existingMonitoringCloudMapServiceId
     ) {
         super(scope, id, props);
 
@@ -145,6 +207,20 @@ public class EcsClusterStack extends Stack {
                 .name(AppConfig.getInternalDomainName())
                 .build();
 
+        LogRoutingConfig logRoutingConfig = LogRoutingConfig.fromEnv();
+        TracingConfig tracingConfig = TracingConfig.fromEnv();
+
+        // 모니터링 호스트(EC2)가 부팅 시 자기 IP를 등록하는 Cloud Map 서비스 (FireLens -> Loki, ADOT -> Tempo 주소)
+        // 두 경로 모두 꺼져 있거나 스택 밖에서 만든 서비스가 있으면 만들지 않는다 (이름 충돌 방지).
+        boolean monitoringHostAddressRequired = logRoutingConfig.firelensEnabled() || TempoConfig.fromEnv().enabled();
+        if (monitoringHostAddressRequired && !hasText(existingMonitoringCloudMapServiceId)) {
+            serviceNs.createService(MONITORING_CLOUD_MAP_SERVICE_ID, DnsServiceProps.builder()
+                    .name(AppConfig.getValueOrDefault(EnvKey.MONITORING_GRAFANA_SERVICE_NAME))
+                    .dnsRecordType(DnsRecordType.A)
+                    .dnsTtl(Duration.seconds(60))
+                    .build());
+        }
+
         /**
          * 2) CloudWatch LogGroup
          */
@@ -180,10 +256,34 @@ public class EcsClusterStack extends Stack {
          */
         String dbUrl = String.format(
                 "jdbc:postgresql://%s:%s/%s",
-                rds.getDbInstanceEndpointAddress(),
-                rds.getDbInstanceEndpointPort(),
+                dbEndpointAddress,
+                dbEndpointPort,
                 DATABASE_NAME
         );
+        // read replica가 있으면 replica host 목록으로 읽기 전용 URL을 구성한다.
+        String dbReadHosts = buildHostList(dbReadEndpointAddresses, dbEndpointPort);
+        String dbReadUrl = hasText(dbReadHosts)
+                ? String.format(
+                        "jdbc:postgresql://%s/%s?targetServerType=preferSecondary&loadBalanceHosts=true",
+                        dbReadHosts,
+                        DATABASE_NAME
+                )
+                : "";
+        String dbReadDsn = hasText(dbReadHosts)
+                ? String.format(
+                        "postgresql://%s/%s?target_session_attrs=prefer-standby&load_balance_hosts=random",
+                        dbReadHosts,
+                        DATABASE_NAME
+                )
+                : "";
+        // RDS Proxy IAM 인증 사용 시 task role에 rds-db:connect를 부여한다.
+        boolean dbIamAuth = hasText(dbConnectArn);
+        List<PolicyStatement> dbConnectPolicies = dbIamAuth
+                ? List.of(PolicyStatement.Builder.create()
+                        .actions(List.of("rds-db:connect"))
+                        .resources(List.of(dbConnectArn))
+                        .build())
+                : List.of();
         List<String> adminApiSecretsManagerArns = resolveArns(
                 "ADMIN_API_RUNTIME_SECRET_ARN",
                 "ADMIN_API_SECRETS_MANAGER_ARNS"
@@ -243,8 +343,16 @@ public class EcsClusterStack extends Stack {
         /**
          * 8) Props Setup
          */
-        Map<String, String> adminApiEnvironment = buildAdminApiEnvironment(mskBootstrapBrokersSaslIam);
-        Map<String, String> customerApiEnvironment = buildCustomerApiEnvironment(adminApiPort, mskBootstrapBrokersSaslIam);
+        Map<String, String> adminApiEnvironment = buildAdminApiEnvironment(
+                mskBootstrapBrokersSaslIam,
+                dbIamAuth,
+                dbReadUrl
+        );
+        Map<String, String> customerApiEnvironment = buildCustomerApiEnvironment(
+                adminApiPort,
+                mskBootstrapBrokersSaslIam,
+                dbIamAuth
+        );
 
         FargateWebServiceProps adminWebServiceProps = new FargateWebServiceProps(
                 this,
@@ -259,7 +367,9 @@ public class EcsClusterStack extends Stack {
                 privateSubnets,
                 DESIRED_COUNT,
                 false,
-                buildAdminWebEnvironment(adminApiPort)
+                buildAdminWebEnvironment(adminApiPort),
+                logRoutingConfig,
+                tracingConfig
         );
         FargateApiServiceProps adminApiServiceProps = new FargateApiServiceProps(
                 this,
@@ -282,7 +392,9 @@ public class EcsClusterStack extends Stack {
                 ADMIN_CLOUD_MAP_NAME,
                 adminApiSecretsManagerArns,
                 List.of(),
-                mergePolicies(adminApiExtraTaskPolicies, mskTaskPolicies)
+                mergePolicies(mergePolicies(adminApiExtraTaskPolicies, mskTaskPolicies), dbConnectPolicies),
+                logRoutingConfig,
+                tracingConfig
         );
 
         FargateApiServiceProps customerApiServiceProps = new FargateApiServiceProps(
@@ -306,7 +418,9 @@ public class EcsClusterStack extends Stack {
                 CUSTOMER_CLOUD_MAP_NAME,
                 customerApiSecretsManagerArns,
                 List.of(),
-                mergePolicies(customerApiExtraTaskPolicies, mskTaskPolicies)
+                mergePolicies(mergePolicies(customerApiExtraTaskPolicies, mskTaskPolicies), dbConnectPolicies),
+                logRoutingConfig,
+                tracingConfig
         );
 
         int intelligenceServerPort = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_PORT));
@@ -318,10 +432,12 @@ public class EcsClusterStack extends Stack {
         Map<String, String> intelligenceServerEnvironment = buildIntelligenceServerEnvironment(
                 intelligenceServerPort,
                 adminApiPort,
-                mskBootstrapBrokersSaslIam
+                mskBootstrapBrokersSaslIam,
+                dbReadDsn
         );
         Map<String, String> logServerEnvironment = buildLogServerEnvironment(
                 dbUrl,
+                dbIamAuth,
                 logServerPort,
                 mskBootstrapBrokersSaslIam
         );
@@ -350,7 +466,9 @@ public class EcsClusterStack extends Stack {
                 serviceNs,
                 AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_CLOUD_MAP_NAME),
                 List.of(),
-                mskTaskPolicies
+                mskTaskPolicies,
+                logRoutingConfig,
+                tracingConfig
         );
 
         FargateBackgroundServiceProps logServerServiceProps = new FargateBackgroundServiceProps(
@@ -377,10 +495,12 @@ public class EcsClusterStack extends Stack {
                         "DB_USERNAME", "username",
                         "DB_PASSWORD", "password"
                 ),
-                null,
-                null,
+                serviceNs,
+                AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_SERVICE_NAME),
                 List.of(),
-                mskTaskPolicies
+                mergePolicies(mskTaskPolicies, dbConnectPolicies),
+                logRoutingConfig,
+                tracingConfig
         );
 
         /**
@@ -405,6 +525,60 @@ public class EcsClusterStack extends Stack {
          */
         this.intelligenceServerService = new FargateBackgroundService(intelligenceServerServiceProps);
         this.logServerService = new FargateBackgroundService(logServerServiceProps);
+
+        /**
+         * 13) consumer lag 기반 task 수 자동 조정 (선택)
+         * intelligence-server는 on-demand workflow도 desired count를 바꾸므로 기본 비활성화.
+         */
+        if (kafkaEnabled) {
+            addConsumerLagScaling(mskClusterName);
+        }
+
+        /**
+         * 14) error-logs 재처리 (수동 실행 상태머신 + log-server 이미지 1회성 task)
+         */
+        ErrorLogRedriveConfig errorLogRedriveConfig = ErrorLogRedriveConfig.fromEnv();
+        if (kafkaEnabled && errorLogRedriveConfig.enabled()) {
+            this.errorLogRedriveJob = new ErrorLogRedriveJob(new ErrorLogRedriveJobProps(
+                    this,
+                    ERROR_LOG_REDRIVE_ID,
+                    cluster,
+                    logServerRepo,
+                    logServerImageTag,
+                    logServerSg,
+                    ecsLogGroup,
+                    ERROR_LOG_REDRIVE_LOG_STREAM_PREFIX,
+                    privateSubnets,
+                    buildErrorLogRedriveEnvironment(mskBootstrapBrokersSaslIam),
+                    mskTaskPolicies,
+                    errorLogRedriveConfig
+            ));
+            CfnOutput.Builder.create(this, "ErrorLogRedriveStateMachineArn")
+                    .value(errorLogRedriveJob.getStateMachine().getStateMachineArn())
+                    .description("error-logs redrive StateMachine ARN")
+                    .build();
+        }
+    }
+
+    private void addConsumerLagScaling(String mskClusterName) {
+        boolean logServerLagScaling =
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_LAG_SCALING_ENABLED));
+        boolean intelligenceServerLagScaling =
+                Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_LAG_SCALING_ENABLED));
+        if (!logServerLagScaling && !intelligenceServerLagScaling) {
+            return;
+        }
+
+        List<KafkaTopicSpec> topicSpecs =
+                KafkaTopicRegistry.fromEnv(MskBrokerConfig.fromEnv().defaultReplicationFactor());
+        if (logServerLagScaling) {
+            logServerService.addConsumerLagScaling(ConsumerLagScalingConfig.forLogServer(mskClusterName, topicSpecs));
+        }
+        if (intelligenceServerLagScaling) {
+            intelligenceServerService.addConsumerLagScaling(
+                    ConsumerLagScalingConfig.forIntelligenceServer(mskClusterName, topicSpecs)
+            );
+        }
     }
 
     public Cluster getCluster() {
@@ -459,6 +633,10 @@ public class EcsClusterStack extends Stack {
         return logServerService;
     }
 
+    public ErrorLogRedriveJob getErrorLogRedriveJob() {
+        return errorLogRedriveJob;
+    }
+
     /**
      * admin-web 서버 런타임이 내부 admin-api를 프록시 호출할 수 있도록 환경값을 주입한다.
      */
@@ -474,12 +652,22 @@ public class EcsClusterStack extends Stack {
     /**
      * admin-api Kafka 연동 환경값 구성.
      */
-    private Map<String, String> buildAdminApiEnvironment(String mskBootstrapBrokersSaslIam) {
+    private Map<String, String> buildAdminApiEnvironment(
+            String mskBootstrapBrokersSaslIam,
+            boolean dbIamAuth,
+            String dbReadUrl
+    ) {
         Map<String, String> env = new HashMap<>();
         // DB 풀 상한
-        env.put("DB_POOL_MAX", "10");
+        env.put("DB_POOL_MAX", AppConfig.getValueOrDefault(EnvKey.ADMIN_API_DB_POOL_MAX));
         // DB 풀 하한
         env.put("DB_POOL_MIN", "1");
+        // RDS Proxy IAM 인증 여부
+        env.put("DB_IAM_AUTH", String.valueOf(dbIamAuth));
+        if (hasText(dbReadUrl)) {
+            // 대시보드 조회용 읽기 전용 URL
+            env.put("SPRING_DATASOURCE_READ_URL", dbReadUrl);
+        }
         if (hasText(mskBootstrapBrokersSaslIam)) {
             // Kafka 시크릿 이름
             env.put("KAFKA_SECRET_NAME", AppConfig.getValueOrDefault(EnvKey.API_SERVER_KAFKA_SECRET_NAME));
@@ -508,12 +696,18 @@ public class EcsClusterStack extends Stack {
     /**
      * customer-api producer 환경값 구성.
      */
-    private Map<String, String> buildCustomerApiEnvironment(int adminApiPort, String mskBootstrapBrokersSaslIam) {
+    private Map<String, String> buildCustomerApiEnvironment(
+            int adminApiPort,
+            String mskBootstrapBrokersSaslIam,
+            boolean dbIamAuth
+    ) {
         Map<String, String> env = new HashMap<>();
         // DB 풀 상한
-        env.put("DB_POOL_MAX", "10");
+        env.put("DB_POOL_MAX", AppConfig.getValueOrDefault(EnvKey.CUSTOMER_API_DB_POOL_MAX));
         // DB 풀 하한
         env.put("DB_POOL_MIN", "1");
+        // RDS Proxy IAM 인증 여부
+        env.put("DB_IAM_AUTH", String.valueOf(dbIamAuth));
         if (hasText(mskBootstrapBrokersSaslIam)) {
             // Kafka 시크릿 이름
             env.put("KAFKA_SECRET_NAME", AppConfig.getValueOrDefault(EnvKey.API_SERVER_KAFKA_SECRET_NAME));
@@ -529,6 +723,8 @@ public class EcsClusterStack extends Stack {
             env.put("KAFKA_SASL_CALLBACK_HANDLER_CLASS", "software.amazon.msk.auth.iam.IAMClientCallbackHandler");
             // 클릭 로그 토픽 이름
             env.put("KAFKA_CLICK_LOG_TOPIC", AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC));
+            // 클릭 로그 producer 배치/압축 설정
+            env.putAll(ClickLogProducerProfile.fromEnv().toEnvironment());
         }
         // customer-api도 recommendation 호출을 intelligence-server 단일 런타임으로 보낸다.
         env.put(
@@ -550,7 +746,8 @@ public class EcsClusterStack extends Stack {
     private Map<String, String> buildIntelligenceServerEnvironment(
             int intelligenceServerPort,
             int adminApiPort,
-            String mskBootstrapBrokersSaslIam
+            String mskBootstrapBrokersSaslIam,
+            String dbReadDsn
     ) {
         Map<String, String> env = new HashMap<>();
         env.put("APP_MODE", "server");
@@ -632,6 +829,10 @@ public class EcsClusterStack extends Stack {
                 "POSTGRES_POOL_MAX_SIZE",
                 AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_POSTGRES_POOL_MAX_SIZE)
         );
+        if (hasText(dbReadDsn)) {
+            // 조회 전용 DSN (계정 정보는 runtime secret 값을 사용)
+            env.put("POSTGRES_READ_DSN", dbReadDsn);
+        }
         env.put(
                 "OPENAI_CHAT_MODEL",
                 AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_OPENAI_CHAT_MODEL)
@@ -795,6 +996,7 @@ public class EcsClusterStack extends Stack {
      */
     private Map<String, String> buildLogServerEnvironment(
             String dbUrl,
+            boolean dbIamAuth,
             int logServerPort,
             String mskBootstrapBrokersSaslIam
     ) {
@@ -805,8 +1007,14 @@ public class EcsClusterStack extends Stack {
         env.put("SPRING_PROFILES_ACTIVE", "prod");
         // 서버 포트
         env.put("SERVER_PORT", String.valueOf(logServerPort));
+        // p50/p95/p99 recording rule용 histogram bucket 노출
+        env.put("MANAGEMENT_METRICS_DISTRIBUTION_PERCENTILESHISTOGRAM_HTTP_SERVER_REQUESTS", "true");
         // DB URL 값
         env.put("DB_URL", dbUrl);
+        // RDS Proxy IAM 인증 여부
+        env.put("DB_IAM_AUTH", String.valueOf(dbIamAuth));
+        // DB 풀 상한 (커넥션 예산 계산과 같은 값)
+        env.put("SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE", AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_DB_POOL_MAX));
         // DDL 정책
         env.put("JPA_DDL_AUTO", "validate");
         if (hasText(mskBootstrapBrokersSaslIam)) {
@@ -823,11 +1031,11 @@ public class EcsClusterStack extends Stack {
             // 원본 로그 토픽
             env.put("KAFKA_TOPIC_CLIENT_EVENTS", AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC));
             // DLQ 토픽
-            env.put("KAFKA_TOPIC_ERROR", ERROR_LOG_TOPIC);
+            env.put("KAFKA_TOPIC_ERROR", AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_TOPIC));
             // speed group 값
             env.put("KAFKA_GROUP_SPEED", AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_CONSUMER_GROUP_ID));
-            // poll 크기
-            env.put("KAFKA_MAX_POLL_RECORDS", "1");
+            // poll / fetch / listener / DB batch 설정
+            env.putAll(LogServerConsumerProfile.fromEnv().toEnvironment());
             // DLQ acks 값
             env.put("KAFKA_DLQ_ACKS", "all");
             // DLQ retry 값
@@ -836,6 +1044,33 @@ public class EcsClusterStack extends Stack {
         return env;
     }
 
+    /**
+     * error-logs 재처리 task 환경값 (DB 없이 Kafka 읽기/재발행만 수행)
+     * DB 접속 정보는 의도적으로 넣지 않는다. redrive 프로파일은 DataSource를 만들지 않아야 한다 (EnvKey.ERROR_LOG_REDRIVE_ENABLED 참고).
+     */
+    private Map<String, String> buildErrorLogRedriveEnvironment(String mskBootstrapBrokersSaslIam) {
+        Map<String, String> env = new HashMap<>();
+        // 앱 이름
+        env.put("SPRING_APPLICATION_NAME", "log-server-redrive");
+        // 브로커 주소
+        env.put("KAFKA_BOOTSTRAP_SERVERS", mskBootstrapBrokersSaslIam);
+        // 보안 프로토콜
+        env.put("KAFKA_SECURITY_PROTOCOL", "SASL_SSL");
+        // SASL 메커니즘
+        env.put("KAFKA_SASL_MECHANISM", "AWS_MSK_IAM");
+        // IAM JAAS 설정
+        env.put("KAFKA_SASL_JAAS_CONFIG", "software.amazon.msk.auth.iam.IAMLoginModule required;");
+        // IAM 콜백 핸들러
+        env.put("KAFKA_SASL_CALLBACK_HANDLER_CLASS", "software.amazon.msk.auth.iam.IAMClientCallbackHandler");
+        // 원본 로그 토픽
+        env.put("KAFKA_TOPIC_CLIENT_EVENTS", AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC));
+        // DLQ 토픽
+        env.put("KAFKA_TOPIC_ERROR", AppConfig.getValueOrDefault(EnvKey.ERROR_LOG_TOPIC));
+        // 재발행 producer는 customer-api와 같은 batch/압축 설정 사용
+        env.putAll(ClickLogProducerProfile.fromEnv().toEnvironment());
+        return env;
+    }
+
     private Map<String, String> buildRecommendationRuntimeSecretMapping() {
         Map<String, String> secretJsonKeyByEnvName = new LinkedHashMap<>();
         secretJsonKeyByEnvName.put("POSTGRES_USER", "POSTGRES_USER");
@@ -882,6 +1117,17 @@ public class EcsClusterStack extends Stack {
         }
     }
 
+    private String buildHostList(List<String> hosts, String port) {
+        if (hosts == null || hosts.isEmpty()) {
+            return "";
+        }
+        List<String> hostPorts = new ArrayList<>();
+        for (String host : hosts) {
+            hostPorts.add(host + ":" + port);
+        }
+        return String.join(",", hostPorts);
+    }
+
     private boolean isKafkaEnabled(String mskClusterName, String mskClusterArn, String mskBootstrapBrokersSaslIam) {
         return hasText(mskClusterName) && hasText(mskClusterArn) && hasText(mskBootstrapBrokersSaslIam);
     }
@@ -71,14 +71,41 @@ public class MonitoringStack extends Stack {
                 .actions(List.of("logs:GetLogEvents", "logs:FilterLogEvents"))
                 .resources(stackProps.config().cloudWatchLogGroupArns(this.getRegion(), this.getAccount()))
                 .build());
+        /*
+         * =================================================================
+         *               Grafana RDS OS Metrics Role
+         * =================================================================
+         */
+        // Enhanced Monitoring OS 지표(RDSOSMetrics 로그 그룹) 조회
+        grafanaRole.addToPolicy(PolicyStatement.Builder.create()
+                .actions(List.of(
+                        "logs:GetLogEvents",
+                        "logs:FilterLogEvents",
+                        "logs:StartQuery",
+                        "logs:GetQueryResults"))
+                .resources(List.of(
+                        String.format("arn:aws:logs:%s:%s:log-group:RDSOSMetrics", this.getRegion(), this.getAccount()),
+                        String.format("arn:aws:logs:%s:%s:log-group:RDSOSMetrics:*", this.getRegion(), this.getAccount())))
+                .build());
+
         grafanaRole.addToPolicy(PolicyStatement.Builder.create()
                 .actions(List.of(
                         "route53:ListHostedZonesByName",
                         "servicediscovery:ListServices",
-                        "servicediscovery:RegisterInstance"))
+                        "servicediscovery:RegisterInstance",
+                        // ECS task 단위 Prometheus 대상 조회 (ecs-service-discovery.sh)
+                        "servicediscovery:DiscoverInstances"))
                 .resources(List.of("*"))
                 .build());
 
+        // Alertmanager burn-rate 알림 SNS 발행 (topic 설정 시)
+        if (stackProps.config().alertingConfig().snsEnabled()) {
+            grafanaRole.addToPolicy(PolicyStatement.Builder.create()
+                    .actions(List.of("sns:Publish"))
+                    .resources(List.of(stackProps.config().alertingConfig().snsTopicArn()))
+                    .build());
+        }
+
         // Loki S3 저장소 접근
         grafanaRole.addToPolicy(PolicyStatement.Builder.create()
                 .actions(List.of("s3:ListBucket"))
@@ -151,8 +178,12 @@ public class MonitoringStack extends Stack {
         monitoringBootstrapAsset.grantRead(grafanaRole);
 
         UserData userData = UserData.forLinux();
+        userData.addCommands("set -euxo pipefail");
+        // broker 목록은 배포 시점 값이라 UserData에서 파일로 남긴다.
+        userData.addCommands(stackProps.config()
+                .mskBootstrapBrokersFileCommands(stackProps.mskBootstrapBrokersSaslIam())
+                .toArray(String[]::new));
         userData.addCommands(
-                "set -euxo pipefail",
                 "dnf install -y unzip",
                 "aws s3 cp s3://" + monitoringBootstrapAsset.getS3BucketName() + "/"
                         + monitoringBootstrapAsset.getS3ObjectKey() + " /tmp/monitoring-bootstrap.zip",
@@ -1,7 +1,12 @@
 package com.myorg.stacks;
 
 import com.myorg.config.AppConfig;
+import com.myorg.config.ClickLogSinkConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.KafkaTopicRegistry;
+import com.myorg.config.KafkaTopicSpec;
+import com.myorg.config.MskBrokerConfig;
+import com.myorg.config.MskConnectCapacityConfig;
 import software.amazon.awscdk.CfnOutput;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
@@ -23,6 +28,7 @@ import software.constructs.Construct;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -31,7 +37,6 @@ import java.util.Map;
  */
 public class MskConnectStack extends Stack {
     private static final String CONNECTOR_NAME = "click-log-s3-sink";
-    private static final String RAW_PREFIX = "events/raw";
     private static final String HOURLY_PATH_FORMAT = "'dt'=YYYY-MM-dd/'hour'=HH";
     private static final String HOURLY_PARTITION_DURATION_MS = "3600000";
     private static final String MSK_CONNECT_INTERNAL_PREFIX = "__amazon_msk_connect_";
@@ -52,9 +57,49 @@ public class MskConnectStack extends Stack {
             String mskClusterArn,
             String clickLogTopicName,
             Bucket clickLogBucket
+    ) {
+        this(
+                scope,
+                id,
+                props,
+                vpc,
+                kafkaBrokerSg,
+                kafkaConnectSg,
+                mskClusterName,
+                mskBootstrapBrokers,
+                mskClusterArn,
+                KafkaTopicRegistry.find(
+                        KafkaTopicRegistry.fromEnv(MskBrokerConfig.fromEnv().defaultReplicationFactor()),
+                        clickLogTopicName
+                ),
+                clickLogBucket,
+                ClickLogSinkConfig.fromEnv(),
+                MskConnectCapacityConfig.fromEnv()
+        );
+    }
+
+    public MskConnectStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            Vpc vpc,
+            SecurityGroup kafkaBrokerSg,
+            SecurityGroup kafkaConnectSg,
+            String mskClusterName,
+            String mskBootstrapBrokers,
+            String mskClusterArn,
+            KafkaTopicSpec clickLogTopic,
+            Bucket clickLogBucket,
+            ClickLogSinkConfig sinkConfig,
+            MskConnectCapacityConfig capacityConfig
     ) {
         super(scope, id, props);
 
+        String clickLogTopicName = clickLogTopic.name();
+        // 파티션당 task 하나
+        int tasksMax = clickLogTopic.partitions();
+        capacityConfig.validateTaskParallelism(tasksMax);
+
         // private subnet 선택
         var privateSubnets = vpc.selectSubnets(SubnetSelection.builder()
                 .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
@@ -174,38 +219,8 @@ public class MskConnectStack extends Stack {
         CfnConnector connector = CfnConnector.Builder.create(this, "ClickLogS3SinkConnector")
                 .connectorName(CONNECTOR_NAME)
                 .kafkaConnectVersion(AppConfig.getValueOrDefault(EnvKey.MSK_CONNECT_VERSION))
-                .capacity(CfnConnector.CapacityProperty.builder()
-                        .provisionedCapacity(CfnConnector.ProvisionedCapacityProperty.builder()
-                                .mcuCount(Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MSK_CONNECT_MCU_COUNT)))
-                                .workerCount(Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MSK_CONNECT_WORKER_COUNT)))
-                                .build())
-                        .build())
-                .connectorConfiguration(Map.ofEntries(
-                        Map.entry("connector.class", "io.confluent.connect.s3.S3SinkConnector"),
-                        Map.entry("tasks.max", "1"),
-                        Map.entry("topics", clickLogTopicName),
-                        // raw 로그 prefix
-                        Map.entry("topics.dir", RAW_PREFIX),
-                        Map.entry("s3.bucket.name", clickLogBucket.getBucketName()),
-                        Map.entry("s3.region", getRegion()),
-                        Map.entry("storage.class", "io.confluent.connect.s3.storage.S3Storage"),
-                        Map.entry("format.class", "io.confluent.connect.s3.format.json.JsonFormat"),
-                        Map.entry("flush.size", "1000"),
-                        Map.entry("rotate.interval.ms", "60000"),
-                        // 시간 기반 파티셔너
-                        Map.entry("partitioner.class", "io.confluent.connect.storage.partitioner.TimeBasedPartitioner"),
-                        // day+hour 경로
-                        Map.entry("path.format", HOURLY_PATH_FORMAT),
-                        // hourly 파티션 길이
-                        Map.entry("partition.duration.ms", HOURLY_PARTITION_DURATION_MS),
-                        // ingest_time 기준
-                        Map.entry("timestamp.extractor", "Wallclock"),
-                        Map.entry("timezone", "Asia/Seoul"),
-                        Map.entry("locale", "ko_KR"),
-                        Map.entry("key.converter", "org.apache.kafka.connect.storage.StringConverter"),
-                        Map.entry("value.converter", "org.apache.kafka.connect.json.JsonConverter"),
-                        Map.entry("value.converter.schemas.enable", "false")
-                ))
+                .capacity(capacityConfig.toCapacityProperty())
+                .connectorConfiguration(buildConnectorConfiguration(clickLogTopicName, tasksMax, clickLogBucket, sinkConfig))
                 .kafkaCluster(CfnConnector.KafkaClusterProperty.builder()
                         .apacheKafkaCluster(CfnConnector.ApacheKafkaClusterProperty.builder()
                                 .bootstrapServers(mskBootstrapBrokers)
@@ -253,6 +268,37 @@ public class MskConnectStack extends Stack {
                 .build();
     }
 
+    /**
+     * S3 sink 커넥터 설정 (포맷/변환 항목은 sink 설정에서 결정).
+     */
+    private Map<String, String> buildConnectorConfiguration(
+            String clickLogTopicName,
+            int tasksMax,
+            Bucket clickLogBucket,
+            ClickLogSinkConfig sinkConfig
+    ) {
+        Map<String, String> configuration = new LinkedHashMap<>();
+        configuration.put("connector.class", "io.confluent.connect.s3.S3SinkConnector");
+        configuration.put("tasks.max", String.valueOf(tasksMax));
+        configuration.put("topics", clickLogTopicName);
+        // raw 로그 prefix (포맷별로 분리)
+        configuration.put("topics.dir", sinkConfig.format().rawTopicsDir());
+        configuration.put("s3.bucket.name", clickLogBucket.getBucketName());
+        configuration.put("s3.region", getRegion());
+        configuration.put("storage.class", "io.confluent.connect.s3.storage.S3Storage");
+        // 시간 기반 파티셔너
+        configuration.put("partitioner.class", "io.confluent.connect.storage.partitioner.TimeBasedPartitioner");
+        // day+hour 경로
+        configuration.put("path.format", HOURLY_PATH_FORMAT);
+        // hourly 파티션 길이
+        configuration.put("partition.duration.ms", HOURLY_PARTITION_DURATION_MS);
+        configuration.put("timezone", "Asia/Seoul");
+        configuration.put("locale", "ko_KR");
+        // format.class / converter / flush.size / rotate.interval.ms / timestamp.extractor
+        configuration.putAll(sinkConfig.toConnectorConfiguration());
+        return configuration;
+    }
+
     /**
      * plugin asset 경로 해석.
      */
@@ -2,20 +2,48 @@ package com.myorg.stacks;
 
 import com.myorg.config.AppConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.KafkaTopicRegistry;
+import com.myorg.config.KafkaTopicSpec;
+import com.myorg.config.MskBrokerConfig;
+import com.myorg.config.MskMonitoringConfig;
+import com.myorg.config.MskStorageConfig;
+import software.amazon.awscdk.BundlingOptions;
 import software.amazon.awscdk.CfnOutput;
+import software.amazon.awscdk.CustomResource;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.Token;
 import software.amazon.awscdk.customresources.AwsCustomResource;
 import software.amazon.awscdk.customresources.AwsCustomResourcePolicy;
 import software.amazon.awscdk.customresources.AwsSdkCall;
 import software.amazon.awscdk.customresources.PhysicalResourceId;
+import software.amazon.awscdk.customresources.Provider;
 import software.amazon.awscdk.customresources.SdkCallsPolicyOptions;
+import software.amazon.awscdk.services.applicationautoscaling.BasicTargetTrackingScalingPolicyProps;
+import software.amazon.awscdk.services.applicationautoscaling.PredefinedMetric;
+import software.amazon.awscdk.services.applicationautoscaling.ScalableTarget;
+import software.amazon.awscdk.services.applicationautoscaling.ServiceNamespace;
+import software.amazon.awscdk.services.cloudwatch.Alarm;
+import software.amazon.awscdk.services.cloudwatch.ComparisonOperator;
+import software.amazon.awscdk.services.cloudwatch.Metric;
+import software.amazon.awscdk.services.cloudwatch.TreatMissingData;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroupIngress;
+import software.amazon.awscdk.services.ec2.Peer;
+import software.amazon.awscdk.services.ec2.Port;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ec2.SubnetType;
 import software.amazon.awscdk.services.ec2.Vpc;
 import software.amazon.awscdk.services.msk.CfnCluster;
 import software.amazon.awscdk.services.msk.CfnClusterProps;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.msk.CfnConfiguration;
+import software.amazon.awscdk.services.s3.assets.AssetOptions;
 import software.constructs.Construct;
 
 import java.util.List;
@@ -26,9 +54,14 @@ import java.util.Map;
  */
 public class MskStack extends Stack {
     private final CfnCluster cluster;
+    private final CfnConfiguration brokerConfiguration;
     private final String bootstrapBrokersSaslIam;
     private final String clickLogTopicName;
     private final String clickLogConsumerGroupId;
+    private final List<KafkaTopicSpec> topicSpecs;
+
+    private static final int MSK_IAM_PORT = 9098;
+    private static final int HTTPS_PORT = 443;
 
     /**
      * MSK 클러스터와 로그 토픽 명세 구성.
@@ -39,6 +72,31 @@ public class MskStack extends Stack {
             StackProps props,
             Vpc vpc,
             SecurityGroup kafkaBrokerSg
+    ) {
+        this(scope, id, props, vpc, kafkaBrokerSg, MskBrokerConfig.fromEnv(), MskStorageConfig.fromEnv());
+    }
+
+    public MskStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            Vpc vpc,
+            SecurityGroup kafkaBrokerSg,
+            MskBrokerConfig brokerConfig,
+            MskStorageConfig storageConfig
+    ) {
+        this(scope, id, props, vpc, kafkaBrokerSg, brokerConfig, storageConfig, MskMonitoringConfig.fromEnv());
+    }
+
+    public MskStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            Vpc vpc,
+            SecurityGroup kafkaBrokerSg,
+            MskBrokerConfig brokerConfig,
+            MskStorageConfig storageConfig,
+            MskMonitoringConfig monitoringConfig
     ) {
         super(scope, id, props);
 
@@ -47,21 +105,51 @@ public class MskStack extends Stack {
                 .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
                 .build()).getSubnetIds();
 
+        // MSK는 브로커를 client subnet(AZ)마다 같은 수로 배치한다.
+        if (brokerConfig.brokerNodes() % privateSubnetIds.size() != 0) {
+            throw new IllegalStateException(
+                    "MSK 브로커 수는 subnet 수의 배수여야 합니다: brokers="
+                            + brokerConfig.brokerNodes() + ", subnets=" + privateSubnetIds.size()
+            );
+        }
+
+        String kafkaVersion = AppConfig.getValueOrDefault(EnvKey.MSK_KAFKA_VERSION);
+
+        // 브로커 server.properties: 내용이 바뀌면 새 revision이 생기고 클러스터가 해당 revision으로 rolling 적용된다.
+        this.brokerConfiguration = CfnConfiguration.Builder.create(this, "BrokerConfiguration")
+                .name(AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME) + "-broker-config")
+                .description("Holliverse broker server.properties (sha256:" + brokerConfig.fingerprint() + ")")
+                .kafkaVersionsList(List.of(kafkaVersion))
+                .serverProperties(brokerConfig.toServerProperties())
+                .build();
+
         this.cluster = new CfnCluster(this, "ProvisionedCluster",
                 CfnClusterProps.builder()
                         .clusterName(AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME))
-                        .kafkaVersion(AppConfig.getValueOrDefault(EnvKey.MSK_KAFKA_VERSION))
-                        .numberOfBrokerNodes(Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MSK_BROKER_NODES)))
+                        .kafkaVersion(kafkaVersion)
+                        .numberOfBrokerNodes(brokerConfig.brokerNodes())
                         .brokerNodeGroupInfo(CfnCluster.BrokerNodeGroupInfoProperty.builder()
                                 .clientSubnets(privateSubnetIds)
-                                .instanceType(AppConfig.getValueOrDefault(EnvKey.MSK_BROKER_INSTANCE_TYPE))
+                                .instanceType(storageConfig.brokerInstanceType())
                                 .securityGroups(List.of(kafkaBrokerSg.getSecurityGroupId()))
                                 .storageInfo(CfnCluster.StorageInfoProperty.builder()
                                         .ebsStorageInfo(CfnCluster.EBSStorageInfoProperty.builder()
-                                                .volumeSize(Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.MSK_BROKER_VOLUME_GIB)))
+                                                // 초기 볼륨 (이후 증설은 Application Auto Scaling이 담당)
+                                                .volumeSize(storageConfig.volumeGib())
+                                                .provisionedThroughput(storageConfig.provisionedThroughputEnabled()
+                                                        ? CfnCluster.ProvisionedThroughputProperty.builder()
+                                                                .enabled(true)
+                                                                .volumeThroughput(storageConfig.provisionedThroughputMibps())
+                                                                .build()
+                                                        : null)
                                                 .build())
                                         .build())
                                 .build())
+                        // 브로커 설정 최신 revision 연결
+                        .configurationInfo(CfnCluster.ConfigurationInfoProperty.builder()
+                                .arn(brokerConfiguration.getAttrArn())
+                                .revision(brokerConfiguration.getAttrLatestRevisionRevision())
+                                .build())
                         // IAM 기반 인증 설정
                         .clientAuthentication(CfnCluster.ClientAuthenticationProperty.builder()
                                 .sasl(CfnCluster.SaslProperty.builder()
@@ -70,6 +158,9 @@ public class MskStack extends Stack {
                                                 .build())
                                         .build())
                                 .build())
+                        // 브로커 JMX/Node exporter (monitoring Prometheus가 11001/11002로 scrape)
+                        .openMonitoring(monitoringConfig.toOpenMonitoringProperty())
+                        .enhancedMonitoring(monitoringConfig.enhancedMonitoringLevel().name())
                         .encryptionInfo(CfnCluster.EncryptionInfoProperty.builder()
                                 .encryptionInTransit(CfnCluster.EncryptionInTransitProperty.builder()
                                         .clientBroker("TLS")
@@ -83,6 +174,12 @@ public class MskStack extends Stack {
                         ))
                         .build());
 
+        // 브로커 스토리지 자동 확장 + 디스크 사용률 알람
+        if (storageConfig.autoScalingEnabled()) {
+            createStorageAutoScaling(storageConfig);
+        }
+        createDiskUsedAlarms(brokerConfig.brokerNodes(), storageConfig.diskUsedAlarmPercent());
+
         // provisioned bootstrap brokers 조회
         AwsSdkCall getProvisionedBootstrapBrokers = AwsSdkCall.builder()
                 .service("Kafka")
@@ -108,6 +205,13 @@ public class MskStack extends Stack {
         this.clickLogTopicName = AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_TOPIC);
         this.clickLogConsumerGroupId = AppConfig.getValueOrDefault(EnvKey.CLICK_LOG_CONSUMER_GROUP_ID);
 
+        // 토픽 명세 (파티션 수 < consumer 최대 task 수면 여기서 synth 실패)
+        this.topicSpecs = KafkaTopicRegistry.fromEnv(brokerConfig.defaultReplicationFactor());
+        if (Boolean.parseBoolean(AppConfig.getValueOrDefault(EnvKey.KAFKA_TOPIC_PROVISIONING_ENABLED))) {
+            CustomResource topics = createTopicProvisioner(vpc, kafkaBrokerSg);
+            topics.getNode().addDependency(provisionedBootstrapBrokers);
+        }
+
         CfnOutput.Builder.create(this, "MskBrokerSecurityGroupId")
                 .value(kafkaBrokerSg.getSecurityGroupId())
                 .description("Security group attached to MSK brokers")
@@ -133,6 +237,11 @@ public class MskStack extends Stack {
                 .description("Provisioned bootstrap brokers for IAM-authenticated clients")
                 .build();
 
+        CfnOutput.Builder.create(this, "MskBrokerConfigurationRevision")
+                .value(Token.asString(brokerConfiguration.getAttrLatestRevisionRevision()))
+                .description("Applied MSK broker configuration revision")
+                .build();
+
         CfnOutput.Builder.create(this, "ClickLogTopicName")
                 .value(clickLogTopicName)
                 .description("Click log topic name")
@@ -144,14 +253,176 @@ public class MskStack extends Stack {
                 .build();
     }
 
+    /**
+     * 브로커 볼륨 target tracking (MSK는 볼륨 축소를 지원하지 않아 scale-in 비활성화)
+     */
+    private void createStorageAutoScaling(MskStorageConfig storageConfig) {
+        ScalableTarget storageTarget = ScalableTarget.Builder.create(this, "BrokerStorageScalableTarget")
+                .serviceNamespace(ServiceNamespace.KAFKA)
+                .resourceId(cluster.getAttrArn())
+                .scalableDimension("kafka:broker-storage:VolumeSize")
+                .minCapacity(storageConfig.volumeGib())
+                .maxCapacity(storageConfig.maxVolumeGib())
+                // MSK 스토리지 확장은 service-linked role로만 동작한다.
+                .role(Role.fromRoleArn(this, "BrokerStorageScalingRole", String.format(
+                        "arn:aws:iam::%s:role/aws-service-role/kafka.application-autoscaling.amazonaws.com/"
+                                + "AWSServiceRoleForApplicationAutoScaling_KafkaCluster",
+                        getAccount()
+                )))
+                .build();
+        storageTarget.getNode().addDependency(cluster);
+
+        storageTarget.scaleToTrackMetric("BrokerStorageUtilization", BasicTargetTrackingScalingPolicyProps.builder()
+                .predefinedMetric(PredefinedMetric.KAFKA_BROKER_STORAGE_UTILIZATION)
+                .targetValue(storageConfig.targetUtilizationPercent())
+                .disableScaleIn(true)
+                .build());
+    }
+
+    /**
+     * 브로커별 KafkaDataLogsDiskUsed 알람 (자동 확장이 따라잡지 못하는 경우 감지)
+     */
+    private void createDiskUsedAlarms(int brokerNodes, int diskUsedAlarmPercent) {
+        String clusterName = AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME);
+        for (int brokerId = 1; brokerId <= brokerNodes; brokerId++) {
+            Alarm.Builder.create(this, "BrokerDiskUsedAlarm" + brokerId)
+                    .alarmDescription("MSK broker " + brokerId + " 데이터 디스크 사용률이 기준을 초과했습니다.")
+                    .metric(Metric.Builder.create()
+                            .namespace("AWS/Kafka")
+                            .metricName("KafkaDataLogsDiskUsed")
+                            .dimensionsMap(Map.of(
+                                    "Cluster Name", clusterName,
+                                    "Broker ID", String.valueOf(brokerId)
+                            ))
+                            .statistic("Maximum")
+                            .period(Duration.minutes(5))
+                            .build())
+                    .threshold(diskUsedAlarmPercent)
+                    .evaluationPeriods(2)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+        }
+    }
+
+    /**
+     * 토픽 명세대로 토픽 생성/파티션 확장/설정 변경 (IAM 인증 admin client)
+     */
+    private CustomResource createTopicProvisioner(Vpc vpc, SecurityGroup kafkaBrokerSg) {
+        String clusterName = AppConfig.getValueOrDefault(EnvKey.MSK_CLUSTER_NAME);
+
+        SecurityGroup provisionerSg = SecurityGroup.Builder.create(this, "TopicProvisionerSg")
+                .vpc(vpc)
+                .description("Kafka topic provisioner Security Group")
+                .allowAllOutbound(false)
+                .build();
+        // broker IAM 포트 + AWS API/CloudFormation 응답(HTTPS)만 허용
+        provisionerSg.addEgressRule(
+                Peer.securityGroupId(kafkaBrokerSg.getSecurityGroupId()),
+                Port.tcp(MSK_IAM_PORT),
+                "To MSK brokers (IAM)"
+        );
+        provisionerSg.addEgressRule(
+                Peer.anyIpv4(),
+                Port.tcp(HTTPS_PORT),
+                "To AWS APIs (HTTPS)"
+        );
+
+        // broker SG 규칙을 이 스택에 두어 NetworkStack이 MskStack을 참조하지 않게 한다.
+        CfnSecurityGroupIngress.Builder.create(this, "KafkaBrokerIngressFromTopicProvisioner")
+                .groupId(kafkaBrokerSg.getSecurityGroupId())
+                .sourceSecurityGroupId(provisionerSg.getSecurityGroupId())
+                .ipProtocol("tcp")
+                .fromPort(MSK_IAM_PORT)
+                .toPort(MSK_IAM_PORT)
+                .description("From Kafka topic provisioner")
+                .build();
+
+        Function provisioner = Function.Builder.create(this, "TopicProvisionerFunction")
+                .runtime(Runtime.PYTHON_3_12)
+                .handler("index.handler")
+                .code(pythonAssetWithDependencies(AppConfig.getValueOrDefault(EnvKey.KAFKA_TOPIC_PROVISIONER_ASSET_PATH)))
+                .timeout(Duration.minutes(2))
+                .memorySize(256)
+                .vpc(vpc)
+                .vpcSubnets(SubnetSelection.builder()
+                        .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
+                        .build())
+                .securityGroups(List.of(provisionerSg))
+                .build();
+
+        provisioner.addToRolePolicy(PolicyStatement.Builder.create()
+                .actions(List.of(
+                        "kafka-cluster:Connect",
+                        "kafka-cluster:DescribeCluster"
+                ))
+                .resources(List.of(cluster.getAttrArn()))
+                .build());
+        provisioner.addToRolePolicy(PolicyStatement.Builder.create()
+                .actions(List.of(
+                        "kafka-cluster:CreateTopic",
+                        "kafka-cluster:DescribeTopic",
+                        "kafka-cluster:AlterTopic",
+                        "kafka-cluster:DescribeTopicDynamicConfiguration",
+                        "kafka-cluster:AlterTopicDynamicConfiguration"
+                ))
+                .resources(List.of(String.format(
+                        "arn:aws:kafka:%s:%s:topic/%s/*",
+                        getRegion(),
+                        getAccount(),
+                        clusterName
+                )))
+                .build());
+
+        Provider provider = Provider.Builder.create(this, "TopicProvisionerProvider")
+                .onEventHandler(provisioner)
+                .build();
+
+        return CustomResource.Builder.create(this, "KafkaTopics")
+                .serviceToken(provider.getServiceToken())
+                .resourceType("Custom::KafkaTopics")
+                .properties(Map.of(
+                        "ClusterName", clusterName,
+                        "BootstrapServers", bootstrapBrokersSaslIam,
+                        "Topics", topicSpecs.stream()
+                                .map(KafkaTopicSpec::toResourceProperties)
+                                .toList()
+                ))
+                .build();
+    }
+
+    /**
+     * requirements.txt(정확한 버전 고정) 의존성을 Lambda Python 빌드 이미지(Docker)에서 asset 루트에 설치해 번들링한다.
+     * 배포 환경의 로컬 python/pip 버전에 따라 번들이 달라지지 않도록 로컬 번들링은 두지 않는다.
+     */
+    private static Code pythonAssetWithDependencies(String assetPath) {
+        return Code.fromAsset(assetPath, AssetOptions.builder()
+                .bundling(BundlingOptions.builder()
+                        .image(Runtime.PYTHON_3_12.getBundlingImage())
+                        .command(List.of(
+                                "bash", "-c",
+                                "pip install --no-cache-dir -r requirements.txt -t /asset-output && cp -au . /asset-output"
+                        ))
+                        .build())
+                .build());
+    }
+
     public CfnCluster getCluster() {
         return cluster;
     }
 
+    public CfnConfiguration getBrokerConfiguration() {
+        return brokerConfiguration;
+    }
+
     public String getBootstrapBrokersSaslIam() {
         return bootstrapBrokersSaslIam;
     }
 
+    public List<KafkaTopicSpec> getTopicSpecs() {
+        return topicSpecs;
+    }
+
     public String getClickLogTopicName() {
         return clickLogTopicName;
     }
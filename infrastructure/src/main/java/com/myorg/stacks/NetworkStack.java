@@ -2,7 +2,9 @@ package com.myorg.stacks;
 
 import com.myorg.config.AppConfig;
 import com.myorg.config.EnvKey;
+import com.myorg.config.LogRoutingConfig;
 import com.myorg.config.NetworkStackConfig;
+import com.myorg.config.monitoring.TempoConfig;
 import com.myorg.constants.NetworkConstants;
 import software.amazon.awscdk.CfnOutput;
 import software.amazon.awscdk.Stack;
@@ -36,6 +38,8 @@ public class NetworkStack extends Stack {
         Integer customerServerPort = config.customerServerPort();
         Integer recommendationRealtimePort = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.RECOMMENDATION_REALTIME_PORT));
         Integer analysisServerPort = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.ANALYSIS_SERVER_PORT));
+        Integer intelligenceServerPort = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.INTELLIGENCE_SERVER_PORT));
+        Integer logServerPort = Integer.parseInt(AppConfig.getValueOrDefault(EnvKey.LOG_SERVER_PORT));
 
 
         /*
@@ -400,12 +404,45 @@ public class NetworkStack extends Stack {
                 Port.tcp(MSK_IAM_PORT),
                 "To MSK IAM only"
         );
+        // log-server / intelligence-server는 intelligenceServerSg를 공유 (task 단위 메트릭 scrape)
+        monitoringSg.addEgressRule(
+                Peer.securityGroupId(intelligenceServerSg.getSecurityGroupId()),
+                Port.tcp(intelligenceServerPort),
+                "To Intelligence Server metrics"
+        );
+        monitoringSg.addEgressRule(
+                Peer.securityGroupId(intelligenceServerSg.getSecurityGroupId()),
+                Port.tcp(logServerPort),
+                "To Log Server metrics"
+        );
+        // MSK open monitoring(Prometheus JMX / Node exporter) scrape
+        monitoringSg.addEgressRule(
+                Peer.securityGroupId(kafkaBrokerSg.getSecurityGroupId()),
+                NetworkConstants.MSK_JMX_EXPORTER,
+                "To MSK JMX exporter"
+        );
+        monitoringSg.addEgressRule(
+                Peer.securityGroupId(kafkaBrokerSg.getSecurityGroupId()),
+                NetworkConstants.MSK_NODE_EXPORTER,
+                "To MSK Node exporter"
+        );
 
         dbSg.addIngressRule(
                 Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
                 NetworkConstants.POSTGRES,
                 "Monitoring to DB"
         );
+        // RDS Proxy는 dbSg를 공유하므로 Proxy -> DB 경로를 self 참조로 연다.
+        dbSg.addIngressRule(
+                Peer.securityGroupId(dbSg.getSecurityGroupId()),
+                NetworkConstants.POSTGRES,
+                "RDS Proxy to DB"
+        );
+        dbSg.addEgressRule(
+                Peer.securityGroupId(dbSg.getSecurityGroupId()),
+                NetworkConstants.POSTGRES,
+                "RDS Proxy to DB"
+        );
         adminApiSg.addIngressRule(
                 Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
                 Port.tcp(adminServerPort),
@@ -416,11 +453,63 @@ public class NetworkStack extends Stack {
                 Port.tcp(customerServerPort),
                 "From Monitoring only"
         );
+        intelligenceServerSg.addIngressRule(
+                Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                Port.tcp(intelligenceServerPort),
+                "Intelligence Server metrics from Monitoring only"
+        );
+        intelligenceServerSg.addIngressRule(
+                Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                Port.tcp(logServerPort),
+                "Log Server metrics from Monitoring only"
+        );
         kafkaBrokerSg.addIngressRule(
                 Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
                 Port.tcp(MSK_IAM_PORT),
                 "From Monitoring only"
         );
+        kafkaBrokerSg.addIngressRule(
+                Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                NetworkConstants.MSK_JMX_EXPORTER,
+                "JMX exporter from Monitoring only"
+        );
+        kafkaBrokerSg.addIngressRule(
+                Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                NetworkConstants.MSK_NODE_EXPORTER,
+                "Node exporter from Monitoring only"
+        );
+
+        // FireLens(Fluent Bit sidecar) -> Loki push, ADOT collector sidecar -> Tempo OTLP (모니터링 호스트)
+        LogRoutingConfig logRoutingConfig = LogRoutingConfig.fromEnv();
+        TempoConfig tempoConfig = TempoConfig.fromEnv();
+        for (SecurityGroup telemetrySourceSg : List.of(adminWebSg, adminApiSg, customerApiSg, intelligenceServerSg)) {
+            // CloudWatch 라우팅이면 Loki 포트를 열지 않는다.
+            if (logRoutingConfig.firelensEnabled()) {
+                telemetrySourceSg.addEgressRule(
+                        Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                        Port.tcp(logRoutingConfig.lokiPort()),
+                        "To Loki (FireLens)"
+                );
+                monitoringSg.addIngressRule(
+                        Peer.securityGroupId(telemetrySourceSg.getSecurityGroupId()),
+                        Port.tcp(logRoutingConfig.lokiPort()),
+                        "Loki push from ECS FireLens"
+                );
+            }
+            // Tempo가 꺼져 있으면 OTLP 포트를 열지 않는다.
+            if (tempoConfig.enabled()) {
+                telemetrySourceSg.addEgressRule(
+                        Peer.securityGroupId(monitoringSg.getSecurityGroupId()),
+                        Port.tcp(tempoConfig.tempoOtlpGrpcPort()),
+                        "To Tempo OTLP (ADOT collector)"
+                );
+                monitoringSg.addIngressRule(
+                        Peer.securityGroupId(telemetrySourceSg.getSecurityGroupId()),
+                        Port.tcp(tempoConfig.tempoOtlpGrpcPort()),
+                        "Tempo OTLP from ECS ADOT collector"
+                );
+            }
+        }
 
         kafkaConnectSg.addEgressRule(Peer.anyIpv4(), NetworkConstants.HTTPS, "HTTPS");
         kafkaConnectSg.addEgressRule(Peer.anyIpv4(), NetworkConstants.DNS_TCP, "DNS");
@@ -1,32 +1,80 @@
 package com.myorg.stacks;
 
+import com.myorg.config.DbConnectionBudget;
+import com.myorg.config.DbConnectionBudgetMode;
+import com.myorg.config.DbInstanceSpec;
+import com.myorg.config.PostgresParameterProfile;
+import com.myorg.config.RdsConfig;
+import software.amazon.awscdk.Annotations;
+import software.amazon.awscdk.CfnOutput;
 import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Fn;
 import software.amazon.awscdk.RemovalPolicy;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.services.cloudwatch.Alarm;
+import software.amazon.awscdk.services.cloudwatch.ComparisonOperator;
+import software.amazon.awscdk.services.cloudwatch.Metric;
+import software.amazon.awscdk.services.cloudwatch.MetricOptions;
+import software.amazon.awscdk.services.cloudwatch.TreatMissingData;
 import software.amazon.awscdk.services.ec2.*;
 import software.amazon.awscdk.services.ec2.InstanceType;
+import software.amazon.awscdk.services.iam.ManagedPolicy;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
 import software.amazon.awscdk.services.rds.*;
 import software.amazon.awscdk.services.secretsmanager.Secret;
 import software.amazon.awscdk.services.secretsmanager.SecretStringGenerator;
 import software.constructs.Construct;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class RdsStack extends Stack {
     private final Secret dbSecret;
     private final DatabaseInstance rds;
+    private final DatabaseCluster auroraCluster;
     private final SecurityGroup dbSg;
+    private final RdsConfig config;
+    private final DatabaseProxy dbProxy;
+    private final List<DatabaseInstanceReadReplica> readReplicas = new ArrayList<>();
+    private final Metric proxyPinnedConnectionsMetric;
+    private final Metric proxyBorrowLatencyMetric;
 
     private static final String DB_NAME = "holliverse";
     private static final int DB_PORT = 5432;
+    private static final String DB_PROXY_NAME = "holliverse-postgres-proxy";
+
+    // 별도 배포 모드(on-demand-workflow)에서 Proxy 접속 정보를 import하기 위한 export 이름
+    public static final String DB_PROXY_ENDPOINT_EXPORT = "RdsStack:DbProxyEndpoint";
+    public static final String DB_PROXY_RESOURCE_ID_EXPORT = "RdsStack:DbProxyResourceId";
 
     /**
      * private subnet PostgreSQL 인스턴스 구성.
      */
     public RdsStack(Construct scope, String id, StackProps props, Vpc vpc, SecurityGroup dbSg) {
+        this(scope, id, props, vpc, dbSg, RdsConfig.fromEnv());
+    }
+
+    public RdsStack(Construct scope, String id, StackProps props, Vpc vpc, SecurityGroup dbSg, RdsConfig config) {
+        this(scope, id, props, vpc, dbSg, config, DbConnectionBudget.fromEnv());
+    }
+
+    public RdsStack(
+            Construct scope,
+            String id,
+            StackProps props,
+            Vpc vpc,
+            SecurityGroup dbSg,
+            RdsConfig config,
+            DbConnectionBudget connectionBudget
+    ) {
         super(scope, id, props);
+        this.config = config;
+
+        // 서비스 풀 합계가 DB 커넥션 상한을 넘으면 배포 전에 막는다.
+        checkConnectionBudget(connectionBudget);
 
         // DB 시크릿 생성
         this.dbSecret = Secret.Builder.create(this, "HolliverseDbSecret")
@@ -53,43 +101,360 @@ public class RdsStack extends Stack {
                         .build()
         );
 
-        // 파라미터 그룹 구성
+        // 파라미터 그룹 구성 (환경별 성능 프로파일 + pg_stat_statements/auto_explain)
         ParameterGroup postgresParameterGroup = ParameterGroup.Builder.create(this, "HolliversePostgresParameterGroup")
                 .engine(postgresEngine)
                 .description("PostgreSQL settings for slow query analysis with pg_stat_statements")
-                .parameters(Map.of(
-                        "shared_preload_libraries", "pg_stat_statements",
-                        "pg_stat_statements.track", "all"
-                ))
+                .parameters(config.parameterProfile().toParameters(config.autoExplainSampleRate()))
                 .build();
 
-        // RDS 인스턴스 생성
-        this.rds = DatabaseInstance.Builder.create(this, "HolliversePostgres")
-                .engine(postgresEngine)
+        // writer/replica 공통 인스턴스 타입
+        InstanceType dbInstanceType = new InstanceType(DbInstanceSpec.of(config.instanceType()).instanceType());
+
+        // Enhanced Monitoring(OS 지표) 수집 role
+        Role monitoringRole = config.enhancedMonitoringEnabled()
+                ? Role.Builder.create(this, "HolliversePostgresMonitoringRole")
+                        .assumedBy(new ServicePrincipal("monitoring.rds.amazonaws.com"))
+                        .managedPolicies(List.of(ManagedPolicy.fromAwsManagedPolicyName(
+                                "service-role/AmazonRDSEnhancedMonitoringRole")))
+                        .build()
+                : null;
+
+        if (config.auroraServerless()) {
+            // Aurora Serverless v2 클러스터 생성 (writer/reader가 ACU 범위 안에서 자동 확장)
+            this.rds = null;
+            this.auroraCluster = createAuroraCluster(vpc, dbSubnets, monitoringRole);
+        } else {
+            this.auroraCluster = null;
+
+            // RDS 인스턴스 생성
+            this.rds = DatabaseInstance.Builder.create(this, "HolliversePostgres")
+                    .engine(postgresEngine)
+                    .vpc(vpc)
+                    .vpcSubnets(dbSubnets)
+                    .securityGroups(List.of(dbSg))
+                    .iamAuthentication(true)
+                    .credentials(Credentials.fromSecret(dbSecret))
+                    .databaseName(DB_NAME)
+                    .port(DB_PORT)
+                    .parameterGroup(postgresParameterGroup)
+                    .instanceType(dbInstanceType)
+                    .storageType(toStorageType(config.storageType()))
+                    .allocatedStorage(config.allocatedStorageGib())
+                    .maxAllocatedStorage(config.maxAllocatedStorageGib()) //storage autoscaling 상한
+                    .iops(config.storageIops() > 0 ? config.storageIops() : null)
+                    .storageThroughput(config.storageThroughputMibps() > 0 ? config.storageThroughputMibps() : null)
+                    .enablePerformanceInsights(config.performanceInsightsEnabled()) //wait event 분석
+                    .performanceInsightRetention(config.performanceInsightsEnabled()
+                            ? toPerformanceInsightRetention(config.performanceInsightsRetentionDays())
+                            : null)
+                    .monitoringInterval(config.enhancedMonitoringEnabled()
+                            ? Duration.seconds(config.enhancedMonitoringIntervalSeconds())
+                            : null)
+                    .monitoringRole(monitoringRole)
+                    .multiAz(false) //고가용성 사용 X
+                    .publiclyAccessible(false) //외부 접근 X
+                    .backupRetention(Duration.days(1))//backup 기준 1일
+                    .deletionProtection(true)
+                    .deleteAutomatedBackups(false)
+                    .removalPolicy(RemovalPolicy.RETAIN)
+                    .build();
+
+            // 읽기 전용 replica 생성(관리자 대시보드/분석 조회 분리)
+            createReadReplicas(vpc, dbSubnets, postgresParameterGroup, dbInstanceType);
+        }
+
+        // RDS Proxy 생성: 서비스별 커넥션 풀을 Proxy 한 곳에서 다중화한다.
+        if (config.proxyEnabled()) {
+            this.dbProxy = DatabaseProxy.Builder.create(this, "HolliversePostgresProxy")
+                    .dbProxyName(DB_PROXY_NAME)
+                    .proxyTarget(createProxyTarget(postgresEngine))
+                    .secrets(List.of(dbSecret))
+                    .vpc(vpc)
+                    .vpcSubnets(dbSubnets)
+                    .securityGroups(List.of(dbSg))
+                    .iamAuth(config.proxyRequireIam())
+                    .requireTls(true)
+                    .maxConnectionsPercent(config.proxyMaxConnectionsPercent())
+                    .maxIdleConnectionsPercent(config.proxyMaxIdleConnectionsPercent())
+                    .borrowTimeout(Duration.seconds(config.proxyBorrowTimeoutSeconds()))
+                    .build();
+
+            // session pinning 커넥션 수
+            this.proxyPinnedConnectionsMetric = proxyMetric("DatabaseConnectionsCurrentlySessionPinned", "Maximum");
+            // 커넥션 borrow 지연(마이크로초)
+            this.proxyBorrowLatencyMetric = proxyMetric("DatabaseConnectionsBorrowLatency", "Average");
+
+            Alarm.Builder.create(this, "HolliversePostgresProxyPinnedAlarm")
+                    .alarmName(DB_PROXY_NAME + "-session-pinned")
+                    .alarmDescription("RDS Proxy session pinning 커넥션 수가 기준을 초과했습니다.")
+                    .metric(proxyPinnedConnectionsMetric)
+                    .threshold(config.proxyPinnedAlarmThreshold())
+                    .evaluationPeriods(3)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+
+            Alarm.Builder.create(this, "HolliversePostgresProxyBorrowLatencyAlarm")
+                    .alarmName(DB_PROXY_NAME + "-borrow-latency")
+                    .alarmDescription("RDS Proxy 커넥션 borrow 지연이 borrow timeout에 근접했습니다.")
+                    .metric(proxyBorrowLatencyMetric)
+                    .threshold(config.proxyBorrowLatencyAlarmMicros())
+                    .evaluationPeriods(3)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+
+            CfnOutput.Builder.create(this, "HolliversePostgresProxyEndpoint")
+                    .value(dbProxy.getEndpoint())
+                    .description("RDS Proxy endpoint for ECS services and Lambdas")
+                    .exportName(DB_PROXY_ENDPOINT_EXPORT)
+                    .build();
+
+            CfnOutput.Builder.create(this, "HolliversePostgresProxyResourceId")
+                    .value(proxyResourceId())
+                    .description("RDS Proxy resource id for rds-db:connect")
+                    .exportName(DB_PROXY_RESOURCE_ID_EXPORT)
+                    .build();
+        } else {
+            this.dbProxy = null;
+            this.proxyPinnedConnectionsMetric = null;
+            this.proxyBorrowLatencyMetric = null;
+        }
+    }
+
+    /**
+     * DB 커넥션 예산 점검 (FAIL: synth 실패, REPORT: synth 경고)
+     */
+    private void checkConnectionBudget(DbConnectionBudget connectionBudget) {
+        int connectionLimit = DbConnectionBudget.connectionLimit(config);
+        String report = connectionBudget.report(connectionLimit);
+        if (!connectionBudget.exceeds(connectionLimit)) {
+            Annotations.of(this).addInfo(report);
+            return;
+        }
+        if (connectionBudget.mode() == DbConnectionBudgetMode.FAIL) {
+            throw new IllegalStateException(report + " - 풀 상한 또는 최대 task 수를 줄이거나 인스턴스 클래스를 키워야 합니다.");
+        }
+        Annotations.of(this).addWarningV2("holliverse:db-connection-budget", report);
+    }
+
+    /**
+     * Aurora PostgreSQL Serverless v2 클러스터 + reader + reader lag 알람
+     */
+    private DatabaseCluster createAuroraCluster(Vpc vpc, SubnetSelection dbSubnets, Role monitoringRole) {
+        IClusterEngine auroraEngine = auroraPostgresEngine();
+
+        // 인스턴스 엔진과 동일하게 pg_stat_statements/auto_explain 로드
+        ParameterGroup auroraParameterGroup = ParameterGroup.Builder.create(this, "HolliverseAuroraParameterGroup")
+                .engine(auroraEngine)
+                .description("Aurora PostgreSQL settings for slow query analysis with pg_stat_statements")
+                .parameters(PostgresParameterProfile.slowQueryParameters())
+                .build();
+
+        List<IClusterInstance> readers = new ArrayList<>();
+        for (int i = 1; i <= config.readReplicaCount(); i++) {
+            readers.add(ClusterInstance.serverlessV2("reader" + i, auroraInstanceProps(true)));
+        }
+
+        DatabaseCluster cluster = DatabaseCluster.Builder.create(this, "HolliverseAuroraPostgres")
+                .engine(auroraEngine)
                 .vpc(vpc)
                 .vpcSubnets(dbSubnets)
                 .securityGroups(List.of(dbSg))
                 .iamAuthentication(true)
                 .credentials(Credentials.fromSecret(dbSecret))
-                .databaseName(DB_NAME)
+                .defaultDatabaseName(DB_NAME)
                 .port(DB_PORT)
-                .parameterGroup(postgresParameterGroup)
-                .instanceType(InstanceType.of(InstanceClass.T4G, InstanceSize.MICRO)) //t4g.micro model
-                .allocatedStorage(20)//storage 20GB
-                .maxAllocatedStorage(20)
-                .multiAz(false) //고가용성 사용 X
-                .publiclyAccessible(false) //외부 접근 X
-                .backupRetention(Duration.days(1))//backup 기준 1일
+                .parameterGroup(auroraParameterGroup)
+                .serverlessV2MinCapacity(config.auroraMinCapacity())
+                .serverlessV2MaxCapacity(config.auroraMaxCapacity())
+                .writer(ClusterInstance.serverlessV2("writer", auroraInstanceProps(false)))
+                .readers(readers)
+                .storageEncrypted(true)
+                .monitoringInterval(config.enhancedMonitoringEnabled()
+                        ? Duration.seconds(config.enhancedMonitoringIntervalSeconds())
+                        : null)
+                .monitoringRole(monitoringRole)
+                .backup(BackupProps.builder().retention(Duration.days(1)).build())
                 .deletionProtection(true)
-                .deleteAutomatedBackups(false)
                 .removalPolicy(RemovalPolicy.RETAIN)
                 .build();
+
+        if (!readers.isEmpty()) {
+            // AuroraReplicaLagMaximum 단위는 밀리초
+            Alarm.Builder.create(this, "HolliverseAuroraReaderLagAlarm")
+                    .alarmDescription("Aurora reader lag이 기준을 초과했습니다. 읽기 트래픽을 writer로 우회해야 합니다.")
+                    .metric(cluster.metric("AuroraReplicaLagMaximum", MetricOptions.builder()
+                            .statistic("Maximum")
+                            .period(Duration.minutes(1))
+                            .build()))
+                    .threshold(config.readReplicaLagAlarmSeconds() * 1000)
+                    .evaluationPeriods(3)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+        }
+
+        return cluster;
+    }
+
+    private ServerlessV2ClusterInstanceProps auroraInstanceProps(boolean reader) {
+        ServerlessV2ClusterInstanceProps.Builder builder = ServerlessV2ClusterInstanceProps.builder()
+                .publiclyAccessible(false)
+                .enablePerformanceInsights(config.performanceInsightsEnabled())
+                .performanceInsightRetention(config.performanceInsightsEnabled()
+                        ? toPerformanceInsightRetention(config.performanceInsightsRetentionDays())
+                        : null);
+        if (reader) {
+            // reader를 writer와 같은 승격 tier로 두어 writer 용량을 따라 확장하게 한다.
+            builder.scaleWithWriter(true);
+        }
+        return builder.build();
+    }
+
+    private static IClusterEngine auroraPostgresEngine() {
+        return DatabaseClusterEngine.auroraPostgres(AuroraPostgresClusterEngineProps.builder()
+                .version(AuroraPostgresEngineVersion.VER_16_6)
+                .build());
+    }
+
+    /**
+     * Proxy target
+     * endpoint port 토큰 대신 고정 포트로 target을 참조해 NetworkStack(dbSg)과의 순환 참조를 피한다.
+     */
+    private ProxyTarget createProxyTarget(IInstanceEngine postgresEngine) {
+        if (auroraCluster != null) {
+            return ProxyTarget.fromCluster(DatabaseCluster.fromDatabaseClusterAttributes(
+                    this,
+                    "HolliverseAuroraProxyTarget",
+                    DatabaseClusterAttributes.builder()
+                            .clusterIdentifier(auroraCluster.getClusterIdentifier())
+                            .clusterEndpointAddress(auroraCluster.getClusterEndpoint().getHostname())
+                            .port(DB_PORT)
+                            .securityGroups(List.of(dbSg))
+                            .engine(auroraPostgresEngine())
+                            .build()
+            ));
+        }
+        return ProxyTarget.fromInstance(DatabaseInstance.fromDatabaseInstanceAttributes(
+                this,
+                "HolliversePostgresProxyTarget",
+                DatabaseInstanceAttributes.builder()
+                        .instanceIdentifier(rds.getInstanceIdentifier())
+                        .instanceEndpointAddress(rds.getDbInstanceEndpointAddress())
+                        .port(DB_PORT)
+                        .securityGroups(List.of(dbSg))
+                        .engine(postgresEngine)
+                        .build()
+        ));
+    }
+
+    /**
+     * 읽기 전용 replica 생성 + replica lag 알람
+     */
+    private void createReadReplicas(
+            Vpc vpc,
+            SubnetSelection dbSubnets,
+            ParameterGroup parameterGroup,
+            InstanceType instanceType
+    ) {
+        for (int i = 1; i <= config.readReplicaCount(); i++) {
+            DatabaseInstanceReadReplica replica = DatabaseInstanceReadReplica.Builder.create(this, "HolliversePostgresReplica" + i)
+                    .sourceDatabaseInstance(rds)
+                    .vpc(vpc)
+                    .vpcSubnets(dbSubnets)
+                    .securityGroups(List.of(dbSg))
+                    .iamAuthentication(true)
+                    .parameterGroup(parameterGroup)
+                    .instanceType(instanceType)
+                    .storageType(toStorageType(config.storageType()))
+                    .maxAllocatedStorage(config.maxAllocatedStorageGib())
+                    .iops(config.storageIops() > 0 ? config.storageIops() : null)
+                    .storageThroughput(config.storageThroughputMibps() > 0 ? config.storageThroughputMibps() : null)
+                    .publiclyAccessible(false)
+                    .deletionProtection(false)
+                    .removalPolicy(RemovalPolicy.DESTROY)
+                    .build();
+
+            Alarm.Builder.create(this, "HolliversePostgresReplica" + i + "LagAlarm")
+                    .alarmDescription("Read replica lag이 기준을 초과했습니다. 읽기 트래픽을 writer로 우회해야 합니다.")
+                    .metric(replica.metric("ReplicaLag", MetricOptions.builder()
+                            .statistic("Maximum")
+                            .period(Duration.minutes(1))
+                            .build()))
+                    .threshold(config.readReplicaLagAlarmSeconds())
+                    .evaluationPeriods(3)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+
+            readReplicas.add(replica);
+        }
+    }
+
+    private static PerformanceInsightRetention toPerformanceInsightRetention(int days) {
+        if (days == 7) {
+            return PerformanceInsightRetention.DEFAULT;
+        }
+        if (days == 731) {
+            return PerformanceInsightRetention.LONG_TERM;
+        }
+        return PerformanceInsightRetention.valueOf("MONTHS_" + (days / 31));
+    }
+
+    private static StorageType toStorageType(String storageType) {
+        return switch (storageType) {
+            case "gp2" -> StorageType.GP2;
+            case "gp3" -> StorageType.GP3;
+            case "io1" -> StorageType.IO1;
+            case "io2" -> StorageType.IO2;
+            default -> throw new IllegalArgumentException("지원하지 않는 RDS 스토리지 타입입니다: " + storageType);
+        };
+    }
+
+    private Metric proxyMetric(String metricName, String statistic) {
+        return Metric.Builder.create()
+                .namespace("AWS/RDS")
+                .metricName(metricName)
+                .dimensionsMap(Map.of("ProxyName", DB_PROXY_NAME))
+                .statistic(statistic)
+                .period(Duration.minutes(1))
+                .build();
     }
 
+    /**
+     * PostgreSQL 인스턴스 (RDS_ENGINE=POSTGRES 전용).
+     * 엔진과 무관한 접속 정보는 getDbEndpointAddress() / getDbSecret() / getDbConnections()를 사용한다.
+     */
     public DatabaseInstance getRds() {
+        if (rds == null) {
+            throw new IllegalStateException(
+                    "RDS 인스턴스가 없습니다(RDS_ENGINE=" + config.engine() + "). getDbCluster() 또는 엔진 공통 접근자를 사용하세요."
+            );
+        }
         return rds;
     }
 
+    /**
+     * Aurora Serverless v2 클러스터 (RDS_ENGINE=AURORA_SERVERLESS_V2 전용)
+     */
+    public DatabaseCluster getDbCluster() {
+        if (auroraCluster == null) {
+            throw new IllegalStateException(
+                    "Aurora 클러스터가 없습니다(RDS_ENGINE=" + config.engine() + "). getRds() 또는 엔진 공통 접근자를 사용하세요."
+            );
+        }
+        return auroraCluster;
+    }
+
+    /**
+     * 엔진 공통 DB 네트워크 접근 (인스턴스/Aurora 클러스터 중 생성된 쪽의 Connections)
+     */
+    public Connections getDbConnections() {
+        return auroraCluster != null ? auroraCluster.getConnections() : rds.getConnections();
+    }
+
     public Secret getDbSecret() {
         return dbSecret;
     }
@@ -97,4 +462,68 @@ public class RdsStack extends Stack {
     public SecurityGroup getDbSg() {
         return dbSg;
     }
+
+    public DatabaseProxy getDbProxy() {
+        return dbProxy;
+    }
+
+    /**
+     * 애플리케이션 접속 host (Proxy 사용 시 Proxy endpoint)
+     */
+    public String getDbEndpointAddress() {
+        if (dbProxy != null) {
+            return dbProxy.getEndpoint();
+        }
+        return auroraCluster != null
+                ? auroraCluster.getClusterEndpoint().getHostname()
+                : rds.getDbInstanceEndpointAddress();
+    }
+
+    /**
+     * 애플리케이션 접속 port (Proxy는 엔진 기본 포트를 그대로 사용)
+     */
+    public String getDbEndpointPort() {
+        return dbProxy != null || auroraCluster != null ? String.valueOf(DB_PORT) : rds.getDbInstanceEndpointPort();
+    }
+
+    /**
+     * Proxy IAM 인증용 rds-db:connect 리소스 ARN (IAM 인증 미사용 시 빈 문자열)
+     */
+    public String getDbConnectArn() {
+        if (dbProxy == null || !config.proxyRequireIam()) {
+            return "";
+        }
+        return String.format("arn:aws:rds-db:%s:%s:dbuser:%s/*", getRegion(), getAccount(), proxyResourceId());
+    }
+
+    // Proxy ARN(arn:aws:rds:<region>:<account>:db-proxy:<resource id>)의 resource id
+    private String proxyResourceId() {
+        return Fn.select(6, Fn.split(":", dbProxy.getDbProxyArn()));
+    }
+
+    public List<DatabaseInstanceReadReplica> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * 읽기 전용 접속 host 목록 (replica 미사용 시 빈 목록, Aurora는 reader endpoint 1개)
+     */
+    public List<String> getDbReadEndpointAddresses() {
+        if (auroraCluster != null) {
+            return config.hasReadReplicas()
+                    ? List.of(auroraCluster.getClusterReadEndpoint().getHostname())
+                    : List.of();
+        }
+        return readReplicas.stream()
+                .map(DatabaseInstanceReadReplica::getDbInstanceEndpointAddress)
+                .toList();
+    }
+
+    public Metric getProxyPinnedConnectionsMetric() {
+        return proxyPinnedConnectionsMetric;
+    }
+
+    public Metric getProxyBorrowLatencyMetric() {
+        return proxyBorrowLatencyMetric;
+    }
 }
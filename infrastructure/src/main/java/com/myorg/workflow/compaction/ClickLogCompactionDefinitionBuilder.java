@@ -0,0 +1,196 @@
+package com.myorg.workflow.compaction;
+
+import com.myorg.config.ClickLogCatalogConfig;
+import com.myorg.config.ClickLogCompactionConfig;
+import software.amazon.awscdk.ArnComponents;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.stepfunctions.CatchProps;
+import software.amazon.awscdk.services.stepfunctions.Chain;
+import software.amazon.awscdk.services.stepfunctions.Choice;
+import software.amazon.awscdk.services.stepfunctions.Condition;
+import software.amazon.awscdk.services.stepfunctions.IntegrationPattern;
+import software.amazon.awscdk.services.stepfunctions.JsonPath;
+import software.amazon.awscdk.services.stepfunctions.Pass;
+import software.amazon.awscdk.services.stepfunctions.PassProps;
+import software.amazon.awscdk.services.stepfunctions.RetryProps;
+import software.amazon.awscdk.services.stepfunctions.Succeed;
+import software.amazon.awscdk.services.stepfunctions.tasks.AthenaGetQueryResults;
+import software.amazon.awscdk.services.stepfunctions.tasks.AthenaGetQueryResultsProps;
+import software.amazon.awscdk.services.stepfunctions.tasks.AthenaStartQueryExecution;
+import software.amazon.awscdk.services.stepfunctions.tasks.AthenaStartQueryExecutionProps;
+import software.amazon.awscdk.services.stepfunctions.tasks.CallAwsService;
+import software.amazon.awscdk.services.stepfunctions.tasks.CallAwsServiceProps;
+import software.amazon.awscdk.services.stepfunctions.tasks.QueryExecutionContext;
+import software.constructs.Construct;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * raw 클릭 로그 compaction Step Functions 정의 빌더.
+ *
+ * 목적:
+ * - 닫힌 시간 파티션의 소형 JSON/Parquet 파일을 Athena INSERT INTO로 큰 Parquet 파일 몇 개로 합침
+ * - compacted 테이블에 파티션이 등록되어 있으면 완료로 보고 건너뜀 (재실행 안전)
+ * - 스케줄 실행은 최근 catchUpHours개 시간을 매번 다시 확인하므로 실패/누락된 시간이 자동으로 따라잡힘
+ * - 수동 실행 시 입력 {"dt": "yyyy-MM-dd", "hour": "HH"}로 특정 파티션 재처리 (catch-up 범위 밖 backfill)
+ */
+public class ClickLogCompactionDefinitionBuilder {
+
+    /**
+     * 워크플로우 상태 전이:
+     * 1) 대상 파티션 목록 결정 (입력값 1개 또는 현재 - delayHours부터 catchUpHours개)
+     * 2) 파티션마다 순서대로 compacted 파티션 존재 여부 확인
+     * 3) 없으면 INSERT INTO 실행 (성공 시 Athena가 파티션을 등록 = 완료 표시)
+     */
+    public Chain build(
+            Construct scope,
+            ClickLogCatalogConfig catalogConfig,
+            ClickLogCompactionConfig compactionConfig,
+            String workGroupName
+    ) {
+        QueryExecutionContext queryContext = QueryExecutionContext.builder()
+                .databaseName(catalogConfig.databaseName())
+                .build();
+
+        Pass useInputPartition = new Pass(scope, "UseInputPartition", PassProps.builder()
+                .parameters(Map.of("partitions.$", "States.Array($)"))
+                .resultPath("$.target")
+                .build());
+
+        AthenaStartQueryExecution resolveTargetPartition = new AthenaStartQueryExecution(
+                scope,
+                "ResolveTargetPartition",
+                AthenaStartQueryExecutionProps.builder()
+                        .queryString(compactionConfig.targetPartitionQuery())
+                        .workGroup(workGroupName)
+                        .queryExecutionContext(queryContext)
+                        .integrationPattern(IntegrationPattern.RUN_JOB)
+                        .resultPath("$.resolveQuery")
+                        .build()
+        );
+
+        AthenaGetQueryResults readTargetPartitions = new AthenaGetQueryResults(
+                scope,
+                "ReadTargetPartitions",
+                AthenaGetQueryResultsProps.builder()
+                        .queryExecutionId(JsonPath.stringAt("$.resolveQuery.QueryExecution.QueryExecutionId"))
+                        // 첫 행은 컬럼 헤더
+                        .resultSelector(Map.of("rows.$", "$.ResultSet.Rows[1:]"))
+                        .resultPath("$.resolved")
+                        .build()
+        );
+
+        // Athena 결과 행 -> {dt, hour}
+        software.amazon.awscdk.services.stepfunctions.Map toPartitions =
+                software.amazon.awscdk.services.stepfunctions.Map.Builder.create(scope, "ToPartitions")
+                        .itemsPath("$.resolved.rows")
+                        .itemSelector(Map.of(
+                                "dt.$", "$$.Map.Item.Value.Data[0].VarCharValue",
+                                "hour.$", "$$.Map.Item.Value.Data[1].VarCharValue"
+                        ))
+                        .resultPath("$.target.partitions")
+                        .build();
+        toPartitions.itemProcessor(new Pass(scope, "EmitPartition"));
+
+        CallAwsService checkCompactedPartition = new CallAwsService(
+                scope,
+                "CheckCompactedPartition",
+                CallAwsServiceProps.builder()
+                        .service("glue")
+                        .action("getPartition")
+                        .parameters(Map.of(
+                                "DatabaseName", catalogConfig.databaseName(),
+                                "TableName", compactionConfig.compactedTableName(),
+                                "PartitionValues", JsonPath.array(
+                                        JsonPath.stringAt("$.partition.dt"),
+                                        JsonPath.stringAt("$.partition.hour")
+                                )
+                        ))
+                        .iamResources(List.of(
+                                Stack.of(scope).formatArn(ArnComponents.builder()
+                                        .service("glue")
+                                        .resource("catalog")
+                                        .build()),
+                                Stack.of(scope).formatArn(ArnComponents.builder()
+                                        .service("glue")
+                                        .resource("database")
+                                        .resourceName(catalogConfig.databaseName())
+                                        .build()),
+                                Stack.of(scope).formatArn(ArnComponents.builder()
+                                        .service("glue")
+                                        .resource("table")
+                                        .resourceName(catalogConfig.databaseName() + "/" + compactionConfig.compactedTableName())
+                                        .build())
+                        ))
+                        .resultPath(JsonPath.DISCARD)
+                        .build()
+        );
+
+        AthenaStartQueryExecution compactPartition = new AthenaStartQueryExecution(
+                scope,
+                "CompactPartition",
+                AthenaStartQueryExecutionProps.builder()
+                        .queryString(JsonPath.format(
+                                compactionConfig.compactionQueryTemplate(catalogConfig),
+                                JsonPath.stringAt("$.partition.dt"),
+                                JsonPath.stringAt("$.partition.hour")
+                        ))
+                        .workGroup(workGroupName)
+                        .queryExecutionContext(queryContext)
+                        .integrationPattern(IntegrationPattern.RUN_JOB)
+                        .resultPath("$.compactionQuery")
+                        .build()
+        );
+        compactPartition.addRetry(RetryProps.builder()
+                .errors(List.of("Athena.TooManyRequestsException"))
+                .interval(Duration.seconds(30))
+                .maxAttempts(3)
+                .backoffRate(2)
+                .build());
+
+        Succeed partitionCompacted = new Succeed(scope, "PartitionCompacted");
+        Succeed alreadyCompacted = new Succeed(scope, "AlreadyCompacted");
+        Succeed compactionFinished = new Succeed(scope, "CompactionFinished");
+
+        // 파티션이 없으면 compaction 진행
+        checkCompactedPartition.addCatch(
+                compactPartition,
+                CatchProps.builder()
+                        .errors(List.of("Glue.EntityNotFoundException"))
+                        .resultPath(JsonPath.DISCARD)
+                        .build()
+        );
+        checkCompactedPartition.next(alreadyCompacted);
+        compactPartition.next(partitionCompacted);
+
+        // 오래된 시간부터 하나씩 (Athena 동시 쿼리 한도 보호), 한 시간이라도 실패하면 실행 실패로 알람
+        software.amazon.awscdk.services.stepfunctions.Map compactPartitions =
+                software.amazon.awscdk.services.stepfunctions.Map.Builder.create(scope, "CompactPartitions")
+                        .itemsPath("$.target.partitions")
+                        .itemSelector(Map.of("partition", Map.of(
+                                "dt.$", "$$.Map.Item.Value.dt",
+                                "hour.$", "$$.Map.Item.Value.hour"
+                        )))
+                        .maxConcurrency(1)
+                        .resultPath(JsonPath.DISCARD)
+                        .build();
+        compactPartitions.itemProcessor(checkCompactedPartition);
+        compactPartitions.next(compactionFinished);
+
+        resolveTargetPartition.next(readTargetPartitions);
+        readTargetPartitions.next(toPartitions);
+        toPartitions.next(compactPartitions);
+        useInputPartition.next(compactPartitions);
+
+        Choice hasInputPartition = new Choice(scope, "HasInputPartition")
+                .when(
+                        Condition.and(Condition.isPresent("$.dt"), Condition.isPresent("$.hour")),
+                        useInputPartition
+                )
+                .otherwise(resolveTargetPartition);
+
+        return Chain.start(hasInputPartition);
+    }
+}
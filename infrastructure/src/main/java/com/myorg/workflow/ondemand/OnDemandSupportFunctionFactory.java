@@ -2,7 +2,11 @@ package com.myorg.workflow.ondemand;
 
 import com.myorg.config.AnalysisServerReadinessConfig;
 import com.myorg.config.OnDemandWorkflowConfig;
+import com.myorg.stacks.RdsStack;
 import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Fn;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.iam.PolicyStatement;
 import software.amazon.awscdk.services.lambda.Code;
 import software.amazon.awscdk.services.lambda.Function;
 import software.amazon.awscdk.services.lambda.FunctionProps;
@@ -74,6 +78,21 @@ public final class OnDemandSupportFunctionFactory {
 
         if (config.usesOutboxRequestCountValidation()) {
             importSecret(scope, id + "DbSecret", config.businessValidatorDbSecretId()).grantRead(function);
+            if (config.businessValidatorDbIamAuth()) {
+                if (!config.businessValidatorViaRdsProxy()) {
+                    throw new IllegalStateException("검증 Lambda IAM 인증은 RDS Proxy 사용 시에만 지원합니다.");
+                }
+                // RDS Proxy IAM 인증 토큰 발급 권한 (RdsStack Proxy로 한정)
+                function.addToRolePolicy(PolicyStatement.Builder.create()
+                        .actions(List.of("rds-db:connect"))
+                        .resources(List.of(String.format(
+                                "arn:aws:rds-db:%s:%s:dbuser:%s/*",
+                                Stack.of(scope).getRegion(),
+                                Stack.of(scope).getAccount(),
+                                Fn.importValue(RdsStack.DB_PROXY_RESOURCE_ID_EXPORT)
+                        )))
+                        .build());
+            }
         }
 
         return function;
@@ -84,6 +103,13 @@ public final class OnDemandSupportFunctionFactory {
         env.put("VALIDATION_MODE", config.businessValidationMode().name());
         env.put("DB_NAME", config.businessValidatorDbName());
         env.put("DB_SECRET_ID", config.businessValidatorDbSecretId());
+        // secret host(인스턴스 주소) 대신 명시 host 또는 RdsStack Proxy endpoint로 접속한다.
+        if (!config.businessValidatorDbHost().isBlank()) {
+            env.put("DB_HOST", config.businessValidatorDbHost());
+        } else if (config.usesOutboxRequestCountValidation() && config.businessValidatorViaRdsProxy()) {
+            env.put("DB_HOST", Fn.importValue(RdsStack.DB_PROXY_ENDPOINT_EXPORT));
+        }
+        env.put("DB_IAM_AUTH", String.valueOf(config.businessValidatorDbIamAuth()));
         // worker task 기동과 batch metadata 기록 시점 차이를 흡수한다.
         env.put("JOB_LOOKUP_GRACE_SECONDS", "300");
         return env;
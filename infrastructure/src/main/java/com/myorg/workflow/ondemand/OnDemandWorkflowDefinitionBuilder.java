@@ -557,7 +557,7 @@ public class OnDemandWorkflowDefinitionBuilder {
         // Spring Batch 실행에 필요한 설정은 env override만 사용한다.
         env.add(Map.of("Name", "SPRING_PROFILES_ACTIVE", "Value", workerConfig.workerSpringProfile()));
         env.add(Map.of("Name", "SPRING_BATCH_JOB_NAME", "Value", workerConfig.workerBatchJobName()));
-        env.add(Map.of("Name", "DB_POOL_MAX", "Value", "5"));
+        env.add(Map.of("Name", "DB_POOL_MAX", "Value", String.valueOf(workerConfig.workerDbPoolMax())));
         env.add(Map.of("Name", "DB_POOL_MIN", "Value", "1"));
 
         // worker는 application.kafka.yml에서 MSK_BOOTSTRAP_SERVERS만 읽고 보안 설정은 코드/설정 파일에 이미 고정돼 있다.
@@ -0,0 +1,160 @@
+package com.myorg.workflow.redrive;
+
+import com.myorg.config.ErrorLogRedriveConfig;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.ec2.ISecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ecs.ICluster;
+import software.amazon.awscdk.services.ecs.ContainerDefinition;
+import software.amazon.awscdk.services.ecs.FargatePlatformVersion;
+import software.amazon.awscdk.services.ecs.TaskDefinition;
+import software.amazon.awscdk.services.stepfunctions.CatchProps;
+import software.amazon.awscdk.services.stepfunctions.Chain;
+import software.amazon.awscdk.services.stepfunctions.Choice;
+import software.amazon.awscdk.services.stepfunctions.Condition;
+import software.amazon.awscdk.services.stepfunctions.Fail;
+import software.amazon.awscdk.services.stepfunctions.FailProps;
+import software.amazon.awscdk.services.stepfunctions.IntegrationPattern;
+import software.amazon.awscdk.services.stepfunctions.JsonPath;
+import software.amazon.awscdk.services.stepfunctions.Pass;
+import software.amazon.awscdk.services.stepfunctions.PassProps;
+import software.amazon.awscdk.services.stepfunctions.Result;
+import software.amazon.awscdk.services.stepfunctions.Succeed;
+import software.amazon.awscdk.services.stepfunctions.Timeout;
+import software.amazon.awscdk.services.stepfunctions.tasks.ContainerOverride;
+import software.amazon.awscdk.services.stepfunctions.tasks.EcsFargateLaunchTarget;
+import software.amazon.awscdk.services.stepfunctions.tasks.EcsFargateLaunchTargetOptions;
+import software.amazon.awscdk.services.stepfunctions.tasks.EcsRunTask;
+import software.amazon.awscdk.services.stepfunctions.tasks.TaskEnvironmentVariable;
+import software.constructs.Construct;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * error-logs 재처리 Step Functions 정의 빌더.
+ *
+ * 실행 입력 (모든 값은 문자열):
+ * - startTimestamp / endTimestamp: ISO-8601 구간 (offsetsForTimes로 시작 offset 계산)
+ * - startOffsets: "partition:offset,..." 형식 (지정 시 timestamp보다 우선)
+ * - maxRecords: 재발행 상한 ("0"이면 구간 끝까지)
+ */
+public class ErrorLogRedriveDefinitionBuilder {
+
+    // 실행 입력 키 -> 컨테이너 환경변수
+    private static final Map<String, String> INPUT_ENVIRONMENT = inputEnvironment();
+
+    /**
+     * 워크플로우 상태 전이:
+     * 1) 재처리 구간(startTimestamp 또는 startOffsets) 필수 확인
+     * 2) 입력 기본값 병합
+     * 3) redrive task 실행 후 종료까지 대기 (.sync)
+     * 4) exit code 확인 후 결과 보고 (건수는 task 요약 로그 -> metric filter)
+     */
+    public Chain build(
+            Construct scope,
+            ErrorLogRedriveConfig config,
+            ICluster cluster,
+            TaskDefinition taskDefinition,
+            ContainerDefinition container,
+            ISecurityGroup securityGroup,
+            SubnetSelection subnets
+    ) {
+        Fail rangeRequired = new Fail(scope, "RedriveRangeRequired", FailProps.builder()
+                .error("RedriveRangeRequired")
+                .cause("startTimestamp or startOffsets is required.")
+                .build());
+        Fail taskFailed = new Fail(scope, "RedriveTaskFailed", FailProps.builder()
+                .error("RedriveTaskFailed")
+                .cause("Error log redrive task failed to run.")
+                .build());
+        Fail exitCodeNonZero = new Fail(scope, "RedriveExitCodeNonZero", FailProps.builder()
+                .error("RedriveExitCodeNonZero")
+                .cause("Error log redrive task exited with a non-zero code.")
+                .build());
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        INPUT_ENVIRONMENT.keySet().forEach(key -> defaults.put(key, ""));
+        defaults.put("maxRecords", "0");
+
+        Pass loadInputDefaults = new Pass(scope, "LoadRedriveInputDefaults", PassProps.builder()
+                .result(Result.fromObject(defaults))
+                .resultPath("$.defaults")
+                .build());
+
+        Pass mergeInput = new Pass(scope, "MergeRedriveInput", PassProps.builder()
+                .parameters(Map.of(
+                        "args.$", "States.JsonMerge($.defaults, $$.Execution.Input, false)"
+                ))
+                .build());
+
+        EcsRunTask runRedriveTask = EcsRunTask.Builder.create(scope, "RunRedriveTask")
+                .integrationPattern(IntegrationPattern.RUN_JOB)
+                .cluster(cluster)
+                .taskDefinition(taskDefinition)
+                .launchTarget(new EcsFargateLaunchTarget(EcsFargateLaunchTargetOptions.builder()
+                        .platformVersion(FargatePlatformVersion.LATEST)
+                        .build()))
+                .subnets(subnets)
+                .securityGroups(List.of(securityGroup))
+                .assignPublicIp(false)
+                .containerOverrides(List.of(ContainerOverride.builder()
+                        .containerDefinition(container)
+                        .environment(INPUT_ENVIRONMENT.entrySet().stream()
+                                .map(entry -> TaskEnvironmentVariable.builder()
+                                        .name(entry.getValue())
+                                        .value(JsonPath.stringAt("$.args." + entry.getKey()))
+                                        .build())
+                                .toList())
+                        .build()))
+                .taskTimeout(Timeout.duration(Duration.minutes(config.timeoutMinutes())))
+                .resultPath("$.redriveTask")
+                .build();
+        runRedriveTask.addCatch(taskFailed, CatchProps.builder()
+                .resultPath("$.error")
+                .build());
+
+        Pass reportResult = new Pass(scope, "ReportRedriveResult", PassProps.builder()
+                .parameters(Map.of(
+                        "status", "SUCCEEDED",
+                        "sourceTopic", config.sourceTopic(),
+                        "targetTopic", config.targetTopic(),
+                        "range.$", "$.args",
+                        "taskArn.$", "$.redriveTask.TaskArn",
+                        // read/published/skipped 건수는 task 요약 로그에서 metric filter로 집계
+                        "metricNamespace", ErrorLogRedriveConfig.METRIC_NAMESPACE,
+                        "summaryEvent", ErrorLogRedriveConfig.SUMMARY_EVENT
+                ))
+                .build());
+
+        String exitCodePath = "$.redriveTask.Containers[0].ExitCode";
+        Choice checkExitCode = new Choice(scope, "CheckRedriveExitCode")
+                .when(
+                        Condition.and(Condition.isPresent(exitCodePath), Condition.numberEquals(exitCodePath, 0)),
+                        reportResult.next(new Succeed(scope, "RedriveCompleted"))
+                )
+                .otherwise(exitCodeNonZero);
+
+        Choice hasRange = new Choice(scope, "HasRedriveRange")
+                .when(
+                        Condition.or(Condition.isPresent("$.startTimestamp"), Condition.isPresent("$.startOffsets")),
+                        loadInputDefaults
+                                .next(mergeInput)
+                                .next(runRedriveTask)
+                                .next(checkExitCode)
+                )
+                .otherwise(rangeRequired);
+
+        return Chain.start(hasRange);
+    }
+
+    private static Map<String, String> inputEnvironment() {
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("startTimestamp", "REDRIVE_START_TIMESTAMP");
+        env.put("endTimestamp", "REDRIVE_END_TIMESTAMP");
+        env.put("startOffsets", "REDRIVE_START_OFFSETS");
+        env.put("maxRecords", "REDRIVE_MAX_RECORDS");
+        return env;
+    }
+}
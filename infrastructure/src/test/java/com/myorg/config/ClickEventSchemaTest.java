@@ -0,0 +1,39 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClickEventSchemaTest {
+
+    @Test
+    @DisplayName("필드 목록과 필수 필드 설정으로 FromJson용 JSON Schema를 만들어야 한다.")
+    void should_build_json_schema_from_configured_fields() {
+        ClickEventSchema schema = ClickEventSchema.parse(
+                "eventId:STRING, occurredAt:long, pageUrl:STRING",
+                "eventId,occurredAt",
+                "occurredAt"
+        );
+
+        ClickEventSchema.validate(schema);
+        assertThat(schema.fields())
+                .extracting(ClickEventSchema.Field::name)
+                .containsExactly("eventId", "occurredAt", "pageUrl");
+        assertThat(schema.toJsonSchema())
+                .contains("\"occurredAt\":{\"type\":\"integer\"}")
+                .contains("\"required\":[\"eventId\",\"occurredAt\"]");
+    }
+
+    @Test
+    @DisplayName("필수 필드가 목록에 없거나 이벤트 시각 필드가 LONG이 아니면 거부해야 한다.")
+    void should_reject_inconsistent_schema() {
+        assertThatThrownBy(() -> ClickEventSchema.parse("eventId:STRING", "eventId,memberId", "eventId"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("memberId");
+        assertThatThrownBy(() -> ClickEventSchema.validate(ClickEventSchema.parse("eventId:STRING", "", "eventId")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("LONG");
+    }
+}
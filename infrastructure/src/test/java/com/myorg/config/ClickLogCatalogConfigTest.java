@@ -0,0 +1,54 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClickLogCatalogConfigTest {
+
+    @Test
+    @DisplayName("partition projection 경로는 S3 sink의 topics.dir/topic/dt/hour 구조와 같아야 한다.")
+    void should_match_sink_path_layout() {
+        ClickLogCatalogConfig config = catalogConfig("2025-01-01");
+
+        assertThat(config.projectionParameters("test-bucket"))
+                .containsEntry(
+                        "storage.location.template",
+                        "s3://test-bucket/events/raw/client-event-logs/dt=${dt}/hour=${hour}/"
+                )
+                .containsEntry("projection.dt.range", "2025-01-01,NOW+1DAYS")
+                .containsEntry("classification", "json");
+    }
+
+    @Test
+    @DisplayName("PARQUET raw는 JSON과 다른 prefix/테이블을 써야 한다.")
+    void should_separate_raw_location_by_format() {
+        ClickLogCatalogConfig config = catalogConfig("2025-01-01").withFormat(ClickLogSinkFormat.PARQUET);
+
+        assertThat(config.rawTableName()).isEqualTo("client_event_logs_raw_parquet");
+        assertThat(config.tableLocation("test-bucket"))
+                .isEqualTo("s3://test-bucket/events/raw-parquet/client-event-logs/");
+        assertThat(catalogConfig("2025-01-01").rawTableName()).isEqualTo("client_event_logs_raw");
+    }
+
+    @Test
+    @DisplayName("partition projection 시작일 형식이 잘못되면 거부해야 한다.")
+    void should_reject_invalid_projection_start_date() {
+        assertThrows(IllegalStateException.class, () -> ClickLogCatalogConfig.validate(catalogConfig("2025/01/01")));
+    }
+
+    private static ClickLogCatalogConfig catalogConfig(String projectionStartDate) {
+        return new ClickLogCatalogConfig(
+                "holliverse_click_logs",
+                "client_event_logs_raw",
+                "client-event-logs",
+                ClickLogSinkFormat.JSON,
+                projectionStartDate,
+                "holliverse-click-logs",
+                10L * 1024 * 1024 * 1024,
+                ClickEventSchema.fromEnv()
+        );
+    }
+}
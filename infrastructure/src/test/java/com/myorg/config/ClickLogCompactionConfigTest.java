@@ -0,0 +1,74 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClickLogCompactionConfigTest {
+
+    @Test
+    @DisplayName("compaction 쿼리는 raw 파티션 하나를 compacted 테이블로 옮겨야 한다.")
+    void should_build_partition_scoped_insert_query() {
+        ClickLogCompactionConfig config = compactionConfig(2, 7);
+        ClickLogCatalogConfig catalogConfig = new ClickLogCatalogConfig(
+                "holliverse_click_logs",
+                "client_event_logs_raw",
+                "client-event-logs",
+                ClickLogSinkFormat.JSON,
+                "2025-01-01",
+                "holliverse-click-logs",
+                10L * 1024 * 1024 * 1024,
+                ClickEventSchema.fromEnv()
+        );
+
+        assertThat(config.compactionQueryTemplate(catalogConfig))
+                .startsWith("INSERT INTO \"holliverse_click_logs\".\"client_event_logs_compacted\" SELECT eventid, ")
+                .contains("FROM \"holliverse_click_logs\".\"client_event_logs_raw\"")
+                .endsWith("WHERE dt = '{}' AND hour = '{}'");
+        assertThat(config.targetPartitionQuery())
+                .contains("INTERVAL '2' HOUR")
+                .contains("sequence(0, 23)");
+    }
+
+    @Test
+    @DisplayName("raw 로그 만료 기간이 compaction 지연 + catch-up 범위보다 충분히 길지 않으면 거부해야 한다.")
+    void should_reject_raw_expiration_shorter_than_catch_up_window() {
+        assertThrows(IllegalStateException.class, () -> ClickLogCompactionConfig.validate(compactionConfig(2, 2), ClickLogTimestampExtractor.WALLCLOCK));
+        assertDoesNotThrow(() -> ClickLogCompactionConfig.validate(compactionConfig(2, 3), ClickLogTimestampExtractor.WALLCLOCK));
+    }
+
+    @Test
+    @DisplayName("raw 로그 만료는 기본적으로 꺼져 있어야 한다.")
+    void should_keep_raw_logs_by_default() {
+        assertThat(ClickLogCompactionConfig.fromEnv().rawExpirationEnabled()).isFalse();
+        assertDoesNotThrow(() -> ClickLogCompactionConfig.validate(compactionConfig(2, 0), ClickLogTimestampExtractor.RECORD_FIELD));
+    }
+
+    @Test
+    @DisplayName("RECORD_FIELD 시간 파티션에서 raw 로그 만료를 켜면 거부해야 한다.")
+    void should_reject_raw_expiration_with_record_field_partitioning() {
+        assertThrows(IllegalStateException.class, () -> ClickLogCompactionConfig.validate(
+                compactionConfig(2, 7),
+                ClickLogTimestampExtractor.RECORD_FIELD
+        ));
+        assertDoesNotThrow(() -> ClickLogCompactionConfig.validate(
+                compactionConfig(2, 7),
+                ClickLogTimestampExtractor.WALLCLOCK
+        ));
+    }
+
+    private static ClickLogCompactionConfig compactionConfig(int delayHours, int rawExpirationDays) {
+        return new ClickLogCompactionConfig(
+                true,
+                "cron(15 * * * ? *)",
+                delayHours,
+                "client_event_logs_compacted",
+                "snappy",
+                rawExpirationDays,
+                24
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClickLogProducerProfileTest {
+
+    @Test
+    @DisplayName("batch.size가 브로커 message.max.bytes보다 크면 거부해야 한다.")
+    void should_reject_batch_larger_than_message_max_bytes() {
+        ClickLogProducerProfile profile = new ClickLogProducerProfile(20, 2_097_152, "zstd", "all", 5, 33_554_432L, 100);
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> ClickLogProducerProfile.validate(profile, brokerConfig("producer"))
+        );
+
+        assertEquals(
+                "producer batch.size가 브로커 message.max.bytes보다 큽니다: batchSize=2097152, messageMaxBytes=1048588",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    @DisplayName("브로커가 다른 압축 방식으로 재압축하면 거부해야 한다.")
+    void should_reject_broker_recompression() {
+        ClickLogProducerProfile profile = new ClickLogProducerProfile(20, 131_072, "lz4", "all", 5, 33_554_432L, 100);
+
+        assertThrows(IllegalStateException.class, () -> ClickLogProducerProfile.validate(profile, brokerConfig("zstd")));
+        assertDoesNotThrow(() -> ClickLogProducerProfile.validate(profile, brokerConfig("lz4")));
+    }
+
+    @Test
+    @DisplayName("acks=1이면 멱등 producer를 끈 환경변수를 만들어야 한다.")
+    void should_disable_idempotence_without_acks_all() {
+        ClickLogProducerProfile profile = new ClickLogProducerProfile(10, 65_536, "lz4", "1", 5, 33_554_432L, 100);
+
+        assertThat(profile.toEnvironment())
+                .containsEntry("KAFKA_PRODUCER_LINGER_MS", "10")
+                .containsEntry("KAFKA_PRODUCER_COMPRESSION_TYPE", "lz4")
+                .containsEntry("KAFKA_PRODUCER_ENABLE_IDEMPOTENCE", "false");
+    }
+
+    private static MskBrokerConfig brokerConfig(String compressionType) {
+        return new MskBrokerConfig(3, 6, 3, 2, compressionType, 1_073_741_824L, 72, 1_048_588, true);
+    }
+}
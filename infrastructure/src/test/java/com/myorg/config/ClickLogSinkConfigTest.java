@@ -0,0 +1,85 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClickLogSinkConfigTest {
+
+    @Test
+    @DisplayName("JSON 포맷은 기존 JsonFormat + schemaless JsonConverter 설정을 유지해야 한다.")
+    void should_keep_json_format_configuration() {
+        ClickLogSinkConfig config = new ClickLogSinkConfig(
+                ClickLogSinkFormat.JSON,
+                "snappy",
+                1000,
+                60000L,
+                ClickLogTimestampExtractor.WALLCLOCK,
+                ClickEventSchema.fromEnv()
+        );
+
+        Map<String, String> configuration = config.toConnectorConfiguration();
+
+        assertThat(configuration)
+                .containsEntry("format.class", "io.confluent.connect.s3.format.json.JsonFormat")
+                .containsEntry("value.converter", "org.apache.kafka.connect.json.JsonConverter")
+                .containsEntry("value.converter.schemas.enable", "false")
+                .containsEntry("flush.size", "1000")
+                .containsEntry("rotate.interval.ms", "60000")
+                .containsEntry("timestamp.extractor", "Wallclock")
+                .doesNotContainKey("transforms");
+    }
+
+    @Test
+    @DisplayName("PARQUET 포맷은 압축 방식, 이벤트 시각 파티션, 클릭 이벤트 스키마 변환을 포함해야 한다.")
+    void should_build_parquet_configuration_with_schema() {
+        ClickLogSinkConfig config = new ClickLogSinkConfig(
+                ClickLogSinkFormat.PARQUET,
+                "zstd",
+                50000,
+                300000L,
+                ClickLogTimestampExtractor.RECORD_FIELD,
+                ClickEventSchema.fromEnv()
+        );
+
+        Map<String, String> configuration = config.toConnectorConfiguration();
+
+        assertThat(configuration)
+                .containsEntry("format.class", "io.confluent.connect.s3.format.parquet.ParquetFormat")
+                .containsEntry("parquet.codec", "zstd")
+                .containsEntry("flush.size", "50000")
+                .containsEntry("timestamp.extractor", "RecordField")
+                .containsEntry("timestamp.field", "eventTime")
+                .containsEntry("transforms", "clickEventSchema")
+                .containsEntry(
+                        "transforms.clickEventSchema.type",
+                        "com.github.jcustenborder.kafka.connect.json.FromJson$Value"
+                );
+        assertThat(configuration.get("transforms.clickEventSchema.json.schema.inline"))
+                .contains("\"" + "eventTime" + "\"");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Parquet 압축 방식은 거부해야 한다.")
+    void should_reject_unsupported_parquet_codec() {
+        ClickLogSinkConfig config = new ClickLogSinkConfig(
+                ClickLogSinkFormat.PARQUET,
+                "lz4",
+                50000,
+                300000L,
+                ClickLogTimestampExtractor.WALLCLOCK,
+                ClickEventSchema.fromEnv()
+        );
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> ClickLogSinkConfig.validate(config)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo("지원하지 않는 Parquet 압축 방식입니다: lz4");
+    }
+}
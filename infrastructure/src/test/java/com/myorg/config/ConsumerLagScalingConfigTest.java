@@ -0,0 +1,57 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConsumerLagScalingConfigTest {
+
+    @Test
+    @DisplayName("최대 task 수는 토픽 파티션 수를 task당 consumer 수로 나눈 값을 넘지 않아야 한다.")
+    void should_cap_max_capacity_at_partitions() {
+        assertEquals(3, ConsumerLagScalingConfig.maxCapacity(6, 2, 10));
+        assertEquals(4, ConsumerLagScalingConfig.maxCapacity(6, 1, 4));
+    }
+
+    @Test
+    @DisplayName("scale-in 기준이 scale-out 기준 이상이면 거부해야 한다.")
+    void should_reject_scale_in_threshold_above_scale_out() {
+        ConsumerLagScalingConfig config = new ConsumerLagScalingConfig(
+                ConsumerLagMetric.SUM_OFFSET_LAG,
+                "holliverse-msk",
+                "click-log-consumer",
+                "client-event-logs",
+                1,
+                6,
+                1000,
+                1000,
+                120,
+                900,
+                15
+        );
+
+        assertThrows(IllegalStateException.class, () -> ConsumerLagScalingConfig.validate(config));
+    }
+
+    @Test
+    @DisplayName("scaling을 켰는데 최대 task 수가 최소 task 수 이하이면 거부해야 한다.")
+    void should_reject_max_capacity_not_above_min() {
+        ConsumerLagScalingConfig config = new ConsumerLagScalingConfig(
+                ConsumerLagMetric.SUM_OFFSET_LAG,
+                "holliverse-msk",
+                "click-log-consumer",
+                "client-event-logs",
+                1,
+                1,
+                1000,
+                100,
+                120,
+                900,
+                15
+        );
+
+        assertThrows(IllegalStateException.class, () -> ConsumerLagScalingConfig.validate(config));
+    }
+}
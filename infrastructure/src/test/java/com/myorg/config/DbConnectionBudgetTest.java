@@ -0,0 +1,49 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DbConnectionBudgetTest {
+
+    @Test
+    @DisplayName("Proxy 사용 시 상한은 예약분을 뺀 max_connections의 Proxy 비율이어야 한다.")
+    void should_apply_proxy_percent_to_connection_limit() {
+        // t4g.micro(1GiB, 예약분 300MiB 제외) max_connections = 79
+        assertEquals(68, DbConnectionBudget.connectionLimit(rdsConfig(RdsEngine.POSTGRES, 4, true)));
+        assertEquals(76, DbConnectionBudget.connectionLimit(rdsConfig(RdsEngine.POSTGRES, 4, false)));
+    }
+
+    @Test
+    @DisplayName("Aurora Serverless v2 상한은 최대 ACU 메모리 기준이어야 한다.")
+    void should_use_max_acu_for_aurora_connection_limit() {
+        // 8 ACU = 16GiB (예약분 8% 제외) -> max_connections 1658
+        assertEquals(1655, DbConnectionBudget.connectionLimit(rdsConfig(RdsEngine.AURORA_SERVERLESS_V2, 8, false)));
+    }
+
+    @Test
+    @DisplayName("풀 상한 x 최대 task 수 합계가 상한을 넘으면 초과로 판단해야 한다.")
+    void should_detect_budget_overflow() {
+        DbConnectionBudget budget = new DbConnectionBudget(
+                DbConnectionBudgetMode.FAIL,
+                List.of(
+                        new DbConnectionBudget.Consumer("customer-api", 20, 4),
+                        new DbConnectionBudget.Consumer("log-server", 10, 2)
+                )
+        );
+
+        assertEquals(100, budget.totalConnections());
+        assertThat(budget.exceeds(98)).isTrue();
+        assertThat(budget.exceeds(100)).isFalse();
+        assertThat(budget.report(98)).contains("합계 100 / 상한 98", "customer-api 20x4=80");
+    }
+
+    private static RdsConfig rdsConfig(RdsEngine engine, double maxCapacity, boolean proxyEnabled) {
+        return new RdsConfig(engine, 0.5, maxCapacity, "t4g.micro", PostgresParameterProfile.BALANCED, "",
+                proxyEnabled, true, 90, 50, 30, 5, 500000, 0, 30, "gp3", 20, 100, 0, 0, true, 7, 60);
+    }
+}
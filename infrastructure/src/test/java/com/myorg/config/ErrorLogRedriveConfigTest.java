@@ -0,0 +1,71 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class ErrorLogRedriveConfigTest {
+
+    @Test
+    @DisplayName("기본 재처리 설정(batch 1000, 초당 5000, 1vCPU/2GiB)은 허용해야 한다.")
+    void should_allow_default_redrive_config() {
+        ErrorLogRedriveConfig config = redriveConfig(1000, 5000, 1024, 2048);
+
+        assertDoesNotThrow(() -> ErrorLogRedriveConfig.validate(config));
+        assertThat(config.toEnvironment())
+                .containsEntry("SPRING_PROFILES_ACTIVE", "prod,redrive")
+                .containsEntry("REDRIVE_SOURCE_TOPIC", "error-logs")
+                .containsEntry("REDRIVE_TARGET_TOPIC", "client-event-logs")
+                .containsEntry("REDRIVE_MAX_RECORDS_PER_SECOND", "5000")
+                .containsEntry("KAFKA_MAX_POLL_RECORDS", "1000");
+    }
+
+    @Test
+    @DisplayName("batch 크기는 초당 재발행 상한보다 클 수 없다.")
+    void should_reject_batch_above_rate_limit() {
+        assertThatThrownBy(() -> ErrorLogRedriveConfig.validate(redriveConfig(2000, 1000, 1024, 2048)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("초당 상한");
+    }
+
+    @Test
+    @DisplayName("Fargate CPU/메모리 조합이 맞지 않으면 거부해야 한다.")
+    void should_reject_invalid_fargate_size() {
+        assertThatThrownBy(() -> ErrorLogRedriveConfig.validate(redriveConfig(1000, 5000, 1000, 2048)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CPU");
+        assertThatThrownBy(() -> ErrorLogRedriveConfig.validate(redriveConfig(1000, 5000, 1024, 1024)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2048~8192MiB");
+    }
+
+    @Test
+    @DisplayName("원본 토픽으로 다시 재발행하는 설정은 거부해야 한다.")
+    void should_reject_same_source_and_target_topic() {
+        ErrorLogRedriveConfig config = new ErrorLogRedriveConfig(
+                true, "redrive", "error-logs", "error-logs", "error-log-redrive", 1000, 5000, 1024, 2048, 60
+        );
+
+        assertThatThrownBy(() -> ErrorLogRedriveConfig.validate(config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("error-logs");
+    }
+
+    private ErrorLogRedriveConfig redriveConfig(int batchSize, int maxRecordsPerSecond, int cpu, int memoryMiB) {
+        return new ErrorLogRedriveConfig(
+                true,
+                "holliverse-error-log-redrive",
+                "error-logs",
+                "client-event-logs",
+                "error-log-redrive",
+                batchSize,
+                maxRecordsPerSecond,
+                cpu,
+                memoryMiB,
+                60
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaTopicRegistryTest {
+
+    @Test
+    @DisplayName("기본 토픽 명세는 파티션 수 검증을 통과해야 한다.")
+    void should_build_default_topic_specs() {
+        List<KafkaTopicSpec> specs = KafkaTopicRegistry.fromEnv(3);
+
+        assertThat(specs).extracting(KafkaTopicSpec::name)
+                .containsExactly("client-event-logs", "error-logs", "analysis.request.v1", "analysis.response.v1", "recommendation-topic");
+        assertEquals(6, KafkaTopicRegistry.find(specs, "client-event-logs").partitions());
+    }
+
+    @Test
+    @DisplayName("파티션 수가 consumer group 최대 task 수보다 작으면 거절해야 한다.")
+    void should_reject_partitions_below_max_consumers() {
+        KafkaTopicSpec spec = new KafkaTopicSpec(
+                "client-event-logs",
+                2,
+                3,
+                259200000L,
+                "delete",
+                List.of(new KafkaTopicSpec.ConsumerGroup("click-log-consumer", 4))
+        );
+
+        assertThatThrownBy(() -> KafkaTopicRegistry.validate(List.of(spec)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("partitions=2")
+                .hasMessageContaining("maxConsumers=4");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 cleanup.policy는 거절해야 한다.")
+    void should_reject_unknown_cleanup_policy() {
+        KafkaTopicSpec spec = new KafkaTopicSpec("recommendation-topic", 3, 3, 1000L, "archive", List.of());
+
+        assertThatThrownBy(() -> KafkaTopicRegistry.validate(List.of(spec)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cleanup.policy");
+    }
+}
@@ -0,0 +1,70 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class LogRoutingConfigTest {
+
+    @Test
+    @DisplayName("Loki output 옵션은 Cloud Map 주소와 버퍼/재시도 상한, Alloy와 같은 라벨을 가져야 한다.")
+    void should_build_loki_output_options() {
+        LogRoutingConfig config = logRoutingConfig(LogRoutingMode.FIRELENS, 2097152, 5);
+
+        assertDoesNotThrow(() -> LogRoutingConfig.validate(config));
+        assertThat(config.firelensEnabled()).isTrue();
+        assertThat(config.lokiOutputOptions("customer-api"))
+                .containsEntry("Name", "loki")
+                .containsEntry("host", "grafana-server.holliverse.internal")
+                .containsEntry("port", "3100")
+                .containsEntry("uri", "/loki/api/v1/push")
+                .containsEntry("line_format", "json")
+                .containsEntry("Retry_Limit", "5")
+                .containsEntry("log-driver-buffer-limit", "2097152");
+        assertThat(config.lokiOutputOptions("customer-api").get("labels"))
+                .contains("job=ecs-firelens", "env=prod", "service=customer-api", "severity=$level");
+        // 값 범위가 큰 필드와 severity와 중복되는 level은 라벨로 올리지 않는다
+        assertThat(config.lokiOutputOptions("customer-api").get("label_keys"))
+                .contains("$team", "$status", "$method")
+                .doesNotContain("$level", "$error_code", "$uri_template", "trace_id");
+    }
+
+    @Test
+    @DisplayName("모드 값이 비어 있으면 CLOUDWATCH, FIRELENS는 명시적으로 선택해야 한다.")
+    void should_parse_routing_mode() {
+        assertThat(LogRoutingMode.fromEnv(" ")).isEqualTo(LogRoutingMode.CLOUDWATCH);
+        assertThat(LogRoutingMode.fromEnv("firelens")).isEqualTo(LogRoutingMode.FIRELENS);
+        assertThat(LogRoutingConfig.fromEnv().firelensEnabled()).isFalse();
+        assertThat(logRoutingConfig(LogRoutingMode.CLOUDWATCH, 2097152, 5).firelensEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼 상한과 재시도 횟수가 범위를 벗어나면 거부해야 한다.")
+    void should_reject_invalid_buffer_and_retry() {
+        assertThatThrownBy(() -> LogRoutingConfig.validate(logRoutingConfig(LogRoutingMode.FIRELENS, 0, 5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("buffer");
+        assertThatThrownBy(() -> LogRoutingConfig.validate(logRoutingConfig(LogRoutingMode.FIRELENS, 600_000_000, 5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("536870912");
+        assertThatThrownBy(() -> LogRoutingConfig.validate(logRoutingConfig(LogRoutingMode.FIRELENS, 2097152, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(EnvKey.LOG_ROUTING_RETRY_LIMIT.key());
+    }
+
+    private LogRoutingConfig logRoutingConfig(LogRoutingMode mode, int bufferLimitBytes, int retryLimit) {
+        return new LogRoutingConfig(
+                mode,
+                "public.ecr.aws/aws-observability/aws-for-fluent-bit:stable",
+                "grafana-server.holliverse.internal",
+                3100,
+                "prod",
+                bufferLimitBytes,
+                retryLimit,
+                64
+        );
+    }
+}
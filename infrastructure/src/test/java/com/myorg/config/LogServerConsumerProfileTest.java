@@ -0,0 +1,55 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogServerConsumerProfileTest {
+
+    @Test
+    @DisplayName("BULK 프리셋은 poll 크기와 DB batch insert 크기를 함께 키워야 한다.")
+    void should_build_bulk_preset_environment() {
+        LogServerConsumerPreset preset = LogServerConsumerPreset.fromEnv("bulk");
+        LogServerConsumerProfile profile = new LogServerConsumerProfile(
+                preset,
+                preset.maxPollRecords(),
+                preset.fetchMinBytes(),
+                preset.fetchMaxWaitMs(),
+                preset.listenerConcurrency(),
+                preset.dbBatchInsertSize()
+        );
+
+        LogServerConsumerProfile.validate(profile, 10);
+        assertThat(profile.toEnvironment())
+                .containsEntry("KAFKA_CONSUMER_PROFILE", "bulk")
+                .containsEntry("KAFKA_MAX_POLL_RECORDS", "1000")
+                .containsEntry("KAFKA_FETCH_MIN_BYTES", "65536")
+                .containsEntry("LOG_DB_BATCH_INSERT_SIZE", "500");
+    }
+
+    @Test
+    @DisplayName("DB batch insert 크기가 max.poll.records보다 크면 거부해야 한다.")
+    void should_reject_batch_larger_than_poll() {
+        LogServerConsumerProfile profile =
+                new LogServerConsumerProfile(LogServerConsumerPreset.SPEED, 100, 1, 100, 1, 200);
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> LogServerConsumerProfile.validate(profile, 10)
+        );
+
+        assertEquals("DB batch insert 크기는 max.poll.records 이하여야 합니다: batch=200, maxPollRecords=100", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("listener concurrency가 DB 풀 상한보다 크면 거부해야 한다.")
+    void should_reject_concurrency_above_pool() {
+        LogServerConsumerProfile profile =
+                new LogServerConsumerProfile(LogServerConsumerPreset.BULK, 1000, 65536, 500, 4, 500);
+
+        assertThrows(IllegalStateException.class, () -> LogServerConsumerProfile.validate(profile, 2));
+    }
+}
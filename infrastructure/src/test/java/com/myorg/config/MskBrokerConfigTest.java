@@ -0,0 +1,55 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class MskBrokerConfigTest {
+
+    @Test
+    @DisplayName("기본 설정은 브로커 4대 기준 검증을 통과하고 server.properties로 렌더링되어야 한다.")
+    void should_render_default_server_properties() {
+        MskBrokerConfig config = new MskBrokerConfig(4, 6, 3, 2, "producer", 268435456L, 168, 1048588, false);
+
+        assertDoesNotThrow(() -> MskBrokerConfig.validate(config));
+        assertThat(config.toServerProperties())
+                .contains("auto.create.topics.enable=false\n")
+                .contains("log.retention.hours=168\n")
+                .contains("num.partitions=6\n")
+                .contains("default.replication.factor=3\n")
+                .contains("min.insync.replicas=2\n")
+                .contains("replica.fetch.max.bytes=1048588\n");
+    }
+
+    @Test
+    @DisplayName("환경변수 기본값은 MSK 기본 설정(자동 생성 꺼짐, 7일 보존)을 바꾸지 않아야 한다.")
+    void should_keep_msk_defaults_for_retention_and_auto_create() {
+        MskBrokerConfig config = MskBrokerConfig.fromEnv();
+
+        assertThat(config.autoCreateTopicsEnable()).isFalse();
+        assertThat(config.logRetentionHours()).isEqualTo(168);
+    }
+
+    @Test
+    @DisplayName("복제 계수는 브로커 수를 넘을 수 없다.")
+    void should_reject_replication_factor_above_broker_count() {
+        MskBrokerConfig config = new MskBrokerConfig(2, 6, 3, 2, "producer", 268435456L, 72, 1048588, true);
+
+        assertThatThrownBy(() -> MskBrokerConfig.validate(config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("복제 계수는 브로커 수");
+    }
+
+    @Test
+    @DisplayName("min.insync.replicas가 복제 계수 이상이면 거절해야 한다.")
+    void should_reject_min_isr_equal_to_replication_factor() {
+        MskBrokerConfig config = new MskBrokerConfig(4, 6, 3, 3, "producer", 268435456L, 72, 1048588, true);
+
+        assertThatThrownBy(() -> MskBrokerConfig.validate(config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("min.insync.replicas");
+    }
+}
@@ -0,0 +1,53 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.services.kafkaconnect.CfnConnector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MskConnectCapacityConfigTest {
+
+    @Test
+    @DisplayName("AUTOSCALED 모드는 min/max worker와 CPU scale 정책으로 용량을 구성해야 한다.")
+    void should_build_autoscaling_capacity() {
+        MskConnectCapacityConfig config = new MskConnectCapacityConfig(
+                MskConnectCapacityMode.AUTOSCALED, 2, 1, 1, 4, 20, 80
+        );
+
+        CfnConnector.CapacityProperty capacity = config.toCapacityProperty();
+
+        assertThat(capacity.getProvisionedCapacity()).isNull();
+        CfnConnector.AutoScalingProperty autoScaling = (CfnConnector.AutoScalingProperty) capacity.getAutoScaling();
+        assertEquals(2, autoScaling.getMcuCount());
+        assertEquals(1, autoScaling.getMinWorkerCount());
+        assertEquals(4, autoScaling.getMaxWorkerCount());
+    }
+
+    @Test
+    @DisplayName("scale-in CPU 기준이 scale-out 기준 이상이면 거부해야 한다.")
+    void should_reject_inverted_cpu_thresholds() {
+        MskConnectCapacityConfig config = new MskConnectCapacityConfig(
+                MskConnectCapacityMode.AUTOSCALED, 1, 1, 1, 2, 80, 80
+        );
+
+        assertThrows(IllegalStateException.class, () -> MskConnectCapacityConfig.validate(config));
+    }
+
+    @Test
+    @DisplayName("최대 worker 수가 tasks.max보다 크면 거부해야 한다.")
+    void should_reject_more_workers_than_tasks() {
+        MskConnectCapacityConfig config = new MskConnectCapacityConfig(
+                MskConnectCapacityMode.AUTOSCALED, 1, 1, 1, 8, 20, 80
+        );
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> config.validateTaskParallelism(6)
+        );
+
+        assertEquals("MSK Connect worker 수가 tasks.max보다 큽니다: workers=8, tasks.max=6", exception.getMessage());
+    }
+}
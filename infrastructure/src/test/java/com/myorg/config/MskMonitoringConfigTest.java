@@ -0,0 +1,36 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.services.msk.CfnCluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MskMonitoringConfigTest {
+
+    @Test
+    @DisplayName("enhanced monitoring 수준은 비어 있으면 DEFAULT, 대소문자 구분 없이 파싱해야 한다.")
+    void should_parse_enhanced_monitoring_level() {
+        assertThat(MskEnhancedMonitoringLevel.fromEnv(" ")).isEqualTo(MskEnhancedMonitoringLevel.DEFAULT);
+        assertThat(MskEnhancedMonitoringLevel.fromEnv("per_topic_per_partition"))
+                .isEqualTo(MskEnhancedMonitoringLevel.PER_TOPIC_PER_PARTITION);
+        assertThatThrownBy(() -> MskEnhancedMonitoringLevel.fromEnv("PER_CLUSTER"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("open monitoring이 켜져 있으면 JMX/Node exporter를 모두 활성화하고, 꺼져 있으면 속성을 생략해야 한다.")
+    void should_build_open_monitoring_property() {
+        CfnCluster.OpenMonitoringProperty enabled = new MskMonitoringConfig(true, MskEnhancedMonitoringLevel.PER_BROKER).toOpenMonitoringProperty();
+
+        assertThat(enabled).isNotNull();
+        CfnCluster.PrometheusProperty prometheus = (CfnCluster.PrometheusProperty) enabled.getPrometheus();
+        assertThat(((CfnCluster.JmxExporterProperty) prometheus.getJmxExporter())
+                .getEnabledInBroker()).isEqualTo(true);
+        assertThat(((CfnCluster.NodeExporterProperty) prometheus.getNodeExporter())
+                .getEnabledInBroker()).isEqualTo(true);
+        assertThat(new MskMonitoringConfig(false, MskEnhancedMonitoringLevel.DEFAULT).toOpenMonitoringProperty())
+                .isNull();
+    }
+}
@@ -0,0 +1,41 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class MskStorageConfigTest {
+
+    @Test
+    @DisplayName("기본 스토리지 설정(10GiB, 상한 100GiB, 목표 60%)은 허용해야 한다.")
+    void should_allow_default_storage() {
+        assertDoesNotThrow(() -> MskStorageConfig.validate(
+                new MskStorageConfig("kafka.t3.small", 10, 100, 60, 0, 85)
+        ));
+    }
+
+    @Test
+    @DisplayName("자동 확장 상한은 초기 볼륨보다 작을 수 없다.")
+    void should_reject_max_volume_below_initial() {
+        assertThatThrownBy(() -> MskStorageConfig.validate(
+                new MskStorageConfig("kafka.t3.small", 100, 50, 60, 0, 85)
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("자동 확장 상한");
+    }
+
+    @Test
+    @DisplayName("provisioned throughput은 지원 인스턴스에서만 허용해야 한다.")
+    void should_reject_throughput_on_unsupported_instance() {
+        assertThatThrownBy(() -> MskStorageConfig.validate(
+                new MskStorageConfig("kafka.t3.small", 10, 100, 60, 250, 85)
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("kafka.t3.small");
+        assertDoesNotThrow(() -> MskStorageConfig.validate(
+                new MskStorageConfig("kafka.m7g.2xlarge", 1000, 2000, 60, 500, 85)
+        ));
+    }
+}
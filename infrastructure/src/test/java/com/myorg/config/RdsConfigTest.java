@@ -0,0 +1,94 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class RdsConfigTest {
+
+    @Test
+    @DisplayName("gp3 기본 구성(20GiB, 자동 확장 100GiB)은 허용해야 한다.")
+    void should_allow_default_gp3_storage() {
+        assertDoesNotThrow(() -> RdsConfig.validateStorage("gp3", 20, 100, 0, 0));
+    }
+
+    @Test
+    @DisplayName("gp3는 400GiB 미만에서 IOPS를 지정할 수 없다.")
+    void should_reject_gp3_iops_below_threshold() {
+        assertThatThrownBy(() -> RdsConfig.validateStorage("gp3", 100, 200, 12000, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("400GiB 미만");
+    }
+
+    @Test
+    @DisplayName("gp3 throughput/IOPS 비율이 0.25를 넘으면 거절해야 한다.")
+    void should_reject_gp3_throughput_ratio() {
+        assertThatThrownBy(() -> RdsConfig.validateStorage("gp3", 400, 1000, 12000, 4000))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("throughput/IOPS");
+    }
+
+    @Test
+    @DisplayName("io1 IOPS/GiB 비율이 50을 넘으면 거절해야 한다.")
+    void should_reject_io1_iops_ratio() {
+        assertThatThrownBy(() -> RdsConfig.validateStorage("io1", 100, 200, 6000, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("IOPS/GiB");
+    }
+
+    @Test
+    @DisplayName("자동 확장 상한이 할당 용량의 110% 미만이면 거절해야 한다.")
+    void should_reject_max_allocated_storage_below_headroom() {
+        assertThatThrownBy(() -> RdsConfig.validateStorage("gp3", 20, 20, 0, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(EnvKey.RDS_MAX_ALLOCATED_STORAGE_GIB.key());
+    }
+
+    @Test
+    @DisplayName("BALANCED 프로파일은 t4g.micro 메모리 예산 안에 있어야 한다.")
+    void should_allow_balanced_profile_on_micro() {
+        assertDoesNotThrow(() -> RdsConfig.validateParameterProfile(
+                PostgresParameterProfile.BALANCED,
+                DbInstanceSpec.of("t4g.micro"),
+                ""
+        ));
+    }
+
+    @Test
+    @DisplayName("ANALYTICS 프로파일은 t4g.micro 메모리를 초과하므로 거절해야 한다.")
+    void should_reject_analytics_profile_on_micro() {
+        assertThatThrownBy(() -> RdsConfig.validateParameterProfile(
+                PostgresParameterProfile.ANALYTICS,
+                DbInstanceSpec.of("t4g.micro"),
+                ""
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("work_mem");
+    }
+
+    @Test
+    @DisplayName("auto_explain sample rate는 0 ~ 1 범위여야 한다.")
+    void should_reject_out_of_range_sample_rate() {
+        assertThatThrownBy(() -> RdsConfig.validateParameterProfile(
+                PostgresParameterProfile.OLTP,
+                DbInstanceSpec.of("r6g.large"),
+                "1.5"
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(EnvKey.RDS_AUTO_EXPLAIN_SAMPLE_RATE.key());
+    }
+
+    @Test
+    @DisplayName("Aurora ACU 범위는 min <= max이고 0.5 단위여야 한다.")
+    void should_reject_invalid_aurora_capacity() {
+        assertDoesNotThrow(() -> RdsConfig.validateAuroraCapacity(0.5, 4));
+        assertThatThrownBy(() -> RdsConfig.validateAuroraCapacity(8, 4))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ACU 범위");
+        assertThatThrownBy(() -> RdsConfig.validateAuroraCapacity(0.5, 4.3))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("0.5 단위");
+    }
+}
@@ -0,0 +1,67 @@
+package com.myorg.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class TracingConfigTest {
+
+    @Test
+    @DisplayName("앱 환경변수는 task 내부 collector endpoint와 parent-based sampling 비율을 가져야 한다.")
+    void should_build_application_environment() {
+        TracingConfig config = tracingConfig(TracingExporter.XRAY, 0.25);
+
+        assertDoesNotThrow(() -> TracingConfig.validate(config));
+        assertThat(config.applicationEnvironment("admin-api"))
+                .containsEntry("OTEL_SERVICE_NAME", "admin-api")
+                .containsEntry("OTEL_EXPORTER_OTLP_ENDPOINT", "http://localhost:4317")
+                .containsEntry("OTEL_TRACES_SAMPLER", "parentbased_traceidratio")
+                .containsEntry("OTEL_TRACES_SAMPLER_ARG", "0.25")
+                .containsEntry("MANAGEMENT_TRACING_SAMPLING_PROBABILITY", "0.25")
+                .containsEntry("MANAGEMENT_OTLP_TRACING_ENDPOINT", "http://localhost:4318/v1/traces")
+                .containsEntry("OTEL_PROPAGATORS", "tracecontext,baggage,xray");
+        // Tempo만 쓰면 X-Ray 헤더를 전파하지 않는다
+        assertThat(tracingConfig(TracingExporter.TEMPO, 0.25).applicationEnvironment("admin-api"))
+                .containsEntry("OTEL_PROPAGATORS", "tracecontext,baggage");
+    }
+
+    @Test
+    @DisplayName("collector 설정은 export 대상에 맞는 exporter만 pipeline에 연결해야 한다.")
+    void should_render_collector_exporters() {
+        assertThat(tracingConfig(TracingExporter.XRAY, 0.1).collectorConfig())
+                .contains("endpoint: 127.0.0.1:4317")
+                .contains("exporters: [awsxray]")
+                .doesNotContain("otlp/tempo");
+        assertThat(tracingConfig(TracingExporter.TEMPO, 0.1).collectorConfig())
+                .contains("endpoint: grafana-server.holliverse.internal:4317")
+                .contains("exporters: [otlp/tempo]")
+                .doesNotContain("awsxray");
+        assertThat(tracingConfig(TracingExporter.BOTH, 0.1).collectorConfig())
+                .contains("exporters: [awsxray, otlp/tempo]");
+    }
+
+    @Test
+    @DisplayName("export 대상이 비어 있으면 XRAY, sampling 비율이 0~1을 벗어나면 거부해야 한다.")
+    void should_parse_exporter_and_reject_invalid_ratio() {
+        assertThat(TracingExporter.fromEnv(" ")).isEqualTo(TracingExporter.XRAY);
+        assertThat(TracingExporter.fromEnv("both").tempoEnabled()).isTrue();
+        assertThatThrownBy(() -> TracingConfig.validate(tracingConfig(TracingExporter.XRAY, 1.5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(EnvKey.TRACING_SAMPLING_RATIO.key());
+    }
+
+    private TracingConfig tracingConfig(TracingExporter exporter, double samplingRatio) {
+        return new TracingConfig(
+                true,
+                exporter,
+                "public.ecr.aws/aws-observability/aws-otel-collector:v0.43.3",
+                samplingRatio,
+                "grafana-server.holliverse.internal",
+                4317,
+                64
+        );
+    }
+}
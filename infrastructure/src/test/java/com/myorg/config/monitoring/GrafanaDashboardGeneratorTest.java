@@ -0,0 +1,87 @@
+package com.myorg.config.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GrafanaDashboardGeneratorTest {
+
+    private static final List<String> JOBS = List.of("admin-api", "customer-api", "log-server");
+
+    @Test
+    @DisplayName("RED/HikariCP 대시보드가 조회하는 recording rule은 모두 rule 파일에 정의되어 있어야 한다.")
+    void should_query_only_defined_recording_rules() {
+        String recordingRules = PrometheusRuleGenerator.recordingRules(JOBS);
+        Map<String, String> dashboards = GrafanaDashboardGenerator.dashboards(JOBS, "postgres", "holliverse-msk");
+
+        Matcher matcher = Pattern.compile("job:[a-z0-9_:]+")
+                .matcher(dashboards.get("hsc-service-red.json") + dashboards.get("hsc-hikaricp.json"));
+        int count = 0;
+        while (matcher.find()) {
+            assertThat(recordingRules).contains("record: " + matcher.group());
+            count++;
+        }
+        assertThat(count).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("대시보드는 RED, JVM/GC, HikariCP, Kafka lag, RDS, Loki 로그 파일로 생성되어야 한다.")
+    void should_render_curated_dashboards() {
+        Map<String, String> dashboards = GrafanaDashboardGenerator.dashboards(JOBS, "postgres", "holliverse-msk");
+
+        assertThat(dashboards).containsOnlyKeys(
+                "hsc-service-red.json",
+                "hsc-jvm-gc.json",
+                "hsc-hikaricp.json",
+                "hsc-kafka-lag.json",
+                "hsc-rds.json",
+                "hsc-loki-logs.json"
+        );
+        assertThat(dashboards.get("hsc-service-red.json"))
+                .contains("\"uid\": \"hsc-service-red\"")
+                .contains("\"allValue\": \"admin-api|customer-api|log-server\"")
+                .contains("job:http_server_requests_seconds:p99_5m{job=~\\\"$job\\\"}");
+        assertThat(dashboards.get("hsc-kafka-lag.json"))
+                .contains("\"metricName\": \"SumOffsetLag\"")
+                .contains("\"Cluster Name\": \"holliverse-msk\"");
+        assertThat(dashboards.get("hsc-rds.json"))
+                .contains("\"namespace\": \"AWS/RDS\"")
+                .contains("pg_stat_database_numbackends{job=\\\"postgres\\\"}");
+        assertThat(dashboards.get("hsc-loki-logs.json"))
+                .contains("job=~\\\"ecs-cloudwatch|ecs-firelens\\\"");
+    }
+
+    @Test
+    @DisplayName("패널은 24칸 grid 안에서 서로 겹치지 않게 배치되어야 한다.")
+    @SuppressWarnings("unchecked")
+    void should_place_panels_without_overlap() {
+        Map<String, Object> dashboard = GrafanaDashboardGenerator.rdsDashboard("postgres");
+        List<Map<String, Object>> panels = (List<Map<String, Object>>) dashboard.get("panels");
+
+        for (int i = 0; i < panels.size(); i++) {
+            Map<String, Integer> a = (Map<String, Integer>) panels.get(i).get("gridPos");
+            assertThat(a.get("x") + a.get("w")).isLessThanOrEqualTo(24);
+            assertThat(panels.get(i).get("id")).isEqualTo(i + 1);
+            for (int j = i + 1; j < panels.size(); j++) {
+                Map<String, Integer> b = (Map<String, Integer>) panels.get(j).get("gridPos");
+                boolean overlap = a.get("x") < b.get("x") + b.get("w") && b.get("x") < a.get("x") + a.get("w")
+                        && a.get("y") < b.get("y") + b.get("h") && b.get("y") < a.get("y") + a.get("h");
+                assertThat(overlap).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 문자열의 따옴표/역슬래시/개행은 escape되어야 한다.")
+    void should_escape_json_strings() {
+        String json = GrafanaDashboardGenerator.toJson(Map.of("expr", "{a=\"b\\c\"}\n"));
+
+        assertThat(json).isEqualTo("{\n  \"expr\": \"{a=\\\"b\\\\c\\\"}\\n\"\n}\n");
+    }
+}
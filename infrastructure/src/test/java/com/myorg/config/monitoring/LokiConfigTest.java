@@ -0,0 +1,55 @@
+package com.myorg.config.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LokiConfigTest {
+
+    @Test
+    @DisplayName("embedded cache는 호스트 메모리 비율을 결과 1/3, chunk 2/3로 나눠야 한다.")
+    void should_split_cache_budget_by_host_memory() {
+        LokiConfig config = lokiConfig(15, "1h", 4, 4, 8, 3, 15);
+
+        assertThat(config.resultsCacheMaxSizeMb(8192)).isEqualTo(409);
+        assertThat(config.chunkCacheMaxSizeMb(8192)).isEqualTo(819);
+    }
+
+    @Test
+    @DisplayName("잘못된 cache 비율, split 간격, ingestion 제한은 거부해야 한다.")
+    void should_reject_invalid_query_and_ingestion_settings() {
+        assertThatThrownBy(() -> LokiConfig.validate(lokiConfig(80, "1h", 4, 4, 8, 3, 15)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LokiConfig.validate(lokiConfig(15, "1d", 4, 4, 8, 3, 15)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LokiConfig.validate(lokiConfig(15, "1h", 4, 4, 2, 3, 15)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LokiConfig.validate(lokiConfig(15, "1h", 4, 4, 8, 6, 15)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private LokiConfig lokiConfig(
+            int cacheMemoryPercent,
+            String querySplitInterval,
+            int maxQueryParallelism,
+            int ingestionRateMb,
+            int ingestionBurstSizeMb,
+            int perStreamRateLimitMb,
+            int perStreamRateLimitBurstMb
+    ) {
+        return new LokiConfig(
+                "loki", "grafana/loki:3.6.5", 3100, "hsc-monitoring", "loki",
+                72, 360, 2160, 4320,
+                cacheMemoryPercent,
+                querySplitInterval,
+                maxQueryParallelism,
+                ingestionRateMb,
+                ingestionBurstSizeMb,
+                perStreamRateLimitMb,
+                perStreamRateLimitBurstMb,
+                20
+        );
+    }
+}
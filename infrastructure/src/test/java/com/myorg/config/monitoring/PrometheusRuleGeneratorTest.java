@@ -0,0 +1,56 @@
+package com.myorg.config.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrometheusRuleGeneratorTest {
+
+    @Test
+    @DisplayName("job마다 RED recording rule과 HikariCP 포화도 rule을 생성해야 한다.")
+    void should_render_red_recording_rules_per_job() {
+        String rules = PrometheusRuleGenerator.recordingRules(List.of("admin-api", "customer-api"));
+
+        assertThat(rules)
+                .startsWith("groups:")
+                .contains("  - name: admin-api-red")
+                .contains("  - name: customer-api-red")
+                .contains("record: job:http_server_requests:rate5m")
+                .contains("record: job:http_server_requests_errors:ratio_rate3d")
+                .contains("record: job:http_server_requests_seconds:p50_5m")
+                .contains("record: job:http_server_requests_seconds:p95_5m")
+                .contains("record: job:http_server_requests_seconds:p99_5m")
+                .contains("histogram_quantile(0.99, sum by (job, le) (rate(http_server_requests_seconds_bucket{job=\"admin-api\",uri!~\"/actuator.*\"}[5m])))")
+                .contains("record: job:hikaricp_connections:saturation");
+    }
+
+    @Test
+    @DisplayName("burn-rate 알림은 SLO error budget에 배수를 곱한 임계값을 long/short window 모두에 적용해야 한다.")
+    void should_render_multi_window_burn_rate_alerts() {
+        AlertingConfig config = new AlertingConfig("alertmanager", "prom/alertmanager:v0.28.1", 9093, "", 99.9);
+
+        String alerts = PrometheusRuleGenerator.burnRateAlerts(List.of("admin-api"), config);
+
+        assertThat(alerts)
+                .contains("job:http_server_requests_errors:ratio_rate1h{job=\"admin-api\"} > (14.4 * 0.001)")
+                .contains("and job:http_server_requests_errors:ratio_rate5m{job=\"admin-api\"} > (14.4 * 0.001)")
+                .contains("job:http_server_requests_errors:ratio_rate3d{job=\"admin-api\"} > (1 * 0.001)")
+                .contains("severity: page")
+                .contains("severity: ticket");
+        // 알림에서 참조하는 window는 모두 recording rule로 존재해야 한다.
+        PrometheusRuleGenerator.BURN_RATE_WINDOWS.forEach(window -> assertThat(PrometheusRuleGenerator.ERROR_RATIO_WINDOWS)
+                .contains(window.longWindow(), window.shortWindow()));
+    }
+
+    @Test
+    @DisplayName("가용성 SLO는 0과 100 사이여야 한다.")
+    void should_reject_out_of_range_availability_target() {
+        assertThatThrownBy(() -> AlertingConfig.validate(
+                new AlertingConfig("alertmanager", "prom/alertmanager:v0.28.1", 9093, "", 100)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.myorg.constructs;
+
+import com.myorg.config.ErrorLogRedriveConfig;
+import com.myorg.props.ErrorLogRedriveJobProps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Match;
+import software.amazon.awscdk.assertions.Template;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.ecr.Repository;
+import software.amazon.awscdk.services.ecs.Cluster;
+import software.amazon.awscdk.services.logs.LogGroup;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorLogRedriveJobTest {
+
+    @Test
+    @DisplayName("redrive job은 redrive 프로파일 task 정의, 수동 실행 상태머신, 요약 로그 metric filter를 만들어야 한다.")
+    void should_create_redrive_task_and_state_machine() {
+        //given
+        App app = new App();
+        Stack stack = new Stack(app, "ErrorLogRedriveJobTestStack");
+
+        Vpc vpc = Vpc.Builder.create(stack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        Cluster cluster = Cluster.Builder.create(stack, "TestCluster")
+                .vpc(vpc)
+                .build();
+        SecurityGroup taskSg = SecurityGroup.Builder.create(stack, "TestRedriveSg")
+                .vpc(vpc)
+                .build();
+        Repository repository = Repository.Builder.create(stack, "TestLogServerRepo")
+                .repositoryName("test-log-server")
+                .build();
+        LogGroup logGroup = LogGroup.Builder.create(stack, "TestLogGroup")
+                .build();
+
+        //when
+        new ErrorLogRedriveJob(new ErrorLogRedriveJobProps(
+                stack,
+                "TestRedrive",
+                cluster,
+                repository,
+                "latest",
+                taskSg,
+                logGroup,
+                "log-server-redrive",
+                SubnetSelection.builder().subnetType(SubnetType.PRIVATE_WITH_EGRESS).build(),
+                Map.of("KAFKA_BOOTSTRAP_SERVERS", "b-1.test:9098"),
+                List.of(),
+                new ErrorLogRedriveConfig(
+                        true,
+                        "holliverse-error-log-redrive",
+                        "error-logs",
+                        "client-event-logs",
+                        "error-log-redrive",
+                        1000,
+                        5000,
+                        1024,
+                        2048,
+                        60
+                )
+        ));
+
+        Template template = Template.fromStack(stack);
+
+        //then
+        template.resourceCountIs("AWS::ECS::Service", 0);
+        template.hasResourceProperties("AWS::ECS::TaskDefinition", Map.of(
+                "Cpu", "1024",
+                "Memory", "2048"
+        ));
+        // 컨테이너 환경변수 순서는 보장되지 않으므로 항목별로 확인
+        Map.of(
+                "SPRING_PROFILES_ACTIVE", "prod,redrive",
+                "REDRIVE_SOURCE_TOPIC", "error-logs",
+                "REDRIVE_TARGET_TOPIC", "client-event-logs",
+                "KAFKA_BOOTSTRAP_SERVERS", "b-1.test:9098"
+        ).forEach((name, value) -> template.hasResourceProperties("AWS::ECS::TaskDefinition", Map.of(
+                "ContainerDefinitions", List.of(Match.objectLike(Map.of(
+                        "Name", "RedriveContainer",
+                        "Environment", Match.arrayWith(List.of(Map.of("Name", name, "Value", value)))
+                )))
+        )));
+        template.hasResourceProperties("AWS::StepFunctions::StateMachine", Map.of(
+                "StateMachineName", "holliverse-error-log-redrive",
+                "TracingConfiguration", Map.of("Enabled", true)
+        ));
+        template.resourceCountIs("AWS::Logs::MetricFilter", 3);
+        template.hasResourceProperties("AWS::Logs::MetricFilter", Map.of(
+                "FilterPattern", "{ $.event = \"error_log_redrive_summary\" }",
+                "MetricTransformations", List.of(Match.objectLike(Map.of(
+                        "MetricNamespace", "Holliverse/ErrorLogRedrive",
+                        "MetricName", "PublishedRecords",
+                        "MetricValue", "$.published"
+                )))
+        ));
+        // task는 DB 접속 정보 없이 실행된다 (redrive 프로파일 계약)
+        assertThat(template.toJSON().toString()).doesNotContain("DB_URL");
+    }
+}
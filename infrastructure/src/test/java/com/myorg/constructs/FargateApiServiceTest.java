@@ -1,10 +1,13 @@
 package com.myorg.constructs;
 
+import com.myorg.config.TracingConfig;
+import com.myorg.config.TracingExporter;
 import com.myorg.props.FargateApiServiceProps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Match;
 import software.amazon.awscdk.assertions.Template;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
@@ -17,6 +20,7 @@ import software.amazon.awscdk.services.secretsmanager.Secret;
 import software.amazon.awscdk.services.secretsmanager.SecretStringGenerator;
 import software.amazon.awscdk.services.servicediscovery.PrivateDnsNamespace;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -166,7 +170,110 @@ class FargateApiServiceTest {
         //then
         template.resourceCountIs("AWS::ServiceDiscovery::Service", 1);
         template.hasResourceProperties("AWS::ServiceDiscovery::Service", Map.of(
-                "Name", "admin-api"
+                "Name", "admin-api",
+                // 기존 A 레코드 조회 유지 + task별 포트 조회용 SRV
+                "DnsConfig", Map.of("DnsRecords", List.of(
+                        Map.of("Type", "A", "TTL", 60),
+                        Map.of("Type", "SRV", "TTL", 60)
+                ))
+        ));
+        template.hasResourceProperties("AWS::ECS::Service", Map.of(
+                "ServiceRegistries", List.of(Map.of("ContainerPort", 8080))
+        ));
+    }
+
+    @Test
+    @DisplayName("tracing이 켜져 있으면 ADOT collector sidecar와 OTLP 환경변수, X-Ray 쓰기 권한이 추가되어야 한다.")
+    void should_attach_otel_collector_when_tracing_is_enabled() {
+        //given
+        App app = new App();
+        Stack stack = new Stack(app, "FargateApiServiceTracingTestStack");
+
+        Vpc vpc = Vpc.Builder.create(stack, "TracingVpc")
+                .maxAzs(2)
+                .build();
+        Cluster cluster = Cluster.Builder.create(stack, "TracingCluster")
+                .vpc(vpc)
+                .build();
+        SecurityGroup serviceSg = SecurityGroup.Builder.create(stack, "TracingApiServiceSg")
+                .vpc(vpc)
+                .build();
+        Repository repository = Repository.Builder.create(stack, "TracingApiRepo")
+                .repositoryName("test-api-server-tracing")
+                .build();
+        LogGroup logGroup = LogGroup.Builder.create(stack, "TracingLogGroup")
+                .build();
+        Secret dbSecret = Secret.Builder.create(stack, "TracingDbSecret")
+                .secretName("test/tracing/db/secret")
+                .generateSecretString(SecretStringGenerator.builder()
+                        .secretStringTemplate("{\"username\":\"holliverse\"}")
+                        .generateStringKey("password")
+                        .build())
+                .build();
+        TracingConfig tracing = new TracingConfig(
+                true,
+                TracingExporter.BOTH,
+                "public.ecr.aws/aws-observability/aws-otel-collector:v0.43.3",
+                0.1,
+                "grafana-server.holliverse.internal",
+                4317,
+                64
+        );
+
+        new FargateApiService(new FargateApiServiceProps(
+                stack,
+                "TracingApiService",
+                cluster,
+                repository,
+                "latest",
+                serviceSg,
+                8080,
+                logGroup,
+                "admin-api",
+                SubnetSelection.builder().subnetType(SubnetType.PRIVATE_WITH_EGRESS).build(),
+                1,
+                false,
+                "admin",
+                "jdbc:postgresql://example.com:5432/holliverse",
+                dbSecret,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                tracing
+        ));
+
+        Template template = Template.fromStack(stack);
+
+        //then
+        template.hasResourceProperties("AWS::ECS::TaskDefinition", Map.of(
+                "ContainerDefinitions", Match.arrayWith(List.of(
+                        Match.objectLike(Map.of(
+                                "Name", "ApiContainer",
+                                "Environment", Match.arrayWith(List.of(
+                                        Map.of("Name", "OTEL_SERVICE_NAME", "Value", "admin-api")
+                                )),
+                                "DependsOn", List.of(Map.of(
+                                        "ContainerName", "OtelCollector",
+                                        "Condition", "START"
+                                ))
+                        )),
+                        Match.objectLike(Map.of(
+                                "Name", "OtelCollector",
+                                "Essential", false,
+                                "Image", "public.ecr.aws/aws-observability/aws-otel-collector:v0.43.3"
+                        ))
+                ))
+        ));
+        template.hasResourceProperties("AWS::IAM::Role", Map.of(
+                "ManagedPolicyArns", Match.arrayWith(List.of(Match.objectLike(Map.of(
+                        "Fn::Join", Match.arrayWith(List.of(Match.arrayWith(List.of(
+                                Match.stringLikeRegexp("AWSXRayDaemonWriteAccess")
+                        ))))
+                ))))
         ));
     }
 }
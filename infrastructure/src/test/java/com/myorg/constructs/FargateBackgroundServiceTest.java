@@ -0,0 +1,145 @@
+package com.myorg.constructs;
+
+import com.myorg.config.ConsumerLagMetric;
+import com.myorg.config.ConsumerLagScalingConfig;
+import com.myorg.props.FargateBackgroundServiceProps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Match;
+import software.amazon.awscdk.assertions.Template;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.ecr.Repository;
+import software.amazon.awscdk.services.ecs.Cluster;
+import software.amazon.awscdk.services.logs.LogGroup;
+
+import java.util.List;
+import java.util.Map;
+
+class FargateBackgroundServiceTest {
+
+    @Test
+    @DisplayName("consumer lag scaling은 파티션 상한 task 수, step scaling 정책, MSK lag 알람을 만들어야 한다.")
+    void should_create_consumer_lag_scaling_resources() {
+        //given
+        App app = new App();
+        Stack stack = new Stack(app, "FargateBackgroundServiceLagScalingTestStack");
+
+        Vpc vpc = Vpc.Builder.create(stack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        Cluster cluster = Cluster.Builder.create(stack, "TestCluster")
+                .vpc(vpc)
+                .build();
+        SecurityGroup serviceSg = SecurityGroup.Builder.create(stack, "TestWorkerSg")
+                .vpc(vpc)
+                .build();
+        Repository repository = Repository.Builder.create(stack, "TestWorkerRepo")
+                .repositoryName("test-log-server")
+                .build();
+        LogGroup logGroup = LogGroup.Builder.create(stack, "TestLogGroup")
+                .build();
+
+        FargateBackgroundService service = new FargateBackgroundService(new FargateBackgroundServiceProps(
+                stack,
+                "TestWorkerService",
+                cluster,
+                repository,
+                "latest",
+                serviceSg,
+                logGroup,
+                "log-server",
+                SubnetSelection.builder().subnetType(SubnetType.PRIVATE_WITH_EGRESS).build(),
+                "log-server",
+                512,
+                1024,
+                1,
+                false,
+                Map.of(),
+                null,
+                null,
+                null,
+                null,
+                Map.of(),
+                null,
+                null,
+                List.of(),
+                List.of()
+        ));
+
+        //when
+        service.addConsumerLagScaling(new ConsumerLagScalingConfig(
+                ConsumerLagMetric.SUM_OFFSET_LAG,
+                "test-msk",
+                "log-server-group",
+                "client-event-logs",
+                1,
+                3,
+                10_000,
+                100,
+                60,
+                600,
+                15
+        ));
+
+        Template template = Template.fromStack(stack);
+
+        //then
+        template.hasResourceProperties("AWS::ApplicationAutoScaling::ScalableTarget", Map.of(
+                "MinCapacity", 1,
+                "MaxCapacity", 3,
+                "ScalableDimension", "ecs:service:DesiredCount",
+                "ServiceNamespace", "ecs"
+        ));
+        template.resourceCountIs("AWS::ApplicationAutoScaling::ScalingPolicy", 2);
+        template.hasResourceProperties("AWS::ApplicationAutoScaling::ScalingPolicy", Map.of(
+                "PolicyType", "StepScaling",
+                "StepScalingPolicyConfiguration", Match.objectLike(Map.of(
+                        "AdjustmentType", "ChangeInCapacity",
+                        "Cooldown", 60,
+                        "MetricAggregationType", "Maximum",
+                        "StepAdjustments", List.of(
+                                Map.of("MetricIntervalLowerBound", 0, "MetricIntervalUpperBound", 10_000, "ScalingAdjustment", 1),
+                                Map.of("MetricIntervalLowerBound", 10_000, "ScalingAdjustment", 2)
+                        )
+                ))
+        ));
+        template.hasResourceProperties("AWS::ApplicationAutoScaling::ScalingPolicy", Map.of(
+                "StepScalingPolicyConfiguration", Match.objectLike(Map.of(
+                        "Cooldown", 600,
+                        "StepAdjustments", List.of(
+                                Map.of("MetricIntervalUpperBound", 0, "ScalingAdjustment", -1)
+                        )
+                ))
+        ));
+
+        List<Map<String, String>> lagDimensions = List.of(
+                Map.of("Name", "Cluster Name", "Value", "test-msk"),
+                Map.of("Name", "Consumer Group", "Value", "log-server-group"),
+                Map.of("Name", "Topic", "Value", "client-event-logs")
+        );
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "Namespace", "AWS/Kafka",
+                "MetricName", "SumOffsetLag",
+                "Dimensions", Match.arrayWith(lagDimensions),
+                "Threshold", 10_000,
+                "ComparisonOperator", "GreaterThanOrEqualToThreshold",
+                "EvaluationPeriods", 3,
+                "DatapointsToAlarm", 2,
+                "TreatMissingData", "notBreaching"
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "Namespace", "AWS/Kafka",
+                "MetricName", "SumOffsetLag",
+                "Dimensions", Match.arrayWith(lagDimensions),
+                "Threshold", 100,
+                "ComparisonOperator", "LessThanOrEqualToThreshold",
+                "EvaluationPeriods", 15,
+                "TreatMissingData", "notBreaching"
+        ));
+    }
+}
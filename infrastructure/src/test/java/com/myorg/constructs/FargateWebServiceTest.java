@@ -1,10 +1,13 @@
 package com.myorg.constructs;
 
+import com.myorg.config.LogRoutingConfig;
+import com.myorg.config.LogRoutingMode;
 import com.myorg.props.FargateWebServiceProps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Match;
 import software.amazon.awscdk.assertions.Template;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
@@ -14,6 +17,7 @@ import software.amazon.awscdk.services.ecr.Repository;
 import software.amazon.awscdk.services.ecs.Cluster;
 import software.amazon.awscdk.services.logs.LogGroup;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -77,4 +81,87 @@ class FargateWebServiceTest {
                 "EnableExecuteCommand", false
         ));
     }
+
+    @Test
+    @DisplayName("FireLens 모드면 Fluent Bit router를 추가하고 앱 로그를 Loki로 직접 보내야 한다.")
+    void should_route_logs_to_loki_through_firelens() {
+        //given
+        App app = new App();
+        Stack stack = new Stack(app, "FargateWebServiceFirelensTestStack");
+
+        Vpc vpc = Vpc.Builder.create(stack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        Cluster cluster = Cluster.Builder.create(stack, "TestCluster")
+                .vpc(vpc)
+                .build();
+        SecurityGroup serviceSg = SecurityGroup.Builder.create(stack, "TestWebServiceSg")
+                .vpc(vpc)
+                .build();
+        Repository repository = Repository.Builder.create(stack, "TestWebRepo")
+                .repositoryName("test-admin-web")
+                .build();
+        LogGroup logGroup = LogGroup.Builder.create(stack, "TestLogGroup")
+                .build();
+        LogRoutingConfig logRouting = new LogRoutingConfig(
+                LogRoutingMode.FIRELENS,
+                "public.ecr.aws/aws-observability/aws-for-fluent-bit:stable",
+                "grafana-server.holliverse.internal",
+                3100,
+                "prod",
+                2097152,
+                5,
+                64
+        );
+
+        new FargateWebService(new FargateWebServiceProps(
+                stack,
+                "TestWebService",
+                cluster,
+                repository,
+                "latest",
+                serviceSg,
+                3000,
+                logGroup,
+                "admin-web",
+                SubnetSelection.builder().subnetType(SubnetType.PRIVATE_WITH_EGRESS).build(),
+                1,
+                false,
+                Map.of(),
+                logRouting,
+                null
+        ));
+
+        Template template = Template.fromStack(stack);
+
+        //then
+        template.hasResourceProperties("AWS::ECS::TaskDefinition", Map.of(
+                "ContainerDefinitions", Match.arrayWith(List.of(
+                        Match.objectLike(Map.of(
+                                "Name", "LogRouter",
+                                "Essential", true,
+                                "FirelensConfiguration", Match.objectLike(Map.of(
+                                        "Type", "fluentbit",
+                                        "Options", Map.of(
+                                                "enable-ecs-log-metadata", "true",
+                                                "config-file-type", "file",
+                                                "config-file-value", LogRoutingConfig.PARSE_JSON_CONFIG_FILE
+                                        )
+                                ))
+                        )),
+                        Match.objectLike(Map.of(
+                                "LogConfiguration", Map.of(
+                                        "LogDriver", "awsfirelens",
+                                        "Options", Match.objectLike(Map.of(
+                                                "Name", "loki",
+                                                "host", "grafana-server.holliverse.internal",
+                                                "port", "3100",
+                                                "Retry_Limit", "5",
+                                                "log-driver-buffer-limit", "2097152"
+                                        ))
+                                )
+                        ))
+                ))
+        ));
+    }
 }
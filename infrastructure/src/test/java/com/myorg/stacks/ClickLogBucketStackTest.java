@@ -1,13 +1,20 @@
 package com.myorg.stacks;
 
+import com.myorg.config.ClickEventSchema;
+import com.myorg.config.ClickLogCatalogConfig;
+import com.myorg.config.ClickLogCompactionConfig;
+import com.myorg.config.ClickLogSinkFormat;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.assertions.Match;
 import software.amazon.awscdk.assertions.Template;
 
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class ClickLogBucketStackTest {
 
     @Test
@@ -38,5 +45,145 @@ class ClickLogBucketStackTest {
                 )
         ));
         template.hasOutput("ClickLogRawBucketName", Map.of());
+        // raw 만료는 명시적으로 켠 경우만
+        assertThat(template.toJSON().toString()).doesNotContain("ExpireCompactedRawLogs");
+    }
+
+    @Test
+    @DisplayName("raw click log Glue 테이블은 dt/hour partition projection과 Athena 워크그룹 스캔 상한을 가져야 한다.")
+    void should_create_partition_projected_table_and_workgroup() {
+        App app = new App();
+
+        ClickLogBucketStack stack = new ClickLogBucketStack(
+                app,
+                "ClickLogBucketCatalogStackTest",
+                StackProps.builder().build(),
+                "test-click-log-bucket",
+                new ClickLogCatalogConfig(
+                        "holliverse_click_logs",
+                        "client_event_logs_raw",
+                        "client-event-logs",
+                        ClickLogSinkFormat.PARQUET,
+                        "2025-01-01",
+                        "holliverse-click-logs",
+                        10L * 1024 * 1024 * 1024,
+                        ClickEventSchema.fromEnv()
+                ),
+                new ClickLogCompactionConfig(
+                        false,
+                        "cron(15 * * * ? *)",
+                        2,
+                        "client_event_logs_compacted",
+                        "snappy",
+                        7,
+                        24
+                )
+        );
+
+        Template template = Template.fromStack(stack);
+
+        template.resourceCountIs("AWS::Glue::Database", 1);
+        // PARQUET raw는 별도 prefix/테이블, 기존 JSON 테이블은 그대로 유지
+        template.resourceCountIs("AWS::Glue::Table", 2);
+        template.hasResourceProperties("AWS::Glue::Table", Map.of(
+                "TableInput", Match.objectLike(Map.of(
+                        "Name", "client_event_logs_raw",
+                        "StorageDescriptor", Match.objectLike(Map.of(
+                                "SerdeInfo", Match.objectLike(Map.of(
+                                        "SerializationLibrary", "org.openx.data.jsonserde.JsonSerDe"
+                                ))
+                        ))
+                ))
+        ));
+        template.hasResourceProperties("AWS::Glue::Table", Map.of(
+                "TableInput", Match.objectLike(Map.of(
+                        "Name", "client_event_logs_raw_parquet",
+                        "Parameters", Match.objectLike(Map.of(
+                                "projection.enabled", "true",
+                                "projection.dt.type", "date",
+                                "projection.hour.digits", "2"
+                        )),
+                        "StorageDescriptor", Match.objectLike(Map.of(
+                                "SerdeInfo", Map.of(
+                                        "SerializationLibrary",
+                                        "org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe"
+                                )
+                        ))
+                ))
+        ));
+        template.hasResourceProperties("AWS::Athena::WorkGroup", Map.of(
+                "Name", "holliverse-click-logs",
+                "WorkGroupConfiguration", Match.objectLike(Map.of(
+                        "EnforceWorkGroupConfiguration", true,
+                        "BytesScannedCutoffPerQuery", 10L * 1024 * 1024 * 1024
+                ))
+        ));
+    }
+
+    @Test
+    @DisplayName("compaction이 켜져 있으면 compacted 테이블, 시간별 상태머신, raw 만료 규칙이 생성되어야 한다.")
+    void should_create_compaction_workflow() {
+        App app = new App();
+
+        ClickLogBucketStack stack = new ClickLogBucketStack(
+                app,
+                "ClickLogBucketCompactionStackTest",
+                StackProps.builder().build(),
+                "test-click-log-bucket",
+                new ClickLogCatalogConfig(
+                        "holliverse_click_logs",
+                        "client_event_logs_raw",
+                        "client-event-logs",
+                        ClickLogSinkFormat.JSON,
+                        "2025-01-01",
+                        "holliverse-click-logs",
+                        10L * 1024 * 1024 * 1024,
+                        ClickEventSchema.fromEnv()
+                ),
+                new ClickLogCompactionConfig(
+                        true,
+                        "cron(15 * * * ? *)",
+                        2,
+                        "client_event_logs_compacted",
+                        "zstd",
+                        7,
+                        24
+                )
+        );
+
+        Template template = Template.fromStack(stack);
+
+        template.resourceCountIs("AWS::Glue::Table", 2);
+        template.resourceCountIs("AWS::StepFunctions::StateMachine", 1);
+        template.hasResourceProperties("AWS::Glue::Table", Map.of(
+                "TableInput", Match.objectLike(Map.of(
+                        "Name", "client_event_logs_compacted",
+                        "Parameters", Map.of(
+                                "classification", "parquet",
+                                "parquet.compression", "ZSTD"
+                        )
+                ))
+        ));
+        template.hasResourceProperties("AWS::Events::Rule", Map.of(
+                "ScheduleExpression", "cron(15 * * * ? *)"
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "Namespace", "AWS/States",
+                "MetricName", "ExecutionsFailed",
+                "Threshold", 1
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "Namespace", "AWS/States",
+                "MetricName", "ExecutionsTimedOut"
+        ));
+        template.hasResourceProperties("AWS::S3::Bucket", Map.of(
+                "LifecycleConfiguration", Map.of(
+                        "Rules", Match.arrayWith(java.util.List.of(Match.objectLike(Map.of(
+                                "Id", "ExpireCompactedRawLogs",
+                                "Prefix", "events/raw/",
+                                "ExpirationInDays", 7
+                        ))))
+                )
+        ));
     }
 }
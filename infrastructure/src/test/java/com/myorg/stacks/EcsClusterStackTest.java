@@ -100,7 +100,10 @@ class EcsClusterStackTest {
                 adminWebRepo,
                 apiServerRepo,
                 logServerRepo,
-                rds,
+                rds.getDbInstanceEndpointAddress(),
+                rds.getDbInstanceEndpointPort(),
+                "",
+                List.of(),
                 dbSecret,
                 "holliverse-msk",
                 "arn:aws:kafka:ap-northeast-2:123456789012:cluster/holliverse-msk/test-cluster-id",
@@ -110,7 +113,9 @@ class EcsClusterStackTest {
                 8080,
                 "latest",
                 "admin-latest",
-                "customer-latest"
+                "customer-latest",
+                "intelligence-latest",
+                "log-latest"
         );
         Template template = Template.fromStack(ecsClusterStack);
 
@@ -126,13 +131,15 @@ class EcsClusterStackTest {
         //then
         assertEquals(1, clusters.size());
         assertEquals(1, logGroups.size());
-        assertEquals(6, taskDefinitions.size());
-        assertEquals(6, services.size());
+        // admin-web, admin-api, customer-api, intelligence-server, log-server
+        assertEquals(5, taskDefinitions.size());
+        assertEquals(5, services.size());
         assertEquals(1, namespaces.size());
+        // admin-web을 제외한 4개 서비스 (CloudWatch 라우팅 + tracing off 기본값에서는 grafana-server를 만들지 않음)
         assertEquals(4, sdServices.size());
         assertEquals(0, secrets.size());
 
-        assertEquals(5, countServicesByExecOption(services, true));
+        assertEquals(4, countServicesByExecOption(services, true));
         assertEquals(1, countServicesByExecOption(services, false));
 
         template.hasResourceProperties("AWS::Logs::LogGroup", Map.of(
@@ -151,11 +158,14 @@ class EcsClusterStackTest {
                 "Name", "customer-api"
         ));
         template.hasResourceProperties("AWS::ServiceDiscovery::Service", Map.of(
-                "Name", "recommendation-realtime"
+                "Name", "intelligence-server"
         ));
         template.hasResourceProperties("AWS::ServiceDiscovery::Service", Map.of(
-                "Name", "analysis-server"
+                "Name", "log-server"
         ));
+        assertEquals(0, template.findResources("AWS::ServiceDiscovery::Service", Map.of(
+                "Properties", Map.of("Name", "grafana-server")
+        )).size());
         template.hasResourceProperties("AWS::ECS::Service", Map.of(
                 "ServiceName", "log-server"
         ));
@@ -186,8 +196,8 @@ class EcsClusterStackTest {
                 .contains("POSTGRES_DSN")
                 .contains("OPENAI_API_KEY");
 
-        String recommendationRealtimeTaskDefinitionJson = findTaskDefinitionByAppMode(taskDefinitions, "realtime").toString();
-        org.assertj.core.api.Assertions.assertThat(recommendationRealtimeTaskDefinitionJson)
+        String intelligenceServerTaskDefinitionJson = findTaskDefinitionByAppMode(taskDefinitions, "server").toString();
+        org.assertj.core.api.Assertions.assertThat(intelligenceServerTaskDefinitionJson)
                 .contains("KAFKA_BOOTSTRAP_SERVERS")
                 .contains("MSK_BOOTSTRAP_SERVERS")
                 .contains("b-1.test.holliverse-msk.c2.kafka.ap-northeast-2.amazonaws.com:9098")
@@ -197,11 +207,6 @@ class EcsClusterStackTest {
                 .contains("OAUTHBEARER")
                 .contains("KAFKA_RECOMMENDATION_TOPIC")
                 .contains("recommendation-topic")
-                .contains("/bin/sh")
-                .contains("-lc")
-                .contains("build_kafka_client_options")
-                .contains("recommendation_service.py")
-                .contains("docker-entrypoint.sh")
                 .contains("OPENAI_CHAT_MODEL")
                 .contains("gpt-4o-mini")
                 .contains("OPENAI_EMBEDDING_MODEL")
@@ -210,12 +215,6 @@ class EcsClusterStackTest {
                 .contains("http://admin-api.example.internal:8080")
                 .contains("OPENAI_API_KEY");
 
-        String analysisServerTaskDefinitionJson = findTaskDefinitionByAppMode(taskDefinitions, "analysis-server").toString();
-        org.assertj.core.api.Assertions.assertThat(analysisServerTaskDefinitionJson)
-                .contains("ADMIN_API_BASE_URL")
-                .contains("http://admin-api.example.internal:8080")
-                .contains("OPENAI_API_KEY");
-
         String customerApiTaskDefinitionJson = taskDefinitions.values().stream()
                 .map(Object::toString)
                 .filter(json -> json.contains("customer"))
@@ -1,12 +1,15 @@
 package com.myorg.stacks;
 
 import com.myorg.config.EnvKey;
+import com.myorg.config.monitoring.AlertingConfig;
 import com.myorg.config.monitoring.AlloyConfig;
+import com.myorg.config.monitoring.EcsServiceDiscoveryConfig;
 import com.myorg.config.monitoring.GrafanaConfig;
 import com.myorg.config.monitoring.KafkaUiConfig;
 import com.myorg.config.monitoring.LokiConfig;
 import com.myorg.config.monitoring.MonitoringConfig;
 import com.myorg.config.monitoring.PinpointConfig;
+import com.myorg.config.monitoring.TempoConfig;
 import com.myorg.props.MonitoringStackProps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -104,7 +107,10 @@ class MonitoringStackTest {
                 .contains("admin-api.example.internal")
                 .contains("KafkaUiPortForward")
                 .contains("\"localPortNumber\":[\"18088\"]")
-                .contains("\"localPortNumber\":[\"18080\"]");
+                .contains("\"localPortNumber\":[\"18080\"]")
+                // Performance Insights를 조회하는 datasource/dashboard가 없으므로 pi 권한도 없어야 한다.
+                .doesNotContain("pi:GetResourceMetrics")
+                .doesNotContain("pi:DescribeDimensionKeys");
         assertThat(renderedUserData)
                 .contains("register-grafana-cloudmap.sh")
                 .contains("servicediscovery register-instance")
@@ -137,7 +143,211 @@ class MonitoringStackTest {
                 .contains("127.0.0.1:8088:8080");
     }
 
+    @Test
+    @DisplayName("Prometheus는 bootstrap broker 목록으로 MSK JMX/Node exporter를 scrape해야 한다.")
+    void should_scrape_msk_open_monitoring_exporters() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String prometheusConfig = Files.readString(assetPath.resolve("opt/monitoring/prometheus.yml"));
+        String bootstrapScript = Files.readString(assetPath.resolve("opt/monitoring/bootstrap-monitoring.sh"));
+
+        assertThat(prometheusConfig)
+                .contains("job_name: msk-jmx")
+                .contains("/etc/prometheus/targets/msk-jmx.json")
+                .contains("job_name: msk-node")
+                .contains("/etc/prometheus/targets/msk-node.json");
+        assertThat(bootstrapScript)
+                .contains("render_msk_scrape_targets \"11001\" \"/opt/monitoring/prometheus-targets/msk-jmx.json\"")
+                .contains("render_msk_scrape_targets \"11002\" \"/opt/monitoring/prometheus-targets/msk-node.json\"")
+                .contains("-v /opt/monitoring/prometheus-targets:/etc/prometheus/targets:ro");
+        assertThat(config.mskBootstrapBrokersFileCommands("b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"))
+                .contains("cat <<'EOF' >/opt/monitoring/msk-bootstrap-brokers")
+                .contains("b-1.test.kafka.ap-northeast-2.amazonaws.com:9098");
+    }
+
+    @Test
+    @DisplayName("Prometheus는 Cloud Map 기반 file_sd로 ECS task마다 앱 메트릭을 scrape해야 한다.")
+    void should_discover_ecs_task_targets_from_cloud_map() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String prometheusConfig = Files.readString(assetPath.resolve("opt/monitoring/prometheus.yml"));
+        String discoveryScript = Files.readString(assetPath.resolve("opt/monitoring/ecs-service-discovery.sh"));
+        String bootstrapScript = Files.readString(assetPath.resolve("opt/monitoring/bootstrap-monitoring.sh"));
+
+        assertThat(prometheusConfig)
+                .doesNotContain("admin-api.example.internal")
+                .contains("/etc/prometheus/targets/admin-api.json")
+                .contains("/etc/prometheus/targets/customer-api.json")
+                .contains("/etc/prometheus/targets/log-server.json")
+                .contains("/etc/prometheus/targets/intelligence-server.json");
+        assertThat(discoveryScript)
+                .contains("--namespace-name \"$NAMESPACE\"")
+                .contains("NAMESPACE=\"example.internal\"")
+                .contains("render_ecs_targets \"admin-api\" \"admin-api\" \"8080\"")
+                .contains("render_ecs_targets \"customer-api\" \"customer-api\" \"8081\"")
+                .contains("render_ecs_targets \"log-server\" \"log-server\" \"8080\"")
+                .contains("render_ecs_targets \"intelligence-server\" \"intelligence-server\" \"8000\"")
+                .contains("availability_zone");
+        assertThat(bootstrapScript)
+                .contains("OnUnitActiveSec=30s")
+                .contains("systemctl enable --now ecs-service-discovery.timer");
+    }
+
+    @Test
+    @DisplayName("Prometheus rule 파일과 Alertmanager가 bootstrap asset에 포함되어야 한다.")
+    void should_render_recording_rules_and_alertmanager() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String prometheusConfig = Files.readString(assetPath.resolve("opt/monitoring/prometheus.yml"));
+        String bootstrapScript = Files.readString(assetPath.resolve("opt/monitoring/bootstrap-monitoring.sh"));
+        String alertmanagerConfig = Files.readString(assetPath.resolve("opt/monitoring/alertmanager.yml"));
+
+        assertThat(Files.exists(assetPath.resolve("opt/monitoring/prometheus-rules/recording-rules.yml"))).isTrue();
+        assertThat(Files.exists(assetPath.resolve("opt/monitoring/prometheus-rules/alert-rules.yml"))).isTrue();
+        assertThat(prometheusConfig)
+                .contains("/etc/prometheus/rules/*.yml")
+                .contains("targets: ['alertmanager:9093']");
+        assertThat(bootstrapScript)
+                .contains("-v /opt/monitoring/prometheus-rules:/etc/prometheus/rules:ro")
+                .contains("-v /opt/monitoring/alertmanager.yml:/etc/alertmanager/alertmanager.yml:ro")
+                .contains("prom/alertmanager");
+        // SNS topic 미설정 시 기본 receiver만 둔다.
+        assertThat(alertmanagerConfig)
+                .contains("  - name: default")
+                .doesNotContain("sns_configs");
+    }
+
+    @Test
+    @DisplayName("Grafana 대시보드는 스크립트 없이 file provisioning으로 asset에 포함되어야 한다.")
+    void should_provision_generated_dashboards_from_files() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String provider = Files.readString(assetPath.resolve("etc/grafana/provisioning/dashboards/hsc.yaml"));
+        String installScript = Files.readString(assetPath.resolve("opt/monitoring/install-monitoring.sh"));
+
+        assertThat(provider)
+                .contains("type: file")
+                .contains("path: /opt/monitoring/grafana-dashboards");
+        assertThat(Files.exists(assetPath.resolve("opt/monitoring/grafana-dashboards/hsc-service-red.json"))).isTrue();
+        assertThat(Files.exists(assetPath.resolve("opt/monitoring/grafana-dashboards/hsc-rds.json"))).isTrue();
+        assertThat(Files.exists(assetPath.resolve("opt/monitoring/provision-dashboards.sh"))).isFalse();
+        assertThat(Files.readString(assetPath.resolve("etc/grafana/provisioning/datasources/prometheus.yaml")))
+                .contains("uid: prometheus");
+        assertThat(installScript).doesNotContain("provision-dashboards");
+    }
+
+    @Test
+    @DisplayName("Tempo가 꺼져 있으면 Grafana Tempo 데이터소스를 만들지 않고 bootstrap에서 정리해야 한다.")
+    void should_skip_tempo_datasource_when_tempo_disabled() throws Exception {
+        MonitoringConfig config = testMonitoringConfig(false);
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        assertThat(assetPath.resolve("etc/grafana/provisioning/datasources/tempo.yaml")).doesNotExist();
+        assertThat(assetPath.resolve("etc/grafana/provisioning/datasources/loki.yaml")).exists();
+        assertThat(Files.readString(assetPath.resolve("opt/monitoring/bootstrap-monitoring.sh")))
+                .contains("if [ \"false\" = \"true\" ]; then")
+                .contains("rm -f /etc/grafana/provisioning/datasources/tempo.yaml");
+    }
+
+    @Test
+    @DisplayName("Tempo가 켜져 있으면 설정/데이터소스가 렌더링되고 bootstrap에서 OTLP 포트로 컨테이너를 실행해야 한다.")
+    void should_render_tempo_when_tracing_exports_to_tempo() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String tempoConfig = Files.readString(assetPath.resolve("opt/monitoring/tempo.yaml"));
+        String datasource = Files.readString(assetPath.resolve("etc/grafana/provisioning/datasources/tempo.yaml"));
+        String bootstrap = Files.readString(assetPath.resolve("opt/monitoring/bootstrap-monitoring.sh"));
+
+        assertThat(tempoConfig)
+                .contains("endpoint: 0.0.0.0:4317")
+                .contains("block_retention: 72h");
+        assertThat(datasource)
+                .contains("uid: tempo")
+                .contains("datasourceUid: loki");
+        assertThat(bootstrap)
+                .contains("if [ \"true\" = \"true\" ]; then")
+                .contains("-p 4317:4317")
+                .contains("-p 127.0.0.1:3200:3200");
+    }
+
+    @Test
+    @DisplayName("Loki 설정에는 호스트 메모리 기준 cache와 query 분할/병렬도, ingestion 제한이 렌더링되어야 한다.")
+    void should_render_loki_query_performance_settings() throws Exception {
+        MonitoringConfig config = testMonitoringConfig();
+
+        Path assetPath = config.renderMonitoringBootstrapAsset(
+                "ap-northeast-2",
+                "example.internal",
+                8080,
+                8081,
+                "b-1.test.kafka.ap-northeast-2.amazonaws.com:9098"
+        );
+
+        String lokiConfig = Files.readString(assetPath.resolve("opt/monitoring/loki-config.yaml"));
+
+        // t3.small(2GiB) x 15% = 307MB -> 결과 102MB / chunk 205MB
+        assertThat(lokiConfig)
+                .contains("max_size_mb: 102")
+                .contains("max_size_mb: 205")
+                .contains("split_queries_by_interval: 1h")
+                .contains("max_query_parallelism: 4")
+                .contains("per_stream_rate_limit: 3MB")
+                .contains("per_stream_rate_limit_burst: 15MB")
+                .contains("retention_delete_worker_count: 20");
+    }
+
     private MonitoringConfig testMonitoringConfig() {
+        return testMonitoringConfig(true);
+    }
+
+    private MonitoringConfig testMonitoringConfig(boolean tempoEnabled) {
         return new MonitoringConfig(
                 EnvKey.MONITORING_INSTANCE_TYPE.getDefaultValue(),
                 Integer.parseInt(EnvKey.MONITORING_ROOT_VOLUME_GIB.getDefaultValue()),
@@ -151,7 +361,6 @@ class MonitoringStackTest {
                 EnvKey.MONITORING_PROMETHEUS_IMAGE.getDefaultValue(),
                 Integer.parseInt(EnvKey.MONITORING_PROMETHEUS_PORT.getDefaultValue()),
                 EnvKey.MONITORING_PROMETHEUS_SCRAPE_INTERVAL.getDefaultValue(),
-                Integer.parseInt(EnvKey.MONITORING_AUTO_DASHBOARD_PANEL_LIMIT.getDefaultValue()),
                 new KafkaUiConfig(
                         EnvKey.MONITORING_KAFKA_UI_CONTAINER_NAME.getDefaultValue(),
                         EnvKey.MONITORING_KAFKA_UI_IMAGE.getDefaultValue(),
@@ -201,7 +410,40 @@ class MonitoringStackTest {
                         Integer.parseInt(EnvKey.MONITORING_LOKI_TRACE_DEBUG_RETENTION_HOURS.getDefaultValue()),
                         Integer.parseInt(EnvKey.MONITORING_LOKI_WARN_RETENTION_HOURS.getDefaultValue()),
                         Integer.parseInt(EnvKey.MONITORING_LOKI_ERROR_RETENTION_HOURS.getDefaultValue()),
-                        Integer.parseInt(EnvKey.MONITORING_LOKI_FATAL_RETENTION_HOURS.getDefaultValue())
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_FATAL_RETENTION_HOURS.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_CACHE_MEMORY_PERCENT.getDefaultValue()),
+                        EnvKey.MONITORING_LOKI_QUERY_SPLIT_INTERVAL.getDefaultValue(),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_MAX_QUERY_PARALLELISM.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_INGESTION_RATE_MB.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_INGESTION_BURST_SIZE_MB.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_PER_STREAM_RATE_LIMIT_MB.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_PER_STREAM_RATE_LIMIT_BURST_MB.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_LOKI_RETENTION_DELETE_WORKERS.getDefaultValue())
+                ),
+                new EcsServiceDiscoveryConfig(
+                        EnvKey.MONITORING_LOG_SERVER_JOB_NAME.getDefaultValue(),
+                        EnvKey.LOG_SERVER_SERVICE_NAME.getDefaultValue(),
+                        Integer.parseInt(EnvKey.LOG_SERVER_PORT.getDefaultValue()),
+                        EnvKey.MONITORING_INTELLIGENCE_SERVER_JOB_NAME.getDefaultValue(),
+                        EnvKey.INTELLIGENCE_SERVER_CLOUD_MAP_NAME.getDefaultValue(),
+                        Integer.parseInt(EnvKey.INTELLIGENCE_SERVER_PORT.getDefaultValue()),
+                        EnvKey.MONITORING_INTELLIGENCE_SERVER_METRICS_PATH.getDefaultValue(),
+                        Integer.parseInt(EnvKey.MONITORING_ECS_SD_REFRESH_SECONDS.getDefaultValue())
+                ),
+                new AlertingConfig(
+                        EnvKey.MONITORING_ALERTMANAGER_CONTAINER_NAME.getDefaultValue(),
+                        EnvKey.MONITORING_ALERTMANAGER_IMAGE.getDefaultValue(),
+                        Integer.parseInt(EnvKey.MONITORING_ALERTMANAGER_PORT.getDefaultValue()),
+                        EnvKey.MONITORING_ALERTMANAGER_SNS_TOPIC_ARN.getDefaultValue(),
+                        Double.parseDouble(EnvKey.MONITORING_SLO_AVAILABILITY_TARGET.getDefaultValue())
+                ),
+                new TempoConfig(
+                        tempoEnabled,
+                        EnvKey.MONITORING_TEMPO_CONTAINER_NAME.getDefaultValue(),
+                        EnvKey.MONITORING_TEMPO_IMAGE.getDefaultValue(),
+                        Integer.parseInt(EnvKey.MONITORING_TEMPO_PORT.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_TEMPO_OTLP_GRPC_PORT.getDefaultValue()),
+                        Integer.parseInt(EnvKey.MONITORING_TEMPO_RETENTION_HOURS.getDefaultValue())
                 )
         );
     }
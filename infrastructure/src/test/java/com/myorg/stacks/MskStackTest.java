@@ -3,12 +3,15 @@ package com.myorg.stacks;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
+import software.amazon.awscdk.AppProps;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.assertions.Match;
 import software.amazon.awscdk.assertions.Template;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.Vpc;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -18,7 +21,10 @@ class MskStackTest {
     @Test
     @DisplayName("Provisioned MSK 스택 기본 리소스가 생성되어야 한다.")
     void should_create_provisioned_msk_resources() {
-        App app = new App();
+        // topic provisioner Lambda의 pip 번들링은 synth 단위 테스트에서 생략
+        App app = new App(AppProps.builder()
+                .context(Map.of("aws:cdk:bundling-stacks", List.of()))
+                .build());
         Stack fixtureStack = new Stack(app, "MskFixtureStack");
 
         Vpc vpc = Vpc.Builder.create(fixtureStack, "TestVpc")
@@ -50,6 +56,62 @@ class MskStackTest {
                 "KafkaVersion", "3.8.x",
                 "NumberOfBrokerNodes", 4
         ));
+        template.resourceCountIs("AWS::MSK::Configuration", 1);
+        template.hasResourceProperties("AWS::MSK::Configuration", Map.of(
+                "KafkaVersionsList", List.of("3.8.x"),
+                "ServerProperties", Match.stringLikeRegexp(".*min.insync.replicas=2.*")
+        ));
+        template.hasResourceProperties("AWS::MSK::Cluster", Map.of(
+                "ConfigurationInfo", Map.of(
+                        "Arn", Match.anyValue(),
+                        "Revision", Match.anyValue()
+                )
+        ));
+        template.hasOutput("MskBrokerConfigurationRevision", Map.of());
+        template.hasResourceProperties("AWS::ApplicationAutoScaling::ScalableTarget", Map.of(
+                "ScalableDimension", "kafka:broker-storage:VolumeSize",
+                "MinCapacity", 10,
+                "MaxCapacity", 100
+        ));
+        template.hasResourceProperties("AWS::ApplicationAutoScaling::ScalingPolicy", Map.of(
+                "TargetTrackingScalingPolicyConfiguration", Match.objectLike(Map.of(
+                        "TargetValue", 60,
+                        "DisableScaleIn", true
+                ))
+        ));
+        template.resourceCountIs("AWS::CloudWatch::Alarm", 4);
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "MetricName", "KafkaDataLogsDiskUsed",
+                "Threshold", 85
+        ));
+        template.resourceCountIs("Custom::KafkaTopics", 1);
+        template.hasResourceProperties("Custom::KafkaTopics", Map.of(
+                "Topics", Match.arrayWith(List.of(Match.objectLike(Map.of(
+                        "Name", "client-event-logs",
+                        "Partitions", 6,
+                        "ReplicationFactor", 3
+                ))))
+        ));
+        template.hasResourceProperties("AWS::EC2::SecurityGroupIngress", Map.of(
+                "FromPort", 9098,
+                "Description", "From Kafka topic provisioner"
+        ));
+        // provisioner는 broker IAM 포트와 HTTPS로만 나간다.
+        template.hasResourceProperties("AWS::EC2::SecurityGroup", Map.of(
+                "GroupDescription", "Kafka topic provisioner Security Group",
+                "SecurityGroupEgress", List.of(
+                        Match.objectLike(Map.of("Description", "To MSK brokers (IAM)", "FromPort", 9098, "ToPort", 9098)),
+                        Map.of("CidrIp", "0.0.0.0/0", "Description", "To AWS APIs (HTTPS)",
+                                "FromPort", 443, "IpProtocol", "tcp", "ToPort", 443)
+                )
+        ));
+        template.hasResourceProperties("AWS::MSK::Cluster", Map.of(
+                "EnhancedMonitoring", "DEFAULT",
+                "OpenMonitoring", Map.of("Prometheus", Map.of(
+                        "JmxExporter", Map.of("EnabledInBroker", true),
+                        "NodeExporter", Map.of("EnabledInBroker", true)
+                ))
+        ));
         template.hasOutput("MskClusterArn", Map.of());
         template.hasOutput("MskBootstrapBrokersSaslIam", Map.of());
         template.hasOutput("ProvisionedBootstrapBrokersSaslIam", Map.of());
@@ -1,18 +1,29 @@
 package com.myorg.stacks;
 
+import com.myorg.config.DbConnectionBudget;
+import com.myorg.config.DbConnectionBudgetMode;
+import com.myorg.config.PostgresParameterProfile;
+import com.myorg.config.RdsConfig;
+import com.myorg.config.RdsEngine;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.assertions.Annotations;
+import software.amazon.awscdk.assertions.Match;
 import software.amazon.awscdk.assertions.Template;
 import software.amazon.awscdk.services.ec2.Port;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.Vpc;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RdsStackTest {
 
@@ -62,13 +73,212 @@ class RdsStackTest {
         template.hasResourceProperties("AWS::RDS::DBInstance", Map.of(
                 "Engine", "postgres",
                 "DBName", "holliverse",
-                "EnableIAMDatabaseAuthentication", true
+                "EnableIAMDatabaseAuthentication", true,
+                "StorageType", "gp2",
+                "MaxAllocatedStorage", 100,
+                "EnablePerformanceInsights", true,
+                "MonitoringInterval", 60
         ));
         template.hasResourceProperties("AWS::SecretsManager::Secret", Map.of(
                 "Name", "holliverse/rds/postgres"
         ));
         template.hasResourceProperties("AWS::RDS::DBParameterGroup", Map.of(
-                "Family", "postgres16"
+                "Family", "postgres16",
+                "Parameters", Map.of(
+                        "shared_preload_libraries", "pg_stat_statements,auto_explain",
+                        "pg_stat_statements.track", "all",
+                        "work_mem", "2048",
+                        "random_page_cost", "1.1",
+                        "track_io_timing", "1",
+                        "auto_explain.sample_rate", "0.1"
+                )
         ));
     }
+
+    @Test
+    @DisplayName("RDS Proxy가 DB 시크릿으로 생성되고 IAM 인증은 기본 비활성이어야 한다.")
+    void should_create_rds_proxy_without_iam_auth_by_default() {
+        //given
+        App app = new App();
+        Stack fixtureStack = new Stack(app, "RdsProxyFixtureStack");
+        Vpc vpc = Vpc.Builder.create(fixtureStack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        SecurityGroup dbSg = SecurityGroup.Builder.create(fixtureStack, "TestDbSg")
+                .vpc(vpc)
+                .build();
+
+        RdsStack rdsStack = new RdsStack(
+                app,
+                "RdsProxyStackTest",
+                StackProps.builder().build(),
+                vpc,
+                dbSg
+        );
+        Template template = Template.fromStack(rdsStack);
+
+        //when
+        Map<String, Map<String, Object>> proxies = template.findResources("AWS::RDS::DBProxy");
+        Map<String, Map<String, Object>> alarms = template.findResources("AWS::CloudWatch::Alarm");
+
+        //then
+        assertEquals(1, proxies.size());
+        assertEquals(2, alarms.size());
+        assertNotNull(rdsStack.getDbProxy());
+
+        template.hasResourceProperties("AWS::RDS::DBProxy", Map.of(
+                "DBProxyName", "holliverse-postgres-proxy",
+                "EngineFamily", "POSTGRESQL",
+                "RequireTLS", true,
+                "Auth", List.of(Map.of(
+                        "AuthScheme", "SECRETS",
+                        "IAMAuth", "DISABLED"
+                ))
+        ));
+        // on-demand-workflow 모드 검증 Lambda가 import하는 Proxy 접속 정보
+        template.hasOutput("HolliversePostgresProxyEndpoint", Map.of(
+                "Export", Map.of("Name", RdsStack.DB_PROXY_ENDPOINT_EXPORT)
+        ));
+        template.hasOutput("HolliversePostgresProxyResourceId", Map.of(
+                "Export", Map.of("Name", RdsStack.DB_PROXY_RESOURCE_ID_EXPORT)
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "MetricName", "DatabaseConnectionsCurrentlySessionPinned",
+                "Namespace", "AWS/RDS"
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "MetricName", "DatabaseConnectionsBorrowLatency",
+                "Namespace", "AWS/RDS"
+        ));
+    }
+
+    @Test
+    @DisplayName("read replica 수만큼 replica와 lag 알람이 생성되어야 한다.")
+    void should_create_read_replicas_with_lag_alarms() {
+        //given
+        App app = new App();
+        Stack fixtureStack = new Stack(app, "RdsReplicaFixtureStack");
+        Vpc vpc = Vpc.Builder.create(fixtureStack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        SecurityGroup dbSg = SecurityGroup.Builder.create(fixtureStack, "TestDbSg")
+                .vpc(vpc)
+                .build();
+
+        RdsStack rdsStack = new RdsStack(
+                app,
+                "RdsReplicaStackTest",
+                StackProps.builder().build(),
+                vpc,
+                dbSg,
+                new RdsConfig(RdsEngine.POSTGRES, 0.5, 4, "t4g.micro", PostgresParameterProfile.BALANCED, "", false, false, 90, 50, 30, 5, 500000, 2, 30, "gp3", 20, 100, 0, 0, false, 7, 0)
+        );
+        Template template = Template.fromStack(rdsStack);
+
+        //when
+        Map<String, Map<String, Object>> dbInstances = template.findResources("AWS::RDS::DBInstance");
+        Map<String, Map<String, Object>> alarms = template.findResources("AWS::CloudWatch::Alarm");
+
+        //then
+        assertEquals(3, dbInstances.size());
+        assertEquals(2, alarms.size());
+        assertEquals(2, rdsStack.getDbReadEndpointAddresses().size());
+
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "MetricName", "ReplicaLag",
+                "Threshold", 30,
+                "TreatMissingData", "notBreaching"
+        ));
+    }
+
+    @Test
+    @DisplayName("Aurora 엔진 선택 시 Serverless v2 클러스터와 reader lag 알람이 생성되어야 한다.")
+    void should_create_aurora_serverless_cluster() {
+        //given
+        App app = new App();
+        Stack fixtureStack = new Stack(app, "RdsAuroraFixtureStack");
+        Vpc vpc = Vpc.Builder.create(fixtureStack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        SecurityGroup dbSg = SecurityGroup.Builder.create(fixtureStack, "TestDbSg")
+                .vpc(vpc)
+                .build();
+
+        RdsStack rdsStack = new RdsStack(
+                app,
+                "RdsAuroraStackTest",
+                StackProps.builder().build(),
+                vpc,
+                dbSg,
+                new RdsConfig(RdsEngine.AURORA_SERVERLESS_V2, 0.5, 8, "t4g.micro", PostgresParameterProfile.BALANCED, "", true, true, 90, 50, 30, 5, 500000, 1, 30, "gp3", 20, 100, 0, 0, true, 7, 60)
+        );
+        Template template = Template.fromStack(rdsStack);
+
+        //then
+        template.resourceCountIs("AWS::RDS::DBCluster", 1);
+        template.resourceCountIs("AWS::RDS::DBInstance", 2);
+        template.resourceCountIs("AWS::RDS::DBProxy", 1);
+        template.hasResourceProperties("AWS::RDS::DBCluster", Map.of(
+                "Engine", "aurora-postgresql",
+                "ServerlessV2ScalingConfiguration", Map.of(
+                        "MinCapacity", 0.5,
+                        "MaxCapacity", 8
+                )
+        ));
+        template.hasResourceProperties("AWS::RDS::DBClusterParameterGroup", Map.of(
+                "Parameters", Map.of(
+                        "shared_preload_libraries", "pg_stat_statements,auto_explain"
+                )
+        ));
+        template.hasResourceProperties("AWS::CloudWatch::Alarm", Map.of(
+                "MetricName", "AuroraReplicaLagMaximum",
+                "Threshold", 30000,
+                "TreatMissingData", "notBreaching"
+        ));
+        assertNotNull(rdsStack.getDbCluster());
+        assertNotNull(rdsStack.getDbConnections());
+        // 인스턴스 전용 접근자는 null 대신 명확한 오류를 낸다.
+        IllegalStateException error = assertThrows(IllegalStateException.class, rdsStack::getRds);
+        assertTrue(error.getMessage().contains("AURORA_SERVERLESS_V2"));
+        assertEquals(1, rdsStack.getDbReadEndpointAddresses().size());
+    }
+
+    @Test
+    @DisplayName("커넥션 예산 초과 시 FAIL 모드는 synth를 실패시키고 REPORT 모드는 경고를 남겨야 한다.")
+    void should_enforce_db_connection_budget() {
+        //given
+        App app = new App();
+        Stack fixtureStack = new Stack(app, "RdsBudgetFixtureStack");
+        Vpc vpc = Vpc.Builder.create(fixtureStack, "TestVpc")
+                .maxAzs(2)
+                .build();
+        SecurityGroup dbSg = SecurityGroup.Builder.create(fixtureStack, "TestDbSg")
+                .vpc(vpc)
+                .build();
+        RdsConfig config = new RdsConfig(RdsEngine.POSTGRES, 0.5, 4, "t4g.micro", PostgresParameterProfile.BALANCED, "", true, true, 90, 50, 30, 5, 500000, 0, 30, "gp3", 20, 100, 0, 0, true, 7, 60);
+        List<DbConnectionBudget.Consumer> consumers = List.of(new DbConnectionBudget.Consumer("customer-api", 20, 5));
+
+        //then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new RdsStack(
+                app,
+                "RdsBudgetFailStackTest",
+                StackProps.builder().build(),
+                vpc,
+                dbSg,
+                config,
+                new DbConnectionBudget(DbConnectionBudgetMode.FAIL, consumers)
+        ));
+        assertNotNull(exception.getMessage());
+
+        RdsStack reportStack = new RdsStack(
+                app,
+                "RdsBudgetReportStackTest",
+                StackProps.builder().build(),
+                vpc,
+                dbSg,
+                config,
+                new DbConnectionBudget(DbConnectionBudgetMode.REPORT, consumers)
+        );
+        Annotations.fromStack(reportStack).hasWarning("*", Match.stringLikeRegexp("DB 커넥션 예산: 합계 100 / 상한 68.*"));
+    }
 }